@@ -0,0 +1,38 @@
+-- ============================================
+-- MIGRAÇÃO 001 - SALDO CONSOLIDADO POR USUÁRIO
+-- ============================================
+-- Cria TB_SALDO_USUARIO e popula a partir do histórico de TB_TRANSACAO.
+-- Após a carga inicial, a aplicação mantém os valores a cada escrita de transação
+-- e o job de verificação (fintech.saldo.verificacao-cron) corrige divergências.
+
+CREATE TABLE TB_SALDO_USUARIO (
+    ID_USUARIO NUMBER PRIMARY KEY,
+    SALDO NUMBER (16, 2) DEFAULT 0 NOT NULL,
+    TOTAL_RECEITAS NUMBER (16, 2) DEFAULT 0 NOT NULL,
+    TOTAL_DESPESAS NUMBER (16, 2) DEFAULT 0 NOT NULL,
+    QUANTIDADE_TRANSACOES NUMBER DEFAULT 0 NOT NULL,
+    DATA_ATUALIZACAO TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT FK_SALDO_USUARIO FOREIGN KEY (ID_USUARIO) REFERENCES TB_USUARIO (ID_USUARIO) ON DELETE CASCADE
+);
+
+INSERT INTO TB_SALDO_USUARIO (ID_USUARIO, SALDO, TOTAL_RECEITAS, TOTAL_DESPESAS, QUANTIDADE_TRANSACOES)
+SELECT u.ID_USUARIO,
+       COALESCE(t.SALDO, 0),
+       COALESCE(t.RECEITAS, 0),
+       COALESCE(t.DESPESAS, 0),
+       COALESCE(t.QUANTIDADE, 0)
+FROM TB_USUARIO u
+LEFT JOIN (
+    SELECT ID_USUARIO,
+           SUM(CASE WHEN TIPO_TRANSACAO = 'CREDITO' THEN VALOR ELSE -VALOR END) AS SALDO,
+           SUM(CASE WHEN TIPO_TRANSACAO = 'CREDITO' THEN VALOR ELSE 0 END) AS RECEITAS,
+           SUM(CASE WHEN TIPO_TRANSACAO = 'DEBITO' THEN VALOR ELSE 0 END) AS DESPESAS,
+           COUNT(*) AS QUANTIDADE
+    FROM TB_TRANSACAO
+    GROUP BY ID_USUARIO
+) t ON t.ID_USUARIO = u.ID_USUARIO;
+
+COMMENT ON
+TABLE TB_SALDO_USUARIO IS 'Saldo consolidado por usuário, reconciliado periodicamente com TB_TRANSACAO';
+
+COMMIT;
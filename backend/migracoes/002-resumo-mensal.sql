@@ -0,0 +1,37 @@
+-- ============================================
+-- MIGRAÇÃO 002 - RESUMOS MENSAIS DE TRANSAÇÕES
+-- ============================================
+-- Cria TB_RESUMO_MENSAL e popula a partir do histórico de TB_TRANSACAO.
+-- A chave primária (usuário, ano-mês, tipo, categoria) atende as consultas por
+-- intervalo de meses do endpoint /transacoes/usuario/{id}/periodo.
+
+CREATE TABLE TB_RESUMO_MENSAL (
+    ID_USUARIO NUMBER NOT NULL,
+    ANO_MES NUMBER (6) NOT NULL,
+    TIPO_TRANSACAO VARCHAR2 (20) NOT NULL,
+    CATEGORIA VARCHAR2 (50) NOT NULL,
+    TOTAL NUMBER (16, 2) DEFAULT 0 NOT NULL,
+    QUANTIDADE NUMBER DEFAULT 0 NOT NULL,
+    CONSTRAINT PK_RESUMO_MENSAL PRIMARY KEY (ID_USUARIO, ANO_MES, TIPO_TRANSACAO, CATEGORIA),
+    CONSTRAINT FK_RESUMO_MENSAL_USUARIO FOREIGN KEY (ID_USUARIO) REFERENCES TB_USUARIO (ID_USUARIO) ON DELETE CASCADE
+);
+
+INSERT INTO TB_RESUMO_MENSAL (ID_USUARIO, ANO_MES, TIPO_TRANSACAO, CATEGORIA, TOTAL, QUANTIDADE)
+SELECT ID_USUARIO,
+       EXTRACT(YEAR FROM DATA_TRANSACAO) * 100 + EXTRACT(MONTH FROM DATA_TRANSACAO),
+       TIPO_TRANSACAO,
+       CATEGORIA,
+       SUM(VALOR),
+       COUNT(*)
+FROM TB_TRANSACAO
+GROUP BY ID_USUARIO,
+         EXTRACT(YEAR FROM DATA_TRANSACAO) * 100 + EXTRACT(MONTH FROM DATA_TRANSACAO),
+         TIPO_TRANSACAO,
+         CATEGORIA;
+
+COMMENT ON
+TABLE TB_RESUMO_MENSAL IS 'Totais mensais de transações por usuário, tipo e categoria';
+
+COMMENT ON COLUMN TB_RESUMO_MENSAL.ANO_MES IS 'Ano e mês no formato yyyymm';
+
+COMMIT;
@@ -0,0 +1,16 @@
+-- ============================================
+-- MIGRAÇÃO 003 - SEQUENCES COM ALOCAÇÃO EM BLOCOS
+-- ============================================
+-- As entidades passam a usar allocationSize = 20 (otimizador pooled do Hibernate):
+-- cada NEXTVAL reserva os 20 IDs anteriores ao valor retornado.
+-- O próximo NEXTVAL após a alteração devolve (último valor + 20), portanto o bloco
+-- reservado começa logo após o último ID já utilizado e não há colisão com dados existentes.
+-- Executar com a aplicação parada.
+
+ALTER SEQUENCE SEQ_USUARIO INCREMENT BY 20;
+
+ALTER SEQUENCE SEQ_TRANSACAO INCREMENT BY 20;
+
+ALTER SEQUENCE SEQ_INVESTIMENTO INCREMENT BY 20;
+
+ALTER SEQUENCE SEQ_META_FINANCEIRA INCREMENT BY 20;
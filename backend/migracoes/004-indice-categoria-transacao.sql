@@ -0,0 +1,8 @@
+-- ============================================
+-- MIGRAÇÃO 004 - ÍNDICE DE FUNÇÃO NA CATEGORIA DA TRANSAÇÃO
+-- ============================================
+-- O filtro de categoria da listagem global, da exportação e de /transacoes/categoria
+-- compara UPPER(CATEGORIA); o índice simples IDX_TRANSACAO_CATEGORIA não atende a expressão.
+-- Pode ser executada com a aplicação no ar.
+
+CREATE INDEX IDX_TRANSACAO_CATEGORIA_UPPER ON TB_TRANSACAO (UPPER(CATEGORIA));
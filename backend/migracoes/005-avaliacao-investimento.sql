@@ -0,0 +1,21 @@
+-- ============================================
+-- MIGRAÇÃO 005 - AVALIAÇÃO DOS INVESTIMENTOS
+-- ============================================
+-- Cria TB_AVALIACAO_INVESTIMENTO, gravada (MERGE) a cada aplicação, atualização e resgate
+-- de investimento; sem a tabela essas escritas falham com ORA-00942.
+-- Executar antes de publicar a versão que grava as avaliações.
+--
+-- Carga inicial: o valor atual depende das curvas de taxas (taxas/*.csv) e é calculado pela
+-- aplicação, não em SQL. Logo após a publicação, execute a mesma reavaliação completa do job noturno:
+--   POST /api/actuator/avaliacoes {"completa": true}
+-- (incluir "avaliacoes" em management.endpoints.web.exposure.include, ver metricas.properties).
+-- Até lá o valor da carteira usa o valor investido dos investimentos sem avaliação, e o job
+-- noturno (fintech.avaliacao.cron) avalia os pendentes na primeira execução.
+
+CREATE TABLE TB_AVALIACAO_INVESTIMENTO (
+    ID_INVESTIMENTO NUMBER PRIMARY KEY,
+    DATA_REFERENCIA DATE NOT NULL,
+    VALOR_ATUAL NUMBER (16, 2) NOT NULL,
+    DATA_ATUALIZACAO TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT FK_AVALIACAO_INVESTIMENTO FOREIGN KEY (ID_INVESTIMENTO) REFERENCES TB_INVESTIMENTO (ID_INVESTIMENTO) ON DELETE CASCADE
+);
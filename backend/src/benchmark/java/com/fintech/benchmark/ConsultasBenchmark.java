@@ -0,0 +1,292 @@
+package com.fintech.benchmark;
+
+import com.fintech.config.GeradorDadosSinteticos;
+import com.fintech.config.GravadorDadosSinteticos;
+import com.fintech.enums.CategoriaMeta;
+import com.fintech.enums.StatusMeta;
+import com.fintech.enums.TipoInvestimento;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.repository.InvestimentoRepository;
+import com.fintech.repository.MetaFinanceiraRepository;
+import com.fintech.repository.TransacaoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark das consultas dos repositórios em massas de tamanhos crescentes
+ * Para cada tamanho de TB_TRANSACAO (padrão 1k, 100k e 10M linhas) mede a latência de cada consulta
+ * de TransacaoRepository, InvestimentoRepository e MetaFinanceiraRepository e as linhas retornadas.
+ * Consultas por usuário usam sempre o mesmo usuário (volume fixo), de modo que latência crescente
+ * com a tabela indica varredura; consultas globais usam filtros seletivos para caber em memória.
+ * O resultado é gravado em CSV para comparação entre versões.
+ *
+ * Execução: make benchmark-consultas TAMANHOS=1000,100000,10000000
+ * (10M linhas exigem heap de alguns GB: o H2 do benchmark é em memória)
+ */
+@Component
+@Profile("benchmark")
+@ConditionalOnProperty(name = "fintech.benchmark.executar", havingValue = "consultas")
+public class ConsultasBenchmark implements CommandLineRunner {
+
+    @Value("${fintech.benchmark.consultas.tamanhos:1000,100000,10000000}")
+    private long[] tamanhos;
+
+    @Value("${fintech.benchmark.consultas.transacoes-por-usuario:200}")
+    private int transacoesPorUsuario;
+
+    @Value("${fintech.benchmark.consultas.aquecimento:2}")
+    private int aquecimento;
+
+    @Value("${fintech.benchmark.consultas.repeticoes:5}")
+    private int repeticoes;
+
+    @Value("${fintech.benchmark.consultas.arquivo:target/benchmark-consultas.csv}")
+    private String arquivo;
+
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+
+    @Autowired
+    private InvestimentoRepository investimentoRepository;
+
+    @Autowired
+    private MetaFinanceiraRepository metaRepository;
+
+    @Autowired
+    private GravadorDadosSinteticos gravador;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Override
+    public void run(String... args) throws IOException {
+        long[] tamanhosOrdenados = Arrays.stream(tamanhos).sorted().toArray();
+        GeradorDadosSinteticos gerador = new GeradorDadosSinteticos(42, transacoesPorUsuario, 20000,
+            1.2, 3, 2, 24, LocalDate.now());
+        int workers = Runtime.getRuntime().availableProcessors();
+
+        List<Medicao> medicoes = new ArrayList<>();
+        long proximoIndice = 0;
+        long transacoes = 0;
+        Long idUsuario = null;
+
+        for (long tamanho : tamanhosOrdenados) {
+            // A massa cresce de forma incremental: cada tamanho reaproveita as linhas do anterior
+            while (transacoes < tamanho) {
+                long usuarios = Math.max((tamanho - transacoes) / Math.max(transacoesPorUsuario, 1), 1);
+                GravadorDadosSinteticos.Totais totais = gravador.gravar(gerador, proximoIndice, usuarios, workers, 200);
+                proximoIndice += usuarios;
+                transacoes += totais.getTransacoes();
+            }
+            jdbcTemplate.execute("ANALYZE");
+
+            if (idUsuario == null) {
+                idUsuario = escolherUsuarioTipico();
+            }
+
+            System.out.println();
+            System.out.printf("=== Consultas com %,d transações (usuário %d) ===%n", transacoes, idUsuario);
+            System.out.printf("%-20s %-42s %12s %12s %12s%n", "Repositório", "Consulta", "Linhas", "Mediana ms", "p95 ms");
+            for (Consulta consulta : consultas(idUsuario)) {
+                Medicao medicao = medir(consulta, transacoes);
+                medicoes.add(medicao);
+                System.out.printf("%-20s %-42s %12d %12.3f %12.3f%n", consulta.repositorio, consulta.nome,
+                    medicao.linhasRetornadas, medicao.medianaMs, medicao.p95Ms);
+            }
+        }
+
+        gravarCsv(medicoes);
+        imprimirEscala(medicoes, tamanhosOrdenados.length);
+    }
+
+    private List<Consulta> consultas(Long idUsuario) {
+        LocalDate hoje = LocalDate.now();
+        List<Consulta> consultas = new ArrayList<>();
+
+        consultas.add(new Consulta("Transacao", "findByIdUsuario", () -> transacaoRepository.findByIdUsuario(idUsuario)));
+        consultas.add(new Consulta("Transacao", "findByIdUsuarioOrderByDataDesc", () -> transacaoRepository.findByIdUsuarioOrderByDataDesc(idUsuario)));
+        consultas.add(new Consulta("Transacao", "findPrimeiraPaginaByUsuario", () -> transacaoRepository.findPrimeiraPaginaByUsuario(idUsuario, Limit.of(50))));
+        consultas.add(new Consulta("Transacao", "findPaginaAposCursorByUsuario", () -> transacaoRepository.findPaginaAposCursorByUsuario(idUsuario, hoje.minusDays(180), Long.MAX_VALUE, Limit.of(50))));
+        consultas.add(new Consulta("Transacao", "streamByIdUsuario", () -> transacaoRepository.streamByIdUsuario(idUsuario)));
+        consultas.add(new Consulta("Transacao", "findByTipoTransacao", () -> transacaoRepository.findByTipoTransacao(TipoTransacao.TRANSFERENCIA)));
+        consultas.add(new Consulta("Transacao", "findByIdUsuarioAndTipoTransacao", () -> transacaoRepository.findByIdUsuarioAndTipoTransacao(idUsuario, TipoTransacao.DEBITO)));
+        consultas.add(new Consulta("Transacao", "findByCategoriaIgnoreCase", () -> transacaoRepository.findByCategoriaIgnoreCase("educação")));
+        consultas.add(new Consulta("Transacao", "findByDataBetween", () -> transacaoRepository.findByDataBetween(hoje.minusDays(7), hoje)));
+        consultas.add(new Consulta("Transacao", "findByIdUsuarioAndDataBetween", () -> transacaoRepository.findByIdUsuarioAndDataBetween(idUsuario, hoje.minusDays(90), hoje)));
+        consultas.add(new Consulta("Transacao", "sumValoresByUsuarioAndTipo", () -> transacaoRepository.sumValoresByUsuarioAndTipo(idUsuario, TipoTransacao.DEBITO)));
+        consultas.add(new Consulta("Transacao", "sumValoresByUsuarioTipoAndPeriodo", () -> transacaoRepository.sumValoresByUsuarioTipoAndPeriodo(idUsuario, TipoTransacao.DEBITO, hoje.minusDays(90), hoje)));
+        consultas.add(new Consulta("Transacao", "somarPorTipoNoPeriodo", () -> transacaoRepository.somarPorTipoNoPeriodo(idUsuario, hoje.minusDays(90), hoje)));
+        consultas.add(new Consulta("Transacao", "calcularSaldoUsuario", () -> transacaoRepository.calcularSaldoUsuario(idUsuario)));
+        consultas.add(new Consulta("Transacao", "calcularTotaisUsuario", () -> transacaoRepository.calcularTotaisUsuario(idUsuario)));
+        consultas.add(new Consulta("Transacao", "sumGastosPorCategoria", () -> transacaoRepository.sumGastosPorCategoria(idUsuario)));
+        consultas.add(new Consulta("Transacao", "sumReceitasPorCategoria", () -> transacaoRepository.sumReceitasPorCategoria(idUsuario)));
+        consultas.add(new Consulta("Transacao", "resumirPorCategoria", () -> transacaoRepository.resumirPorCategoria(idUsuario)));
+        consultas.add(new Consulta("Transacao", "resumirPorCategoriaNoPeriodo", () -> transacaoRepository.resumirPorCategoriaNoPeriodo(idUsuario, hoje.minusDays(90), hoje)));
+        consultas.add(new Consulta("Transacao", "count", () -> transacaoRepository.count()));
+
+        consultas.add(new Consulta("Investimento", "findByIdUsuario", () -> investimentoRepository.findByIdUsuario(idUsuario)));
+        consultas.add(new Consulta("Investimento", "findInvestimentosAtivos", () -> investimentoRepository.findInvestimentosAtivos()));
+        consultas.add(new Consulta("Investimento", "findInvestimentosAtivosByUsuario", () -> investimentoRepository.findInvestimentosAtivosByUsuario(idUsuario)));
+        consultas.add(new Consulta("Investimento", "findByTipo", () -> investimentoRepository.findByTipo(TipoInvestimento.CRIPTO)));
+        consultas.add(new Consulta("Investimento", "findByIdUsuarioAndTipo", () -> investimentoRepository.findByIdUsuarioAndTipo(idUsuario, TipoInvestimento.CDB)));
+        consultas.add(new Consulta("Investimento", "findByDataAplicacaoBetween", () -> investimentoRepository.findByDataAplicacaoBetween(hoje.minusDays(7), hoje)));
+        consultas.add(new Consulta("Investimento", "sumTotalInvestidoByUsuario", () -> investimentoRepository.sumTotalInvestidoByUsuario(idUsuario)));
+        consultas.add(new Consulta("Investimento", "sumTotalInvestidoAtivoByUsuario", () -> investimentoRepository.sumTotalInvestidoAtivoByUsuario(idUsuario)));
+
+        consultas.add(new Consulta("MetaFinanceira", "findByIdUsuario", () -> metaRepository.findByIdUsuario(idUsuario)));
+        consultas.add(new Consulta("MetaFinanceira", "findByIdUsuarioOrderByDataCriacaoDesc", () -> metaRepository.findByIdUsuarioOrderByDataCriacaoDesc(idUsuario)));
+        consultas.add(new Consulta("MetaFinanceira", "findByStatus", () -> metaRepository.findByStatus(StatusMeta.CANCELADA)));
+        consultas.add(new Consulta("MetaFinanceira", "findByIdUsuarioAndStatus", () -> metaRepository.findByIdUsuarioAndStatus(idUsuario, StatusMeta.ATIVA)));
+        consultas.add(new Consulta("MetaFinanceira", "findMetasAtivas", () -> metaRepository.findMetasAtivas()));
+        consultas.add(new Consulta("MetaFinanceira", "findMetasAtivasByUsuario", () -> metaRepository.findMetasAtivasByUsuario(idUsuario)));
+        consultas.add(new Consulta("MetaFinanceira", "findMetasConcluidasByUsuario", () -> metaRepository.findMetasConcluidasByUsuario(idUsuario)));
+        consultas.add(new Consulta("MetaFinanceira", "findByCategoria", () -> metaRepository.findByCategoria(CategoriaMeta.FESTA)));
+        consultas.add(new Consulta("MetaFinanceira", "findByIdUsuarioAndCategoria", () -> metaRepository.findByIdUsuarioAndCategoria(idUsuario, CategoriaMeta.VIAGEM)));
+        consultas.add(new Consulta("MetaFinanceira", "findByNomeContainingIgnoreCase", () -> metaRepository.findByNomeContainingIgnoreCase("viagem")));
+        consultas.add(new Consulta("MetaFinanceira", "sumValorNecessarioMetasAtivas", () -> metaRepository.sumValorNecessarioMetasAtivas(idUsuario)));
+        consultas.add(new Consulta("MetaFinanceira", "sumValorAcumuladoMetasAtivas", () -> metaRepository.sumValorAcumuladoMetasAtivas(idUsuario)));
+        consultas.add(new Consulta("MetaFinanceira", "countMetasAtivas", () -> metaRepository.countMetasAtivas(idUsuario)));
+        consultas.add(new Consulta("MetaFinanceira", "countMetasConcluidas", () -> metaRepository.countMetasConcluidas(idUsuario)));
+
+        return consultas;
+    }
+
+    // Usuário com volume próximo da média: mantido em todos os tamanhos para isolar o efeito do tamanho da tabela
+    private Long escolherUsuarioTipico() {
+        return jdbcTemplate.queryForObject(
+            "SELECT ID_USUARIO FROM TB_SALDO_USUARIO ORDER BY ABS(QUANTIDADE_TRANSACOES - ?), ID_USUARIO FETCH FIRST 1 ROWS ONLY",
+            Long.class, transacoesPorUsuario);
+    }
+
+    private Medicao medir(Consulta consulta, long transacoes) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setReadOnly(true);
+
+        for (int i = 0; i < aquecimento; i++) {
+            transacao.execute(status -> contarLinhas(consulta.execucao.get()));
+        }
+
+        long[] duracoes = new long[Math.max(repeticoes, 1)];
+        long linhas = 0;
+        for (int i = 0; i < duracoes.length; i++) {
+            long inicio = System.nanoTime();
+            // A contagem consome o resultado (inclusive streams) dentro da transação medida
+            linhas = transacao.execute(status -> contarLinhas(consulta.execucao.get()));
+            duracoes[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(duracoes);
+
+        Medicao medicao = new Medicao();
+        medicao.consulta = consulta;
+        medicao.transacoes = transacoes;
+        medicao.linhasRetornadas = linhas;
+        medicao.medianaMs = duracoes[duracoes.length / 2] / 1_000_000.0;
+        medicao.p95Ms = duracoes[(int) Math.ceil(duracoes.length * 0.95) - 1] / 1_000_000.0;
+        return medicao;
+    }
+
+    private static long contarLinhas(Object resultado) {
+        if (resultado == null) {
+            return 0;
+        }
+        if (resultado instanceof Collection<?> colecao) {
+            return colecao.size();
+        }
+        if (resultado instanceof Stream<?> stream) {
+            try (stream) {
+                return stream.count();
+            }
+        }
+        return 1;
+    }
+
+    private void gravarCsv(List<Medicao> medicoes) throws IOException {
+        Path caminho = Path.of(arquivo);
+        if (caminho.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(caminho.toAbsolutePath().getParent());
+        }
+        try (PrintWriter saida = new PrintWriter(Files.newBufferedWriter(caminho, StandardCharsets.UTF_8))) {
+            saida.println("repositorio,consulta,transacoes_tabela,linhas_retornadas,mediana_ms,p95_ms");
+            for (Medicao m : medicoes) {
+                saida.printf(Locale.ROOT, "%s,%s,%d,%d,%.3f,%.3f%n", m.consulta.repositorio, m.consulta.nome,
+                    m.transacoes, m.linhasRetornadas, m.medianaMs, m.p95Ms);
+            }
+        }
+        System.out.println();
+        System.out.println("Resultado gravado em " + caminho.toAbsolutePath());
+    }
+
+    // Expoente de crescimento entre os dois maiores tamanhos: ~0 estável, ~1 linear no tamanho da tabela
+    private void imprimirEscala(List<Medicao> medicoes, int quantidadeTamanhos) {
+        if (quantidadeTamanhos < 2) {
+            return;
+        }
+
+        // As consultas são recriadas a cada tamanho; agrupa as medições pelo nome
+        Map<String, List<Medicao>> porConsulta = new LinkedHashMap<>();
+        for (Medicao m : medicoes) {
+            porConsulta.computeIfAbsent(m.consulta.repositorio + "." + m.consulta.nome, c -> new ArrayList<>()).add(m);
+        }
+
+        System.out.println();
+        System.out.println("=== Crescimento da latência com o tamanho da tabela ===");
+        System.out.printf("%-20s %-42s %10s  %s%n", "Repositório", "Consulta", "Expoente", "Avaliação");
+        for (List<Medicao> serie : porConsulta.values()) {
+            Medicao menor = serie.get(serie.size() - 2);
+            Medicao maior = serie.get(serie.size() - 1);
+            double expoente = Math.log(Math.max(maior.medianaMs, 0.001) / Math.max(menor.medianaMs, 0.001))
+                / Math.log((double) maior.transacoes / menor.transacoes);
+            String avaliacao = expoente >= 0.5 ? "cresce com a tabela: revisar índice ou consulta" : "estável";
+            System.out.printf("%-20s %-42s %10.2f  %s%n", maior.consulta.repositorio, maior.consulta.nome, expoente, avaliacao);
+        }
+    }
+
+    private static class Consulta {
+
+        private final String repositorio;
+        private final String nome;
+        private final Supplier<Object> execucao;
+
+        Consulta(String repositorio, String nome, Supplier<Object> execucao) {
+            this.repositorio = repositorio;
+            this.nome = nome;
+            this.execucao = execucao;
+        }
+    }
+
+    private static class Medicao {
+
+        private Consulta consulta;
+        private long transacoes;
+        private long linhasRetornadas;
+        private double medianaMs;
+        private double p95Ms;
+    }
+}
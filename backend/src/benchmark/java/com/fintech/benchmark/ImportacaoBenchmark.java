@@ -0,0 +1,135 @@
+package com.fintech.benchmark;
+
+import com.fintech.dto.ResultadoImportacaoDTO;
+import com.fintech.entity.Transacao;
+import com.fintech.enums.Genero;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.service.ImportacaoService;
+import com.fintech.service.TransacaoService;
+import com.fintech.service.UsuarioService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark da importação em lote de transações
+ * Compara a gravação individual (caminho de POST /transacoes) com a importação
+ * via JDBC batch em diferentes tamanhos de lote e reporta linhas por segundo
+ *
+ * Execução: mvn -Pbenchmark spring-boot:run -Dspring-boot.run.profiles=benchmark
+ */
+@Component
+@Profile("benchmark")
+@ConditionalOnProperty(name = "fintech.benchmark.executar", havingValue = "importacao")
+public class ImportacaoBenchmark implements CommandLineRunner {
+
+    private static final String[] CATEGORIAS = {
+        "Alimentação", "Transporte", "Moradia", "Saúde", "Lazer", "Educação", "Salário", "Freelance"
+    };
+
+    @Value("${fintech.benchmark.importacao.linhas:100000}")
+    private int linhas;
+
+    @Value("${fintech.benchmark.importacao.linhas-individuais:2000}")
+    private int linhasIndividuais;
+
+    @Value("${fintech.benchmark.importacao.tamanhos-lote:1,100,500,1000}")
+    private List<Integer> tamanhosLote;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private TransacaoService transacaoService;
+
+    @Autowired
+    private ImportacaoService importacaoService;
+
+    private int usuariosCriados;
+
+    @Override
+    public void run(String... args) {
+        byte[] carga = gerarNdjson(linhas, new Random(42));
+
+        // Aquecimento da JVM e do pool de conexões
+        importacaoService.importarTransacoes(criarUsuario(), new ByteArrayInputStream(gerarNdjson(5000, new Random(7))), 500);
+
+        System.out.println();
+        System.out.println("=== Benchmark de importação de transações ===");
+        System.out.printf("%-28s %12s %12s %14s%n", "Cenário", "Linhas", "Tempo (ms)", "Linhas/s");
+
+        medirGravacaoIndividual();
+
+        for (Integer tamanhoLote : tamanhosLote) {
+            ResultadoImportacaoDTO resultado = importacaoService.importarTransacoes(
+                criarUsuario(), new ByteArrayInputStream(carga), tamanhoLote);
+            imprimirLinha("Importação, lote " + tamanhoLote, resultado.getImportadas(), resultado.getDuracaoMs() * 1_000_000L);
+        }
+        System.out.println();
+    }
+
+    // Equivalente a uma chamada POST /transacoes por linha
+    private void medirGravacaoIndividual() {
+        Long idUsuario = criarUsuario();
+        Random aleatorio = new Random(42);
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < linhasIndividuais; i++) {
+            Transacao transacao = new Transacao();
+            transacao.setIdUsuario(idUsuario);
+            transacao.setTipoTransacao(sortearTipo(aleatorio));
+            transacao.setCategoria(CATEGORIAS[aleatorio.nextInt(CATEGORIAS.length)]);
+            transacao.setValor(sortearValor(aleatorio));
+            transacao.setData(sortearData(aleatorio));
+            transacaoService.salvar(transacao);
+        }
+        imprimirLinha("Gravação individual", linhasIndividuais, System.nanoTime() - inicio);
+    }
+
+    private void imprimirLinha(String cenario, long quantidade, long duracaoNanos) {
+        long linhasPorSegundo = duracaoNanos > 0 ? quantidade * 1_000_000_000L / duracaoNanos : 0;
+        System.out.printf("%-28s %12d %12d %14d%n", cenario, quantidade, duracaoNanos / 1_000_000, linhasPorSegundo);
+    }
+
+    private Long criarUsuario() {
+        int numero = ++usuariosCriados;
+        return usuarioService.registrarNovoUsuario("Usuário Benchmark " + numero, "benchmark" + numero + "@fintech.com",
+            "benchmark123", LocalDate.of(1990, 1, 1), Genero.NAO_INFORMADO).getIdUsuario();
+    }
+
+    private byte[] gerarNdjson(int quantidade, Random aleatorio) {
+        StringBuilder ndjson = new StringBuilder(quantidade * 110);
+        for (int i = 0; i < quantidade; i++) {
+            ndjson.append("{\"tipoTransacao\":\"").append(sortearTipo(aleatorio))
+                  .append("\",\"categoria\":\"").append(CATEGORIAS[aleatorio.nextInt(CATEGORIAS.length)])
+                  .append("\",\"descricao\":\"Transação importada ").append(i)
+                  .append("\",\"valor\":").append(sortearValor(aleatorio))
+                  .append(",\"data\":\"").append(sortearData(aleatorio)).append("\"}\n");
+        }
+        return ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private TipoTransacao sortearTipo(Random aleatorio) {
+        int sorteio = aleatorio.nextInt(10);
+        return sorteio < 3 ? TipoTransacao.CREDITO : sorteio < 9 ? TipoTransacao.DEBITO : TipoTransacao.TRANSFERENCIA;
+    }
+
+    private BigDecimal sortearValor(Random aleatorio) {
+        return BigDecimal.valueOf(100 + aleatorio.nextInt(500_000), 2);
+    }
+
+    // Datas espalhadas pelos últimos cinco anos
+    private LocalDate sortearData(Random aleatorio) {
+        return LocalDate.now().minusDays(aleatorio.nextInt(5 * 365));
+    }
+}
@@ -0,0 +1,130 @@
+package com.fintech.benchmark;
+
+import com.fintech.entity.Sequencias;
+import com.fintech.entity.Transacao;
+import com.fintech.entity.Usuario;
+import com.fintech.enums.Genero;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.repository.TransacaoRepository;
+import com.fintech.repository.UsuarioRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmark de inserção via JPA
+ * Mede linhas por segundo e comandos JDBC por linha ao persistir usuários e transações,
+ * evidenciando o efeito da alocação de IDs em blocos (Sequencias.INCREMENTO) e do JDBC batch
+ *
+ * Execução: mvn -Pbenchmark spring-boot:run -Dspring-boot.run.profiles=benchmark
+ *           -Dspring-boot.run.arguments=--fintech.benchmark.executar=insercao
+ */
+@Component
+@Profile("benchmark")
+@ConditionalOnProperty(name = "fintech.benchmark.executar", havingValue = "insercao")
+public class InsercaoBenchmark implements CommandLineRunner {
+
+    @Value("${fintech.benchmark.insercao.linhas:50000}")
+    private int linhas;
+
+    @Value("${fintech.benchmark.insercao.linhas-por-transacao:500}")
+    private int linhasPorTransacao;
+
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int usuariosCriados;
+
+    @Override
+    public void run(String... args) {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.setStatisticsEnabled(true);
+
+        Long idUsuario = usuarioRepository.save(novoUsuario()).getIdUsuario();
+
+        // Aquecimento
+        inserir(5000, i -> novaTransacao(idUsuario, i), transacaoRepository::saveAll);
+
+        System.out.println();
+        System.out.printf("=== Benchmark de inserção JPA (allocationSize = %d) ===%n", Sequencias.INCREMENTO);
+        System.out.printf("%-24s %10s %12s %12s %16s%n", "Entidade", "Linhas", "Tempo (ms)", "Linhas/s", "Comandos/linha");
+
+        estatisticas.clear();
+        long duracao = inserir(linhas, i -> novaTransacao(idUsuario, i), transacaoRepository::saveAll);
+        imprimirLinha("Transacao", linhas, duracao, estatisticas.getPrepareStatementCount());
+
+        int quantidadeUsuarios = Math.max(linhas / 10, 1);
+        estatisticas.clear();
+        duracao = inserir(quantidadeUsuarios, i -> novoUsuario(), usuarioRepository::saveAll);
+        imprimirLinha("Usuario", quantidadeUsuarios, duracao, estatisticas.getPrepareStatementCount());
+        System.out.println();
+    }
+
+    // Persiste em transações de linhasPorTransacao entidades e retorna a duração em nanossegundos
+    private <T> long inserir(int quantidade, IntFunction<T> fabrica, Consumer<List<T>> gravacao) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        long inicio = System.nanoTime();
+        for (int feitas = 0; feitas < quantidade; feitas += linhasPorTransacao) {
+            int tamanho = Math.min(linhasPorTransacao, quantidade - feitas);
+            List<T> entidades = new ArrayList<>(tamanho);
+            for (int i = 0; i < tamanho; i++) {
+                entidades.add(fabrica.apply(feitas + i));
+            }
+            transacao.executeWithoutResult(status -> gravacao.accept(entidades));
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    private void imprimirLinha(String entidade, long quantidade, long duracaoNanos, long comandos) {
+        long linhasPorSegundo = duracaoNanos > 0 ? quantidade * 1_000_000_000L / duracaoNanos : 0;
+        System.out.printf("%-24s %10d %12d %12d %16.3f%n", entidade, quantidade, duracaoNanos / 1_000_000,
+            linhasPorSegundo, (double) comandos / quantidade);
+    }
+
+    private Transacao novaTransacao(Long idUsuario, int indice) {
+        Transacao transacao = new Transacao();
+        transacao.setIdUsuario(idUsuario);
+        transacao.setTipoTransacao(indice % 3 == 0 ? TipoTransacao.CREDITO : TipoTransacao.DEBITO);
+        transacao.setCategoria("Categoria " + (indice % 8));
+        transacao.setDescricao("Transação " + indice);
+        transacao.setValor(BigDecimal.valueOf(100 + indice % 10_000, 2));
+        transacao.setData(LocalDate.now().minusDays(indice % 1825));
+        return transacao;
+    }
+
+    private Usuario novoUsuario() {
+        int numero = ++usuariosCriados;
+        Usuario usuario = new Usuario();
+        usuario.setNomeCompleto("Usuário Benchmark " + numero);
+        usuario.setEmail("insercao" + numero + "@fintech.com");
+        usuario.definirSenha("benchmark123");
+        usuario.setDataNascimento(LocalDate.of(1990, 1, 1));
+        usuario.setGenero(Genero.NAO_INFORMADO);
+        usuario.registrar();
+        return usuario;
+    }
+}
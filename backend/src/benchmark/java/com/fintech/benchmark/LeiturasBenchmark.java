@@ -0,0 +1,193 @@
+package com.fintech.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.config.GeradorDadosSinteticos;
+import com.fintech.config.GravadorDadosSinteticos;
+import com.fintech.enums.StatusMeta;
+import com.fintech.repository.InvestimentoRepository;
+import com.fintech.repository.MetaFinanceiraRepository;
+import com.fintech.repository.TransacaoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark das leituras da API: entidade gerenciada x DTO construído na consulta (SELECT new)
+ * Cada endpoint de leitura é executado das duas formas, como nos serviços (transação somente leitura)
+ * e serializando a resposta com o ObjectMapper da aplicação. Para cada forma mede, por requisição,
+ * o tempo de CPU e os bytes alocados pela thread, e confere se o JSON produzido é o mesmo.
+ *
+ * Execução: make benchmark-leituras
+ */
+@Component
+@Profile("benchmark")
+@ConditionalOnProperty(name = "fintech.benchmark.executar", havingValue = "leituras")
+public class LeiturasBenchmark implements CommandLineRunner {
+
+    @Value("${fintech.benchmark.leituras.usuarios:500}")
+    private long usuarios;
+
+    @Value("${fintech.benchmark.leituras.transacoes-por-usuario:200}")
+    private int transacoesPorUsuario;
+
+    @Value("${fintech.benchmark.leituras.aquecimento:300}")
+    private int aquecimento;
+
+    @Value("${fintech.benchmark.leituras.requisicoes:1000}")
+    private int requisicoes;
+
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+
+    @Autowired
+    private InvestimentoRepository investimentoRepository;
+
+    @Autowired
+    private MetaFinanceiraRepository metaRepository;
+
+    @Autowired
+    private GravadorDadosSinteticos gravador;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Override
+    public void run(String... args) {
+        GeradorDadosSinteticos gerador = new GeradorDadosSinteticos(42, transacoesPorUsuario, 20000,
+            1.2, 3, 2, 24, LocalDate.now());
+        gravador.gravar(gerador, 0, usuarios, Runtime.getRuntime().availableProcessors(), 200);
+        jdbcTemplate.execute("ANALYZE");
+
+        // Usuário com volume próximo da média e com metas e investimentos
+        Long idUsuario = jdbcTemplate.queryForObject(
+            "SELECT s.ID_USUARIO FROM TB_SALDO_USUARIO s " +
+            "WHERE EXISTS (SELECT 1 FROM TB_META_FINANCEIRA m WHERE m.ID_USUARIO = s.ID_USUARIO) " +
+            "AND EXISTS (SELECT 1 FROM TB_INVESTIMENTO i WHERE i.ID_USUARIO = s.ID_USUARIO) " +
+            "ORDER BY ABS(s.QUANTIDADE_TRANSACOES - ?), s.ID_USUARIO FETCH FIRST 1 ROWS ONLY",
+            Long.class, transacoesPorUsuario);
+        Long idTransacao = jdbcTemplate.queryForObject(
+            "SELECT MAX(ID_TRANSACAO) FROM TB_TRANSACAO WHERE ID_USUARIO = ?", Long.class, idUsuario);
+
+        List<Leitura> leituras = new ArrayList<>();
+        leituras.add(new Leitura("GET /transacoes/{id}",
+            () -> transacaoRepository.findByIdTransacaoAndIdUsuario(idTransacao, idUsuario).orElseThrow(),
+            () -> transacaoRepository.findDTOByIdAndUsuario(idTransacao, idUsuario).orElseThrow()));
+        leituras.add(new Leitura("GET /transacoes/usuario/{id}",
+            () -> transacaoRepository.findByIdUsuarioOrderByDataDesc(idUsuario),
+            () -> transacaoRepository.findDTOByUsuario(idUsuario)));
+        leituras.add(new Leitura("GET /investimentos/usuario/{id}",
+            () -> investimentoRepository.findByIdUsuario(idUsuario),
+            () -> investimentoRepository.findDTOByUsuario(idUsuario)));
+        leituras.add(new Leitura("GET /metas/usuario/{id}",
+            () -> metaRepository.findByIdUsuarioOrderByDataCriacaoDesc(idUsuario),
+            () -> metaRepository.findDTOByUsuario(idUsuario)));
+        leituras.add(new Leitura("GET /metas/status/ATIVA",
+            () -> metaRepository.findByStatus(StatusMeta.ATIVA),
+            () -> metaRepository.findDTOByStatus(StatusMeta.ATIVA)));
+
+        System.out.println();
+        System.out.printf("=== Leituras: entidade x DTO (%d usuários, usuário %d, %d requisições) ===%n",
+            usuarios, idUsuario, requisicoes);
+        System.out.printf("%-32s %9s %11s %11s %9s %12s %12s %9s %6s%n", "Endpoint", "Bytes JSON",
+            "CPU µs ent.", "CPU µs DTO", "Economia", "KB aloc ent.", "KB aloc DTO", "Economia", "JSON =");
+        for (Leitura leitura : leituras) {
+            byte[] jsonEntidade = executar(leitura.entidade);
+            byte[] jsonDTO = executar(leitura.dto);
+            boolean mesmoJson = mesmoJson(jsonEntidade, jsonDTO);
+
+            for (int i = 0; i < aquecimento; i++) {
+                executar(leitura.entidade);
+                executar(leitura.dto);
+            }
+            Medicao entidade = medir(leitura.entidade);
+            Medicao dto = medir(leitura.dto);
+
+            System.out.printf("%-32s %9d %11.1f %11.1f %8.1f%% %12.1f %12.1f %8.1f%% %6s%n", leitura.nome,
+                jsonDTO.length, entidade.cpuMicros, dto.cpuMicros, economia(entidade.cpuMicros, dto.cpuMicros),
+                entidade.kbAlocados, dto.kbAlocados, economia(entidade.kbAlocados, dto.kbAlocados),
+                mesmoJson ? "sim" : "NÃO");
+        }
+        System.out.println();
+    }
+
+    // Uma requisição: consulta em transação somente leitura + serialização da resposta
+    private byte[] executar(Supplier<Object> consulta) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setReadOnly(true);
+        return transacao.execute(status -> {
+            try {
+                return objectMapper.writeValueAsBytes(consulta.get());
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private Medicao medir(Supplier<Object> consulta) {
+        long cpuInicial = threads.getCurrentThreadCpuTime();
+        long bytesIniciais = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < requisicoes; i++) {
+            executar(consulta);
+        }
+        Medicao medicao = new Medicao();
+        medicao.cpuMicros = (threads.getCurrentThreadCpuTime() - cpuInicial) / 1_000.0 / requisicoes;
+        medicao.kbAlocados = (threads.getCurrentThreadAllocatedBytes() - bytesIniciais) / 1024.0 / requisicoes;
+        return medicao;
+    }
+
+    // Compara as árvores JSON: a ordem das propriedades pode diferir entre entidade e DTO
+    private boolean mesmoJson(byte[] a, byte[] b) {
+        try {
+            return objectMapper.readTree(a).equals(objectMapper.readTree(b));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double economia(double antes, double depois) {
+        return antes > 0 ? (antes - depois) * 100 / antes : 0;
+    }
+
+    private static class Leitura {
+
+        private final String nome;
+        private final Supplier<Object> entidade;
+        private final Supplier<Object> dto;
+
+        Leitura(String nome, Supplier<Object> entidade, Supplier<Object> dto) {
+            this.nome = nome;
+            this.entidade = entidade;
+            this.dto = dto;
+        }
+    }
+
+    private static class Medicao {
+
+        private double cpuMicros;
+        private double kbAlocados;
+    }
+}
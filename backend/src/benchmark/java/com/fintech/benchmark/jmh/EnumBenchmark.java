@@ -0,0 +1,41 @@
+package com.fintech.benchmark.jmh;
+
+import com.fintech.enums.CategoriaMeta;
+import com.fintech.enums.TipoInvestimento;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão de texto para enum (varredura linear com equalsIgnoreCase)
+ * Mede o melhor caso (primeira constante), o pior caso (última) e o valor desconhecido
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumBenchmark {
+
+    @State(Scope.Thread)
+    public static class EntradaTipoInvestimento {
+        @Param({"cdb", "CRIPTO"})
+        public String valor;
+    }
+
+    @State(Scope.Thread)
+    public static class EntradaCategoriaMeta {
+        @Param({"viagem", "outros", "inexistente"})
+        public String valor;
+    }
+
+    @Benchmark
+    public TipoInvestimento tipoInvestimentoFromString(EntradaTipoInvestimento entrada) {
+        return TipoInvestimento.fromString(entrada.valor);
+    }
+
+    @Benchmark
+    public CategoriaMeta categoriaMetaFromString(EntradaCategoriaMeta entrada) {
+        return CategoriaMeta.fromString(entrada.valor);
+    }
+}
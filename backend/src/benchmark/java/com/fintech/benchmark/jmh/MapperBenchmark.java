@@ -0,0 +1,113 @@
+package com.fintech.benchmark.jmh;
+
+import com.fintech.dto.InvestimentoDTO;
+import com.fintech.dto.MetaFinanceiraDTO;
+import com.fintech.dto.TransacaoDTO;
+import com.fintech.dto.UsuarioDTO;
+import com.fintech.entity.Investimento;
+import com.fintech.entity.MetaFinanceira;
+import com.fintech.entity.Transacao;
+import com.fintech.entity.Usuario;
+import com.fintech.enums.Genero;
+import com.fintech.enums.TipoInvestimento;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.mapper.InvestimentoMapper;
+import com.fintech.mapper.MetaFinanceiraMapper;
+import com.fintech.mapper.TransacaoMapper;
+import com.fintech.mapper.UsuarioMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões entidade/DTO dos mappers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final TransacaoMapper transacaoMapper = new TransacaoMapper();
+    private final UsuarioMapper usuarioMapper = new UsuarioMapper();
+    private final InvestimentoMapper investimentoMapper = new InvestimentoMapper();
+    private final MetaFinanceiraMapper metaFinanceiraMapper = new MetaFinanceiraMapper();
+
+    private Transacao transacao;
+    private TransacaoDTO transacaoDTO;
+    private Usuario usuario;
+    private UsuarioDTO usuarioDTO;
+    private Investimento investimento;
+    private InvestimentoDTO investimentoDTO;
+    private MetaFinanceira meta;
+    private MetaFinanceiraDTO metaDTO;
+
+    @Setup
+    public void preparar() {
+        transacao = new Transacao(1L, 1L, TipoTransacao.DEBITO, "Alimentação", "Supermercado",
+            new BigDecimal("245.90"), LocalDate.of(2024, 8, 8));
+        transacaoDTO = transacaoMapper.toDTO(transacao);
+
+        usuario = new Usuario();
+        usuario.setIdUsuario(1L);
+        usuario.setNomeCompleto("Usuário Benchmark");
+        usuario.setEmail("benchmark@fintech.com");
+        usuario.definirSenha("senhaSegura123");
+        usuario.setDataNascimento(LocalDate.of(1990, 1, 1));
+        usuario.setGenero(Genero.NAO_INFORMADO);
+        usuario.registrar();
+        usuarioDTO = usuarioMapper.toDTO(usuario);
+
+        investimento = new Investimento(1L, 1L, TipoInvestimento.CDB, new BigDecimal("10000.00"),
+            LocalDate.of(2024, 1, 15), null);
+        investimentoDTO = investimentoMapper.toDTO(investimento);
+
+        meta = new MetaFinanceira(1L, 1L, "Viagem", "Férias em família",
+            new BigDecimal("15000.00"), new BigDecimal("4200.00"), LocalDate.now().plusMonths(10));
+        metaDTO = metaFinanceiraMapper.toDTO(meta);
+    }
+
+    @Benchmark
+    public TransacaoDTO transacaoToDTO() {
+        return transacaoMapper.toDTO(transacao);
+    }
+
+    @Benchmark
+    public Transacao transacaoToEntity() {
+        return transacaoMapper.toEntity(transacaoDTO);
+    }
+
+    @Benchmark
+    public UsuarioDTO usuarioToDTO() {
+        return usuarioMapper.toDTO(usuario);
+    }
+
+    @Benchmark
+    public Usuario usuarioToEntity() {
+        return usuarioMapper.toEntity(usuarioDTO);
+    }
+
+    @Benchmark
+    public InvestimentoDTO investimentoToDTO() {
+        return investimentoMapper.toDTO(investimento);
+    }
+
+    @Benchmark
+    public Investimento investimentoToEntity() {
+        return investimentoMapper.toEntity(investimentoDTO);
+    }
+
+    @Benchmark
+    public MetaFinanceiraDTO metaToDTO() {
+        return metaFinanceiraMapper.toDTO(meta);
+    }
+
+    @Benchmark
+    public MetaFinanceira metaToEntity() {
+        return metaFinanceiraMapper.toEntity(metaDTO);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fintech.benchmark.jmh;
+
+import com.fintech.entity.MetaFinanceira;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Campos calculados de MetaFinanceira (aritmética BigDecimal), avaliados a cada serialização
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetaFinanceiraBenchmark {
+
+    private MetaFinanceira meta;
+
+    @Setup
+    public void preparar() {
+        meta = new MetaFinanceira(1L, 1L, "Reserva de emergência", "Seis meses de despesas",
+            new BigDecimal("30000.00"), new BigDecimal("12345.67"), LocalDate.now().plusMonths(8));
+    }
+
+    @Benchmark
+    public BigDecimal percentualAlcancado() {
+        return meta.getPercentualAlcancado();
+    }
+
+    @Benchmark
+    public BigDecimal valorRestante() {
+        return meta.getValorRestante();
+    }
+
+    @Benchmark
+    public long diasRestantes() {
+        return meta.getDiasRestantes();
+    }
+}
@@ -0,0 +1,42 @@
+package com.fintech.benchmark.jmh;
+
+import com.fintech.entity.Usuario;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash e validação de senha executados no cadastro e em cada autenticação
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SenhaBenchmark {
+
+    private Usuario usuario;
+
+    @Setup
+    public void preparar() {
+        usuario = new Usuario();
+        usuario.definirSenha("senhaSegura123");
+    }
+
+    @Benchmark
+    public Usuario definirSenha() {
+        usuario.definirSenha("senhaSegura123");
+        return usuario;
+    }
+
+    @Benchmark
+    public boolean validarSenhaCorreta() {
+        return usuario.validarSenha("senhaSegura123");
+    }
+
+    @Benchmark
+    public boolean validarSenhaIncorreta() {
+        return usuario.validarSenha("senhaErrada456");
+    }
+}
@@ -0,0 +1,46 @@
+package com.fintech.benchmark.jmh;
+
+import com.fintech.sessao.SessaoUsuario;
+import com.fintech.sessao.TokenSessao;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão e verificação do token de sessão, executada pelo filtro em cada requisição autenticada
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenSessaoBenchmark {
+
+    private TokenSessao tokenSessao;
+    private String tokenValido;
+    private String tokenAdulterado;
+
+    @Setup
+    public void preparar() {
+        tokenSessao = new TokenSessao("segredo-do-benchmark", 480);
+        tokenValido = tokenSessao.emitir(123456L, true);
+        tokenAdulterado = tokenValido.replaceFirst("^123456", "123457");
+    }
+
+    @Benchmark
+    public String emitir() {
+        return tokenSessao.emitir(123456L, true);
+    }
+
+    @Benchmark
+    public Optional<SessaoUsuario> verificarValido() {
+        return tokenSessao.verificar(tokenValido);
+    }
+
+    @Benchmark
+    public Optional<SessaoUsuario> verificarAdulterado() {
+        return tokenSessao.verificar(tokenAdulterado);
+    }
+}
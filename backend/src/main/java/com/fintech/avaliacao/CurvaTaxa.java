@@ -0,0 +1,102 @@
+package com.fintech.avaliacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+/**
+ * Curva de taxa em degraus: cada linha "data;taxa" (% ao ano) vale até a data da linha seguinte,
+ * e a última vale indefinidamente. Linhas em branco e iniciadas por # são ignoradas, assim como
+ * o cabeçalho "data;taxa".
+ */
+public final class CurvaTaxa {
+
+    private final String nome;
+    // Dia (epochDay) de início de cada degrau, em ordem crescente, e a taxa correspondente (fração ao ano)
+    private final int[] inicios;
+    private final double[] taxas;
+
+    private CurvaTaxa(String nome, int[] inicios, double[] taxas) {
+        this.nome = nome;
+        this.inicios = inicios;
+        this.taxas = taxas;
+    }
+
+    public static CurvaTaxa ler(String nome, InputStream entrada) throws IOException {
+        int[] inicios = new int[64];
+        double[] taxas = new double[64];
+        int quantidade = 0;
+        int numeroLinha = 0;
+
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                numeroLinha++;
+                linha = linha.strip();
+                if (linha.isEmpty() || linha.startsWith("#") || linha.equalsIgnoreCase("data;taxa")) {
+                    continue;
+                }
+
+                int separador = linha.indexOf(';');
+                if (separador < 0) {
+                    throw new IllegalArgumentException(erro(nome, numeroLinha, "esperado data;taxa"));
+                }
+                int inicio;
+                double taxa;
+                try {
+                    inicio = Math.toIntExact(LocalDate.parse(linha.substring(0, separador).strip()).toEpochDay());
+                    taxa = Double.parseDouble(linha.substring(separador + 1).strip().replace(',', '.')) / 100;
+                } catch (DateTimeParseException | NumberFormatException e) {
+                    throw new IllegalArgumentException(erro(nome, numeroLinha, e.getMessage()), e);
+                }
+                if (quantidade > 0 && inicio <= inicios[quantidade - 1]) {
+                    throw new IllegalArgumentException(erro(nome, numeroLinha, "datas devem estar em ordem crescente"));
+                }
+                if (taxa <= -1) {
+                    throw new IllegalArgumentException(erro(nome, numeroLinha, "taxa deve ser maior que -100%"));
+                }
+
+                if (quantidade == inicios.length) {
+                    inicios = Arrays.copyOf(inicios, quantidade * 2);
+                    taxas = Arrays.copyOf(taxas, quantidade * 2);
+                }
+                inicios[quantidade] = inicio;
+                taxas[quantidade] = taxa;
+                quantidade++;
+            }
+        }
+
+        if (quantidade == 0) {
+            throw new IllegalArgumentException("Curva " + nome + " sem nenhuma taxa");
+        }
+        return new CurvaTaxa(nome, Arrays.copyOf(inicios, quantidade), Arrays.copyOf(taxas, quantidade));
+    }
+
+    // Taxa ao ano vigente no dia; antes do primeiro degrau vale a primeira taxa
+    double taxaEm(int dia) {
+        int posicao = Arrays.binarySearch(inicios, dia);
+        int degrau = posicao >= 0 ? posicao : -posicao - 2;
+        return taxas[Math.max(degrau, 0)];
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public LocalDate getInicio() {
+        return LocalDate.ofEpochDay(inicios[0]);
+    }
+
+    public int getQuantidadeTaxas() {
+        return inicios.length;
+    }
+
+    private static String erro(String nome, int linha, String detalhe) {
+        return "Curva " + nome + ", linha " + linha + ": " + detalhe;
+    }
+}
@@ -0,0 +1,103 @@
+package com.fintech.avaliacao;
+
+import com.fintech.enums.TipoInvestimento;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Investimentos a avaliar em colunas de tipos primitivos, reaproveitadas de um lote para o outro
+ * Valores em centavos e datas em epochDay: o MotorAvaliacao percorre o lote sem criar objetos.
+ */
+public final class LoteAvaliacao {
+
+    private static final TipoInvestimento[] TIPOS = TipoInvestimento.values();
+
+    private final long[] ids;
+    private final int[] tipos;
+    private final long[] centavosAplicados;
+    private final int[] diasAplicacao;
+    private final int[] diasReferencia;
+    private final long[] centavosAtuais;
+    private int tamanho;
+    private int ultimoDiaReferencia = Integer.MIN_VALUE;
+
+    public LoteAvaliacao(int capacidade) {
+        ids = new long[capacidade];
+        tipos = new int[capacidade];
+        centavosAplicados = new long[capacidade];
+        diasAplicacao = new int[capacidade];
+        diasReferencia = new int[capacidade];
+        centavosAtuais = new long[capacidade];
+    }
+
+    public void adicionar(long id, TipoInvestimento tipo, long centavosAplicados, LocalDate dataAplicacao,
+                          LocalDate dataReferencia) {
+        if (tamanho == ids.length) {
+            throw new IllegalStateException("Lote de avaliação cheio (" + ids.length + ")");
+        }
+        int diaReferencia = Math.toIntExact(dataReferencia.toEpochDay());
+        ids[tamanho] = id;
+        tipos[tamanho] = tipo.ordinal();
+        this.centavosAplicados[tamanho] = centavosAplicados;
+        diasAplicacao[tamanho] = Math.toIntExact(dataAplicacao.toEpochDay());
+        diasReferencia[tamanho] = diaReferencia;
+        centavosAtuais[tamanho] = 0;
+        ultimoDiaReferencia = Math.max(ultimoDiaReferencia, diaReferencia);
+        tamanho++;
+    }
+
+    public void limpar() {
+        tamanho = 0;
+        ultimoDiaReferencia = Integer.MIN_VALUE;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public boolean isCheio() {
+        return tamanho == ids.length;
+    }
+
+    public long getId(int indice) {
+        return ids[indice];
+    }
+
+    public TipoInvestimento getTipo(int indice) {
+        return TIPOS[tipos[indice]];
+    }
+
+    public LocalDate getDataReferencia(int indice) {
+        return LocalDate.ofEpochDay(diasReferencia[indice]);
+    }
+
+    public BigDecimal getValorAtual(int indice) {
+        return BigDecimal.valueOf(centavosAtuais[indice], 2);
+    }
+
+    // Acesso direto às colunas pelo MotorAvaliacao
+    int[] tipos() {
+        return tipos;
+    }
+
+    long[] centavosAplicados() {
+        return centavosAplicados;
+    }
+
+    int[] diasAplicacao() {
+        return diasAplicacao;
+    }
+
+    int[] diasReferencia() {
+        return diasReferencia;
+    }
+
+    long[] centavosAtuais() {
+        return centavosAtuais;
+    }
+
+    int ultimoDiaReferencia() {
+        return ultimoDiaReferencia;
+    }
+}
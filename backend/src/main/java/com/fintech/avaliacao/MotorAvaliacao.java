@@ -0,0 +1,181 @@
+package com.fintech.avaliacao;
+
+import com.fintech.enums.TipoInvestimento;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Valor atualizado dos investimentos a partir das curvas de CDI, Selic e IPCA (ver RegraRendimento)
+ *
+ * Para cada regra é montado o fator acumulado dia a dia desde o início das curvas; o valor em uma data
+ * é o aplicado vezes a razão entre o fator dessa data e o da aplicação. Avaliar um investimento custa
+ * duas leituras de array, então o lote inteiro é avaliado sem consultas nem BigDecimal.
+ * Dias úteis são os de segunda a sexta, sem calendário de feriados.
+ */
+@Component
+public class MotorAvaliacao {
+
+    private static final Logger log = LoggerFactory.getLogger(MotorAvaliacao.class);
+
+    private static final RegraRendimento[] REGRAS = RegraRendimento.values();
+
+    // Regra de cada TipoInvestimento, pelo ordinal
+    private static final int[] REGRA_POR_TIPO = new int[TipoInvestimento.values().length];
+
+    static {
+        for (TipoInvestimento tipo : TipoInvestimento.values()) {
+            REGRA_POR_TIPO[tipo.ordinal()] = RegraRendimento.de(tipo).ordinal();
+        }
+    }
+
+    // Acima dessa meta Selic a poupança rende 0,5% ao mês; abaixo, 70% da Selic
+    private static final double SELIC_LIMITE_POUPANCA = 0.085;
+    private static final double POUPANCA_MENSAL = 0.005;
+
+    @Value("${fintech.avaliacao.taxas:classpath:taxas/}")
+    private String localTaxas;
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    private CurvaTaxa cdi;
+    private CurvaTaxa selic;
+    private CurvaTaxa ipca;
+    private int diaInicial;
+
+    private volatile TabelaFatores tabela;
+
+    @PostConstruct
+    public void carregarCurvas() {
+        cdi = carregar("cdi");
+        selic = carregar("selic");
+        ipca = carregar("ipca");
+        diaInicial = Math.toIntExact(Math.min(cdi.getInicio().toEpochDay(),
+            Math.min(selic.getInicio().toEpochDay(), ipca.getInicio().toEpochDay())));
+        log.info("Curvas de taxas carregadas de {}: CDI ({} taxas), Selic ({}), IPCA ({}), desde {}", localTaxas,
+                 cdi.getQuantidadeTaxas(), selic.getQuantidadeTaxas(), ipca.getQuantidadeTaxas(),
+                 LocalDate.ofEpochDay(diaInicial));
+    }
+
+    // Avalia o lote inteiro; cada investimento na sua data de referência
+    public void avaliar(LoteAvaliacao lote) {
+        if (lote.getTamanho() == 0) {
+            return;
+        }
+        double[][] fatores = tabela(lote.ultimoDiaReferencia()).fatores;
+        int[] tipos = lote.tipos();
+        long[] aplicados = lote.centavosAplicados();
+        int[] diasAplicacao = lote.diasAplicacao();
+        int[] diasReferencia = lote.diasReferencia();
+        long[] atuais = lote.centavosAtuais();
+
+        for (int i = 0; i < lote.getTamanho(); i++) {
+            double[] fator = fatores[REGRA_POR_TIPO[tipos[i]]];
+            atuais[i] = Math.round(aplicados[i] * (fator[indice(fator, diasReferencia[i])] / fator[indice(fator, diasAplicacao[i])]));
+        }
+    }
+
+    // Avaliação avulsa, para escritas de um único investimento
+    public BigDecimal avaliar(TipoInvestimento tipo, BigDecimal valorAplicado, LocalDate dataAplicacao,
+                              LocalDate dataReferencia) {
+        int diaReferencia = Math.toIntExact(dataReferencia.toEpochDay());
+        double[] fator = tabela(diaReferencia).fatores[REGRA_POR_TIPO[tipo.ordinal()]];
+        double razao = fator[indice(fator, diaReferencia)] / fator[indice(fator, Math.toIntExact(dataAplicacao.toEpochDay()))];
+        return BigDecimal.valueOf(Math.round(valorAplicado.movePointRight(2).doubleValue() * razao), 2);
+    }
+
+    public LocalDate getInicioCurvas() {
+        return LocalDate.ofEpochDay(diaInicial);
+    }
+
+    // Antes do início das curvas não há rendimento: a aplicação passa a render no primeiro dia conhecido
+    private int indice(double[] fator, int dia) {
+        return Math.min(Math.max(dia - diaInicial, 0), fator.length - 1);
+    }
+
+    // A tabela só cresce: os fatores de dias já calculados não mudam quando o último dia avança
+    private TabelaFatores tabela(int ultimoDia) {
+        TabelaFatores atual = tabela;
+        if (atual != null && atual.ultimoDia >= ultimoDia) {
+            return atual;
+        }
+        synchronized (this) {
+            atual = tabela;
+            if (atual == null || atual.ultimoDia < ultimoDia) {
+                int ate = Math.max(ultimoDia, Math.toIntExact(LocalDate.now().toEpochDay()));
+                atual = montar(ate);
+                tabela = atual;
+            }
+            return atual;
+        }
+    }
+
+    private TabelaFatores montar(int ultimoDia) {
+        int dias = Math.max(ultimoDia - diaInicial, 0) + 1;
+        double[][] fatores = new double[REGRAS.length][];
+        for (RegraRendimento regra : REGRAS) {
+            double[] acumulado = new double[dias];
+            acumulado[0] = 1;
+            for (int i = 1; i < dias; i++) {
+                acumulado[i] = acumulado[i - 1] * fatorDiario(regra, diaInicial + i - 1);
+            }
+            fatores[regra.ordinal()] = acumulado;
+        }
+        return new TabelaFatores(ultimoDia, fatores);
+    }
+
+    // Rendimento de um dia: do início do dia ao início do seguinte
+    private double fatorDiario(RegraRendimento regra, int dia) {
+        boolean diaUtil = Math.floorMod(dia + 3, 7) < 5;
+        switch (regra.getIndexador()) {
+            case CDI:
+                return diaUtil ? 1 + regra.getPercentual() * (Math.pow(1 + cdi.taxaEm(dia), 1.0 / 252) - 1) : 1;
+            case SELIC:
+                return diaUtil ? 1 + regra.getPercentual() * (Math.pow(1 + selic.taxaEm(dia), 1.0 / 252) - 1) : 1;
+            case IPCA:
+                double inflacao = Math.pow(1 + ipca.taxaEm(dia), 1.0 / 365);
+                return diaUtil ? inflacao * Math.pow(1 + regra.getJurosAnuais(), 1.0 / 252) : inflacao;
+            case POUPANCA:
+                double metaSelic = selic.taxaEm(dia);
+                double anual = metaSelic > SELIC_LIMITE_POUPANCA
+                    ? Math.pow(1 + POUPANCA_MENSAL, 12) - 1
+                    : 0.7 * metaSelic;
+                return Math.pow(1 + anual, 1.0 / 365);
+            default:
+                return 1;
+        }
+    }
+
+    private CurvaTaxa carregar(String nome) {
+        Resource recurso = resourceLoader.getResource(localTaxas + nome + ".csv");
+        try (InputStream entrada = recurso.getInputStream()) {
+            return CurvaTaxa.ler(nome, entrada);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler a curva " + nome + " em " + recurso.getDescription(), e);
+        }
+    }
+
+    private static final class TabelaFatores {
+
+        private final int ultimoDia;
+        // Fator acumulado por regra (ordinal de RegraRendimento) e dia desde diaInicial
+        private final double[][] fatores;
+
+        private TabelaFatores(int ultimoDia, double[][] fatores) {
+            this.ultimoDia = ultimoDia;
+            this.fatores = fatores;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.fintech.avaliacao;
+
+import com.fintech.enums.TipoInvestimento;
+
+/**
+ * Como cada tipo de investimento rende, sem os dados do título (taxa contratada, vencimento)
+ * que Investimento não guarda: percentuais típicos de mercado por tipo.
+ *
+ * Renda variável e multimercado não têm série de preços local e ficam pelo valor aplicado.
+ */
+public enum RegraRendimento {
+
+    CDI_100(Indexador.CDI, 1.00, 0),
+    CDI_97(Indexador.CDI, 0.97, 0),
+    // LCI e LCA são isentas de IR e pagam menos que o CDB
+    CDI_90(Indexador.CDI, 0.90, 0),
+    SELIC_100(Indexador.SELIC, 1.00, 0),
+    IPCA_MAIS_JURO_REAL(Indexador.IPCA, 1.00, 0.055),
+    POUPANCA(Indexador.POUPANCA, 1.00, 0),
+    SEM_RENDIMENTO(Indexador.NENHUM, 0, 0);
+
+    public enum Indexador {
+        // Capitalizados por dia útil (base 252)
+        CDI, SELIC,
+        // Capitalizados por dia corrido (base 365)
+        IPCA, POUPANCA,
+        NENHUM
+    }
+
+    private final Indexador indexador;
+    private final double percentual;
+    private final double jurosAnuais;
+
+    RegraRendimento(Indexador indexador, double percentual, double jurosAnuais) {
+        this.indexador = indexador;
+        this.percentual = percentual;
+        this.jurosAnuais = jurosAnuais;
+    }
+
+    public static RegraRendimento de(TipoInvestimento tipo) {
+        return switch (tipo) {
+            case CDB, FUNDO_RENDA_FIXA -> CDI_100;
+            case FUNDO_DI -> CDI_97;
+            case LCI, LCA -> CDI_90;
+            case TESOURO_SELIC, TESOURO_DIRETO -> SELIC_100;
+            case TESOURO_IPCA -> IPCA_MAIS_JURO_REAL;
+            case POUPANCA -> POUPANCA;
+            case ACAO, FII, ETF, FUNDO_MULTIMERCADO, CRIPTO -> SEM_RENDIMENTO;
+        };
+    }
+
+    public Indexador getIndexador() {
+        return indexador;
+    }
+
+    // Fração da taxa do indexador (1,00 = 100% do CDI)
+    public double getPercentual() {
+        return percentual;
+    }
+
+    // Juros somados ao indexador, ao ano (IPCA + 5,5%)
+    public double getJurosAnuais() {
+        return jurosAnuais;
+    }
+}
@@ -0,0 +1,294 @@
+package com.fintech.busca;
+
+import com.fintech.dto.PaginaDTO;
+import com.fintech.dto.TransacaoDTO;
+import com.fintech.entity.Transacao;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.util.ExecucaoAposCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Índices invertidos por usuário sobre descrição e categoria das transações
+ * Cada índice é carregado na primeira busca do usuário (consulta por ID_USUARIO, que usa índice)
+ * e mantido em cache limitado pelo total de transações em memória. As escritas de TransacaoService
+ * e ImportacaoService atualizam, após o commit, apenas os índices já carregados.
+ */
+@Component
+public class IndiceBuscaTransacoes {
+
+    private static final String SQL_TRANSACOES_USUARIO =
+        "SELECT ID_TRANSACAO, TIPO_TRANSACAO, CATEGORIA, DESCRICAO, VALOR, DATA_TRANSACAO " +
+        "FROM TB_TRANSACAO WHERE ID_USUARIO = ?";
+
+    // Mais recentes primeiro, como no extrato
+    private static final Comparator<Documento> ORDEM_EXTRATO = Comparator
+            .comparing((Documento d) -> d.data).reversed()
+            .thenComparing(Comparator.comparingLong((Documento d) -> d.idTransacao).reversed());
+
+    private final Cache<Long, IndiceUsuario> indices;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public IndiceBuscaTransacoes(
+            @Value("${fintech.busca.transacoes.maximo-transacoes-em-memoria:2000000}") long maximoTransacoes,
+            @Value("${fintech.busca.transacoes.expiracao-minutos:30}") long expiracaoMinutos) {
+        // O peso é recalculado a cada alteração (ver alterarSeCarregado)
+        this.indices = Caffeine.newBuilder()
+                .maximumWeight(maximoTransacoes)
+                .weigher((Long idUsuario, IndiceUsuario indice) -> indice.tamanho() + 1)
+                .expireAfterAccess(Duration.ofMinutes(expiracaoMinutos))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Busca transações do usuário cuja descrição ou categoria contém palavras começando por cada termo
+     * ("ube" encontra "Uber"; "uber vi" exige os dois termos), sem diferenciar maiúsculas e acentos
+     */
+    public PaginaDTO<TransacaoDTO> buscar(Long idUsuario, String texto, int pagina, int tamanho) {
+        List<String> termos = tokenizar(texto);
+        if (termos.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um termo para a busca");
+        }
+
+        IndiceUsuario indice = indices.get(idUsuario, this::carregar);
+        // Heap com os (pagina + 1) * tamanho primeiros na ordem do extrato; o topo é o último deles
+        int limite = (int) Math.min((long) (pagina + 1) * tamanho, Integer.MAX_VALUE);
+        PriorityQueue<Documento> primeiros = new PriorityQueue<>(ORDEM_EXTRATO.reversed());
+        int total = indice.buscar(termos, documento -> {
+            if (primeiros.size() < limite) {
+                primeiros.add(documento);
+            } else if (ORDEM_EXTRATO.compare(documento, primeiros.peek()) < 0) {
+                primeiros.poll();
+                primeiros.add(documento);
+            }
+        });
+
+        List<Documento> ordenados = new ArrayList<>(primeiros);
+        ordenados.sort(ORDEM_EXTRATO);
+        List<TransacaoDTO> itens = new ArrayList<>();
+        for (int i = pagina * tamanho; i < ordenados.size(); i++) {
+            itens.add(ordenados.get(i).toDTO(idUsuario));
+        }
+        return new PaginaDTO<>(itens, pagina, tamanho, total);
+    }
+
+    public void registrarInclusao(Transacao transacao) {
+        registrarInclusoes(transacao.getIdUsuario(), List.of(transacao));
+    }
+
+    public void registrarInclusoes(Long idUsuario, Collection<Transacao> transacoes) {
+        // Cópia imediata: as entidades podem mudar antes do commit
+        List<Documento> documentos = new ArrayList<>(transacoes.size());
+        for (Transacao transacao : transacoes) {
+            documentos.add(Documento.de(transacao));
+        }
+        ExecucaoAposCommit.executar(() -> alterarSeCarregado(idUsuario, indice -> documentos.forEach(indice::incluir)));
+    }
+
+    public void registrarRemocao(Transacao transacao) {
+        Long idUsuario = transacao.getIdUsuario();
+        long idTransacao = transacao.getIdTransacao();
+        ExecucaoAposCommit.executar(() -> alterarSeCarregado(idUsuario, indice -> indice.remover(idTransacao)));
+    }
+
+    public void descartar(Long idUsuario) {
+        ExecucaoAposCommit.executar(() -> indices.invalidate(idUsuario));
+    }
+
+    public Map<String, Object> obterEstatisticas() {
+        CacheStats estatisticas = indices.stats();
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("usuariosCarregados", indices.estimatedSize());
+        resultado.put("transacoesIndexadas", indices.asMap().values().stream().mapToLong(IndiceUsuario::tamanho).sum());
+        resultado.put("acertos", estatisticas.hitCount());
+        resultado.put("carregamentos", estatisticas.loadCount());
+        resultado.put("tempoMedioCarregamentoMs", estatisticas.averageLoadPenalty() / 1_000_000.0);
+        resultado.put("remocoes", estatisticas.evictionCount());
+        return resultado;
+    }
+
+    /**
+     * Aplica a alteração ao índice do usuário, se estiver carregado, por compute no mapa do cache:
+     * o Caffeine recalcula o peso da entrada (o limite de memória acompanha o crescimento do índice)
+     * e a chamada aguarda uma carga em andamento do mesmo usuário, cujo SELECT pode ter sido feito
+     * antes do commit. Sem índice carregado nada é criado; a próxima carga já lê a escrita.
+     */
+    private void alterarSeCarregado(Long idUsuario, Consumer<IndiceUsuario> alteracao) {
+        indices.asMap().compute(idUsuario, (id, indice) -> {
+            if (indice != null) {
+                alteracao.accept(indice);
+            }
+            return indice;
+        });
+    }
+
+    private IndiceUsuario carregar(Long idUsuario) {
+        IndiceUsuario indice = new IndiceUsuario();
+        jdbcTemplate.query(SQL_TRANSACOES_USUARIO, rs -> {
+            indice.incluir(new Documento(rs.getLong("ID_TRANSACAO"),
+                TipoTransacao.valueOf(rs.getString("TIPO_TRANSACAO")), rs.getString("CATEGORIA"),
+                rs.getString("DESCRICAO"), rs.getBigDecimal("VALOR"), rs.getDate("DATA_TRANSACAO").toLocalDate()));
+        }, idUsuario);
+        return indice;
+    }
+
+    // Palavras normalizadas: sequências de letras e dígitos
+    static List<String> tokenizar(String texto) {
+        String normalizado = NormalizadorTexto.normalizar(texto);
+        List<String> tokens = new ArrayList<>();
+        int inicio = -1;
+        for (int i = 0; i <= normalizado.length(); i++) {
+            boolean letraOuDigito = i < normalizado.length() && Character.isLetterOrDigit(normalizado.charAt(i));
+            if (letraOuDigito && inicio < 0) {
+                inicio = i;
+            } else if (!letraOuDigito && inicio >= 0) {
+                tokens.add(normalizado.substring(inicio, i));
+                inicio = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Índice de um usuário: dicionário ordenado de palavras (permite busca por prefixo) e,
+     * para cada palavra, a lista crescente dos documentos que a contêm
+     */
+    private static final class IndiceUsuario {
+
+        private List<Documento> documentos = new ArrayList<>();
+        private Map<Long, Integer> documentoPorTransacao = new HashMap<>();
+        private NavigableMap<String, ListaInteiros> palavras = new TreeMap<>();
+        private int removidos;
+
+        synchronized int tamanho() {
+            return documentoPorTransacao.size();
+        }
+
+        // Entrega ao consumidor cada documento que contém todos os termos e devolve a quantidade
+        synchronized int buscar(List<String> termos, Consumer<Documento> consumidor) {
+            BitSet resultado = null;
+            for (String termo : termos) {
+                BitSet comPrefixo = new BitSet(documentos.size());
+                for (ListaInteiros lista : palavras.subMap(termo, true, termo + Character.MAX_VALUE, false).values()) {
+                    for (int i = 0; i < lista.tamanho(); i++) {
+                        comPrefixo.set(lista.get(i));
+                    }
+                }
+                if (resultado == null) {
+                    resultado = comPrefixo;
+                } else {
+                    resultado.and(comPrefixo);
+                }
+                if (resultado.isEmpty()) {
+                    break;
+                }
+            }
+
+            int total = 0;
+            for (int numero = resultado.nextSetBit(0); numero >= 0; numero = resultado.nextSetBit(numero + 1)) {
+                Documento documento = documentos.get(numero);
+                if (documento != null) {
+                    consumidor.accept(documento);
+                    total++;
+                }
+            }
+            return total;
+        }
+
+        // Inclusão idempotente: substitui a versão anterior da mesma transação
+        synchronized void incluir(Documento documento) {
+            remover(documento.idTransacao);
+            int numero = documentos.size();
+            documentos.add(documento);
+            documentoPorTransacao.put(documento.idTransacao, numero);
+            indexar(documento.categoria, numero);
+            indexar(documento.descricao, numero);
+        }
+
+        synchronized void remover(long idTransacao) {
+            Integer numero = documentoPorTransacao.remove(idTransacao);
+            if (numero == null) {
+                return;
+            }
+            documentos.set(numero, null);
+            removidos++;
+
+            // Recria as listas quando metade dos documentos são lacunas
+            if (removidos > 64 && removidos * 2 > documentos.size()) {
+                List<Documento> ativos = new ArrayList<>(documentoPorTransacao.size());
+                for (Documento documento : documentos) {
+                    if (documento != null) {
+                        ativos.add(documento);
+                    }
+                }
+                documentos = new ArrayList<>();
+                documentoPorTransacao = new HashMap<>();
+                palavras = new TreeMap<>();
+                removidos = 0;
+                ativos.forEach(this::incluir);
+            }
+        }
+
+        private void indexar(String texto, int numero) {
+            for (String palavra : tokenizar(texto)) {
+                ListaInteiros lista = palavras.computeIfAbsent(palavra, p -> new ListaInteiros());
+                if (lista.tamanho() == 0 || lista.get(lista.tamanho() - 1) != numero) {
+                    lista.adicionar(numero);
+                }
+            }
+        }
+    }
+
+    private static final class Documento {
+
+        private final long idTransacao;
+        private final TipoTransacao tipoTransacao;
+        private final String categoria;
+        private final String descricao;
+        private final BigDecimal valor;
+        private final LocalDate data;
+
+        private Documento(long idTransacao, TipoTransacao tipoTransacao, String categoria,
+                          String descricao, BigDecimal valor, LocalDate data) {
+            this.idTransacao = idTransacao;
+            this.tipoTransacao = tipoTransacao;
+            this.categoria = categoria;
+            this.descricao = descricao;
+            this.valor = valor;
+            this.data = data;
+        }
+
+        private static Documento de(Transacao transacao) {
+            return new Documento(transacao.getIdTransacao(), transacao.getTipoTransacao(), transacao.getCategoria(),
+                transacao.getDescricao(), transacao.getValor(), transacao.getData());
+        }
+
+        private TransacaoDTO toDTO(Long idUsuario) {
+            return new TransacaoDTO(idTransacao, idUsuario, tipoTransacao, categoria, descricao, valor, data);
+        }
+    }
+}
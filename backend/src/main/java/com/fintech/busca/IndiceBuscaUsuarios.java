@@ -0,0 +1,328 @@
+package com.fintech.busca;
+
+import com.fintech.dto.PaginaDTO;
+import com.fintech.dto.UsuarioBuscaDTO;
+import com.fintech.entity.Usuario;
+import com.fintech.util.ExecucaoAposCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de trigramas em memória sobre nome e email dos usuários
+ * Substitui o UPPER(NOME_COMPLETO) LIKE '%x%' (varredura de TB_USUARIO) por interseção de listas de trigramas
+ * seguida da confirmação da substring. Construído na inicialização e atualizado pelas escritas de UsuarioService
+ * após o commit; escritas feitas fora da aplicação só aparecem após reconstruir().
+ */
+@Component
+public class IndiceBuscaUsuarios implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceBuscaUsuarios.class);
+
+    public static final int TAMANHO_MINIMO_CONSULTA = 3;
+
+    private static final String SQL_USUARIOS = "SELECT ID_USUARIO, NOME_COMPLETO, EMAIL, ATIVO FROM TB_USUARIO";
+
+    // Documentos removidos viram lacunas; acima desta fração o índice é compactado
+    private static final double FRACAO_MAXIMA_REMOVIDOS = 0.25;
+    private static final int REMOVIDOS_MINIMO_COMPACTACAO = 10_000;
+
+    private static final Comparator<Resultado> ORDEM_RELEVANCIA = Comparator
+            .comparingInt((Resultado r) -> r.relevancia)
+            .thenComparingInt(r -> r.documento.nomeNormalizado.length())
+            .thenComparingLong(r -> r.documento.idUsuario);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private List<Documento> documentos = new ArrayList<>();
+    private Map<Long, Integer> documentoPorUsuario = new HashMap<>();
+    private Map<Long, ListaInteiros> trigramas = new HashMap<>();
+    private int removidos;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconstruir();
+    }
+
+    /**
+     * Recarrega o índice a partir de TB_USUARIO
+     * As buscas ficam bloqueadas durante a carga
+     */
+    public void reconstruir() {
+        long inicio = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            limpar();
+            jdbcTemplate.query(SQL_USUARIOS, rs -> {
+                indexar(new Documento(rs.getLong("ID_USUARIO"), rs.getString("NOME_COMPLETO"),
+                    rs.getString("EMAIL"), "S".equals(rs.getString("ATIVO"))));
+            });
+            log.info("Índice de busca de usuários carregado: {} usuário(s), {} trigrama(s) em {} ms",
+                     documentoPorUsuario.size(), trigramas.size(), System.currentTimeMillis() - inicio);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void atualizar(Usuario usuario) {
+        Documento documento = new Documento(usuario.getIdUsuario(), usuario.getNomeCompleto(),
+            usuario.getEmail(), usuario.isAtivo());
+        ExecucaoAposCommit.executar(() -> {
+            lock.writeLock().lock();
+            try {
+                removerDocumento(documento.idUsuario);
+                indexar(documento);
+                compactarSeNecessario();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remover(Long idUsuario) {
+        ExecucaoAposCommit.executar(() -> {
+            lock.writeLock().lock();
+            try {
+                removerDocumento(idUsuario);
+                compactarSeNecessario();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Busca usuários cujo nome ou email contém o texto (sem diferenciar maiúsculas e acentos)
+     * Ordem: nome igual, nome começando pelo texto, palavra do nome começando pelo texto,
+     * email começando pelo texto, demais ocorrências no nome e no email; depois nomes mais curtos
+     */
+    public PaginaDTO<UsuarioBuscaDTO> buscar(String texto, int pagina, int tamanho) {
+        String consulta = NormalizadorTexto.normalizar(texto);
+        if (consulta.length() < TAMANHO_MINIMO_CONSULTA) {
+            throw new IllegalArgumentException("Informe ao menos " + TAMANHO_MINIMO_CONSULTA + " caracteres para a busca");
+        }
+
+        String inicioPalavra = " " + consulta;
+
+        // Heap com os melhores (pagina + 1) * tamanho resultados; o topo é o pior deles
+        int limite = (int) Math.min((long) (pagina + 1) * tamanho, Integer.MAX_VALUE);
+        PriorityQueue<Resultado> melhores = new PriorityQueue<>(ORDEM_RELEVANCIA.reversed());
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            List<ListaInteiros> listas = listasDaConsulta(consulta);
+            if (listas == null) {
+                return new PaginaDTO<>(List.of(), pagina, tamanho, 0);
+            }
+
+            // Interseção percorrendo a menor lista; as demais avançam em ordem, sem voltar ao início
+            ListaInteiros menor = listas.get(0);
+            int[] posicoes = new int[listas.size()];
+            for (int i = 0; i < menor.tamanho(); i++) {
+                int numero = menor.get(i);
+                if (!contidoEmTodas(listas, posicoes, numero)) {
+                    continue;
+                }
+                Documento documento = documentos.get(numero);
+                if (documento == null) {
+                    continue;
+                }
+                int relevancia = documento.relevancia(consulta, inicioPalavra);
+                if (relevancia < 0) {
+                    continue;
+                }
+
+                total++;
+                if (melhores.size() < limite) {
+                    melhores.add(new Resultado(documento, relevancia));
+                } else if (melhores.peek().piorQue(documento, relevancia)) {
+                    melhores.poll();
+                    melhores.add(new Resultado(documento, relevancia));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Resultado> ordenados = new ArrayList<>(melhores);
+        ordenados.sort(ORDEM_RELEVANCIA);
+        List<UsuarioBuscaDTO> itens = new ArrayList<>();
+        for (int i = pagina * tamanho; i < ordenados.size(); i++) {
+            Documento d = ordenados.get(i).documento;
+            itens.add(new UsuarioBuscaDTO(d.idUsuario, d.nomeCompleto, d.email, d.ativo));
+        }
+        return new PaginaDTO<>(itens, pagina, tamanho, total);
+    }
+
+    public Map<String, Object> obterEstatisticas() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> resultado = new LinkedHashMap<>();
+            resultado.put("usuarios", documentoPorUsuario.size());
+            resultado.put("trigramas", trigramas.size());
+            resultado.put("documentosRemovidos", removidos);
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Listas dos trigramas da consulta, da menor para a maior; null se algum trigrama não existe
+    private List<ListaInteiros> listasDaConsulta(String consulta) {
+        List<ListaInteiros> listas = new ArrayList<>();
+        for (int i = 0; i + TAMANHO_MINIMO_CONSULTA <= consulta.length(); i++) {
+            ListaInteiros lista = trigramas.get(trigrama(consulta, i));
+            if (lista == null) {
+                return null;
+            }
+            if (!listas.contains(lista)) {
+                listas.add(lista);
+            }
+        }
+        listas.sort(Comparator.comparingInt(ListaInteiros::tamanho));
+        return listas;
+    }
+
+    private static boolean contidoEmTodas(List<ListaInteiros> listas, int[] posicoes, int numero) {
+        for (int j = 1; j < listas.size(); j++) {
+            ListaInteiros lista = listas.get(j);
+            posicoes[j] = lista.avancarAte(posicoes[j], numero);
+            if (posicoes[j] >= lista.tamanho() || lista.get(posicoes[j]) != numero) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void indexar(Documento documento) {
+        int numero = documentos.size();
+        documentos.add(documento);
+        documentoPorUsuario.put(documento.idUsuario, numero);
+        adicionarTrigramas(documento.nomeNormalizado, numero);
+        adicionarTrigramas(documento.emailNormalizado, numero);
+    }
+
+    private void adicionarTrigramas(String texto, int numero) {
+        for (int i = 0; i + TAMANHO_MINIMO_CONSULTA <= texto.length(); i++) {
+            ListaInteiros lista = trigramas.computeIfAbsent(trigrama(texto, i), t -> new ListaInteiros());
+            // Trigramas repetidos no mesmo documento (ou em nome e email) entram uma vez só
+            if (lista.tamanho() == 0 || lista.get(lista.tamanho() - 1) != numero) {
+                lista.adicionar(numero);
+            }
+        }
+    }
+
+    private void removerDocumento(Long idUsuario) {
+        Integer numero = documentoPorUsuario.remove(idUsuario);
+        if (numero != null) {
+            documentos.set(numero, null);
+            removidos++;
+        }
+    }
+
+    private void compactarSeNecessario() {
+        if (removidos < REMOVIDOS_MINIMO_COMPACTACAO || removidos <= documentos.size() * FRACAO_MAXIMA_REMOVIDOS) {
+            return;
+        }
+
+        List<Documento> ativos = new ArrayList<>(documentoPorUsuario.size());
+        for (Documento documento : documentos) {
+            if (documento != null) {
+                ativos.add(documento);
+            }
+        }
+        limpar();
+        ativos.forEach(this::indexar);
+        log.info("Índice de busca de usuários compactado: {} usuário(s)", ativos.size());
+    }
+
+    private void limpar() {
+        documentos = new ArrayList<>();
+        documentoPorUsuario = new HashMap<>();
+        trigramas = new HashMap<>();
+        removidos = 0;
+    }
+
+    private static long trigrama(String texto, int inicio) {
+        return ((long) texto.charAt(inicio) << 32) | ((long) texto.charAt(inicio + 1) << 16) | texto.charAt(inicio + 2);
+    }
+
+    private static final class Documento {
+
+        private final long idUsuario;
+        private final String nomeCompleto;
+        private final String email;
+        private final boolean ativo;
+        private final String nomeNormalizado;
+        private final String emailNormalizado;
+
+        private Documento(long idUsuario, String nomeCompleto, String email, boolean ativo) {
+            this.idUsuario = idUsuario;
+            this.nomeCompleto = nomeCompleto;
+            this.email = email;
+            this.ativo = ativo;
+            this.nomeNormalizado = NormalizadorTexto.normalizar(nomeCompleto);
+            this.emailNormalizado = NormalizadorTexto.normalizar(email);
+        }
+
+        // Menor é mais relevante; -1 quando a consulta não ocorre (trigramas em comum não bastam)
+        private int relevancia(String consulta, String inicioPalavra) {
+            int posicaoNome = nomeNormalizado.indexOf(consulta);
+            if (posicaoNome == 0) {
+                return nomeNormalizado.length() == consulta.length() ? 0 : 1;
+            }
+            if (posicaoNome > 0 && nomeNormalizado.contains(inicioPalavra)) {
+                return 2;
+            }
+            int posicaoEmail = emailNormalizado.indexOf(consulta);
+            if (posicaoEmail == 0) {
+                return 3;
+            }
+            if (posicaoNome > 0) {
+                return 4;
+            }
+            return posicaoEmail > 0 ? 5 : -1;
+        }
+    }
+
+    private static final class Resultado {
+
+        private final Documento documento;
+        private final int relevancia;
+
+        private Resultado(Documento documento, int relevancia) {
+            this.documento = documento;
+            this.relevancia = relevancia;
+        }
+
+        // Mesma ordem de ORDEM_RELEVANCIA, sem criar um Resultado para cada candidato descartado
+        private boolean piorQue(Documento outro, int relevanciaOutro) {
+            if (relevancia != relevanciaOutro) {
+                return relevancia > relevanciaOutro;
+            }
+            int tamanho = documento.nomeNormalizado.length();
+            int tamanhoOutro = outro.nomeNormalizado.length();
+            if (tamanho != tamanhoOutro) {
+                return tamanho > tamanhoOutro;
+            }
+            return documento.idUsuario > outro.idUsuario;
+        }
+    }
+}
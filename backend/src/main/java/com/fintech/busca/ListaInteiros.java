@@ -0,0 +1,44 @@
+package com.fintech.busca;
+
+import java.util.Arrays;
+
+/**
+ * Lista de posições de um índice invertido: int[] crescente, sem boxing
+ * Os documentos recebem números crescentes, então acrescentar ao fim mantém a lista ordenada
+ */
+final class ListaInteiros {
+
+    private int[] valores = new int[4];
+    private int tamanho;
+
+    void adicionar(int valor) {
+        if (tamanho == valores.length) {
+            valores = Arrays.copyOf(valores, tamanho + (tamanho >> 1));
+        }
+        valores[tamanho++] = valor;
+    }
+
+    /**
+     * Posição do primeiro valor maior ou igual ao informado, a partir de inicio
+     * Busca exponencial seguida de binária: barata quando as consultas avançam em ordem crescente
+     */
+    int avancarAte(int inicio, int valor) {
+        int passo = 1;
+        int limite = inicio;
+        while (limite < tamanho && valores[limite] < valor) {
+            inicio = limite + 1;
+            limite += passo;
+            passo <<= 1;
+        }
+        int posicao = Arrays.binarySearch(valores, inicio, Math.min(limite, tamanho), valor);
+        return posicao >= 0 ? posicao : -posicao - 1;
+    }
+
+    int get(int indice) {
+        return valores[indice];
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+}
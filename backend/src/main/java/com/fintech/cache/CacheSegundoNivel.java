@@ -0,0 +1,99 @@
+package com.fintech.cache;
+
+import com.fintech.config.CacheSegundoNivelConfig;
+import com.fintech.entity.Usuario;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Operações sobre o cache de segundo nível do Hibernate (ver CacheSegundoNivelConfig)
+ * As escritas feitas pelo Hibernate já mantêm o cache; as feitas direto via JDBC
+ * (último login em lote, carga de dados sintéticos) precisam remover as entradas afetadas.
+ */
+@Component
+public class CacheSegundoNivel {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManagerHibernate;
+
+    public void removerUsuarios(Collection<Long> idsUsuario) {
+        org.hibernate.Cache cache = sessionFactory().getCache();
+        for (Long idUsuario : idsUsuario) {
+            cache.evictEntityData(Usuario.class, idUsuario);
+        }
+    }
+
+    // Inclui os resultados de consultas: um "email não encontrado" em cache esconderia usuários inseridos
+    public void invalidarTodos() {
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    public Map<String, Object> obterEstatisticas() {
+        Statistics estatisticas = sessionFactory().getStatistics();
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        boolean habilitado = sessionFactory().unwrap(SessionFactoryImplementor.class)
+            .getSessionFactoryOptions().isSecondLevelCacheEnabled();
+        resultado.put("habilitado", habilitado);
+        resultado.put("estatisticasHabilitadas", estatisticas.isStatisticsEnabled());
+        if (!habilitado) {
+            return resultado;
+        }
+        resultado.put(CacheSegundoNivelConfig.REGIAO_USUARIO,
+            regiao(CacheSegundoNivelConfig.REGIAO_USUARIO,
+                estatisticas.getDomainDataRegionStatistics(CacheSegundoNivelConfig.REGIAO_USUARIO)));
+        resultado.put(CacheSegundoNivelConfig.REGIAO_CONSULTAS_USUARIO,
+            regiao(CacheSegundoNivelConfig.REGIAO_CONSULTAS_USUARIO,
+                estatisticas.getQueryRegionStatistics(CacheSegundoNivelConfig.REGIAO_CONSULTAS_USUARIO)));
+
+        Map<String, Object> consultas = new LinkedHashMap<>();
+        consultas.put("acertos", estatisticas.getQueryCacheHitCount());
+        consultas.put("falhas", estatisticas.getQueryCacheMissCount());
+        consultas.put("taxaAcerto", taxa(estatisticas.getQueryCacheHitCount(), estatisticas.getQueryCacheMissCount()));
+        consultas.put("inclusoes", estatisticas.getQueryCachePutCount());
+        consultas.put("invalidacoesTabelas", estatisticas.getUpdateTimestampsCachePutCount());
+        resultado.put("cacheConsultas", consultas);
+
+        resultado.put("segundosColetando", Duration.between(estatisticas.getStart(), Instant.now()).toSeconds());
+        return resultado;
+    }
+
+    private Map<String, Object> regiao(String nome, CacheRegionStatistics regiao) {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        if (regiao == null) {
+            return resultado;
+        }
+        resultado.put("acertos", regiao.getHitCount());
+        resultado.put("falhas", regiao.getMissCount());
+        resultado.put("taxaAcerto", taxa(regiao.getHitCount(), regiao.getMissCount()));
+        resultado.put("inclusoes", regiao.getPutCount());
+        // A API JCache não informa a quantidade de entradas; o Caffeine por baixo dela informa
+        resultado.put("tamanho", cacheManagerHibernate.getCache(nome)
+            .unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize());
+        return resultado;
+    }
+
+    private static double taxa(long acertos, long falhas) {
+        long total = acertos + falhas;
+        return total > 0 ? (double) acertos / total : 0;
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fintech.cache;
+
+import com.fintech.repository.UsuarioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache compartilhado da existência de usuários por ID
+ * Evita um existsById antes de cada consulta nos serviços de transações, investimentos e metas.
+ * Limitado em tamanho e com expiração; invalidado pelas escritas de UsuarioService
+ */
+@Component
+public class UsuarioExistenciaCache {
+
+    private final Cache<Long, Boolean> cache;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    public UsuarioExistenciaCache(
+            @Value("${fintech.cache.usuarios.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${fintech.cache.usuarios.ttl-segundos:60}") long ttlSegundos) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(Duration.ofSeconds(ttlSegundos))
+                .recordStats()
+                .build();
+    }
+
+    public boolean existe(Long idUsuario) {
+        return cache.get(idUsuario, usuarioRepository::existsById);
+    }
+
+    // Invalida imediatamente e novamente ao fim da transação, para que uma leitura
+    // concorrente antes do commit não deixe o valor antigo em cache até expirar
+    public void invalidar(Long idUsuario) {
+        if (idUsuario == null) {
+            return;
+        }
+        
+        cache.invalidate(idUsuario);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(idUsuario);
+                }
+            });
+        }
+    }
+
+    public void invalidarTodos() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> obterEstatisticas() {
+        CacheStats estatisticas = cache.stats();
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("acertos", estatisticas.hitCount());
+        resultado.put("falhas", estatisticas.missCount());
+        resultado.put("taxaAcerto", estatisticas.hitRate());
+        resultado.put("remocoes", estatisticas.evictionCount());
+        resultado.put("tamanho", cache.estimatedSize());
+        return resultado;
+    }
+
+    public Cache<Long, Boolean> getCache() {
+        return cache;
+    }
+}
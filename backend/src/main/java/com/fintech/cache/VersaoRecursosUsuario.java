@@ -0,0 +1,97 @@
+package com.fintech.cache;
+
+import com.fintech.util.ExecucaoAposCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Versão das listas de transações, investimentos e metas de cada usuário, usada como ETag forte
+ * As escritas dos serviços avançam a versão após o commit; a leitura obtém a ETag antes da consulta,
+ * de modo que uma ETag nunca representa dados mais novos que os enviados junto com ela.
+ *
+ * As versões vêm de um relógio global crescente. Um usuário removido do cache volta com o valor atual
+ * do relógio, que é maior ou igual a qualquer versão já emitida para ele: no pior caso o cliente recebe
+ * um 200 desnecessário, nunca um 304 indevido. O prefixo da instância muda a cada inicialização
+ * (e em invalidarTodos), descartando ETags emitidas antes.
+ */
+@Component
+public class VersaoRecursosUsuario {
+
+    public enum Recurso {
+        TRANSACOES(false),
+        // ativo/resgatado dependem da data atual quando o resgate é agendado para o futuro
+        INVESTIMENTOS(true),
+        // Dias restantes e vencimento dependem da data atual
+        METAS(true);
+
+        private final boolean dependeDaData;
+
+        Recurso(boolean dependeDaData) {
+            this.dependeDaData = dependeDaData;
+        }
+    }
+
+    private final Cache<Long, AtomicLongArray> versoes;
+    private final AtomicLong relogio = new AtomicLong();
+    private volatile String instancia = novaInstancia();
+
+    public VersaoRecursosUsuario(@Value("${fintech.cache.versoes.tamanho-maximo:1000000}") long tamanhoMaximo) {
+        this.versoes = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .build();
+    }
+
+    public String etag(Long idUsuario, Recurso recurso) {
+        long versao = versoesDo(idUsuario).get(recurso.ordinal());
+        StringBuilder etag = new StringBuilder("\"")
+                .append(instancia).append('-')
+                .append(recurso.ordinal()).append('-')
+                .append(Long.toString(versao, 36));
+        if (recurso.dependeDaData) {
+            etag.append('-').append(Long.toString(LocalDate.now().toEpochDay(), 36));
+        }
+        return etag.append('"').toString();
+    }
+
+    public void registrarAlteracao(Long idUsuario, Recurso recurso) {
+        if (idUsuario == null) {
+            return;
+        }
+        ExecucaoAposCommit.executar(() -> versoesDo(idUsuario).set(recurso.ordinal(), relogio.incrementAndGet()));
+    }
+
+    // Exclusão do usuário: todas as listas mudam
+    public void registrarAlteracaoTodos(Long idUsuario) {
+        for (Recurso recurso : Recurso.values()) {
+            registrarAlteracao(idUsuario, recurso);
+        }
+    }
+
+    // Para escritas feitas fora dos serviços (carga de dados sintéticos)
+    public void invalidarTodos() {
+        instancia = novaInstancia();
+        versoes.invalidateAll();
+    }
+
+    private AtomicLongArray versoesDo(Long idUsuario) {
+        return versoes.get(idUsuario, id -> {
+            AtomicLongArray inicial = new AtomicLongArray(Recurso.values().length);
+            long agora = relogio.get();
+            for (int i = 0; i < inicial.length(); i++) {
+                inicial.set(i, agora);
+            }
+            return inicial;
+        });
+    }
+
+    private static String novaInstancia() {
+        return Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    }
+}
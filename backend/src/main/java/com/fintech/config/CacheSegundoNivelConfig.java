@@ -0,0 +1,81 @@
+package com.fintech.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Cache de segundo nível do Hibernate em memória (JCache implementado pelo Caffeine)
+ * Só as entidades anotadas com @Cache entram no cache. Cada região é criada aqui com tamanho máximo
+ * e expiração; o Hibernate falha na inicialização se pedir uma região que não foi declarada,
+ * em vez de criar uma sem limites.
+ */
+@Configuration
+public class CacheSegundoNivelConfig {
+
+    public static final String REGIAO_USUARIO = "usuario";
+    public static final String REGIAO_CONSULTAS_USUARIO = "usuario-consultas";
+
+    // Regiões padrão do Hibernate: resultados de consultas sem região própria e
+    // instante da última escrita em cada tabela, usado para descartar resultados antigos
+    private static final String REGIAO_CONSULTAS_PADRAO = "default-query-results-region";
+    private static final String REGIAO_TIMESTAMPS = "default-update-timestamps-region";
+
+    @Value("${fintech.cache.hibernate.usuarios.tamanho-maximo:10000}")
+    private long tamanhoMaximoUsuarios;
+
+    @Value("${fintech.cache.hibernate.usuarios.ttl-segundos:600}")
+    private long ttlSegundosUsuarios;
+
+    @Value("${fintech.cache.hibernate.consultas.tamanho-maximo:10000}")
+    private long tamanhoMaximoConsultas;
+
+    @Value("${fintech.cache.hibernate.consultas.ttl-segundos:300}")
+    private long ttlSegundosConsultas;
+
+    @Value("${fintech.cache.hibernate.estatisticas:false}")
+    private boolean estatisticas;
+
+    @Bean
+    public CacheManager cacheManagerHibernate() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("fintech-hibernate"), getClass().getClassLoader());
+        cacheManager.createCache(REGIAO_USUARIO, regiao(tamanhoMaximoUsuarios, ttlSegundosUsuarios));
+        cacheManager.createCache(REGIAO_CONSULTAS_USUARIO, regiao(tamanhoMaximoConsultas, ttlSegundosConsultas));
+        cacheManager.createCache(REGIAO_CONSULTAS_PADRAO, regiao(tamanhoMaximoConsultas, ttlSegundosConsultas));
+        // Uma entrada por tabela; se fosse removida, um resultado de consulta antigo poderia voltar a ser válido
+        cacheManager.createCache(REGIAO_TIMESTAMPS, new CaffeineConfiguration<>().setStoreByValue(false));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheSegundoNivelHibernateCustomizer(CacheManager cacheManagerHibernate) {
+        return propriedades -> {
+            propriedades.putIfAbsent("hibernate.cache.use_second_level_cache", true);
+            propriedades.putIfAbsent("hibernate.cache.use_query_cache", true);
+            propriedades.putIfAbsent("hibernate.cache.region.factory_class", "jcache");
+            propriedades.putIfAbsent("hibernate.javax.cache.cache_manager", cacheManagerHibernate);
+            propriedades.putIfAbsent("hibernate.javax.cache.missing_cache_strategy", "fail");
+            propriedades.putIfAbsent("hibernate.generate_statistics", estatisticas);
+            // Sem o resumo de métricas que o Hibernate registraria em log ao fim de cada sessão
+            propriedades.putIfAbsent("hibernate.session.events.log", false);
+        };
+    }
+
+    // Entradas guardadas por referência: o Hibernate já armazena cópias desmontadas das entidades
+    private static CaffeineConfiguration<Object, Object> regiao(long tamanhoMaximo, long ttlSegundos) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(tamanhoMaximo))
+                .setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSegundos).toNanos()))
+                .setStoreByValue(false);
+    }
+}
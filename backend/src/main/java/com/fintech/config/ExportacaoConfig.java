@@ -0,0 +1,26 @@
+package com.fintech.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Tempo limite das respostas assíncronas, usadas pelas exportações em streaming (StreamingResponseBody)
+ * Sem ele vale o padrão do Tomcat (30 s), que corta no meio uma exportação grande. O padrão de 30 minutos cobre
+ * a maior delas, a exportação de todos os usuários no actuator, e o histórico completo de um usuário lido em
+ * lotes de 500 linhas (fetch size dos métodos stream* dos repositórios).
+ */
+@Configuration
+public class ExportacaoConfig implements WebMvcConfigurer {
+
+    @Value("${fintech.exportacao.timeout-minutos:30}")
+    private long timeoutMinutos;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(Duration.ofMinutes(timeoutMinutos).toMillis());
+    }
+}
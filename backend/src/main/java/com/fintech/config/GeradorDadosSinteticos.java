@@ -0,0 +1,395 @@
+package com.fintech.config;
+
+import com.fintech.entity.Investimento;
+import com.fintech.entity.MetaFinanceira;
+import com.fintech.entity.Transacao;
+import com.fintech.entity.Usuario;
+import com.fintech.enums.CategoriaMeta;
+import com.fintech.enums.Genero;
+import com.fintech.enums.StatusMeta;
+import com.fintech.enums.TipoInvestimento;
+import com.fintech.enums.TipoTransacao;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Gera os dados sintéticos de um usuário: cadastro, transações, investimentos e metas
+ * Determinístico: o mesmo índice de usuário e a mesma semente produzem sempre os mesmos dados,
+ * independentemente da ordem em que os workers processam os lotes.
+ * O volume de transações por usuário segue uma distribuição log-normal (poucos usuários
+ * concentram a maior parte das linhas), e categorias e valores seguem pesos fixos por tipo.
+ */
+public class GeradorDadosSinteticos {
+
+    private static final String[] NOMES_MASCULINOS = {
+        "João", "Pedro", "Lucas", "Gabriel", "Rafael", "Carlos", "Bruno", "Felipe", "Gustavo", "Mateus",
+        "André", "Ricardo", "Thiago", "Eduardo", "Rodrigo", "Marcelo", "Paulo", "Vinícius", "Leonardo", "Daniel"
+    };
+
+    private static final String[] NOMES_FEMININOS = {
+        "Maria", "Ana", "Juliana", "Mariana", "Fernanda", "Camila", "Beatriz", "Larissa", "Amanda", "Patrícia",
+        "Natália", "Aline", "Letícia", "Bruna", "Gabriela", "Carolina", "Renata", "Vanessa", "Isabela", "Luana"
+    };
+
+    private static final String[] SOBRENOMES = {
+        "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+        "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes", "Soares", "Fernandes", "Vieira", "Barbosa",
+        "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes", "Marques", "Machado", "Mendes", "Freitas"
+    };
+
+    private static final String SENHA_PADRAO = "senha123";
+
+    // Categorias usadas no frontend, com peso relativo, valor mediano e dispersão (sigma log-normal)
+    private static final Distribuicao<PerfilCategoria> CATEGORIAS_RECEITA = new Distribuicao<PerfilCategoria>()
+        .com(55, new PerfilCategoria("Salário", 4200, 0.5, "Salário mensal", "Pagamento salário", "Adiantamento salarial"))
+        .com(15, new PerfilCategoria("Freelance", 1500, 0.7, "Projeto freelance", "Consultoria", "Desenvolvimento de site"))
+        .com(15, new PerfilCategoria("Investimentos", 300, 1.0, "Rendimento CDB", "Dividendos", "Juros poupança"))
+        .com(8, new PerfilCategoria("Vendas", 400, 0.9, "Venda de produto", "Venda online", "Venda de usados"))
+        .com(7, new PerfilCategoria("Outros", 200, 1.0, "Reembolso", "Presente", "Restituição IR"));
+
+    private static final Distribuicao<PerfilCategoria> CATEGORIAS_DESPESA = new Distribuicao<PerfilCategoria>()
+        .com(30, new PerfilCategoria("Alimentação", 80, 0.8, "Supermercado", "Restaurante", "Padaria", "Delivery"))
+        .com(18, new PerfilCategoria("Transporte", 45, 0.7, "Combustível", "Aplicativo de transporte", "Estacionamento", "Ônibus"))
+        .com(10, new PerfilCategoria("Moradia", 1800, 0.4, "Aluguel", "Condomínio", "Energia elétrica", "Internet"))
+        .com(14, new PerfilCategoria("Lazer", 120, 0.9, "Cinema", "Streaming", "Show", "Viagem de fim de semana"))
+        .com(8, new PerfilCategoria("Saúde", 150, 1.0, "Farmácia", "Consulta médica", "Plano de saúde", "Academia"))
+        .com(6, new PerfilCategoria("Educação", 450, 0.6, "Mensalidade curso", "Livros", "Curso online"))
+        .com(14, new PerfilCategoria("Outros", 90, 1.0, "Compras diversas", "Presente", "Assinatura"));
+
+    private static final PerfilCategoria CATEGORIA_TRANSFERENCIA =
+        new PerfilCategoria("Transferência", 500, 1.0, "Transferência entre contas", "PIX enviado", "TED");
+
+    private static final Distribuicao<TipoTransacao> TIPOS_TRANSACAO = new Distribuicao<TipoTransacao>()
+        .com(18, TipoTransacao.CREDITO)
+        .com(78, TipoTransacao.DEBITO)
+        .com(4, TipoTransacao.TRANSFERENCIA);
+
+    private static final Distribuicao<TipoInvestimento> TIPOS_INVESTIMENTO = new Distribuicao<TipoInvestimento>()
+        .com(20, TipoInvestimento.POUPANCA)
+        .com(18, TipoInvestimento.CDB)
+        .com(14, TipoInvestimento.TESOURO_SELIC)
+        .com(6, TipoInvestimento.TESOURO_IPCA)
+        .com(4, TipoInvestimento.TESOURO_DIRETO)
+        .com(6, TipoInvestimento.LCI)
+        .com(4, TipoInvestimento.LCA)
+        .com(6, TipoInvestimento.FUNDO_DI)
+        .com(4, TipoInvestimento.FUNDO_RENDA_FIXA)
+        .com(3, TipoInvestimento.FUNDO_MULTIMERCADO)
+        .com(8, TipoInvestimento.ACAO)
+        .com(5, TipoInvestimento.FII)
+        .com(2, TipoInvestimento.ETF)
+        .com(3, TipoInvestimento.CRIPTO);
+
+    private static final Distribuicao<CategoriaMeta> CATEGORIAS_META = new Distribuicao<CategoriaMeta>()
+        .com(18, CategoriaMeta.VIAGEM)
+        .com(16, CategoriaMeta.EMERGENCIA)
+        .com(10, CategoriaMeta.CARRO)
+        .com(8, CategoriaMeta.CASA)
+        .com(8, CategoriaMeta.EDUCACAO)
+        .com(7, CategoriaMeta.RESERVA)
+        .com(6, CategoriaMeta.ELETRONICOS)
+        .com(5, CategoriaMeta.APOSENTADORIA)
+        .com(4, CategoriaMeta.DIVIDA)
+        .com(4, CategoriaMeta.REFORMA)
+        .com(3, CategoriaMeta.CASAMENTO)
+        .com(3, CategoriaMeta.INVESTIMENTO)
+        .com(2, CategoriaMeta.SAUDE)
+        .com(2, CategoriaMeta.LAZER)
+        .com(1, CategoriaMeta.FESTA)
+        .com(1, CategoriaMeta.NEGOCIO)
+        .com(1, CategoriaMeta.OUTROS);
+
+    private static final Map<CategoriaMeta, Integer> VALOR_MEDIANO_META = new EnumMap<>(CategoriaMeta.class);
+
+    static {
+        VALOR_MEDIANO_META.put(CategoriaMeta.CASA, 150000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.CARRO, 60000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.APOSENTADORIA, 200000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.NEGOCIO, 50000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.CASAMENTO, 40000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.EMERGENCIA, 20000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.RESERVA, 20000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.EDUCACAO, 15000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.REFORMA, 15000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.DIVIDA, 10000);
+        VALOR_MEDIANO_META.put(CategoriaMeta.VIAGEM, 12000);
+    }
+
+    private static final Distribuicao<StatusMeta> STATUS_META = new Distribuicao<StatusMeta>()
+        .com(60, StatusMeta.ATIVA)
+        .com(15, StatusMeta.CONCLUIDA)
+        .com(10, StatusMeta.PAUSADA)
+        .com(8, StatusMeta.VENCIDA)
+        .com(7, StatusMeta.CANCELADA);
+
+    // Teto de NUMBER(12, 2) com folga
+    private static final long VALOR_MAXIMO_CENTAVOS = 100_000_000_00L;
+
+    private final long semente;
+    private final int transacoesPorUsuario;
+    private final int transacoesMaximoPorUsuario;
+    private final double assimetria;
+    private final int investimentosPorUsuario;
+    private final int metasPorUsuario;
+    private final LocalDate hoje;
+    private final LocalDate inicioHistorico;
+    private final int diasHistorico;
+    private final String senhaHash;
+
+    public GeradorDadosSinteticos(long semente, int transacoesPorUsuario, int transacoesMaximoPorUsuario,
+                                  double assimetria, int investimentosPorUsuario, int metasPorUsuario,
+                                  int mesesHistorico, LocalDate hoje) {
+        if (transacoesPorUsuario < 0 || transacoesMaximoPorUsuario < 0 || investimentosPorUsuario < 0 || metasPorUsuario < 0) {
+            throw new IllegalArgumentException("Quantidades por usuário não podem ser negativas");
+        }
+        if (assimetria < 0) {
+            throw new IllegalArgumentException("Assimetria não pode ser negativa");
+        }
+        if (mesesHistorico <= 0) {
+            throw new IllegalArgumentException("Meses de histórico deve ser maior que zero");
+        }
+
+        this.semente = semente;
+        this.transacoesPorUsuario = transacoesPorUsuario;
+        this.transacoesMaximoPorUsuario = transacoesMaximoPorUsuario;
+        this.assimetria = assimetria;
+        this.investimentosPorUsuario = investimentosPorUsuario;
+        this.metasPorUsuario = metasPorUsuario;
+        this.hoje = hoje;
+        this.inicioHistorico = hoje.minusMonths(mesesHistorico);
+        this.diasHistorico = (int) ChronoUnit.DAYS.between(inicioHistorico, hoje);
+
+        // Hash SHA-256 sem sal: calculado uma única vez e compartilhado por todos os usuários
+        Usuario modelo = new Usuario();
+        modelo.definirSenha(SENHA_PADRAO);
+        this.senhaHash = modelo.getSenha();
+    }
+
+    public DadosUsuario gerar(long indiceUsuario) {
+        SplittableRandom aleatorio = new SplittableRandom(semente ^ (indiceUsuario * 0x9E3779B97F4A7C15L));
+
+        // Fator de atividade log-normal com média 1: define o volume de transações, investimentos e metas
+        double atividade = Math.exp(assimetria * gaussiano(aleatorio) - assimetria * assimetria / 2);
+
+        DadosUsuario dados = new DadosUsuario();
+        dados.usuario = gerarUsuario(indiceUsuario, aleatorio);
+
+        int quantidadeTransacoes = (int) Math.min(Math.round(transacoesPorUsuario * atividade), transacoesMaximoPorUsuario);
+        dados.transacoes = new ArrayList<>(quantidadeTransacoes);
+        for (int i = 0; i < quantidadeTransacoes; i++) {
+            dados.transacoes.add(gerarTransacao(aleatorio));
+        }
+
+        int quantidadeInvestimentos = poisson(aleatorio, investimentosPorUsuario * Math.sqrt(atividade));
+        dados.investimentos = new ArrayList<>(quantidadeInvestimentos);
+        for (int i = 0; i < quantidadeInvestimentos; i++) {
+            dados.investimentos.add(gerarInvestimento(aleatorio));
+        }
+
+        int quantidadeMetas = poisson(aleatorio, metasPorUsuario);
+        dados.metas = new ArrayList<>(quantidadeMetas);
+        for (int i = 0; i < quantidadeMetas; i++) {
+            dados.metas.add(gerarMeta(aleatorio));
+        }
+
+        return dados;
+    }
+
+    private Usuario gerarUsuario(long indiceUsuario, SplittableRandom aleatorio) {
+        double sorteioGenero = aleatorio.nextDouble();
+        Genero genero;
+        String nome;
+        if (sorteioGenero < 0.48) {
+            genero = Genero.MASCULINO;
+            nome = NOMES_MASCULINOS[aleatorio.nextInt(NOMES_MASCULINOS.length)];
+        } else if (sorteioGenero < 0.96) {
+            genero = Genero.FEMININO;
+            nome = NOMES_FEMININOS[aleatorio.nextInt(NOMES_FEMININOS.length)];
+        } else {
+            genero = sorteioGenero < 0.98 ? Genero.NAO_INFORMADO : Genero.NAO_BINARIO;
+            nome = aleatorio.nextBoolean()
+                ? NOMES_MASCULINOS[aleatorio.nextInt(NOMES_MASCULINOS.length)]
+                : NOMES_FEMININOS[aleatorio.nextInt(NOMES_FEMININOS.length)];
+        }
+        String sobrenome1 = SOBRENOMES[aleatorio.nextInt(SOBRENOMES.length)];
+        String sobrenome2 = SOBRENOMES[aleatorio.nextInt(SOBRENOMES.length)];
+
+        Usuario usuario = new Usuario();
+        usuario.setNomeCompleto(nome + " " + sobrenome1 + " " + sobrenome2);
+        // O índice garante e-mails únicos mesmo com nomes repetidos
+        usuario.setEmail(semAcentos(nome + "." + sobrenome2).toLowerCase() + "." + indiceUsuario + "@exemplo.com.br");
+        usuario.setSenha(senhaHash);
+        usuario.setGenero(genero);
+        usuario.setDataNascimento(hoje.minusYears(18 + aleatorio.nextInt(58)).minusDays(aleatorio.nextInt(365)));
+        usuario.setDataCadastro(inicioHistorico.minusDays(aleatorio.nextInt(365))
+            .atTime(LocalTime.ofSecondOfDay(aleatorio.nextInt(86_400))));
+        if (aleatorio.nextDouble() < 0.92) {
+            usuario.ativar();
+        } else {
+            usuario.desativar();
+        }
+        return usuario;
+    }
+
+    private Transacao gerarTransacao(SplittableRandom aleatorio) {
+        TipoTransacao tipo = TIPOS_TRANSACAO.sortear(aleatorio);
+        PerfilCategoria perfil = switch (tipo) {
+            case CREDITO -> CATEGORIAS_RECEITA.sortear(aleatorio);
+            case DEBITO -> CATEGORIAS_DESPESA.sortear(aleatorio);
+            default -> CATEGORIA_TRANSFERENCIA;
+        };
+
+        Transacao transacao = new Transacao();
+        transacao.setTipoTransacao(tipo);
+        transacao.setCategoria(perfil.nome);
+        transacao.setDescricao(perfil.descricoes[aleatorio.nextInt(perfil.descricoes.length)]);
+        transacao.setValor(valorLogNormal(aleatorio, perfil.valorMediano, perfil.dispersao));
+        transacao.setData(inicioHistorico.plusDays(aleatorio.nextInt(diasHistorico + 1)));
+        return transacao;
+    }
+
+    private Investimento gerarInvestimento(SplittableRandom aleatorio) {
+        Investimento investimento = new Investimento();
+        investimento.setTipo(TIPOS_INVESTIMENTO.sortear(aleatorio));
+        investimento.setValorInvestido(valorLogNormal(aleatorio, 2000, 1.1));
+
+        LocalDate dataAplicacao = inicioHistorico.plusDays(aleatorio.nextInt(diasHistorico + 1));
+        investimento.setDataAplicacao(dataAplicacao);
+        if (aleatorio.nextDouble() < 0.25) {
+            int diasAplicado = (int) ChronoUnit.DAYS.between(dataAplicacao, hoje);
+            investimento.setDataResgate(dataAplicacao.plusDays(aleatorio.nextInt(diasAplicado + 1)));
+        }
+        return investimento;
+    }
+
+    private MetaFinanceira gerarMeta(SplittableRandom aleatorio) {
+        CategoriaMeta categoria = CATEGORIAS_META.sortear(aleatorio);
+        StatusMeta status = STATUS_META.sortear(aleatorio);
+        BigDecimal valorNecessario = valorLogNormal(aleatorio, VALOR_MEDIANO_META.getOrDefault(categoria, 8000), 0.6);
+
+        LocalDate dataCriacao = inicioHistorico.plusDays(aleatorio.nextInt(diasHistorico + 1));
+        LocalDate dataLimite;
+        if (status == StatusMeta.VENCIDA) {
+            int diasDesdeCriacao = (int) ChronoUnit.DAYS.between(dataCriacao, hoje);
+            dataLimite = dataCriacao.plusDays(aleatorio.nextInt(Math.max(diasDesdeCriacao, 1)));
+        } else {
+            dataLimite = hoje.plusMonths(3 + aleatorio.nextInt(34));
+        }
+
+        BigDecimal valorAcumulado = status == StatusMeta.CONCLUIDA
+            ? valorNecessario
+            : valorNecessario.multiply(BigDecimal.valueOf(aleatorio.nextInt(96), 2)).setScale(2, RoundingMode.DOWN);
+
+        MetaFinanceira meta = new MetaFinanceira();
+        meta.setNome(categoria.getDescricao() + " " + dataLimite.getYear());
+        meta.setDescricao("Meta de " + categoria.getDescricao().toLowerCase());
+        meta.setCategoria(categoria);
+        meta.setValorNecessario(valorNecessario);
+        meta.setValorAcumulado(valorAcumulado);
+        meta.setDataCriacao(dataCriacao);
+        meta.setDataLimite(dataLimite);
+        meta.setStatus(status);
+        return meta;
+    }
+
+    private static BigDecimal valorLogNormal(SplittableRandom aleatorio, double mediana, double dispersao) {
+        double valor = mediana * Math.exp(dispersao * gaussiano(aleatorio));
+        long centavos = Math.max(1, Math.min(Math.round(valor * 100), VALOR_MAXIMO_CENTAVOS));
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    // Box-Muller: SplittableRandom não oferece nextGaussian no Java 17
+    private static double gaussiano(SplittableRandom aleatorio) {
+        double u1 = 1.0 - aleatorio.nextDouble();
+        double u2 = aleatorio.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    // Algoritmo de Knuth, adequado para médias pequenas (investimentos e metas por usuário)
+    private static int poisson(SplittableRandom aleatorio, double media) {
+        if (media <= 0) {
+            return 0;
+        }
+        double limite = Math.exp(-Math.min(media, 500));
+        int quantidade = 0;
+        double produto = aleatorio.nextDouble();
+        while (produto > limite) {
+            quantidade++;
+            produto *= aleatorio.nextDouble();
+        }
+        return quantidade;
+    }
+
+    private static String semAcentos(String texto) {
+        return Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    }
+
+    /**
+     * Dados gerados para um usuário; IDs são atribuídos na gravação
+     */
+    public static class DadosUsuario {
+
+        private Usuario usuario;
+        private List<Transacao> transacoes;
+        private List<Investimento> investimentos;
+        private List<MetaFinanceira> metas;
+
+        public Usuario getUsuario() { return usuario; }
+
+        public List<Transacao> getTransacoes() { return transacoes; }
+
+        public List<Investimento> getInvestimentos() { return investimentos; }
+
+        public List<MetaFinanceira> getMetas() { return metas; }
+    }
+
+    private static class PerfilCategoria {
+
+        private final String nome;
+        private final double valorMediano;
+        private final double dispersao;
+        private final String[] descricoes;
+
+        PerfilCategoria(String nome, double valorMediano, double dispersao, String... descricoes) {
+            this.nome = nome;
+            this.valorMediano = valorMediano;
+            this.dispersao = dispersao;
+            this.descricoes = descricoes;
+        }
+    }
+
+    // Sorteio ponderado por busca na soma acumulada dos pesos
+    private static class Distribuicao<T> {
+
+        private final List<T> valores = new ArrayList<>();
+        private int[] acumulado = new int[0];
+
+        Distribuicao<T> com(int peso, T valor) {
+            valores.add(valor);
+            int[] novo = new int[acumulado.length + 1];
+            System.arraycopy(acumulado, 0, novo, 0, acumulado.length);
+            novo[acumulado.length] = (acumulado.length == 0 ? 0 : acumulado[acumulado.length - 1]) + peso;
+            acumulado = novo;
+            return this;
+        }
+
+        T sortear(SplittableRandom aleatorio) {
+            int sorteio = aleatorio.nextInt(acumulado[acumulado.length - 1]);
+            int i = 0;
+            while (acumulado[i] <= sorteio) {
+                i++;
+            }
+            return valores.get(i);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.fintech.config;
+
+import com.fintech.entity.Investimento;
+import com.fintech.entity.MetaFinanceira;
+import com.fintech.entity.ResumoMensal;
+import com.fintech.entity.Sequencias;
+import com.fintech.entity.Transacao;
+import com.fintech.entity.Usuario;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.repository.SequenciaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gravação em paralelo dos dados produzidos pelo GeradorDadosSinteticos
+ * Os usuários são divididos em lotes; cada lote é gravado via JDBC batch em uma única transação,
+ * já com saldo consolidado e resumos mensais calculados em memória.
+ * Usado pelo DataLoader e pelos benchmarks que precisam de massa de dados.
+ */
+@Component
+public class GravadorDadosSinteticos {
+
+    private static final Logger log = LoggerFactory.getLogger(GravadorDadosSinteticos.class);
+
+    private static final String SQL_INSERIR_USUARIO =
+        "INSERT INTO TB_USUARIO (ID_USUARIO, NOME_COMPLETO, EMAIL, SENHA, DATA_NASCIMENTO, GENERO, DATA_CADASTRO, ATIVO) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_TRANSACAO =
+        "INSERT INTO TB_TRANSACAO (ID_TRANSACAO, ID_USUARIO, TIPO_TRANSACAO, CATEGORIA, DESCRICAO, VALOR, DATA_TRANSACAO) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_INVESTIMENTO =
+        "INSERT INTO TB_INVESTIMENTO (ID_INVESTIMENTO, ID_USUARIO, TIPO, VALOR_INVESTIDO, DATA_APLICACAO, DATA_RESGATE) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_META =
+        "INSERT INTO TB_META_FINANCEIRA (ID_META, ID_USUARIO, NOME, DESCRICAO, CATEGORIA, VALOR_NECESSARIO, " +
+        "VALOR_ACUMULADO, DATA_LIMITE, DATA_CRIACAO, STATUS) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_SALDO =
+        "INSERT INTO TB_SALDO_USUARIO (ID_USUARIO, SALDO, TOTAL_RECEITAS, TOTAL_DESPESAS, QUANTIDADE_TRANSACOES, DATA_ATUALIZACAO) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SQL_INSERIR_RESUMO =
+        "INSERT INTO TB_RESUMO_MENSAL (ID_USUARIO, ANO_MES, TIPO_TRANSACAO, CATEGORIA, TOTAL, QUANTIDADE) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Value("${fintech.gerador.tamanho-lote-jdbc:1000}")
+    private int tamanhoLoteJdbc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SequenciaRepository sequenciaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Gera e grava os usuários de índice [primeiroIndice, primeiroIndice + quantidade)
+     */
+    public Totais gravar(GeradorDadosSinteticos gerador, long primeiroIndice, long quantidade, int workers, int usuariosPorLote) {
+        Totais totais = new Totais();
+        int tamanhoLoteUsuarios = Math.max(usuariosPorLote, 1);
+        long fim = primeiroIndice + quantidade;
+        long inicio = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(workers, 1));
+        try {
+            List<Future<?>> lotes = new ArrayList<>();
+            for (long primeiro = primeiroIndice; primeiro < fim; primeiro += tamanhoLoteUsuarios) {
+                long inicioLote = primeiro;
+                long fimLote = Math.min(primeiro + tamanhoLoteUsuarios, fim);
+                lotes.add(executor.submit(() -> gerarLote(gerador, inicioLote, fimLote, quantidade, totais, inicio)));
+            }
+            for (Future<?> lote : lotes) {
+                lote.get();
+            }
+        } catch (ExecutionException e) {
+            executor.shutdownNow();
+            throw new IllegalStateException("Falha na geração de dados sintéticos: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Geração de dados sintéticos interrompida", e);
+        } finally {
+            executor.shutdown();
+        }
+
+        totais.segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+        return totais;
+    }
+
+    private void gerarLote(GeradorDadosSinteticos gerador, long inicioLote, long fimLote, long quantidade,
+                           Totais totais, long inicioGeracao) {
+        List<GeradorDadosSinteticos.DadosUsuario> lote = new ArrayList<>((int) (fimLote - inicioLote));
+        for (long indice = inicioLote; indice < fimLote; indice++) {
+            lote.add(gerador.gerar(indice));
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> gravarLote(lote, totais));
+
+        long gravados = totais.usuarios.addAndGet(lote.size());
+        long passo = Math.max(quantidade / 20, 1);
+        if (gravados / passo != (gravados - lote.size()) / passo || gravados == quantidade) {
+            double segundos = (System.nanoTime() - inicioGeracao) / 1_000_000_000.0;
+            log.info("Progresso: {}/{} usuários, {} transações ({} s)", gravados, quantidade,
+                     totais.transacoes.get(), String.format("%.1f", segundos));
+        }
+    }
+
+    private void gravarLote(List<GeradorDadosSinteticos.DadosUsuario> lote, Totais totais) {
+        List<Usuario> usuariosLote = new ArrayList<>(lote.size());
+        List<Transacao> transacoes = new ArrayList<>();
+        List<Investimento> investimentos = new ArrayList<>();
+        List<MetaFinanceira> metas = new ArrayList<>();
+
+        long[] idsUsuario = sequenciaRepository.reservarIds(Sequencias.USUARIO, lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            GeradorDadosSinteticos.DadosUsuario dados = lote.get(i);
+            Long idUsuario = idsUsuario[i];
+            dados.getUsuario().setIdUsuario(idUsuario);
+            usuariosLote.add(dados.getUsuario());
+            dados.getTransacoes().forEach(t -> t.setIdUsuario(idUsuario));
+            dados.getInvestimentos().forEach(inv -> inv.setIdUsuario(idUsuario));
+            dados.getMetas().forEach(m -> m.setIdUsuario(idUsuario));
+            transacoes.addAll(dados.getTransacoes());
+            investimentos.addAll(dados.getInvestimentos());
+            metas.addAll(dados.getMetas());
+        }
+
+        jdbcTemplate.batchUpdate(SQL_INSERIR_USUARIO, usuariosLote, tamanhoLoteJdbc, (ps, usuario) -> {
+            ps.setLong(1, usuario.getIdUsuario());
+            ps.setString(2, usuario.getNomeCompleto());
+            ps.setString(3, usuario.getEmail());
+            ps.setString(4, usuario.getSenha());
+            ps.setDate(5, Date.valueOf(usuario.getDataNascimento()));
+            ps.setString(6, usuario.getGenero().name());
+            ps.setTimestamp(7, Timestamp.valueOf(usuario.getDataCadastro()));
+            ps.setString(8, usuario.isAtivo() ? "S" : "N");
+        });
+
+        long[] idsTransacao = sequenciaRepository.reservarIds(Sequencias.TRANSACAO, transacoes.size());
+        for (int i = 0; i < transacoes.size(); i++) {
+            transacoes.get(i).setIdTransacao(idsTransacao[i]);
+        }
+        jdbcTemplate.batchUpdate(SQL_INSERIR_TRANSACAO, transacoes, tamanhoLoteJdbc, (ps, transacao) -> {
+            ps.setLong(1, transacao.getIdTransacao());
+            ps.setLong(2, transacao.getIdUsuario());
+            ps.setString(3, transacao.getTipoTransacao().name());
+            ps.setString(4, transacao.getCategoria());
+            ps.setString(5, transacao.getDescricao());
+            ps.setBigDecimal(6, transacao.getValor());
+            ps.setDate(7, Date.valueOf(transacao.getData()));
+        });
+
+        long[] idsInvestimento = sequenciaRepository.reservarIds(Sequencias.INVESTIMENTO, investimentos.size());
+        for (int i = 0; i < investimentos.size(); i++) {
+            investimentos.get(i).setIdInvestimento(idsInvestimento[i]);
+        }
+        jdbcTemplate.batchUpdate(SQL_INSERIR_INVESTIMENTO, investimentos, tamanhoLoteJdbc, (ps, investimento) -> {
+            ps.setLong(1, investimento.getIdInvestimento());
+            ps.setLong(2, investimento.getIdUsuario());
+            ps.setString(3, investimento.getTipo().name());
+            ps.setBigDecimal(4, investimento.getValorInvestido());
+            ps.setDate(5, Date.valueOf(investimento.getDataAplicacao()));
+            ps.setDate(6, investimento.getDataResgate() != null ? Date.valueOf(investimento.getDataResgate()) : null);
+        });
+
+        long[] idsMeta = sequenciaRepository.reservarIds(Sequencias.META_FINANCEIRA, metas.size());
+        for (int i = 0; i < metas.size(); i++) {
+            metas.get(i).setIdMeta(idsMeta[i]);
+        }
+        jdbcTemplate.batchUpdate(SQL_INSERIR_META, metas, tamanhoLoteJdbc, (ps, meta) -> {
+            ps.setLong(1, meta.getIdMeta());
+            ps.setLong(2, meta.getIdUsuario());
+            ps.setString(3, meta.getNome());
+            ps.setString(4, meta.getDescricao());
+            ps.setString(5, meta.getCategoria().name());
+            ps.setBigDecimal(6, meta.getValorNecessario());
+            ps.setBigDecimal(7, meta.getValorAcumulado());
+            ps.setDate(8, Date.valueOf(meta.getDataLimite()));
+            ps.setDate(9, Date.valueOf(meta.getDataCriacao()));
+            ps.setString(10, meta.getStatus().name());
+        });
+
+        gravarConsolidados(lote);
+
+        totais.transacoes.addAndGet(transacoes.size());
+        totais.investimentos.addAndGet(investimentos.size());
+        totais.metas.addAndGet(metas.size());
+    }
+
+    // Saldo e resumos mensais calculados a partir das transações geradas, dispensando a reconstrução posterior
+    private void gravarConsolidados(List<GeradorDadosSinteticos.DadosUsuario> lote) {
+        List<Object[]> saldos = new ArrayList<>(lote.size());
+        List<ResumoMensal> resumos = new ArrayList<>();
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+
+        for (GeradorDadosSinteticos.DadosUsuario dados : lote) {
+            BigDecimal receitas = BigDecimal.ZERO;
+            BigDecimal despesas = BigDecimal.ZERO;
+            BigDecimal saldo = BigDecimal.ZERO;
+            Map<String, ResumoMensal> resumosUsuario = new HashMap<>();
+
+            for (Transacao transacao : dados.getTransacoes()) {
+                if (transacao.getTipoTransacao() == TipoTransacao.CREDITO) {
+                    receitas = receitas.add(transacao.getValor());
+                    saldo = saldo.add(transacao.getValor());
+                } else {
+                    if (transacao.getTipoTransacao() == TipoTransacao.DEBITO) {
+                        despesas = despesas.add(transacao.getValor());
+                    }
+                    saldo = saldo.subtract(transacao.getValor());
+                }
+
+                int anoMes = ResumoMensal.calcularAnoMes(transacao.getData());
+                String chave = anoMes + "|" + transacao.getTipoTransacao() + "|" + transacao.getCategoria();
+                ResumoMensal resumo = resumosUsuario.computeIfAbsent(chave, c -> {
+                    ResumoMensal novo = new ResumoMensal();
+                    novo.setIdUsuario(transacao.getIdUsuario());
+                    novo.setAnoMes(anoMes);
+                    novo.setTipoTransacao(transacao.getTipoTransacao());
+                    novo.setCategoria(transacao.getCategoria());
+                    novo.setTotal(BigDecimal.ZERO);
+                    novo.setQuantidade(0L);
+                    return novo;
+                });
+                resumo.setTotal(resumo.getTotal().add(transacao.getValor()));
+                resumo.setQuantidade(resumo.getQuantidade() + 1);
+            }
+
+            saldos.add(new Object[] {dados.getUsuario().getIdUsuario(), saldo, receitas, despesas,
+                                     (long) dados.getTransacoes().size(), agora});
+            resumos.addAll(resumosUsuario.values());
+        }
+
+        jdbcTemplate.batchUpdate(SQL_INSERIR_SALDO, saldos);
+        jdbcTemplate.batchUpdate(SQL_INSERIR_RESUMO, resumos, tamanhoLoteJdbc, (ps, resumo) -> {
+            ps.setLong(1, resumo.getIdUsuario());
+            ps.setInt(2, resumo.getAnoMes());
+            ps.setString(3, resumo.getTipoTransacao().name());
+            ps.setString(4, resumo.getCategoria());
+            ps.setBigDecimal(5, resumo.getTotal());
+            ps.setLong(6, resumo.getQuantidade());
+        });
+    }
+
+    /**
+     * Quantidades gravadas em uma chamada de gravar
+     */
+    public static class Totais {
+
+        private final AtomicLong usuarios = new AtomicLong();
+        private final AtomicLong transacoes = new AtomicLong();
+        private final AtomicLong investimentos = new AtomicLong();
+        private final AtomicLong metas = new AtomicLong();
+        private double segundos;
+
+        public long getUsuarios() { return usuarios.get(); }
+
+        public long getTransacoes() { return transacoes.get(); }
+
+        public long getInvestimentos() { return investimentos.get(); }
+
+        public long getMetas() { return metas.get(); }
+
+        public long getLinhas() { return getUsuarios() + getTransacoes() + getInvestimentos() + getMetas(); }
+
+        public double getSegundos() { return segundos; }
+    }
+}
@@ -0,0 +1,23 @@
+package com.fintech.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    @Value("${fintech.jpa.tamanho-lote:50}")
+    private int tamanhoLote;
+
+    // Agrupa INSERT/UPDATE em JDBC batch; possível porque os IDs são reservados em blocos (Sequencias.INCREMENTO)
+    @Bean
+    public HibernatePropertiesCustomizer batchingHibernateCustomizer() {
+        return propriedades -> {
+            propriedades.putIfAbsent("hibernate.jdbc.batch_size", tamanhoLote);
+            propriedades.putIfAbsent("hibernate.order_inserts", true);
+            propriedades.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
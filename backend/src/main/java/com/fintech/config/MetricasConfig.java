@@ -0,0 +1,52 @@
+package com.fintech.config;
+
+import com.fintech.cache.UsuarioExistenciaCache;
+import com.fintech.metricas.ContadorConsultasDataSource;
+import com.fintech.metricas.ContadorConsultasTarefas;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.task.TaskDecorator;
+
+import javax.sql.DataSource;
+
+/**
+ * Actuator e Micrometer: endpoints expostos e histogramas em metricas.properties
+ * Carregado com precedência menor que application.properties, que pode sobrescrever qualquer valor.
+ */
+@Configuration
+@PropertySource("classpath:metricas.properties")
+public class MetricasConfig {
+
+    @Bean
+    public MeterBinder usuarioExistenciaCacheMetricas(UsuarioExistenciaCache usuarioExistenciaCache) {
+        return registro -> CaffeineCacheMetrics.monitor(registro, usuarioExistenciaCache.getCache(), "usuario-existencia");
+    }
+
+    // Contagem de comandos SQL por requisição (ContadorConsultasFilter); ligada só com fintech.consultas.contar=true
+    // (teste de consultas por endpoint): o proxy envolve cada conexão JDBC
+    @Bean
+    @ConditionalOnProperty(name = "fintech.consultas.contar", havingValue = "true", matchIfMissing = false)
+    public static BeanPostProcessor contadorConsultasDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String nome) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ContadorConsultasDataSource)) {
+                    return new ContadorConsultasDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Aplicado pelo Spring Boot ao applicationTaskExecutor, que executa os StreamingResponseBody
+    @Bean
+    @ConditionalOnProperty(name = "fintech.consultas.contar", havingValue = "true", matchIfMissing = false)
+    public TaskDecorator contadorConsultasTarefas() {
+        return new ContadorConsultasTarefas();
+    }
+}
@@ -1,9 +1,12 @@
 package com.fintech.config;
 
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Contact;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +20,8 @@ import java.util.List;
 @Configuration
 public class OpenApiConfig {
 
+    private static final String ESQUEMA_SESSAO = "tokenSessao";
+
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
@@ -38,6 +43,11 @@ public class OpenApiConfig {
                         new Server()
                                 .url("https://fiap-fintech.herokuapp.com/api")
                                 .description("Servidor de Produção (FIAP)")
-                ));
+                ))
+                // Token emitido por POST /usuarios/auth, exigido pelo SessaoFilter nas demais rotas
+                .components(new Components().addSecuritySchemes(ESQUEMA_SESSAO, new SecurityScheme()
+                        .type(SecurityScheme.Type.HTTP)
+                        .scheme("bearer")))
+                .addSecurityItem(new SecurityRequirement().addList(ESQUEMA_SESSAO));
     }
 }
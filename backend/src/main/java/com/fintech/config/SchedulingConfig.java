@@ -0,0 +1,11 @@
+package com.fintech.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "fintech.agendamento.habilitado", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,31 @@
+package com.fintech.config;
+
+import com.fintech.sessao.SessaoArgumentResolver;
+import com.fintech.sessao.SessaoInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class SessaoConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private SessaoArgumentResolver sessaoArgumentResolver;
+
+    @Autowired
+    private SessaoInterceptor sessaoInterceptor;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(sessaoArgumentResolver);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sessaoInterceptor);
+    }
+}
@@ -0,0 +1,52 @@
+package com.fintech.controller;
+
+import com.fintech.dto.DashboardDTO;
+import com.fintech.service.DashboardService;
+import com.fintech.sessao.SessaoUsuario;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/dashboard")
+@Tag(name = "Dashboard", description = "Resumo financeiro consolidado do usuário")
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Operation(summary = "Obter dashboard do usuário", 
+               description = "Retorna saldo, receitas, despesas, total investido, metas e totais por categoria em uma única chamada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Dashboard retornado com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Usuário inválido ou não encontrado")
+    })
+    @GetMapping("/usuario/{idUsuario}")
+    public ResponseEntity<?> obterDashboard(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario) {
+        try {
+            DashboardDTO dashboard = dashboardService.obterDashboard(idUsuario);
+            return ResponseEntity.ok(dashboard);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Obter dashboard da sessão", 
+               description = "Mesmo conteúdo de /dashboard/usuario/{idUsuario}, com o usuário lido do token de sessão")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Dashboard retornado com sucesso"),
+        @ApiResponse(responseCode = "401", description = "Token ausente, inválido ou expirado")
+    })
+    @GetMapping
+    public ResponseEntity<?> obterDashboardDaSessao(@Parameter(hidden = true) SessaoUsuario sessao) {
+        return obterDashboard(sessao.getIdUsuario());
+    }
+}
@@ -1,8 +1,17 @@
 package com.fintech.controller;
 
+import com.fintech.cache.VersaoRecursosUsuario;
+import com.fintech.dto.FatiaDTO;
+import com.fintech.dto.InvestimentoDTO;
+import com.fintech.dto.ValorCarteiraDTO;
 import com.fintech.entity.Investimento;
+import com.fintech.enums.FormatoExportacao;
 import com.fintech.enums.TipoInvestimento;
+import com.fintech.exception.AcessoNegadoException;
+import com.fintech.service.AvaliacaoInvestimentoService;
+import com.fintech.service.ExportacaoService;
 import com.fintech.service.InvestimentoService;
+import com.fintech.sessao.SessaoUsuario;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,9 +19,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -27,12 +41,57 @@ public class InvestimentoController {
     @Autowired
     private InvestimentoService investimentoService;
 
-    @Operation(summary = "Listar todos os investimentos", description = "Retorna lista de todos os investimentos")
-    @ApiResponse(responseCode = "200", description = "Lista de investimentos retornada com sucesso")
+    @Autowired
+    private AvaliacaoInvestimentoService avaliacaoInvestimentoService;
+
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private VersaoRecursosUsuario versaoRecursosUsuario;
+
+    @Operation(summary = "Listar investimentos",
+               description = "Retorna uma página dos investimentos do usuário da sessão, com filtros opcionais e sem contagem total. " +
+                             "Para leituras completas use /investimentos/exportar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de investimentos"),
+        @ApiResponse(responseCode = "400", description = "Ordenação ou paginação inválidas")
+    })
     @GetMapping
-    public ResponseEntity<List<Investimento>> listarTodos() {
-        List<Investimento> investimentos = investimentoService.listarTodos();
-        return ResponseEntity.ok(investimentos);
+    public ResponseEntity<?> listar(
+            @Parameter(description = "ID do usuário; se informado, deve ser o do token") @RequestParam(required = false) Long idUsuario,
+            @Parameter(description = "Tipo do investimento") @RequestParam(required = false) TipoInvestimento tipo,
+            @Parameter(description = "true para não resgatados, false para resgatados") @RequestParam(required = false) Boolean ativo,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: idInvestimento,valorInvestido,dataAplicacao); omitido retorna o registro completo") @RequestParam(name = "fields", required = false) String campos,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação: dataAplicacao, valorInvestido, tipo, idUsuario ou idInvestimento") @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") @RequestParam(required = false) String direcao,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        Long idUsuarioSessao = sessao.restringirUsuario(idUsuario);
+        try {
+            FatiaDTO<?> fatia = investimentoService.listar(idUsuarioSessao, tipo, ativo, campos, pagina, tamanho, ordenarPor, direcao);
+            return ResponseEntity.ok(fatia);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Exportar investimentos",
+               description = "Exporta em streaming (NDJSON, um investimento por linha) todos os investimentos do usuário da sessão que atendem aos filtros")
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "ID do usuário; se informado, deve ser o do token") @RequestParam(required = false) Long idUsuario,
+            @Parameter(description = "Tipo do investimento") @RequestParam(required = false) TipoInvestimento tipo,
+            @Parameter(description = "true para não resgatados, false para resgatados") @RequestParam(required = false) Boolean ativo,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        Long idUsuarioSessao = sessao.restringirUsuario(idUsuario);
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarInvestimentos(idUsuarioSessao, tipo, ativo, saida);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(FormatoExportacao.NDJSON.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"investimentos.ndjson\"")
+                .body(corpo);
     }
 
     @Operation(summary = "Buscar investimento por ID", description = "Retorna um investimento específico pelo ID")
@@ -41,10 +100,11 @@ public class InvestimentoController {
         @ApiResponse(responseCode = "404", description = "Investimento não encontrado")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Investimento> buscarPorId(
-            @Parameter(description = "ID do investimento") @PathVariable Long id) {
+    public ResponseEntity<InvestimentoDTO> buscarPorId(
+            @Parameter(description = "ID do investimento") @PathVariable Long id,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
-            Investimento investimento = investimentoService.buscarPorId(id);
+            InvestimentoDTO investimento = investimentoService.buscarPorId(id, sessao.getIdUsuario());
             return ResponseEntity.ok(investimento);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
@@ -57,7 +117,9 @@ public class InvestimentoController {
         @ApiResponse(responseCode = "400", description = "Dados inválidos")
     })
     @PostMapping
-    public ResponseEntity<?> criar(@Valid @RequestBody Investimento investimento) {
+    public ResponseEntity<?> criar(@Valid @RequestBody Investimento investimento,
+                                   @Parameter(hidden = true) SessaoUsuario sessao) {
+        sessao.verificarAcesso(investimento.getIdUsuario());
         try {
             Investimento investimentoSalvo = investimentoService.salvar(investimento);
             return ResponseEntity.status(HttpStatus.CREATED).body(investimentoSalvo);
@@ -75,7 +137,9 @@ public class InvestimentoController {
     @PutMapping("/{id}")
     public ResponseEntity<?> atualizar(
             @Parameter(description = "ID do investimento") @PathVariable Long id,
-            @Valid @RequestBody Investimento investimento) {
+            @Valid @RequestBody Investimento investimento,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        sessao.verificarAcesso(investimento.getIdUsuario());
         try {
             investimento.setIdInvestimento(id);
             Investimento investimentoAtualizado = investimentoService.atualizar(investimento);
@@ -95,22 +159,33 @@ public class InvestimentoController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletar(
-            @Parameter(description = "ID do investimento") @PathVariable Long id) {
+            @Parameter(description = "ID do investimento") @PathVariable Long id,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
-            investimentoService.deletar(id);
+            investimentoService.deletar(id, sessao.getIdUsuario());
             return ResponseEntity.noContent().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
-    @Operation(summary = "Listar investimentos por usuário")
+    @Operation(summary = "Listar investimentos por usuário",
+               description = "Responde com ETag forte; com If-None-Match igual à versão atual retorna 304 sem consultar as investimentos")
     @GetMapping("/usuario/{idUsuario}")
-    public ResponseEntity<List<Investimento>> listarPorUsuario(
-            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario) {
+    public ResponseEntity<List<InvestimentoDTO>> listarPorUsuario(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario,
+            WebRequest webRequest) {
+        String etag = versaoRecursosUsuario.etag(idUsuario, VersaoRecursosUsuario.Recurso.INVESTIMENTOS);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
         try {
-            List<Investimento> investimentos = investimentoService.listarPorUsuario(idUsuario);
-            return ResponseEntity.ok(investimentos);
+            List<InvestimentoDTO> investimentos = investimentoService.listarPorUsuario(idUsuario);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .eTag(etag)
+                    .body(investimentos);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(null);
         }
@@ -118,17 +193,26 @@ public class InvestimentoController {
 
     @Operation(summary = "Listar investimentos ativos")
     @GetMapping("/ativos")
-    public ResponseEntity<List<Investimento>> listarAtivos() {
-        List<Investimento> investimentos = investimentoService.listarInvestimentosAtivos();
-        return ResponseEntity.ok(investimentos);
+    public ResponseEntity<?> listarAtivos(
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: idInvestimento,valorInvestido,dataAplicacao); omitido retorna o registro completo") @RequestParam(name = "fields", required = false) String campos,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação") @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") @RequestParam(required = false) String direcao,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        try {
+            return ResponseEntity.ok(investimentoService.listarInvestimentosAtivos(sessao.getIdUsuario(), campos, pagina, tamanho, ordenarPor, direcao));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     @Operation(summary = "Listar investimentos ativos por usuário")
     @GetMapping("/usuario/{idUsuario}/ativos")
-    public ResponseEntity<List<Investimento>> listarAtivosPorUsuario(
+    public ResponseEntity<List<InvestimentoDTO>> listarAtivosPorUsuario(
             @Parameter(description = "ID do usuário") @PathVariable Long idUsuario) {
         try {
-            List<Investimento> investimentos = investimentoService.listarInvestimentosAtivosPorUsuario(idUsuario);
+            List<InvestimentoDTO> investimentos = investimentoService.listarInvestimentosAtivosPorUsuario(idUsuario);
             return ResponseEntity.ok(investimentos);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(null);
@@ -137,18 +221,28 @@ public class InvestimentoController {
 
     @Operation(summary = "Listar investimentos por tipo")
     @GetMapping("/tipo/{tipo}")
-    public ResponseEntity<List<Investimento>> listarPorTipo(
-            @Parameter(description = "Tipo do investimento") @PathVariable TipoInvestimento tipo) {
-        List<Investimento> investimentos = investimentoService.listarPorTipo(tipo);
-        return ResponseEntity.ok(investimentos);
+    public ResponseEntity<?> listarPorTipo(
+            @Parameter(description = "Tipo do investimento") @PathVariable TipoInvestimento tipo,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: idInvestimento,valorInvestido,dataAplicacao); omitido retorna o registro completo") @RequestParam(name = "fields", required = false) String campos,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação") @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") @RequestParam(required = false) String direcao,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        try {
+            return ResponseEntity.ok(investimentoService.listarPorTipo(sessao.getIdUsuario(), tipo, campos, pagina, tamanho, ordenarPor, direcao));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     @Operation(summary = "Resgatar investimento")
     @PatchMapping("/{id}/resgatar")
     public ResponseEntity<?> resgatar(
-            @Parameter(description = "ID do investimento") @PathVariable Long id) {
+            @Parameter(description = "ID do investimento") @PathVariable Long id,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
-            Investimento investimento = investimentoService.resgatar(id);
+            Investimento investimento = investimentoService.resgatar(id, sessao.getIdUsuario());
             return ResponseEntity.ok(investimento);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
@@ -181,13 +275,29 @@ public class InvestimentoController {
         }
     }
 
+    @Operation(summary = "Valor atual da carteira ativa do usuário",
+               description = "Soma das avaliações gravadas (rendimentos até a última reavaliação); " +
+                             "investimentos ainda não avaliados entram pelo valor aplicado")
+    @GetMapping("/usuario/{idUsuario}/valor-atual")
+    public ResponseEntity<?> calcularValorAtual(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario) {
+        try {
+            ValorCarteiraDTO valor = avaliacaoInvestimentoService.calcularValorCarteira(idUsuario);
+            return ResponseEntity.ok(valor);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
     // Operações específicas do negócio
 
     @Operation(summary = "Aplicar em investimento")
     @PostMapping("/aplicar")
-    public ResponseEntity<?> aplicar(@RequestBody Map<String, Object> dadosInvestimento) {
+    public ResponseEntity<?> aplicar(@RequestBody Map<String, Object> dadosInvestimento,
+                                     @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
             Long idUsuario = Long.valueOf(dadosInvestimento.get("idUsuario").toString());
+            sessao.verificarAcesso(idUsuario);
             TipoInvestimento tipo = TipoInvestimento.valueOf((String) dadosInvestimento.get("tipo"));
             BigDecimal valor = new BigDecimal(dadosInvestimento.get("valor").toString());
             LocalDate dataAplicacao = dadosInvestimento.get("dataAplicacao") != null ? 
@@ -195,6 +305,8 @@ public class InvestimentoController {
             
             Investimento investimento = investimentoService.aplicar(idUsuario, tipo, valor, dataAplicacao);
             return ResponseEntity.status(HttpStatus.CREATED).body(investimento);
+        } catch (AcessoNegadoException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("erro", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
         }
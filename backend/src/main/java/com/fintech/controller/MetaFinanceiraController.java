@@ -1,9 +1,16 @@
 package com.fintech.controller;
 
+import com.fintech.cache.VersaoRecursosUsuario;
+import com.fintech.dto.FatiaDTO;
+import com.fintech.dto.MetaFinanceiraDTO;
 import com.fintech.entity.MetaFinanceira;
 import com.fintech.enums.CategoriaMeta;
+import com.fintech.enums.FormatoExportacao;
 import com.fintech.enums.StatusMeta;
+import com.fintech.exception.AcessoNegadoException;
+import com.fintech.service.ExportacaoService;
 import com.fintech.service.MetaFinanceiraService;
+import com.fintech.sessao.SessaoUsuario;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,9 +18,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -28,12 +40,54 @@ public class MetaFinanceiraController {
     @Autowired
     private MetaFinanceiraService metaService;
 
-    @Operation(summary = "Listar todas as metas", description = "Retorna lista de todas as metas financeiras")
-    @ApiResponse(responseCode = "200", description = "Lista de metas retornada com sucesso")
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private VersaoRecursosUsuario versaoRecursosUsuario;
+
+    @Operation(summary = "Listar metas",
+               description = "Retorna uma página das metas financeiras do usuário da sessão, com filtros opcionais e sem contagem total. " +
+                             "Para leituras completas use /metas/exportar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de metas"),
+        @ApiResponse(responseCode = "400", description = "Ordenação ou paginação inválidas")
+    })
     @GetMapping
-    public ResponseEntity<List<MetaFinanceira>> listarTodas() {
-        List<MetaFinanceira> metas = metaService.listarTodas();
-        return ResponseEntity.ok(metas);
+    public ResponseEntity<?> listar(
+            @Parameter(description = "ID do usuário; se informado, deve ser o do token") @RequestParam(required = false) Long idUsuario,
+            @Parameter(description = "Status da meta") @RequestParam(required = false) StatusMeta status,
+            @Parameter(description = "Categoria da meta") @RequestParam(required = false) CategoriaMeta categoria,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: idMeta,nome,percentualAlcancado); omitido retorna o registro completo") @RequestParam(name = "fields", required = false) String campos,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação: dataCriacao, dataLimite, valorNecessario, nome, idUsuario ou idMeta") @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") @RequestParam(required = false) String direcao,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        Long idUsuarioSessao = sessao.restringirUsuario(idUsuario);
+        try {
+            FatiaDTO<?> fatia = metaService.listar(idUsuarioSessao, status, categoria, campos, pagina, tamanho, ordenarPor, direcao);
+            return ResponseEntity.ok(fatia);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Exportar metas",
+               description = "Exporta em streaming (NDJSON, uma meta por linha) todas as metas do usuário da sessão que atendem aos filtros")
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "ID do usuário; se informado, deve ser o do token") @RequestParam(required = false) Long idUsuario,
+            @Parameter(description = "Status da meta") @RequestParam(required = false) StatusMeta status,
+            @Parameter(description = "Categoria da meta") @RequestParam(required = false) CategoriaMeta categoria,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        Long idUsuarioSessao = sessao.restringirUsuario(idUsuario);
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarMetas(idUsuarioSessao, status, categoria, saida);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(FormatoExportacao.NDJSON.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"metas.ndjson\"")
+                .body(corpo);
     }
 
     @Operation(summary = "Buscar meta por ID", description = "Retorna uma meta específica pelo ID")
@@ -42,10 +96,11 @@ public class MetaFinanceiraController {
         @ApiResponse(responseCode = "404", description = "Meta não encontrada")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<MetaFinanceira> buscarPorId(
-            @Parameter(description = "ID da meta") @PathVariable Long id) {
+    public ResponseEntity<MetaFinanceiraDTO> buscarPorId(
+            @Parameter(description = "ID da meta") @PathVariable Long id,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
-            MetaFinanceira meta = metaService.buscarPorId(id);
+            MetaFinanceiraDTO meta = metaService.buscarPorId(id, sessao.getIdUsuario());
             return ResponseEntity.ok(meta);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
@@ -58,7 +113,9 @@ public class MetaFinanceiraController {
         @ApiResponse(responseCode = "400", description = "Dados inválidos")
     })
     @PostMapping
-    public ResponseEntity<?> criar(@Valid @RequestBody MetaFinanceira meta) {
+    public ResponseEntity<?> criar(@Valid @RequestBody MetaFinanceira meta,
+                                   @Parameter(hidden = true) SessaoUsuario sessao) {
+        sessao.verificarAcesso(meta.getIdUsuario());
         try {
             MetaFinanceira metaSalva = metaService.salvar(meta);
             return ResponseEntity.status(HttpStatus.CREATED).body(metaSalva);
@@ -76,7 +133,9 @@ public class MetaFinanceiraController {
     @PutMapping("/{id}")
     public ResponseEntity<?> atualizar(
             @Parameter(description = "ID da meta") @PathVariable Long id,
-            @Valid @RequestBody MetaFinanceira meta) {
+            @Valid @RequestBody MetaFinanceira meta,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        sessao.verificarAcesso(meta.getIdUsuario());
         try {
             meta.setIdMeta(id);
             MetaFinanceira metaAtualizada = metaService.atualizar(meta);
@@ -96,22 +155,33 @@ public class MetaFinanceiraController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletar(
-            @Parameter(description = "ID da meta") @PathVariable Long id) {
+            @Parameter(description = "ID da meta") @PathVariable Long id,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
-            metaService.deletar(id);
+            metaService.deletar(id, sessao.getIdUsuario());
             return ResponseEntity.noContent().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
-    @Operation(summary = "Listar metas por usuário")
+    @Operation(summary = "Listar metas por usuário",
+               description = "Responde com ETag forte; com If-None-Match igual à versão atual retorna 304 sem consultar as metas")
     @GetMapping("/usuario/{idUsuario}")
-    public ResponseEntity<List<MetaFinanceira>> listarPorUsuario(
-            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario) {
+    public ResponseEntity<List<MetaFinanceiraDTO>> listarPorUsuario(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario,
+            WebRequest webRequest) {
+        String etag = versaoRecursosUsuario.etag(idUsuario, VersaoRecursosUsuario.Recurso.METAS);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
         try {
-            List<MetaFinanceira> metas = metaService.listarPorUsuario(idUsuario);
-            return ResponseEntity.ok(metas);
+            List<MetaFinanceiraDTO> metas = metaService.listarPorUsuario(idUsuario);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .eTag(etag)
+                    .body(metas);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(null);
         }
@@ -119,17 +189,26 @@ public class MetaFinanceiraController {
 
     @Operation(summary = "Listar metas ativas")
     @GetMapping("/ativas")
-    public ResponseEntity<List<MetaFinanceira>> listarAtivas() {
-        List<MetaFinanceira> metas = metaService.listarMetasAtivas();
-        return ResponseEntity.ok(metas);
+    public ResponseEntity<?> listarAtivas(
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: idMeta,nome,percentualAlcancado); omitido retorna o registro completo") @RequestParam(name = "fields", required = false) String campos,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação") @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") @RequestParam(required = false) String direcao,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        try {
+            return ResponseEntity.ok(metaService.listarMetasAtivas(sessao.getIdUsuario(), campos, pagina, tamanho, ordenarPor, direcao));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     @Operation(summary = "Listar metas ativas por usuário")
     @GetMapping("/usuario/{idUsuario}/ativas")
-    public ResponseEntity<List<MetaFinanceira>> listarAtivasPorUsuario(
+    public ResponseEntity<List<MetaFinanceiraDTO>> listarAtivasPorUsuario(
             @Parameter(description = "ID do usuário") @PathVariable Long idUsuario) {
         try {
-            List<MetaFinanceira> metas = metaService.listarMetasAtivasPorUsuario(idUsuario);
+            List<MetaFinanceiraDTO> metas = metaService.listarMetasAtivasPorUsuario(idUsuario);
             return ResponseEntity.ok(metas);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(null);
@@ -138,17 +217,17 @@ public class MetaFinanceiraController {
 
     @Operation(summary = "Listar metas por categoria")
     @GetMapping("/categoria/{categoria}")
-    public ResponseEntity<List<MetaFinanceira>> listarPorCategoria(
+    public ResponseEntity<List<MetaFinanceiraDTO>> listarPorCategoria(
             @Parameter(description = "Categoria da meta") @PathVariable CategoriaMeta categoria) {
-        List<MetaFinanceira> metas = metaService.listarPorCategoria(categoria);
+        List<MetaFinanceiraDTO> metas = metaService.listarPorCategoria(categoria);
         return ResponseEntity.ok(metas);
     }
 
     @Operation(summary = "Listar metas por status")
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<MetaFinanceira>> listarPorStatus(
+    public ResponseEntity<List<MetaFinanceiraDTO>> listarPorStatus(
             @Parameter(description = "Status da meta") @PathVariable StatusMeta status) {
-        List<MetaFinanceira> metas = metaService.listarPorStatus(status);
+        List<MetaFinanceiraDTO> metas = metaService.listarPorStatus(status);
         return ResponseEntity.ok(metas);
     }
 
@@ -156,10 +235,11 @@ public class MetaFinanceiraController {
     @PatchMapping("/{id}/adicionar-valor")
     public ResponseEntity<?> adicionarValor(
             @Parameter(description = "ID da meta") @PathVariable Long id,
-            @RequestBody Map<String, String> dados) {
+            @RequestBody Map<String, String> dados,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
             BigDecimal valor = new BigDecimal(dados.get("valor"));
-            MetaFinanceira meta = metaService.adicionarValor(id, valor);
+            MetaFinanceira meta = metaService.adicionarValor(id, sessao.getIdUsuario(), valor);
             return ResponseEntity.ok(meta);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
@@ -192,9 +272,11 @@ public class MetaFinanceiraController {
 
     @Operation(summary = "Criar meta completa")
     @PostMapping("/criar")
-    public ResponseEntity<?> criarMeta(@RequestBody Map<String, Object> dadosMeta) {
+    public ResponseEntity<?> criarMeta(@RequestBody Map<String, Object> dadosMeta,
+                                       @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
             Long idUsuario = Long.valueOf(dadosMeta.get("idUsuario").toString());
+            sessao.verificarAcesso(idUsuario);
             String nome = (String) dadosMeta.get("nome");
             String descricao = (String) dadosMeta.get("descricao");
             CategoriaMeta categoria = CategoriaMeta.valueOf((String) dadosMeta.get("categoria"));
@@ -204,6 +286,8 @@ public class MetaFinanceiraController {
             
             MetaFinanceira meta = metaService.criarMeta(idUsuario, nome, descricao, categoria, valorNecessario, dataLimite);
             return ResponseEntity.status(HttpStatus.CREATED).body(meta);
+        } catch (AcessoNegadoException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("erro", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
         }
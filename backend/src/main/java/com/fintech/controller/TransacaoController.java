@@ -1,8 +1,23 @@
 package com.fintech.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.cache.VersaoRecursosUsuario;
+import com.fintech.dto.FatiaDTO;
+import com.fintech.dto.PaginaCursorDTO;
+import com.fintech.dto.PaginaDTO;
+import com.fintech.dto.ResumoCategoriaDTO;
+import com.fintech.dto.ResultadoImportacaoDTO;
+import com.fintech.dto.TotaisPeriodoDTO;
+import com.fintech.dto.TransacaoDTO;
+import com.fintech.entity.SaldoUsuario;
 import com.fintech.entity.Transacao;
+import com.fintech.enums.FormatoExportacao;
 import com.fintech.enums.TipoTransacao;
+import com.fintech.exception.AcessoNegadoException;
+import com.fintech.service.ExportacaoService;
+import com.fintech.service.ImportacaoService;
 import com.fintech.service.TransacaoService;
+import com.fintech.sessao.SessaoUsuario;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,10 +25,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -27,12 +48,81 @@ public class TransacaoController {
     @Autowired
     private TransacaoService transacaoService;
 
-    @Operation(summary = "Listar todas as transações", description = "Retorna lista de todas as transações")
-    @ApiResponse(responseCode = "200", description = "Lista de transações retornada com sucesso")
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private VersaoRecursosUsuario versaoRecursosUsuario;
+
+    @Autowired
+    private ImportacaoService importacaoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Operation(summary = "Listar transações",
+               description = "Retorna uma página das transações do usuário da sessão, com filtros opcionais. Sem contagem total: " +
+                             "temMais indica se há próxima página. Para leituras completas use /transacoes/exportar")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de transações"),
+        @ApiResponse(responseCode = "400", description = "Filtro, ordenação ou paginação inválidos")
+    })
     @GetMapping
-    public ResponseEntity<List<Transacao>> listarTodas() {
-        List<Transacao> transacoes = transacaoService.listarTodas();
-        return ResponseEntity.ok(transacoes);
+    public ResponseEntity<?> listar(
+            @Parameter(description = "ID do usuário; se informado, deve ser o do token") @RequestParam(required = false) Long idUsuario,
+            @Parameter(description = "Tipo da transação") @RequestParam(required = false) TipoTransacao tipo,
+            @Parameter(description = "Categoria (sem diferenciar maiúsculas)") @RequestParam(required = false) String categoria,
+            @Parameter(description = "Data inicial (inclusiva)") @RequestParam(required = false) String dataInicio,
+            @Parameter(description = "Data final (inclusiva)") @RequestParam(required = false) String dataFim,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: idTransacao,valor,data); omitido retorna o registro completo") @RequestParam(name = "fields", required = false) String campos,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação: data, valor, categoria, idUsuario ou idTransacao") @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") @RequestParam(required = false) String direcao,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        Long idUsuarioSessao = sessao.restringirUsuario(idUsuario);
+        try {
+            FatiaDTO<?> fatia = transacaoService.listar(idUsuarioSessao, tipo, categoria,
+                dataInicio != null ? LocalDate.parse(dataInicio) : null,
+                dataFim != null ? LocalDate.parse(dataFim) : null,
+                campos, pagina, tamanho, ordenarPor, direcao);
+            return ResponseEntity.ok(fatia);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Exportar transações",
+               description = "Exporta em streaming (NDJSON, uma transação por linha) todas as transações do usuário da sessão que atendem aos filtros")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+        @ApiResponse(responseCode = "400", description = "Filtro inválido")
+    })
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarTodas(
+            @Parameter(description = "ID do usuário; se informado, deve ser o do token") @RequestParam(required = false) Long idUsuario,
+            @Parameter(description = "Tipo da transação") @RequestParam(required = false) TipoTransacao tipo,
+            @Parameter(description = "Categoria (sem diferenciar maiúsculas)") @RequestParam(required = false) String categoria,
+            @Parameter(description = "Data inicial (inclusiva)") @RequestParam(required = false) String dataInicio,
+            @Parameter(description = "Data final (inclusiva)") @RequestParam(required = false) String dataFim,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        Long idUsuarioSessao = sessao.restringirUsuario(idUsuario);
+        LocalDate inicio;
+        LocalDate fim;
+        try {
+            inicio = dataInicio != null ? LocalDate.parse(dataInicio) : null;
+            fim = dataFim != null ? LocalDate.parse(dataFim) : null;
+        } catch (RuntimeException e) {
+            return erroExportacao(e.getMessage());
+        }
+        
+        StreamingResponseBody corpo = saida ->
+            exportacaoService.exportarTransacoes(idUsuarioSessao, tipo, categoria, inicio, fim, saida);
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(FormatoExportacao.NDJSON.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transacoes.ndjson\"")
+                .body(corpo);
     }
 
     @Operation(summary = "Buscar transação por ID", description = "Retorna uma transação específica pelo ID")
@@ -41,10 +131,11 @@ public class TransacaoController {
         @ApiResponse(responseCode = "404", description = "Transação não encontrada")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Transacao> buscarPorId(
-            @Parameter(description = "ID da transação") @PathVariable Long id) {
+    public ResponseEntity<TransacaoDTO> buscarPorId(
+            @Parameter(description = "ID da transação") @PathVariable Long id,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
-            Transacao transacao = transacaoService.buscarPorId(id);
+            TransacaoDTO transacao = transacaoService.buscarPorId(id, sessao.getIdUsuario());
             return ResponseEntity.ok(transacao);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
@@ -57,7 +148,9 @@ public class TransacaoController {
         @ApiResponse(responseCode = "400", description = "Dados inválidos")
     })
     @PostMapping
-    public ResponseEntity<?> criar(@Valid @RequestBody Transacao transacao) {
+    public ResponseEntity<?> criar(@Valid @RequestBody Transacao transacao,
+                                   @Parameter(hidden = true) SessaoUsuario sessao) {
+        sessao.verificarAcesso(transacao.getIdUsuario());
         try {
             Transacao transacaoSalva = transacaoService.salvar(transacao);
             return ResponseEntity.status(HttpStatus.CREATED).body(transacaoSalva);
@@ -75,7 +168,9 @@ public class TransacaoController {
     @PutMapping("/{id}")
     public ResponseEntity<?> atualizar(
             @Parameter(description = "ID da transação") @PathVariable Long id,
-            @Valid @RequestBody Transacao transacao) {
+            @Valid @RequestBody Transacao transacao,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        sessao.verificarAcesso(transacao.getIdUsuario());
         try {
             transacao.setIdTransacao(id);
             Transacao transacaoAtualizada = transacaoService.atualizar(transacao);
@@ -95,40 +190,155 @@ public class TransacaoController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletar(
-            @Parameter(description = "ID da transação") @PathVariable Long id) {
+            @Parameter(description = "ID da transação") @PathVariable Long id,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
-            transacaoService.deletar(id);
+            transacaoService.deletar(id, sessao.getIdUsuario());
             return ResponseEntity.noContent().build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
-    @Operation(summary = "Listar transações por usuário")
+    @Operation(summary = "Listar transações por usuário",
+               description = "Responde com ETag forte; com If-None-Match igual à versão atual retorna 304 sem consultar as transações")
     @GetMapping("/usuario/{idUsuario}")
-    public ResponseEntity<List<Transacao>> listarPorUsuario(
-            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario) {
+    public ResponseEntity<List<TransacaoDTO>> listarPorUsuario(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario,
+            WebRequest webRequest) {
+        String etag = versaoRecursosUsuario.etag(idUsuario, VersaoRecursosUsuario.Recurso.TRANSACOES);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
         try {
-            List<Transacao> transacoes = transacaoService.listarPorUsuario(idUsuario);
-            return ResponseEntity.ok(transacoes);
+            List<TransacaoDTO> transacoes = transacaoService.listarPorUsuario(idUsuario);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .eTag(etag)
+                    .body(transacoes);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(null);
         }
     }
 
+    @Operation(summary = "Listar transações por usuário com paginação por cursor",
+               description = "Retorna uma página do histórico (mais recentes primeiro) e o cursor opaco da próxima página")
+    @GetMapping("/usuario/{idUsuario}/pagina")
+    public ResponseEntity<?> listarPorUsuarioPaginado(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario,
+            @Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho) {
+        try {
+            PaginaCursorDTO<TransacaoDTO> pagina = transacaoService.listarPorUsuarioPaginado(idUsuario, cursor, tamanho);
+            return ResponseEntity.ok(pagina);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Buscar transações do usuário por texto",
+               description = "Busca palavras da descrição e da categoria que começam pelos termos informados " +
+                             "(todos os termos, sem diferenciar maiúsculas e acentos), mais recentes primeiro")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de resultados"),
+        @ApiResponse(responseCode = "400", description = "Usuário inválido, texto vazio ou paginação inválida")
+    })
+    @GetMapping("/usuario/{idUsuario}/busca")
+    public ResponseEntity<?> buscarPorTexto(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario,
+            @Parameter(description = "Termos da busca, ex.: uber") @RequestParam String q,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho) {
+        try {
+            PaginaDTO<TransacaoDTO> resultado = transacaoService.buscarPorTexto(idUsuario, q, pagina, tamanho);
+            return ResponseEntity.ok(resultado);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Estatísticas do índice de busca de transações",
+               description = "Usuários com índice carregado, transações indexadas, acertos e carregamentos")
+    @GetMapping("/estatisticas/indice-busca")
+    public ResponseEntity<Map<String, Object>> obterEstatisticasIndiceBusca() {
+        return ResponseEntity.ok(transacaoService.obterEstatisticasIndiceBusca());
+    }
+
+    @Operation(summary = "Exportar transações do usuário",
+               description = "Exporta o histórico completo em streaming, nos formatos NDJSON ou CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+        @ApiResponse(responseCode = "400", description = "Usuário ou formato inválido")
+    })
+    @GetMapping("/usuario/{idUsuario}/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario,
+            @Parameter(description = "Formato da exportação (ndjson ou csv)") @RequestParam(defaultValue = "ndjson") String formato) {
+        FormatoExportacao formatoExportacao;
+        try {
+            formatoExportacao = FormatoExportacao.fromString(formato);
+            exportacaoService.validarExportacao(idUsuario);
+        } catch (RuntimeException e) {
+            return erroExportacao(e.getMessage());
+        }
+        
+        StreamingResponseBody corpo = saida -> 
+            exportacaoService.exportarTransacoesUsuario(idUsuario, formatoExportacao, saida);
+        
+        String nomeArquivo = "transacoes-usuario-" + idUsuario + "." + formatoExportacao.getExtensao();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formatoExportacao.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + nomeArquivo + "\"")
+                .body(corpo);
+    }
+
+    // O retorno precisa ser StreamingResponseBody para o Spring escrever a exportação em streaming;
+    // o erro sai pelo mesmo tipo, no formato {"erro": ...} dos demais endpoints
+    private ResponseEntity<StreamingResponseBody> erroExportacao(String mensagem) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(saida -> objectMapper.writeValue(saida, Map.of("erro", mensagem)));
+    }
+
+    @Operation(summary = "Importar transações em lote", 
+               description = "Recebe um array JSON ou NDJSON (uma transação por linha). Linhas inválidas são reportadas sem interromper a importação")
+    @PostMapping(value = "/usuario/{idUsuario}/importacao", 
+                 consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<?> importar(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario,
+            @Parameter(description = "Quantidade de transações gravadas por lote") @RequestParam(required = false) Integer tamanhoLote,
+            InputStream corpo) {
+        try {
+            ResultadoImportacaoDTO resultado = importacaoService.importarTransacoes(idUsuario, corpo, tamanhoLote);
+            return ResponseEntity.ok(resultado);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
     @Operation(summary = "Listar transações por tipo")
     @GetMapping("/tipo/{tipo}")
-    public ResponseEntity<List<Transacao>> listarPorTipo(
-            @Parameter(description = "Tipo da transação") @PathVariable TipoTransacao tipo) {
-        List<Transacao> transacoes = transacaoService.listarPorTipo(tipo);
-        return ResponseEntity.ok(transacoes);
+    public ResponseEntity<?> listarPorTipo(
+            @Parameter(description = "Tipo da transação") @PathVariable TipoTransacao tipo,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: idTransacao,valor,data); omitido retorna o registro completo") @RequestParam(name = "fields", required = false) String campos,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação") @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") @RequestParam(required = false) String direcao,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
+        try {
+            return ResponseEntity.ok(transacaoService.listarPorTipo(sessao.getIdUsuario(), tipo, campos, pagina, tamanho, ordenarPor, direcao));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     @Operation(summary = "Listar transações por categoria")
     @GetMapping("/categoria/{categoria}")
-    public ResponseEntity<List<Transacao>> listarPorCategoria(
+    public ResponseEntity<List<TransacaoDTO>> listarPorCategoria(
             @Parameter(description = "Categoria da transação") @PathVariable String categoria) {
-        List<Transacao> transacoes = transacaoService.listarPorCategoria(categoria);
+        List<TransacaoDTO> transacoes = transacaoService.listarPorCategoria(categoria);
         return ResponseEntity.ok(transacoes);
     }
 
@@ -144,6 +354,65 @@ public class TransacaoController {
         }
     }
 
+    @Operation(summary = "Totais do usuário em um período", 
+               description = "Receitas, despesas, transferências e saldo entre duas datas (yyyy-MM-dd), calculados a partir dos resumos mensais")
+    @GetMapping("/usuario/{idUsuario}/periodo")
+    public ResponseEntity<?> calcularTotaisPeriodo(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario,
+            @Parameter(description = "Data inicial (inclusiva)") @RequestParam String dataInicio,
+            @Parameter(description = "Data final (inclusiva)") @RequestParam String dataFim) {
+        try {
+            TotaisPeriodoDTO totais = transacaoService.calcularTotaisPeriodo(
+                idUsuario, LocalDate.parse(dataInicio), LocalDate.parse(dataFim));
+            return ResponseEntity.ok(totais);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Resumo por categoria", 
+               description = "Soma e quantidade de receitas e despesas por categoria em uma única consulta. Período opcional (yyyy-MM-dd)")
+    @GetMapping("/usuario/{idUsuario}/categorias")
+    public ResponseEntity<?> obterResumoPorCategoria(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario,
+            @Parameter(description = "Data inicial (inclusiva)") @RequestParam(required = false) String dataInicio,
+            @Parameter(description = "Data final (inclusiva)") @RequestParam(required = false) String dataFim) {
+        try {
+            List<ResumoCategoriaDTO> resumo = transacaoService.obterResumoPorCategoria(idUsuario,
+                dataInicio != null ? LocalDate.parse(dataInicio) : null,
+                dataFim != null ? LocalDate.parse(dataFim) : null);
+            return ResponseEntity.ok(resumo);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Reconstruir resumos mensais do usuário", 
+               description = "Recalcula os totais mensais por tipo e categoria a partir de todas as transações do usuário")
+    @PostMapping("/usuario/{idUsuario}/resumo-mensal/reconstruir")
+    public ResponseEntity<?> reconstruirResumoMensal(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario) {
+        try {
+            transacaoService.reconstruirResumoMensal(idUsuario);
+            return ResponseEntity.ok(Map.of("mensagem", "Resumos mensais reconstruídos"));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Reconstruir saldo consolidado do usuário", 
+               description = "Recalcula saldo, receitas e despesas do usuário a partir de todas as suas transações")
+    @PostMapping("/usuario/{idUsuario}/saldo/reconstruir")
+    public ResponseEntity<?> reconstruirSaldo(
+            @Parameter(description = "ID do usuário") @PathVariable Long idUsuario) {
+        try {
+            SaldoUsuario saldo = transacaoService.reconstruirSaldo(idUsuario);
+            return ResponseEntity.ok(saldo);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
     @Operation(summary = "Calcular total de receitas do usuário")
     @GetMapping("/usuario/{idUsuario}/receitas")
     public ResponseEntity<?> calcularTotalReceitas(
@@ -170,9 +439,11 @@ public class TransacaoController {
 
     @Operation(summary = "Registrar receita")
     @PostMapping("/receita")
-    public ResponseEntity<?> registrarReceita(@RequestBody Map<String, Object> dadosReceita) {
+    public ResponseEntity<?> registrarReceita(@RequestBody Map<String, Object> dadosReceita,
+                                              @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
             Long idUsuario = Long.valueOf(dadosReceita.get("idUsuario").toString());
+            sessao.verificarAcesso(idUsuario);
             String categoria = (String) dadosReceita.get("categoria");
             String descricao = (String) dadosReceita.get("descricao");
             BigDecimal valor = new BigDecimal(dadosReceita.get("valor").toString());
@@ -181,6 +452,8 @@ public class TransacaoController {
             
             Transacao transacao = transacaoService.registrarReceita(idUsuario, categoria, descricao, valor, data);
             return ResponseEntity.status(HttpStatus.CREATED).body(transacao);
+        } catch (AcessoNegadoException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("erro", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
         }
@@ -188,9 +461,11 @@ public class TransacaoController {
 
     @Operation(summary = "Registrar despesa")
     @PostMapping("/despesa")
-    public ResponseEntity<?> registrarDespesa(@RequestBody Map<String, Object> dadosDespesa) {
+    public ResponseEntity<?> registrarDespesa(@RequestBody Map<String, Object> dadosDespesa,
+                                              @Parameter(hidden = true) SessaoUsuario sessao) {
         try {
             Long idUsuario = Long.valueOf(dadosDespesa.get("idUsuario").toString());
+            sessao.verificarAcesso(idUsuario);
             String categoria = (String) dadosDespesa.get("categoria");
             String descricao = (String) dadosDespesa.get("descricao");
             BigDecimal valor = new BigDecimal(dadosDespesa.get("valor").toString());
@@ -199,6 +474,8 @@ public class TransacaoController {
             
             Transacao transacao = transacaoService.registrarDespesa(idUsuario, categoria, descricao, valor, data);
             return ResponseEntity.status(HttpStatus.CREATED).body(transacao);
+        } catch (AcessoNegadoException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of("erro", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
         }
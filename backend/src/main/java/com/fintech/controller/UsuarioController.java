@@ -1,8 +1,14 @@
 package com.fintech.controller;
 
+import com.fintech.dto.FatiaDTO;
+import com.fintech.dto.PaginaDTO;
+import com.fintech.dto.UsuarioBuscaDTO;
 import com.fintech.entity.Usuario;
 import com.fintech.enums.Genero;
+import com.fintech.mapper.UsuarioMapper;
 import com.fintech.service.UsuarioService;
+import com.fintech.sessao.SessaoUsuario;
+import com.fintech.sessao.TokenSessao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,12 +33,34 @@ public class UsuarioController {
     @Autowired
     private UsuarioService usuarioService;
 
-    @Operation(summary = "Listar todos os usuários", description = "Retorna lista de todos os usuários cadastrados")
-    @ApiResponse(responseCode = "200", description = "Lista de usuários retornada com sucesso")
+    @Autowired
+    private TokenSessao tokenSessao;
+
+    @Autowired
+    private UsuarioMapper usuarioMapper;
+
+    @Operation(summary = "Listar usuários",
+               description = "Retorna uma página dos usuários cadastrados, com filtros opcionais e sem contagem total. " +
+                             "A exportação completa fica no actuator (/actuator/usuarios), fora da API pública")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de usuários"),
+        @ApiResponse(responseCode = "400", description = "Ordenação ou paginação inválidas")
+    })
     @GetMapping
-    public ResponseEntity<List<Usuario>> listarTodos() {
-        List<Usuario> usuarios = usuarioService.listarTodos();
-        return ResponseEntity.ok(usuarios);
+    public ResponseEntity<?> listar(
+            @Parameter(description = "Filtrar por usuários ativos (true) ou inativos (false)") @RequestParam(required = false) Boolean ativo,
+            @Parameter(description = "Gênero") @RequestParam(required = false) Genero genero,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: idUsuario,nomeCompleto); omitido retorna o registro completo") @RequestParam(name = "fields", required = false) String campos,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação: idUsuario, nomeCompleto, email ou dataCadastro") @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Direção da ordenação (asc ou desc)") @RequestParam(required = false) String direcao) {
+        try {
+            FatiaDTO<?> fatia = usuarioService.listar(ativo, genero, campos, pagina, tamanho, ordenarPor, direcao);
+            return ResponseEntity.ok(fatia);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
     }
 
     @Operation(summary = "Buscar usuário por ID", description = "Retorna um usuário específico pelo ID")
@@ -109,13 +137,17 @@ public class UsuarioController {
     @Operation(summary = "Buscar usuário por email", description = "Busca usuário pelo endereço de email")
     @GetMapping("/email/{email}")
     public ResponseEntity<Usuario> buscarPorEmail(
-            @Parameter(description = "Email do usuário") @PathVariable String email) {
+            @Parameter(description = "Email do usuário") @PathVariable String email,
+            @Parameter(hidden = true) SessaoUsuario sessao) {
         Optional<Usuario> usuario = usuarioService.buscarPorEmail(email);
+        // A rota não traz o ID: só responde com o usuário do próprio token
+        usuario.ifPresent(u -> sessao.verificarAcesso(u.getIdUsuario()));
         return usuario.map(ResponseEntity::ok)
                      .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Autenticar usuário", description = "Realiza autenticação do usuário")
+    @Operation(summary = "Autenticar usuário", 
+               description = "Realiza autenticação do usuário e emite o token de sessão (Authorization: Bearer) para as demais chamadas")
     @PostMapping("/auth")
     public ResponseEntity<?> autenticar(@RequestBody Map<String, String> credenciais) {
         String email = credenciais.get("email");
@@ -127,9 +159,13 @@ public class UsuarioController {
         
         Optional<Usuario> usuario = usuarioService.autenticar(email, senha);
         if (usuario.isPresent()) {
+            String token = tokenSessao.emitir(usuario.get().getIdUsuario(), usuario.get().isAtivo());
             return ResponseEntity.ok(Map.of(
                 "mensagem", "Autenticação realizada com sucesso",
-                "usuario", usuario.get()
+                "usuario", usuarioMapper.toDTO(usuario.get()),
+                "token", token,
+                "tipoToken", "Bearer",
+                "expiraEmSegundos", tokenSessao.getValidadeSegundos()
             ));
         } else {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -137,6 +173,20 @@ public class UsuarioController {
         }
     }
 
+    @Operation(summary = "Usuário da sessão", description = "Retorna o usuário identificado pelo token de sessão")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Usuário da sessão"),
+        @ApiResponse(responseCode = "401", description = "Token ausente, inválido ou expirado")
+    })
+    @GetMapping("/sessao")
+    public ResponseEntity<Usuario> obterUsuarioDaSessao(@Parameter(hidden = true) SessaoUsuario sessao) {
+        try {
+            return ResponseEntity.ok(usuarioService.buscarPorId(sessao.getIdUsuario()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @Operation(summary = "Listar usuários ativos")
     @GetMapping("/ativos")
     public ResponseEntity<List<Usuario>> listarAtivos() {
@@ -177,7 +227,35 @@ public class UsuarioController {
 
     // Endpoints de busca e filtros
 
-    @Operation(summary = "Buscar usuários por nome")
+    @Operation(summary = "Buscar usuários por nome ou email", 
+               description = "Busca por trecho do nome ou do email (mínimo 3 caracteres, sem diferenciar maiúsculas e acentos) " +
+                             "em índice em memória, com resultados ordenados por relevância e paginados")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de resultados"),
+        @ApiResponse(responseCode = "400", description = "Texto curto demais ou paginação inválida")
+    })
+    @GetMapping("/busca")
+    public ResponseEntity<?> buscarPorNomeOuEmail(
+            @Parameter(description = "Trecho do nome ou do email") @RequestParam String q,
+            @Parameter(description = "Número da página, a partir de zero") @RequestParam(required = false) Integer pagina,
+            @Parameter(description = "Quantidade de itens por página (máximo 100)") @RequestParam(required = false) Integer tamanho) {
+        try {
+            PaginaDTO<UsuarioBuscaDTO> resultado = usuarioService.buscarPorNomeOuEmail(q, pagina, tamanho);
+            return ResponseEntity.ok(resultado);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("erro", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Reconstruir índice de busca de usuários", 
+               description = "Recarrega o índice a partir de TB_USUARIO, para incluir usuários gravados fora da aplicação")
+    @PostMapping("/busca/reconstruir")
+    public ResponseEntity<Map<String, Object>> reconstruirIndiceBusca() {
+        usuarioService.reconstruirIndiceBusca();
+        return ResponseEntity.ok(usuarioService.obterEstatisticasIndiceBusca());
+    }
+
+    @Operation(summary = "Buscar usuários por nome", description = "Consulta LIKE no banco, sem paginação; prefira /usuarios/busca")
     @GetMapping("/buscar")
     public ResponseEntity<List<Usuario>> buscarPorNome(
             @Parameter(description = "Nome para busca") @RequestParam String nome) {
@@ -216,6 +294,26 @@ public class UsuarioController {
         return ResponseEntity.ok(Map.of("usuariosUltimoMes", count));
     }
 
+    @Operation(summary = "Estatísticas do cache de existência de usuários", 
+               description = "Acertos, falhas, taxa de acerto, remoções e tamanho do cache usado nas validações de usuário")
+    @GetMapping("/estatisticas/cache-existencia")
+    public ResponseEntity<Map<String, Object>> obterEstatisticasCacheExistencia() {
+        return ResponseEntity.ok(usuarioService.obterEstatisticasCacheExistencia());
+    }
+
+    @Operation(summary = "Estatísticas do cache de segundo nível de usuários",
+               description = "Acertos, falhas, inclusões e tamanho das regiões de Usuario e das consultas de login/existência no cache do Hibernate")
+    @GetMapping("/estatisticas/cache-segundo-nivel")
+    public ResponseEntity<Map<String, Object>> obterEstatisticasCacheSegundoNivel() {
+        return ResponseEntity.ok(usuarioService.obterEstatisticasCacheSegundoNivel());
+    }
+
+    @Operation(summary = "Estatísticas do índice de busca de usuários")
+    @GetMapping("/estatisticas/indice-busca")
+    public ResponseEntity<Map<String, Object>> obterEstatisticasIndiceBusca() {
+        return ResponseEntity.ok(usuarioService.obterEstatisticasIndiceBusca());
+    }
+
     // Operações específicas do negócio
 
     @Operation(summary = "Registrar novo usuário completo")
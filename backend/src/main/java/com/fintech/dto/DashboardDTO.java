@@ -0,0 +1,61 @@
+package com.fintech.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO com o resumo financeiro exibido no dashboard do usuário
+ * Agrega em uma única resposta os dados antes obtidos em cinco chamadas
+ */
+public class DashboardDTO {
+    
+    private Long idUsuario;
+    private BigDecimal saldo;
+    private BigDecimal totalReceitas;
+    private BigDecimal totalDespesas;
+    private BigDecimal totalInvestidoAtivo;
+    private BigDecimal valorAtualInvestimentos;
+    private Long metasAtivas;
+    private Long metasConcluidas;
+    private BigDecimal percentualMetasConcluidas;
+    private List<ResumoCategoriaDTO> receitasPorCategoria = new ArrayList<>();
+    private List<ResumoCategoriaDTO> despesasPorCategoria = new ArrayList<>();
+    
+    // Constructors
+    public DashboardDTO() {}
+    
+    // Getters and Setters
+    public Long getIdUsuario() { return idUsuario; }
+    public void setIdUsuario(Long idUsuario) { this.idUsuario = idUsuario; }
+    
+    public BigDecimal getSaldo() { return saldo; }
+    public void setSaldo(BigDecimal saldo) { this.saldo = saldo; }
+    
+    public BigDecimal getTotalReceitas() { return totalReceitas; }
+    public void setTotalReceitas(BigDecimal totalReceitas) { this.totalReceitas = totalReceitas; }
+    
+    public BigDecimal getTotalDespesas() { return totalDespesas; }
+    public void setTotalDespesas(BigDecimal totalDespesas) { this.totalDespesas = totalDespesas; }
+    
+    public BigDecimal getTotalInvestidoAtivo() { return totalInvestidoAtivo; }
+    public void setTotalInvestidoAtivo(BigDecimal totalInvestidoAtivo) { this.totalInvestidoAtivo = totalInvestidoAtivo; }
+    
+    public BigDecimal getValorAtualInvestimentos() { return valorAtualInvestimentos; }
+    public void setValorAtualInvestimentos(BigDecimal valorAtualInvestimentos) { this.valorAtualInvestimentos = valorAtualInvestimentos; }
+    
+    public Long getMetasAtivas() { return metasAtivas; }
+    public void setMetasAtivas(Long metasAtivas) { this.metasAtivas = metasAtivas; }
+    
+    public Long getMetasConcluidas() { return metasConcluidas; }
+    public void setMetasConcluidas(Long metasConcluidas) { this.metasConcluidas = metasConcluidas; }
+    
+    public BigDecimal getPercentualMetasConcluidas() { return percentualMetasConcluidas; }
+    public void setPercentualMetasConcluidas(BigDecimal percentualMetasConcluidas) { this.percentualMetasConcluidas = percentualMetasConcluidas; }
+    
+    public List<ResumoCategoriaDTO> getReceitasPorCategoria() { return receitasPorCategoria; }
+    public void setReceitasPorCategoria(List<ResumoCategoriaDTO> receitasPorCategoria) { this.receitasPorCategoria = receitasPorCategoria; }
+    
+    public List<ResumoCategoriaDTO> getDespesasPorCategoria() { return despesasPorCategoria; }
+    public void setDespesasPorCategoria(List<ResumoCategoriaDTO> despesasPorCategoria) { this.despesasPorCategoria = despesasPorCategoria; }
+}
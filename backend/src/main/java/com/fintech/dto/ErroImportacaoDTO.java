@@ -0,0 +1,25 @@
+package com.fintech.dto;
+
+/**
+ * DTO com o erro de uma linha rejeitada na importação de transações
+ */
+public class ErroImportacaoDTO {
+    
+    private long linha;
+    private String mensagem;
+    
+    // Constructors
+    public ErroImportacaoDTO() {}
+    
+    public ErroImportacaoDTO(long linha, String mensagem) {
+        this.linha = linha;
+        this.mensagem = mensagem;
+    }
+    
+    // Getters and Setters
+    public long getLinha() { return linha; }
+    public void setLinha(long linha) { this.linha = linha; }
+    
+    public String getMensagem() { return mensagem; }
+    public void setMensagem(String mensagem) { this.mensagem = mensagem; }
+}
@@ -0,0 +1,45 @@
+package com.fintech.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * DTO para respostas paginadas sem contagem total
+ * Indica apenas se existe próxima página, dispensando o COUNT(*) sobre a tabela inteira
+ */
+public class FatiaDTO<T> {
+    
+    private List<T> itens;
+    private int pagina;
+    private int tamanho;
+    private boolean temMais;
+    private String ordenacao;
+    
+    // Constructors
+    public FatiaDTO() {}
+    
+    public FatiaDTO(Slice<T> fatia) {
+        this.itens = fatia.getContent();
+        this.pagina = fatia.getNumber();
+        this.tamanho = fatia.getSize();
+        this.temMais = fatia.hasNext();
+        this.ordenacao = fatia.getSort().toString();
+    }
+    
+    // Getters and Setters
+    public List<T> getItens() { return itens; }
+    public void setItens(List<T> itens) { this.itens = itens; }
+    
+    public int getPagina() { return pagina; }
+    public void setPagina(int pagina) { this.pagina = pagina; }
+    
+    public int getTamanho() { return tamanho; }
+    public void setTamanho(int tamanho) { this.tamanho = tamanho; }
+    
+    public boolean isTemMais() { return temMais; }
+    public void setTemMais(boolean temMais) { this.temMais = temMais; }
+    
+    public String getOrdenacao() { return ordenacao; }
+    public void setOrdenacao(String ordenacao) { this.ordenacao = ordenacao; }
+}
@@ -1,5 +1,6 @@
 package com.fintech.dto;
 
+import com.fintech.entity.Investimento;
 import com.fintech.enums.TipoInvestimento;
 import jakarta.validation.constraints.*;
 
@@ -48,6 +49,12 @@ public class InvestimentoDTO {
         this.valorInvestido = valorInvestido;
         this.dataAplicacao = dataAplicacao;
         this.dataResgate = dataResgate;
+        
+        // Campos calculados: usado nas consultas "SELECT new" de InvestimentoRepository
+        this.ativo = Investimento.ativo(dataAplicacao, dataResgate);
+        this.resgatado = Investimento.resgatado(dataResgate);
+        this.rendaFixa = tipo != null && tipo.isRendaFixa();
+        this.rendaVariavel = tipo != null && tipo.isRendaVariavel();
     }
     
     // Getters and Setters
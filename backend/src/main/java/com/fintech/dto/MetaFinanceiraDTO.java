@@ -1,5 +1,6 @@
 package com.fintech.dto;
 
+import com.fintech.entity.MetaFinanceira;
 import com.fintech.enums.CategoriaMeta;
 import com.fintech.enums.StatusMeta;
 import jakarta.validation.constraints.*;
@@ -65,6 +66,21 @@ public class MetaFinanceiraDTO {
         this.dataLimite = dataLimite;
     }
     
+    // Meta completa com os campos calculados, montada direto nas consultas de MetaFinanceiraRepository
+    public MetaFinanceiraDTO(Long idMeta, Long idUsuario, String nome, String descricao,
+                            CategoriaMeta categoria, BigDecimal valorNecessario, BigDecimal valorAcumulado,
+                            LocalDate dataLimite, LocalDate dataCriacao, StatusMeta status) {
+        this(idMeta, idUsuario, nome, descricao, categoria, valorNecessario, valorAcumulado, dataLimite);
+        this.dataCriacao = dataCriacao;
+        this.status = status;
+        
+        this.percentualAlcancado = MetaFinanceira.percentualAlcancado(valorAcumulado, valorNecessario);
+        this.valorRestante = MetaFinanceira.valorRestante(valorAcumulado, valorNecessario);
+        this.diasRestantes = MetaFinanceira.diasRestantes(dataLimite);
+        this.vencida = MetaFinanceira.vencida(dataLimite, status);
+        this.concluida = MetaFinanceira.concluida(status, valorAcumulado, valorNecessario);
+    }
+    
     // Getters and Setters
     public Long getIdMeta() { return idMeta; }
     public void setIdMeta(Long idMeta) { this.idMeta = idMeta; }
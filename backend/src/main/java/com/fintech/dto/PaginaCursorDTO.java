@@ -0,0 +1,38 @@
+package com.fintech.dto;
+
+import java.util.List;
+
+/**
+ * DTO para respostas paginadas por cursor (keyset)
+ * O cursor é opaco para o cliente e deve ser reenviado para obter a próxima página
+ */
+public class PaginaCursorDTO<T> {
+    
+    private List<T> itens;
+    private String proximoCursor;
+    private boolean temMais;
+    private int tamanho;
+    
+    // Constructors
+    public PaginaCursorDTO() {}
+    
+    public PaginaCursorDTO(List<T> itens, String proximoCursor) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+        this.temMais = proximoCursor != null;
+        this.tamanho = itens.size();
+    }
+    
+    // Getters and Setters
+    public List<T> getItens() { return itens; }
+    public void setItens(List<T> itens) { this.itens = itens; }
+    
+    public String getProximoCursor() { return proximoCursor; }
+    public void setProximoCursor(String proximoCursor) { this.proximoCursor = proximoCursor; }
+    
+    public boolean isTemMais() { return temMais; }
+    public void setTemMais(boolean temMais) { this.temMais = temMais; }
+    
+    public int getTamanho() { return tamanho; }
+    public void setTamanho(int tamanho) { this.tamanho = tamanho; }
+}
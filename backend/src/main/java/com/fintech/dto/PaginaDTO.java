@@ -0,0 +1,48 @@
+package com.fintech.dto;
+
+import java.util.List;
+
+/**
+ * DTO para respostas paginadas por número de página
+ * A página é baseada em zero; totalElementos considera todos os itens encontrados
+ */
+public class PaginaDTO<T> {
+    
+    private List<T> itens;
+    private int pagina;
+    private int tamanho;
+    private long totalElementos;
+    private int totalPaginas;
+    private boolean temMais;
+    
+    // Constructors
+    public PaginaDTO() {}
+    
+    public PaginaDTO(List<T> itens, int pagina, int tamanho, long totalElementos) {
+        this.itens = itens;
+        this.pagina = pagina;
+        this.tamanho = tamanho;
+        this.totalElementos = totalElementos;
+        this.totalPaginas = (int) ((totalElementos + tamanho - 1) / tamanho);
+        this.temMais = (long) (pagina + 1) * tamanho < totalElementos;
+    }
+    
+    // Getters and Setters
+    public List<T> getItens() { return itens; }
+    public void setItens(List<T> itens) { this.itens = itens; }
+    
+    public int getPagina() { return pagina; }
+    public void setPagina(int pagina) { this.pagina = pagina; }
+    
+    public int getTamanho() { return tamanho; }
+    public void setTamanho(int tamanho) { this.tamanho = tamanho; }
+    
+    public long getTotalElementos() { return totalElementos; }
+    public void setTotalElementos(long totalElementos) { this.totalElementos = totalElementos; }
+    
+    public int getTotalPaginas() { return totalPaginas; }
+    public void setTotalPaginas(int totalPaginas) { this.totalPaginas = totalPaginas; }
+    
+    public boolean isTemMais() { return temMais; }
+    public void setTemMais(boolean temMais) { this.temMais = temMais; }
+}
@@ -0,0 +1,53 @@
+package com.fintech.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO com o resultado de uma importação em lote de transações
+ * Linhas inválidas são reportadas individualmente sem interromper a importação
+ */
+public class ResultadoImportacaoDTO {
+    
+    private Long idUsuario;
+    private long totalLinhas;
+    private long importadas;
+    private long rejeitadas;
+    private long duracaoMs;
+    private long linhasPorSegundo;
+    private List<ErroImportacaoDTO> erros = new ArrayList<>();
+    
+    // Constructors
+    public ResultadoImportacaoDTO() {}
+    
+    public ResultadoImportacaoDTO(Long idUsuario) {
+        this.idUsuario = idUsuario;
+    }
+    
+    public void adicionarErro(long linha, String mensagem) {
+        erros.add(new ErroImportacaoDTO(linha, mensagem));
+        rejeitadas++;
+    }
+    
+    // Getters and Setters
+    public Long getIdUsuario() { return idUsuario; }
+    public void setIdUsuario(Long idUsuario) { this.idUsuario = idUsuario; }
+    
+    public long getTotalLinhas() { return totalLinhas; }
+    public void setTotalLinhas(long totalLinhas) { this.totalLinhas = totalLinhas; }
+    
+    public long getImportadas() { return importadas; }
+    public void setImportadas(long importadas) { this.importadas = importadas; }
+    
+    public long getRejeitadas() { return rejeitadas; }
+    public void setRejeitadas(long rejeitadas) { this.rejeitadas = rejeitadas; }
+    
+    public long getDuracaoMs() { return duracaoMs; }
+    public void setDuracaoMs(long duracaoMs) { this.duracaoMs = duracaoMs; }
+    
+    public long getLinhasPorSegundo() { return linhasPorSegundo; }
+    public void setLinhasPorSegundo(long linhasPorSegundo) { this.linhasPorSegundo = linhasPorSegundo; }
+    
+    public List<ErroImportacaoDTO> getErros() { return erros; }
+    public void setErros(List<ErroImportacaoDTO> erros) { this.erros = erros; }
+}
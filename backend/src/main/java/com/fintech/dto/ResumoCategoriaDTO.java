@@ -0,0 +1,41 @@
+package com.fintech.dto;
+
+import com.fintech.enums.TipoTransacao;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO com o total e a quantidade de transações de uma categoria
+ * Preenchido diretamente pela consulta agrupada (constructor expression)
+ */
+public class ResumoCategoriaDTO {
+    
+    private String categoria;
+    private TipoTransacao tipoTransacao;
+    private BigDecimal valor;
+    private Long quantidade;
+    
+    // Constructors
+    public ResumoCategoriaDTO() {}
+    
+    public ResumoCategoriaDTO(String categoria, TipoTransacao tipoTransacao, 
+                             BigDecimal valor, Long quantidade) {
+        this.categoria = categoria;
+        this.tipoTransacao = tipoTransacao;
+        this.valor = valor;
+        this.quantidade = quantidade;
+    }
+    
+    // Getters and Setters
+    public String getCategoria() { return categoria; }
+    public void setCategoria(String categoria) { this.categoria = categoria; }
+    
+    public TipoTransacao getTipoTransacao() { return tipoTransacao; }
+    public void setTipoTransacao(TipoTransacao tipoTransacao) { this.tipoTransacao = tipoTransacao; }
+    
+    public BigDecimal getValor() { return valor; }
+    public void setValor(BigDecimal valor) { this.valor = valor; }
+    
+    public Long getQuantidade() { return quantidade; }
+    public void setQuantidade(Long quantidade) { this.quantidade = quantidade; }
+}
@@ -0,0 +1,54 @@
+package com.fintech.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO com os totais de transações do usuário em um período
+ * Calculado a partir dos resumos mensais mais as bordas de meses parciais
+ */
+public class TotaisPeriodoDTO {
+    
+    private Long idUsuario;
+    private LocalDate dataInicio;
+    private LocalDate dataFim;
+    private BigDecimal totalReceitas = BigDecimal.ZERO;
+    private BigDecimal totalDespesas = BigDecimal.ZERO;
+    private BigDecimal totalTransferencias = BigDecimal.ZERO;
+    private BigDecimal saldo = BigDecimal.ZERO;
+    private Long quantidadeTransacoes = 0L;
+    
+    // Constructors
+    public TotaisPeriodoDTO() {}
+    
+    public TotaisPeriodoDTO(Long idUsuario, LocalDate dataInicio, LocalDate dataFim) {
+        this.idUsuario = idUsuario;
+        this.dataInicio = dataInicio;
+        this.dataFim = dataFim;
+    }
+    
+    // Getters and Setters
+    public Long getIdUsuario() { return idUsuario; }
+    public void setIdUsuario(Long idUsuario) { this.idUsuario = idUsuario; }
+    
+    public LocalDate getDataInicio() { return dataInicio; }
+    public void setDataInicio(LocalDate dataInicio) { this.dataInicio = dataInicio; }
+    
+    public LocalDate getDataFim() { return dataFim; }
+    public void setDataFim(LocalDate dataFim) { this.dataFim = dataFim; }
+    
+    public BigDecimal getTotalReceitas() { return totalReceitas; }
+    public void setTotalReceitas(BigDecimal totalReceitas) { this.totalReceitas = totalReceitas; }
+    
+    public BigDecimal getTotalDespesas() { return totalDespesas; }
+    public void setTotalDespesas(BigDecimal totalDespesas) { this.totalDespesas = totalDespesas; }
+    
+    public BigDecimal getTotalTransferencias() { return totalTransferencias; }
+    public void setTotalTransferencias(BigDecimal totalTransferencias) { this.totalTransferencias = totalTransferencias; }
+    
+    public BigDecimal getSaldo() { return saldo; }
+    public void setSaldo(BigDecimal saldo) { this.saldo = saldo; }
+    
+    public Long getQuantidadeTransacoes() { return quantidadeTransacoes; }
+    public void setQuantidadeTransacoes(Long quantidadeTransacoes) { this.quantidadeTransacoes = quantidadeTransacoes; }
+}
@@ -69,4 +69,11 @@ public class TransacaoDTO {
     
     public LocalDate getData() { return data; }
     public void setData(LocalDate data) { this.data = data; }
+    
+    // Campos calculados (mesmo JSON da entidade Transacao)
+    public boolean isReceita() { return tipoTransacao == TipoTransacao.CREDITO; }
+    
+    public boolean isDespesa() { return tipoTransacao == TipoTransacao.DEBITO; }
+    
+    public boolean isTransferencia() { return tipoTransacao == TipoTransacao.TRANSFERENCIA; }
 }
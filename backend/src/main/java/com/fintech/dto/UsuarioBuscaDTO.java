@@ -0,0 +1,36 @@
+package com.fintech.dto;
+
+/**
+ * DTO dos resultados da busca de usuários por nome ou email
+ * Montado a partir do índice em memória, sem acesso ao banco
+ */
+public class UsuarioBuscaDTO {
+    
+    private Long idUsuario;
+    private String nomeCompleto;
+    private String email;
+    private boolean ativo;
+    
+    // Constructors
+    public UsuarioBuscaDTO() {}
+    
+    public UsuarioBuscaDTO(Long idUsuario, String nomeCompleto, String email, boolean ativo) {
+        this.idUsuario = idUsuario;
+        this.nomeCompleto = nomeCompleto;
+        this.email = email;
+        this.ativo = ativo;
+    }
+    
+    // Getters and Setters
+    public Long getIdUsuario() { return idUsuario; }
+    public void setIdUsuario(Long idUsuario) { this.idUsuario = idUsuario; }
+    
+    public String getNomeCompleto() { return nomeCompleto; }
+    public void setNomeCompleto(String nomeCompleto) { this.nomeCompleto = nomeCompleto; }
+    
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    
+    public boolean isAtivo() { return ativo; }
+    public void setAtivo(boolean ativo) { this.ativo = ativo; }
+}
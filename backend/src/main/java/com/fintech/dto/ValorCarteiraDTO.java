@@ -0,0 +1,64 @@
+package com.fintech.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * DTO com o valor atual da carteira ativa do usuário, a partir das avaliações gravadas
+ * Investimentos ainda sem avaliação entram pelo valor aplicado.
+ */
+public class ValorCarteiraDTO {
+
+    private Long idUsuario;
+    private BigDecimal totalInvestido;
+    private BigDecimal valorAtual;
+    private BigDecimal rendimento;
+    private BigDecimal percentualRendimento;
+    // Avaliação mais antiga entre os investimentos da carteira
+    private LocalDate dataReferencia;
+    private Long quantidadeInvestimentos;
+    private Long investimentosSemAvaliacao;
+
+    // Constructors
+    public ValorCarteiraDTO() {}
+
+    // Usado na consulta "SELECT new" de AvaliacaoInvestimentoRepository; somas nulas quando não há investimentos
+    public ValorCarteiraDTO(BigDecimal totalInvestido, BigDecimal valorAtual, LocalDate dataReferencia,
+                            Long quantidadeInvestimentos, Long investimentosAvaliados) {
+        this.totalInvestido = totalInvestido != null ? totalInvestido : BigDecimal.ZERO;
+        this.valorAtual = valorAtual != null ? valorAtual : BigDecimal.ZERO;
+        this.rendimento = this.valorAtual.subtract(this.totalInvestido);
+        this.percentualRendimento = this.totalInvestido.signum() > 0
+            ? rendimento.multiply(BigDecimal.valueOf(100)).divide(this.totalInvestido, 2, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO;
+        this.dataReferencia = dataReferencia;
+        this.quantidadeInvestimentos = quantidadeInvestimentos;
+        this.investimentosSemAvaliacao = quantidadeInvestimentos - investimentosAvaliados;
+    }
+
+    // Getters and Setters
+    public Long getIdUsuario() { return idUsuario; }
+    public void setIdUsuario(Long idUsuario) { this.idUsuario = idUsuario; }
+
+    public BigDecimal getTotalInvestido() { return totalInvestido; }
+    public void setTotalInvestido(BigDecimal totalInvestido) { this.totalInvestido = totalInvestido; }
+
+    public BigDecimal getValorAtual() { return valorAtual; }
+    public void setValorAtual(BigDecimal valorAtual) { this.valorAtual = valorAtual; }
+
+    public BigDecimal getRendimento() { return rendimento; }
+    public void setRendimento(BigDecimal rendimento) { this.rendimento = rendimento; }
+
+    public BigDecimal getPercentualRendimento() { return percentualRendimento; }
+    public void setPercentualRendimento(BigDecimal percentualRendimento) { this.percentualRendimento = percentualRendimento; }
+
+    public LocalDate getDataReferencia() { return dataReferencia; }
+    public void setDataReferencia(LocalDate dataReferencia) { this.dataReferencia = dataReferencia; }
+
+    public Long getQuantidadeInvestimentos() { return quantidadeInvestimentos; }
+    public void setQuantidadeInvestimentos(Long quantidadeInvestimentos) { this.quantidadeInvestimentos = quantidadeInvestimentos; }
+
+    public Long getInvestimentosSemAvaliacao() { return investimentosSemAvaliacao; }
+    public void setInvestimentosSemAvaliacao(Long investimentosSemAvaliacao) { this.investimentosSemAvaliacao = investimentosSemAvaliacao; }
+}
@@ -0,0 +1,89 @@
+package com.fintech.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Último valor atualizado de cada investimento, calculado pelo MotorAvaliacao
+ * Gravado na escrita do investimento e reavaliado em lote toda noite; as consultas de valor atual
+ * leem esta tabela em vez de recalcular os rendimentos.
+ */
+@Entity
+@Table(name = "TB_AVALIACAO_INVESTIMENTO")
+public class AvaliacaoInvestimento {
+
+    @Id
+    @Column(name = "ID_INVESTIMENTO")
+    private Long idInvestimento;
+
+    // Data do valor: o dia da avaliação ou, para investimentos resgatados, a data de resgate
+    @Column(name = "DATA_REFERENCIA", nullable = false)
+    private LocalDate dataReferencia;
+
+    @Column(name = "VALOR_ATUAL", precision = 16, scale = 2, nullable = false)
+    private BigDecimal valorAtual;
+
+    @Column(name = "DATA_ATUALIZACAO", nullable = false)
+    private LocalDateTime dataAtualizacao;
+
+    public AvaliacaoInvestimento() {}
+
+    // Getters and Setters
+    public Long getIdInvestimento() {
+        return idInvestimento;
+    }
+
+    public void setIdInvestimento(Long idInvestimento) {
+        this.idInvestimento = idInvestimento;
+    }
+
+    public LocalDate getDataReferencia() {
+        return dataReferencia;
+    }
+
+    public void setDataReferencia(LocalDate dataReferencia) {
+        this.dataReferencia = dataReferencia;
+    }
+
+    public BigDecimal getValorAtual() {
+        return valorAtual;
+    }
+
+    public void setValorAtual(BigDecimal valorAtual) {
+        this.valorAtual = valorAtual;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) {
+        this.dataAtualizacao = dataAtualizacao;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AvaliacaoInvestimento that = (AvaliacaoInvestimento) o;
+        return Objects.equals(idInvestimento, that.idInvestimento);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idInvestimento);
+    }
+
+    @Override
+    public String toString() {
+        return "AvaliacaoInvestimento{" +
+                "idInvestimento=" + idInvestimento +
+                ", dataReferencia=" + dataReferencia +
+                ", valorAtual=" + valorAtual +
+                '}';
+    }
+}
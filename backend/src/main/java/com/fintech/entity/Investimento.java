@@ -10,12 +10,18 @@ import java.time.LocalDate;
 import java.util.Objects;
 
 @Entity
-@Table(name = "TB_INVESTIMENTO")
+@Table(name = "TB_INVESTIMENTO", indexes = {
+    @Index(name = "IDX_INVESTIMENTO_USUARIO", columnList = "ID_USUARIO"),
+    @Index(name = "IDX_INVESTIMENTO_TIPO", columnList = "TIPO"),
+    @Index(name = "IDX_INVESTIMENTO_DATA_APLICACAO", columnList = "DATA_APLICACAO"),
+    @Index(name = "IDX_INVESTIMENTO_DATA_RESGATE", columnList = "DATA_RESGATE"),
+    @Index(name = "IDX_INVESTIMENTO_ATIVO", columnList = "ID_USUARIO, DATA_RESGATE")
+})
 public class Investimento {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_investimento")
-    @SequenceGenerator(name = "seq_investimento", sequenceName = "SEQ_INVESTIMENTO", allocationSize = 1)
+    @SequenceGenerator(name = "seq_investimento", sequenceName = Sequencias.INVESTIMENTO, allocationSize = Sequencias.INCREMENTO)
     @Column(name = "ID_INVESTIMENTO")
     private Long idInvestimento;
 
@@ -68,11 +74,20 @@ public class Investimento {
     }
 
     public boolean isResgatado() {
-        return dataResgate != null && !dataResgate.isAfter(LocalDate.now());
+        return resgatado(dataResgate);
     }
 
     public boolean isAtivo() {
-        return dataAplicacao != null && !isResgatado();
+        return ativo(dataAplicacao, dataResgate);
+    }
+
+    // Regras de situação também usadas pelo InvestimentoDTO montado direto na consulta
+    public static boolean resgatado(LocalDate dataResgate) {
+        return dataResgate != null && !dataResgate.isAfter(LocalDate.now());
+    }
+
+    public static boolean ativo(LocalDate dataAplicacao, LocalDate dataResgate) {
+        return dataAplicacao != null && !resgatado(dataResgate);
     }
 
     public boolean isRendaFixa() {
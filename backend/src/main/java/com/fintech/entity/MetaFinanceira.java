@@ -13,12 +13,18 @@ import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 @Entity
-@Table(name = "TB_META_FINANCEIRA")
+@Table(name = "TB_META_FINANCEIRA", indexes = {
+    @Index(name = "IDX_META_USUARIO", columnList = "ID_USUARIO"),
+    @Index(name = "IDX_META_STATUS", columnList = "STATUS"),
+    @Index(name = "IDX_META_CATEGORIA", columnList = "CATEGORIA"),
+    @Index(name = "IDX_META_DATA_LIMITE", columnList = "DATA_LIMITE"),
+    @Index(name = "IDX_META_USUARIO_STATUS", columnList = "ID_USUARIO, STATUS")
+})
 public class MetaFinanceira {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_meta")
-    @SequenceGenerator(name = "seq_meta", sequenceName = "SEQ_META_FINANCEIRA", allocationSize = 1)
+    @SequenceGenerator(name = "seq_meta", sequenceName = Sequencias.META_FINANCEIRA, allocationSize = Sequencias.INCREMENTO)
     @Column(name = "ID_META")
     private Long idMeta;
 
@@ -106,6 +112,27 @@ public class MetaFinanceira {
     }
 
     public BigDecimal getPercentualAlcancado() {
+        return percentualAlcancado(valorAcumulado, valorNecessario);
+    }
+
+    public BigDecimal getValorRestante() {
+        return valorRestante(valorAcumulado, valorNecessario);
+    }
+
+    public long getDiasRestantes() {
+        return diasRestantes(dataLimite);
+    }
+
+    public boolean isVencida() {
+        return vencida(dataLimite, status);
+    }
+
+    public boolean isConcluida() {
+        return concluida(status, valorAcumulado, valorNecessario);
+    }
+
+    // Regras dos campos calculados, compartilhadas com o MetaFinanceiraDTO das consultas de leitura
+    public static BigDecimal percentualAlcancado(BigDecimal valorAcumulado, BigDecimal valorNecessario) {
         if (valorNecessario.compareTo(BigDecimal.ZERO) == 0) {
             return BigDecimal.ZERO;
         }
@@ -115,12 +142,12 @@ public class MetaFinanceira {
                 .divide(valorNecessario, 2, RoundingMode.HALF_UP);
     }
 
-    public BigDecimal getValorRestante() {
+    public static BigDecimal valorRestante(BigDecimal valorAcumulado, BigDecimal valorNecessario) {
         BigDecimal restante = valorNecessario.subtract(valorAcumulado);
         return restante.compareTo(BigDecimal.ZERO) > 0 ? restante : BigDecimal.ZERO;
     }
 
-    public long getDiasRestantes() {
+    public static long diasRestantes(LocalDate dataLimite) {
         if (dataLimite == null) {
             return Long.MAX_VALUE; // Meta sem prazo
         }
@@ -129,13 +156,13 @@ public class MetaFinanceira {
         return Math.max(0, dias);
     }
 
-    public boolean isVencida() {
+    public static boolean vencida(LocalDate dataLimite, StatusMeta status) {
         return dataLimite != null && 
                LocalDate.now().isAfter(dataLimite) && 
                status != StatusMeta.CONCLUIDA;
     }
 
-    public boolean isConcluida() {
+    public static boolean concluida(StatusMeta status, BigDecimal valorAcumulado, BigDecimal valorNecessario) {
         return status == StatusMeta.CONCLUIDA || 
                valorAcumulado.compareTo(valorNecessario) >= 0;
     }
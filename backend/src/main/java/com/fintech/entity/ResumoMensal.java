@@ -0,0 +1,128 @@
+package com.fintech.entity;
+
+import com.fintech.enums.TipoTransacao;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Totais mensais de transações por usuário, tipo e categoria
+ * Mantido a cada escrita de transação para responder relatórios por período sem varrer TB_TRANSACAO
+ */
+@Entity
+@Table(name = "TB_RESUMO_MENSAL")
+@IdClass(ResumoMensalId.class)
+public class ResumoMensal {
+
+    @Id
+    @Column(name = "ID_USUARIO")
+    private Long idUsuario;
+
+    // Ano e mês no formato yyyymm (ex.: 202401)
+    @Id
+    @Column(name = "ANO_MES")
+    private Integer anoMes;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TIPO_TRANSACAO", length = 20)
+    private TipoTransacao tipoTransacao;
+
+    @Id
+    @Column(name = "CATEGORIA", length = 50)
+    private String categoria;
+
+    @Column(name = "TOTAL", precision = 16, scale = 2, nullable = false)
+    private BigDecimal total;
+
+    @Column(name = "QUANTIDADE", nullable = false)
+    private Long quantidade;
+
+    public ResumoMensal() {
+        this.total = BigDecimal.ZERO;
+        this.quantidade = 0L;
+    }
+
+    public static int calcularAnoMes(LocalDate data) {
+        return data.getYear() * 100 + data.getMonthValue();
+    }
+
+    // Getters and Setters
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public void setIdUsuario(Long idUsuario) {
+        this.idUsuario = idUsuario;
+    }
+
+    public Integer getAnoMes() {
+        return anoMes;
+    }
+
+    public void setAnoMes(Integer anoMes) {
+        this.anoMes = anoMes;
+    }
+
+    public TipoTransacao getTipoTransacao() {
+        return tipoTransacao;
+    }
+
+    public void setTipoTransacao(TipoTransacao tipoTransacao) {
+        this.tipoTransacao = tipoTransacao;
+    }
+
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public void setCategoria(String categoria) {
+        this.categoria = categoria;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public Long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(Long quantidade) {
+        this.quantidade = quantidade;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ResumoMensal that = (ResumoMensal) o;
+        return Objects.equals(idUsuario, that.idUsuario) &&
+               Objects.equals(anoMes, that.anoMes) &&
+               tipoTransacao == that.tipoTransacao &&
+               Objects.equals(categoria, that.categoria);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idUsuario, anoMes, tipoTransacao, categoria);
+    }
+
+    @Override
+    public String toString() {
+        return "ResumoMensal{" +
+                "idUsuario=" + idUsuario +
+                ", anoMes=" + anoMes +
+                ", tipoTransacao=" + tipoTransacao +
+                ", categoria='" + categoria + '\'' +
+                ", total=" + total +
+                ", quantidade=" + quantidade +
+                '}';
+    }
+}
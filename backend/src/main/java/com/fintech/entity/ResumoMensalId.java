@@ -0,0 +1,54 @@
+package com.fintech.entity;
+
+import com.fintech.enums.TipoTransacao;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Chave composta de ResumoMensal: usuário, ano-mês (yyyymm), tipo e categoria
+ */
+public class ResumoMensalId implements Serializable {
+
+    private Long idUsuario;
+    private Integer anoMes;
+    private TipoTransacao tipoTransacao;
+    private String categoria;
+
+    public ResumoMensalId() {}
+
+    public ResumoMensalId(Long idUsuario, Integer anoMes, TipoTransacao tipoTransacao, String categoria) {
+        this.idUsuario = idUsuario;
+        this.anoMes = anoMes;
+        this.tipoTransacao = tipoTransacao;
+        this.categoria = categoria;
+    }
+
+    public Long getIdUsuario() { return idUsuario; }
+    public void setIdUsuario(Long idUsuario) { this.idUsuario = idUsuario; }
+
+    public Integer getAnoMes() { return anoMes; }
+    public void setAnoMes(Integer anoMes) { this.anoMes = anoMes; }
+
+    public TipoTransacao getTipoTransacao() { return tipoTransacao; }
+    public void setTipoTransacao(TipoTransacao tipoTransacao) { this.tipoTransacao = tipoTransacao; }
+
+    public String getCategoria() { return categoria; }
+    public void setCategoria(String categoria) { this.categoria = categoria; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ResumoMensalId that = (ResumoMensalId) o;
+        return Objects.equals(idUsuario, that.idUsuario) &&
+               Objects.equals(anoMes, that.anoMes) &&
+               tipoTransacao == that.tipoTransacao &&
+               Objects.equals(categoria, that.categoria);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idUsuario, anoMes, tipoTransacao, categoria);
+    }
+}
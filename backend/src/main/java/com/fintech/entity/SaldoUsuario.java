@@ -0,0 +1,127 @@
+package com.fintech.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Saldo consolidado do usuário, mantido incrementalmente a cada escrita de transação
+ * Evita recalcular SUM sobre todo o histórico em cada consulta de saldo
+ */
+@Entity
+@Table(name = "TB_SALDO_USUARIO")
+public class SaldoUsuario {
+
+    @Id
+    @Column(name = "ID_USUARIO")
+    private Long idUsuario;
+
+    @Column(name = "SALDO", precision = 16, scale = 2, nullable = false)
+    private BigDecimal saldo;
+
+    @Column(name = "TOTAL_RECEITAS", precision = 16, scale = 2, nullable = false)
+    private BigDecimal totalReceitas;
+
+    @Column(name = "TOTAL_DESPESAS", precision = 16, scale = 2, nullable = false)
+    private BigDecimal totalDespesas;
+
+    @Column(name = "QUANTIDADE_TRANSACOES", nullable = false)
+    private Long quantidadeTransacoes;
+
+    @Column(name = "DATA_ATUALIZACAO", nullable = false)
+    private LocalDateTime dataAtualizacao;
+
+    public SaldoUsuario() {
+        this.saldo = BigDecimal.ZERO;
+        this.totalReceitas = BigDecimal.ZERO;
+        this.totalDespesas = BigDecimal.ZERO;
+        this.quantidadeTransacoes = 0L;
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+
+    public SaldoUsuario(Long idUsuario) {
+        this();
+        this.idUsuario = idUsuario;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        dataAtualizacao = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public void setIdUsuario(Long idUsuario) {
+        this.idUsuario = idUsuario;
+    }
+
+    public BigDecimal getSaldo() {
+        return saldo;
+    }
+
+    public void setSaldo(BigDecimal saldo) {
+        this.saldo = saldo;
+    }
+
+    public BigDecimal getTotalReceitas() {
+        return totalReceitas;
+    }
+
+    public void setTotalReceitas(BigDecimal totalReceitas) {
+        this.totalReceitas = totalReceitas;
+    }
+
+    public BigDecimal getTotalDespesas() {
+        return totalDespesas;
+    }
+
+    public void setTotalDespesas(BigDecimal totalDespesas) {
+        this.totalDespesas = totalDespesas;
+    }
+
+    public Long getQuantidadeTransacoes() {
+        return quantidadeTransacoes;
+    }
+
+    public void setQuantidadeTransacoes(Long quantidadeTransacoes) {
+        this.quantidadeTransacoes = quantidadeTransacoes;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) {
+        this.dataAtualizacao = dataAtualizacao;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SaldoUsuario that = (SaldoUsuario) o;
+        return Objects.equals(idUsuario, that.idUsuario);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(idUsuario);
+    }
+
+    @Override
+    public String toString() {
+        return "SaldoUsuario{" +
+                "idUsuario=" + idUsuario +
+                ", saldo=" + saldo +
+                ", totalReceitas=" + totalReceitas +
+                ", totalDespesas=" + totalDespesas +
+                ", quantidadeTransacoes=" + quantidadeTransacoes +
+                '}';
+    }
+}
@@ -0,0 +1,18 @@
+package com.fintech.entity;
+
+/**
+ * Sequences usadas na geração de IDs das entidades
+ * INCREMENTO deve ser igual ao INCREMENT BY das sequences no banco: cada NEXTVAL
+ * reserva um bloco de IDs (otimizador pooled do Hibernate), evitando uma ida ao banco por inserção
+ */
+public final class Sequencias {
+
+    public static final int INCREMENTO = 20;
+
+    public static final String USUARIO = "SEQ_USUARIO";
+    public static final String TRANSACAO = "SEQ_TRANSACAO";
+    public static final String INVESTIMENTO = "SEQ_INVESTIMENTO";
+    public static final String META_FINANCEIRA = "SEQ_META_FINANCEIRA";
+
+    private Sequencias() {}
+}
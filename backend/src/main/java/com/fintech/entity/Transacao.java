@@ -10,12 +10,19 @@ import java.time.LocalDate;
 import java.util.Objects;
 
 @Entity
-@Table(name = "TB_TRANSACAO")
+// Índices espelham o schema.sql (também nas demais entidades) para que o DDL gerado no H2 corresponda ao Oracle
+@Table(name = "TB_TRANSACAO", indexes = {
+    @Index(name = "IDX_TRANSACAO_USUARIO", columnList = "ID_USUARIO"),
+    @Index(name = "IDX_TRANSACAO_DATA", columnList = "DATA_TRANSACAO"),
+    @Index(name = "IDX_TRANSACAO_TIPO", columnList = "TIPO_TRANSACAO"),
+    @Index(name = "IDX_TRANSACAO_CATEGORIA", columnList = "CATEGORIA"),
+    @Index(name = "IDX_TRANSACAO_USUARIO_DATA", columnList = "ID_USUARIO, DATA_TRANSACAO")
+})
 public class Transacao {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_transacao")
-    @SequenceGenerator(name = "seq_transacao", sequenceName = "SEQ_TRANSACAO", allocationSize = 1)
+    @SequenceGenerator(name = "seq_transacao", sequenceName = Sequencias.TRANSACAO, allocationSize = Sequencias.INCREMENTO)
     @Column(name = "ID_TRANSACAO")
     private Long idTransacao;
 
@@ -1,8 +1,13 @@
 package com.fintech.entity;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fintech.config.CacheSegundoNivelConfig;
 import com.fintech.enums.Genero;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.security.MessageDigest;
 import java.time.LocalDate;
@@ -11,12 +16,19 @@ import java.time.Period;
 import java.util.Objects;
 
 @Entity
-@Table(name = "TB_USUARIO")
+@Table(name = "TB_USUARIO", indexes = {
+    @Index(name = "IDX_USUARIO_ATIVO", columnList = "ATIVO"),
+    @Index(name = "IDX_USUARIO_DATA_CADASTRO", columnList = "DATA_CADASTRO")
+})
+// Lido a cada requisição autenticada e raramente alterado; READ_WRITE invalida a entrada na escrita
+// e a substitui só após o commit, sem expor dados não confirmados a outras transações
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheSegundoNivelConfig.REGIAO_USUARIO)
 public class Usuario {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_usuario")
-    @SequenceGenerator(name = "seq_usuario", sequenceName = "SEQ_USUARIO", allocationSize = 1)
+    @SequenceGenerator(name = "seq_usuario", sequenceName = Sequencias.USUARIO, allocationSize = Sequencias.INCREMENTO)
     @Column(name = "ID_USUARIO")
     private Long idUsuario;
 
@@ -31,8 +43,10 @@ public class Usuario {
     @Column(name = "EMAIL", length = 100, nullable = false, unique = true)
     private String email;
 
+    // Aceita a senha no corpo de POST/PUT, mas o hash nunca sai nas respostas
     @NotBlank(message = "Senha é obrigatória")
     @Column(name = "SENHA", length = 255, nullable = false)
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String senha;
 
     @NotNull(message = "Data de nascimento é obrigatória")
@@ -48,6 +62,10 @@ public class Usuario {
     @Column(name = "DATA_CADASTRO", nullable = false)
     private LocalDateTime dataCadastro;
 
+    // Gravado em lote pelo UltimoLoginService, fora do INSERT/UPDATE da entidade
+    @Column(name = "ULTIMO_LOGIN", insertable = false, updatable = false)
+    private LocalDateTime ultimoLogin;
+
     @Column(name = "ATIVO", length = 1, nullable = false)
     private char ativo;
 
@@ -88,7 +106,7 @@ public class Usuario {
     }
 
     public void autenticar() {
-        // Login realizado com sucesso
+        this.ultimoLogin = LocalDateTime.now();
     }
 
     public boolean validarSenha(String senhaFornecida) {
@@ -211,7 +229,13 @@ public class Usuario {
         this.dataCadastro = dataCadastro;
     }
 
+    public LocalDateTime getUltimoLogin() {
+        return ultimoLogin;
+    }
+
 
+    // Setter usado pelo Jackson; sem a anotação o par boolean/char é rejeitado como conflito
+    @JsonSetter
     public void setAtivo(boolean ativo) {
         this.ativo = ativo ? 'S' : 'N';
     }
@@ -0,0 +1,33 @@
+package com.fintech.enums;
+
+public enum FormatoExportacao {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+    
+    private final String contentType;
+    private final String extensao;
+    
+    FormatoExportacao(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getExtensao() {
+        return extensao;
+    }
+    
+    public static FormatoExportacao fromString(String formato) {
+        if (formato == null) return NDJSON;
+        
+        for (FormatoExportacao f : values()) {
+            if (f.name().equalsIgnoreCase(formato)) {
+                return f;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportação inválido: " + formato);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fintech.exception;
+
+/**
+ * Exceção para requisições autenticadas que acessam dados de outro usuário
+ */
+public class AcessoNegadoException extends RuntimeException {
+
+    public AcessoNegadoException(String message) {
+        super(message);
+    }
+}
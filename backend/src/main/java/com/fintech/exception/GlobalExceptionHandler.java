@@ -73,6 +73,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.notFound().build();
     }
 
+    /**
+     * Trata requisições sem sessão válida
+     */
+    @ExceptionHandler(SessaoInvalidaException.class)
+    public ResponseEntity<Map<String, Object>> handleSessaoInvalida(SessaoInvalidaException ex) {
+        Map<String, Object> response = new HashMap<>();
+        
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.UNAUTHORIZED.value());
+        response.put("error", "Unauthorized");
+        response.put("message", ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+    }
+
+    /**
+     * Trata acessos a dados de outro usuário
+     */
+    @ExceptionHandler(AcessoNegadoException.class)
+    public ResponseEntity<Map<String, Object>> handleAcessoNegado(AcessoNegadoException ex) {
+        Map<String, Object> response = new HashMap<>();
+        
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.FORBIDDEN.value());
+        response.put("error", "Forbidden");
+        response.put("message", ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+    }
+
     /**
      * Trata erros internos inesperados
      */
@@ -0,0 +1,11 @@
+package com.fintech.exception;
+
+/**
+ * Exceção para requisições sem token de sessão válido em endpoints que dependem da sessão
+ */
+public class SessaoInvalidaException extends RuntimeException {
+
+    public SessaoInvalidaException(String message) {
+        super(message);
+    }
+}
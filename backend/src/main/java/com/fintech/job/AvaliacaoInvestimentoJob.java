@@ -0,0 +1,30 @@
+package com.fintech.job;
+
+import com.fintech.service.AvaliacaoInvestimentoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reavaliação noturna de todos os investimentos (TB_AVALIACAO_INVESTIMENTO)
+ * Leva o valor atual ao dia corrente; os resgatados já avaliados na data de resgate são pulados
+ */
+@Component
+public class AvaliacaoInvestimentoJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AvaliacaoInvestimentoJob.class);
+
+    @Autowired
+    private AvaliacaoInvestimentoService avaliacaoInvestimentoService;
+
+    @Scheduled(cron = "${fintech.avaliacao.cron:0 30 1 * * *}")
+    public void reavaliarInvestimentos() {
+        long inicio = System.currentTimeMillis();
+        int avaliados = avaliacaoInvestimentoService.reavaliar(false);
+
+        log.info("Reavaliação de investimentos: {} investimento(s) avaliado(s) em {} ms",
+                 avaliados, System.currentTimeMillis() - inicio);
+    }
+}
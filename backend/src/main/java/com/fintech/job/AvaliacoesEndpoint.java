@@ -0,0 +1,43 @@
+package com.fintech.job;
+
+import com.fintech.service.AvaliacaoInvestimentoService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Execução sob demanda da reavaliação de AvaliacaoInvestimentoJob: POST /api/actuator/avaliacoes
+ * com corpo JSON: {} avalia as pendentes; {"completa": true} recalcula todas, por exemplo após
+ * atualizar as curvas de taxas ou na carga inicial da migração 005.
+ * Percorre todos os investimentos, por isso fica fora da API pública; só é acessível quando incluído
+ * em management.endpoints.web.exposure.include (ver metricas.properties).
+ */
+@Component
+@Endpoint(id = "avaliacoes")
+public class AvaliacoesEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(AvaliacoesEndpoint.class);
+
+    @Autowired
+    private AvaliacaoInvestimentoService avaliacaoInvestimentoService;
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> reavaliar(@Nullable Boolean completa) {
+        try {
+            int avaliados = avaliacaoInvestimentoService.reavaliar(Boolean.TRUE.equals(completa));
+            return new WebEndpointResponse<>(Map.of("investimentosAvaliados", avaliados));
+        } catch (RuntimeException e) {
+            // As páginas já gravadas permanecem; sem "completa", uma nova execução continua dos pendentes
+            log.error("Falha na reavaliação de investimentos", e);
+            return new WebEndpointResponse<>(Map.of("erro", String.valueOf(e.getMessage())),
+                WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.fintech.job;
+
+import com.fintech.enums.FormatoExportacao;
+import com.fintech.enums.Genero;
+import com.fintech.service.ExportacaoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.web.annotation.RestControllerEndpoint;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Exportação de todos os usuários em streaming (NDJSON, sem senha): GET /api/actuator/usuarios?ativo=&genero=
+ * Devolve e-mails de todos os cadastros, por isso fica fora da API pública; só é acessível quando incluído
+ * em management.endpoints.web.exposure.include (ver metricas.properties). O teste de carga a usa para
+ * autenticar a faixa de leitura (--usuarios-leitura).
+ */
+@Component
+@RestControllerEndpoint(id = "usuarios")
+public class ExportacaoUsuariosEndpoint {
+
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(required = false) Boolean ativo,
+            @RequestParam(required = false) Genero genero) {
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarUsuarios(ativo, genero, saida);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(FormatoExportacao.NDJSON.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"usuarios.ndjson\"")
+                .body(corpo);
+    }
+}
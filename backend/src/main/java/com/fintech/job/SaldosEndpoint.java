@@ -0,0 +1,28 @@
+package com.fintech.job;
+
+import com.fintech.service.SaldoUsuarioService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Execução sob demanda da reconciliação de VerificacaoSaldoJob: POST /api/actuator/saldos
+ * Percorre todos os saldos, por isso fica fora da API pública; só é acessível quando incluído em
+ * management.endpoints.web.exposure.include (ver metricas.properties).
+ */
+@Component
+@Endpoint(id = "saldos")
+public class SaldosEndpoint {
+
+    @Autowired
+    private SaldoUsuarioService saldoUsuarioService;
+
+    @WriteOperation
+    public Map<String, Object> verificar() {
+        int reconstruidos = saldoUsuarioService.verificarEReconstruir();
+        return Map.of("saldosReconstruidos", reconstruidos);
+    }
+}
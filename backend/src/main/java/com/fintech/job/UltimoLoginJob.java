@@ -0,0 +1,31 @@
+package com.fintech.job;
+
+import com.fintech.service.UltimoLoginService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gravação periódica dos logins acumulados pelo UltimoLoginService
+ */
+@Component
+public class UltimoLoginJob {
+
+    private static final Logger log = LoggerFactory.getLogger(UltimoLoginJob.class);
+
+    @Autowired
+    private UltimoLoginService ultimoLoginService;
+
+    @Scheduled(fixedDelayString = "${fintech.login.intervalo-gravacao-ms:5000}")
+    public void gravarUltimosLogins() {
+        long inicio = System.currentTimeMillis();
+        int gravados = ultimoLoginService.gravarPendentes();
+        
+        if (gravados > 0) {
+            log.debug("Último login gravado para {} usuário(s) em {} ms", 
+                      gravados, System.currentTimeMillis() - inicio);
+        }
+    }
+}
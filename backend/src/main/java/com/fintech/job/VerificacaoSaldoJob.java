@@ -0,0 +1,35 @@
+package com.fintech.job;
+
+import com.fintech.service.SaldoUsuarioService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconciliação periódica de TB_SALDO_USUARIO com TB_TRANSACAO
+ * Recria saldos ausentes e corrige divergências deixadas por escritas fora da aplicação
+ */
+@Component
+public class VerificacaoSaldoJob {
+
+    private static final Logger log = LoggerFactory.getLogger(VerificacaoSaldoJob.class);
+
+    @Autowired
+    private SaldoUsuarioService saldoUsuarioService;
+
+    @Scheduled(cron = "${fintech.saldo.verificacao-cron:0 0 3 * * *}")
+    public void verificarSaldos() {
+        long inicio = System.currentTimeMillis();
+        int reconstruidos = saldoUsuarioService.verificarEReconstruir();
+        
+        if (reconstruidos > 0) {
+            log.warn("Verificação de saldos: {} saldo(s) reconstruído(s) em {} ms", 
+                     reconstruidos, System.currentTimeMillis() - inicio);
+        } else {
+            log.info("Verificação de saldos concluída sem divergências em {} ms", 
+                     System.currentTimeMillis() - inicio);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fintech.metricas;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contagem dos comandos SQL preparados durante uma requisição HTTP
+ * A contagem é iniciada pelo ContadorConsultasFilter e incrementada por ContadorConsultasDataSource a cada
+ * prepareStatement/prepareCall/createStatement, tanto do Hibernate quanto do JdbcTemplate. Fora de uma
+ * requisição (jobs, carga de dados) nada é contado.
+ */
+public final class ContadorConsultas {
+
+    private static final ThreadLocal<AtomicInteger> ATUAL = new ThreadLocal<>();
+
+    private ContadorConsultas() {
+    }
+
+    static AtomicInteger iniciar() {
+        AtomicInteger contagem = new AtomicInteger();
+        ATUAL.set(contagem);
+        return contagem;
+    }
+
+    static void encerrar() {
+        ATUAL.remove();
+    }
+
+    static void registrarComando() {
+        AtomicInteger contagem = ATUAL.get();
+        if (contagem != null) {
+            contagem.incrementAndGet();
+        }
+    }
+
+    // Tarefas assíncronas da requisição (StreamingResponseBody) somam na mesma contagem
+    static Runnable propagar(Runnable tarefa) {
+        AtomicInteger contagem = ATUAL.get();
+        if (contagem == null) {
+            return tarefa;
+        }
+        return () -> {
+            AtomicInteger anterior = ATUAL.get();
+            ATUAL.set(contagem);
+            try {
+                tarefa.run();
+            } finally {
+                if (anterior != null) {
+                    ATUAL.set(anterior);
+                } else {
+                    ATUAL.remove();
+                }
+            }
+        };
+    }
+}
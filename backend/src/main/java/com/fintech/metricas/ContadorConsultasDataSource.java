@@ -0,0 +1,94 @@
+package com.fintech.metricas;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * DataSource que conta os comandos preparados em cada conexão (ver ContadorConsultas)
+ * Mesmo critério do prepareStatementCount das estatísticas do Hibernate, estendido ao JdbcTemplate;
+ * um batch conta uma vez, como um único comando preparado. A leitura das sequências fica de fora:
+ * com allocationSize ela acontece a cada Sequencias.INCREMENTO inserções, na requisição que esgotar
+ * o bloco, e faria a contagem de um mesmo endpoint variar conforme o histórico.
+ */
+public class ContadorConsultasDataSource extends DelegatingDataSource {
+
+    private static final Set<String> METODOS_PREPARACAO = Set.of("prepareStatement", "prepareCall");
+
+    // Statement simples (createStatement) só recebe o SQL na execução; é contado ali
+    private static final Set<String> METODOS_EXECUCAO = Set.of("execute", "executeQuery", "executeUpdate",
+        "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public ContadorConsultasDataSource(DataSource alvo) {
+        super(alvo);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return contar(obtainTargetDataSource().getConnection(), Connection.class);
+    }
+
+    @Override
+    public Connection getConnection(String usuario, String senha) throws SQLException {
+        return contar(obtainTargetDataSource().getConnection(usuario, senha), Connection.class);
+    }
+
+    private static <T> T contar(T alvo, Class<T> tipo) {
+        return tipo.cast(Proxy.newProxyInstance(ContadorConsultasDataSource.class.getClassLoader(),
+            new Class<?>[] {tipo}, new Contador(alvo)));
+    }
+
+    // "seq.nextval" no Oracle, "next value for seq" no H2
+    private static boolean leituraSequencia(Object[] argumentos) {
+        if (argumentos == null || !(argumentos[0] instanceof String sql)) {
+            return false;
+        }
+        String comando = sql.toLowerCase(Locale.ROOT);
+        return comando.contains("nextval") || comando.contains("next value for");
+    }
+
+    private static final class Contador implements InvocationHandler {
+
+        private final Object alvo;
+
+        private Contador(Object alvo) {
+            this.alvo = alvo;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] argumentos) throws Throwable {
+            switch (metodo.getName()) {
+                case "equals":
+                    return proxy == argumentos[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Contador de comandos de " + alvo;
+                default:
+                    break;
+            }
+            boolean comando = alvo instanceof Connection
+                ? METODOS_PREPARACAO.contains(metodo.getName())
+                : METODOS_EXECUCAO.contains(metodo.getName());
+            if (comando && !leituraSequencia(argumentos)) {
+                ContadorConsultas.registrarComando();
+            }
+            Object resultado;
+            try {
+                resultado = metodo.invoke(alvo, argumentos);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            return "createStatement".equals(metodo.getName()) ? contar((Statement) resultado, Statement.class) : resultado;
+        }
+    }
+}
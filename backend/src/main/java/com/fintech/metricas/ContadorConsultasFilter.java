@@ -0,0 +1,86 @@
+package com.fintech.metricas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registra quantos comandos SQL cada requisição executou em fintech.http.consultas (tags method e uri)
+ * A contagem inclui a serialização da resposta (carregamento lazy com open-in-view) e, nas exportações,
+ * a escrita assíncrona do corpo: nesse caso o registro acontece ao fim da requisição assíncrona.
+ * Usada pelo teste de consultas por endpoint (ConsultasPorEndpointTest) para detectar N+1; desligada por padrão
+ * (fintech.consultas.contar=true no profile consultas).
+ */
+@Component
+@ConditionalOnProperty(name = "fintech.consultas.contar", havingValue = "true", matchIfMissing = false)
+public class ContadorConsultasFilter extends OncePerRequestFilter {
+
+    public static final String METRICA = "fintech.http.consultas";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // As leituras de métricas do próprio verificador não entram na contagem
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AtomicInteger contagem = ContadorConsultas.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ContadorConsultas.encerrar();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent evento) {
+                        registrar(request, contagem.get());
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent evento) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent evento) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent evento) {
+                    }
+                });
+            } else {
+                registrar(request, contagem.get());
+            }
+        }
+    }
+
+    private void registrar(HttpServletRequest request, int comandos) {
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRICA)
+                .description("Comandos SQL executados por requisição")
+                .baseUnit("comandos")
+                .tag("method", request.getMethod())
+                .tag("uri", padrao != null ? padrao.toString() : "UNKNOWN")
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(meterRegistry)
+                .record(comandos);
+    }
+}
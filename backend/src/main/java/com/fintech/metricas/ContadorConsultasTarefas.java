@@ -0,0 +1,14 @@
+package com.fintech.metricas;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Leva a contagem de comandos da requisição para as tarefas que ela dispara em outro thread
+ */
+public class ContadorConsultasTarefas implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable tarefa) {
+        return ContadorConsultas.propagar(tarefa);
+    }
+}
@@ -0,0 +1,67 @@
+package com.fintech.metricas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de cada método público dos serviços (com.fintech.service); histograma configurado em metricas.properties
+ * Tags: service, method, outcome (SUCCESS/ERROR) e exception. Os repositórios são medidos pelo
+ * próprio Spring Boot em spring.data.repository.invocations (tags repository, method, state, exception).
+ *
+ * Ordem mais alta que a do @Transactional: o tempo inclui abertura e commit da transação.
+ * Chamadas internas de um serviço a ele mesmo não passam pelo proxy e não são medidas.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MetricasServicoAspect {
+
+    public static final String METRICA = "fintech.service.invocations";
+
+    private static final String SEM_EXCECAO = "None";
+
+    // Timer de sucesso por método, evitando montar o Timer.Builder a cada chamada
+    private final Map<Method, Timer> timersSucesso = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.fintech.service..*(..))")
+    public Object medir(ProceedingJoinPoint chamada) throws Throwable {
+        long inicio = System.nanoTime();
+        try {
+            Object resultado = chamada.proceed();
+            Method metodo = ((MethodSignature) chamada.getSignature()).getMethod();
+            timersSucesso.computeIfAbsent(metodo, m -> timer(chamada, "SUCCESS", SEM_EXCECAO))
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            return resultado;
+        } catch (Throwable e) {
+            timer(chamada, "ERROR", e.getClass().getSimpleName())
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint chamada, String resultado, String excecao) {
+        return Timer.builder(METRICA)
+                .description("Tempo das chamadas aos serviços")
+                .tag("service", chamada.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", chamada.getSignature().getName())
+                .tag("outcome", resultado)
+                .tag("exception", excecao)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,72 @@
+package com.fintech.projecao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Executa as listagens globais selecionando apenas as colunas dos campos pedidos
+ * Reaproveita a cláusula WHERE dos repositórios (FILTROS_LISTAGEM, FiltrosTransacao) e devolve cada linha como um mapa
+ * campo -> valor; nenhuma entidade gerenciada é criada.
+ */
+@Component
+public class ConsultaProjecao {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <E> Slice<Map<String, Object>> buscar(Projecao<E> projecao, List<String> campos, String filtros,
+                                                 Map<String, Object> parametros, Pageable pageable) {
+        List<String> colunas = projecao.colunasNecessarias(campos);
+        String alias = projecao.getAlias();
+
+        StringBuilder jpql = new StringBuilder("SELECT ");
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                jpql.append(", ");
+            }
+            jpql.append(alias).append('.').append(colunas.get(i)).append(" AS ").append(colunas.get(i));
+        }
+        jpql.append(" FROM ").append(projecao.getEntidade()).append(' ').append(alias).append(' ').append(filtros);
+        // Os campos de ordenação já foram validados por Paginacao
+        String separador = " ORDER BY ";
+        for (Sort.Order ordem : pageable.getSort()) {
+            jpql.append(separador).append(alias).append('.').append(ordem.getProperty()).append(' ').append(ordem.getDirection());
+            separador = ", ";
+        }
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        parametros.forEach(query::setParameter);
+        // Uma linha a mais indica se existe próxima página
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<Tuple> linhas = query.getResultList();
+
+        boolean temMais = linhas.size() > pageable.getPageSize();
+        List<Map<String, Object>> itens = new ArrayList<>(Math.min(linhas.size(), pageable.getPageSize()));
+        for (int i = 0; i < linhas.size() && i < pageable.getPageSize(); i++) {
+            Tuple linha = linhas.get(i);
+            E instancia = projecao.novaInstancia();
+            for (String coluna : colunas) {
+                projecao.preencher(instancia, coluna, linha.get(coluna));
+            }
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (String campo : campos) {
+                item.put(campo, projecao.ler(instancia, campo));
+            }
+            itens.add(item);
+        }
+        return new SliceImpl<>(itens, pageable, temMais);
+    }
+}
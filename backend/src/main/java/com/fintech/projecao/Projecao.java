@@ -0,0 +1,117 @@
+package com.fintech.projecao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Campos que um cliente pode pedir de uma entidade em ?fields=
+ * Cada campo declara as colunas de que depende e como é lido. As colunas pedidas são carregadas
+ * em uma instância transiente da entidade (fora do contexto de persistência), de modo que os campos
+ * calculados usam as mesmas regras da entidade e só executam quando solicitados.
+ */
+public final class Projecao<E> {
+
+    private final String entidade;
+    private final String alias;
+    private final Supplier<E> fabrica;
+    private final Map<String, BiConsumer<E, Object>> colunas = new LinkedHashMap<>();
+    private final Map<String, Campo<E>> campos = new LinkedHashMap<>();
+
+    public Projecao(String entidade, String alias, Supplier<E> fabrica) {
+        this.entidade = entidade;
+        this.alias = alias;
+        this.fabrica = fabrica;
+    }
+
+    /**
+     * Coluna mapeada (atributo JPA) exposta com o mesmo nome
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Projecao<E> coluna(String atributo, BiConsumer<E, V> escrita, Function<E, ?> leitura) {
+        colunas.put(atributo, (BiConsumer<E, Object>) escrita);
+        campos.put(atributo, new Campo<>(leitura, List.of(atributo)));
+        return this;
+    }
+
+    /**
+     * Campo calculado a partir de colunas já declaradas
+     */
+    public Projecao<E> calculado(String nome, Function<E, ?> leitura, String... dependencias) {
+        for (String dependencia : dependencias) {
+            if (!colunas.containsKey(dependencia)) {
+                throw new IllegalStateException("Coluna não declarada em " + entidade + ": " + dependencia);
+            }
+        }
+        campos.put(nome, new Campo<>(leitura, Arrays.asList(dependencias)));
+        return this;
+    }
+
+    /**
+     * Interpreta "idTransacao,valor,data"; campos desconhecidos (ou sem permissão, como a senha) são rejeitados
+     */
+    public List<String> interpretar(String texto) {
+        Set<String> pedidos = new LinkedHashSet<>();
+        for (String parte : texto.split(",")) {
+            String nome = parte.trim();
+            if (nome.isEmpty()) {
+                continue;
+            }
+            if (!campos.containsKey(nome)) {
+                throw new IllegalArgumentException("Campo inválido: " + nome + ". Use um de " + campos.keySet());
+            }
+            pedidos.add(nome);
+        }
+        if (pedidos.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um campo em fields");
+        }
+        return new ArrayList<>(pedidos);
+    }
+
+    // Colunas necessárias para os campos pedidos, sem repetição
+    List<String> colunasNecessarias(List<String> nomes) {
+        Set<String> necessarias = new LinkedHashSet<>();
+        for (String nome : nomes) {
+            necessarias.addAll(campos.get(nome).colunas);
+        }
+        return new ArrayList<>(necessarias);
+    }
+
+    E novaInstancia() {
+        return fabrica.get();
+    }
+
+    void preencher(E instancia, String coluna, Object valor) {
+        colunas.get(coluna).accept(instancia, valor);
+    }
+
+    Object ler(E instancia, String campo) {
+        return campos.get(campo).leitura.apply(instancia);
+    }
+
+    String getEntidade() {
+        return entidade;
+    }
+
+    String getAlias() {
+        return alias;
+    }
+
+    private static final class Campo<E> {
+
+        private final Function<E, ?> leitura;
+        private final List<String> colunas;
+
+        private Campo(Function<E, ?> leitura, List<String> colunas) {
+            this.leitura = leitura;
+            this.colunas = colunas;
+        }
+    }
+}
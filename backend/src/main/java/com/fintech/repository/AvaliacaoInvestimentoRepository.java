@@ -0,0 +1,46 @@
+package com.fintech.repository;
+
+import com.fintech.dto.ValorCarteiraDTO;
+import com.fintech.entity.AvaliacaoInvestimento;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AvaliacaoInvestimentoRepository extends JpaRepository<AvaliacaoInvestimento, Long> {
+
+    // Grava ou substitui a avaliação de um investimento (um único comando; usado também em lote via JDBC)
+    // Parâmetros: ID_INVESTIMENTO, DATA_REFERENCIA, VALOR_ATUAL
+    String SQL_GRAVAR = "MERGE INTO TB_AVALIACAO_INVESTIMENTO a " +
+        "USING (SELECT CAST(? AS NUMBER(19)) AS ID_INVESTIMENTO, CAST(? AS DATE) AS DATA_REFERENCIA, " +
+        "       CAST(? AS NUMBER(16, 2)) AS VALOR_ATUAL FROM DUAL) d " +
+        "ON (a.ID_INVESTIMENTO = d.ID_INVESTIMENTO) " +
+        "WHEN MATCHED THEN UPDATE SET a.DATA_REFERENCIA = d.DATA_REFERENCIA, a.VALOR_ATUAL = d.VALOR_ATUAL, " +
+        "     a.DATA_ATUALIZACAO = CURRENT_TIMESTAMP " +
+        "WHEN NOT MATCHED THEN INSERT (ID_INVESTIMENTO, DATA_REFERENCIA, VALOR_ATUAL, DATA_ATUALIZACAO) " +
+        "VALUES (d.ID_INVESTIMENTO, d.DATA_REFERENCIA, d.VALOR_ATUAL, CURRENT_TIMESTAMP)";
+
+    // Próxima página da reavaliação em lote, em ordem de ID a partir do último lido
+    // Só investimentos sem avaliação ou com avaliação anterior à data de referência
+    // (o dia da reavaliação ou, se anterior, a data de resgate), a menos que a reavaliação seja completa
+    // Parâmetros: último ID, completa (1/0), data da reavaliação (duas vezes), tamanho da página
+    String SQL_PENDENTES = "SELECT i.ID_INVESTIMENTO, i.TIPO, i.VALOR_INVESTIDO, i.DATA_APLICACAO, i.DATA_RESGATE " +
+        "FROM TB_INVESTIMENTO i LEFT JOIN TB_AVALIACAO_INVESTIMENTO a ON a.ID_INVESTIMENTO = i.ID_INVESTIMENTO " +
+        "WHERE i.ID_INVESTIMENTO > ? " +
+        "AND (? = 1 OR a.DATA_REFERENCIA IS NULL " +
+        "     OR a.DATA_REFERENCIA < CASE WHEN i.DATA_RESGATE < ? THEN i.DATA_RESGATE ELSE ? END) " +
+        "ORDER BY i.ID_INVESTIMENTO FETCH FIRST ? ROWS ONLY";
+
+    // Valor atual da carteira ativa a partir das avaliações gravadas; sem avaliação vale o aplicado
+    @Query("SELECT new com.fintech.dto.ValorCarteiraDTO(SUM(i.valorInvestido), " +
+           "SUM(COALESCE(a.valorAtual, i.valorInvestido)), MIN(a.dataReferencia), COUNT(i), COUNT(a)) " +
+           "FROM Investimento i LEFT JOIN AvaliacaoInvestimento a ON a.idInvestimento = i.idInvestimento " +
+           "WHERE i.idUsuario = :idUsuario AND i.dataResgate IS NULL")
+    ValorCarteiraDTO calcularValorCarteira(@Param("idUsuario") Long idUsuario);
+
+    @Modifying
+    @Query("DELETE FROM AvaliacaoInvestimento a WHERE a.idInvestimento = :idInvestimento")
+    int deleteByIdInvestimento(@Param("idInvestimento") Long idInvestimento);
+}
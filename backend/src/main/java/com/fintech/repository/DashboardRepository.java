@@ -0,0 +1,38 @@
+package com.fintech.repository;
+
+import com.fintech.entity.Usuario;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Consultas agregadas do dashboard
+ * Reúne em um único comando o saldo consolidado, investimentos e metas do usuário
+ */
+@org.springframework.stereotype.Repository
+public interface DashboardRepository extends Repository<Usuario, Long> {
+
+    // Resumo financeiro do usuário em uma única ida ao banco
+    // Receitas, despesas e saldo vêm de TB_SALDO_USUARIO (nulos quando o usuário ainda não tem saldo consolidado)
+    // Colunas: ID_USUARIO, RECEITAS, DESPESAS, SALDO, TOTAL_INVESTIDO_ATIVO, METAS_ATIVAS, METAS_CONCLUIDAS, TOTAL_METAS,
+    // VALOR_ATUAL_INVESTIMENTOS (avaliação gravada em TB_AVALIACAO_INVESTIMENTO ou, sem ela, o valor aplicado)
+    // Retorna lista vazia quando o usuário não existe
+    @Query(value = "SELECT u.ID_USUARIO, s.TOTAL_RECEITAS, s.TOTAL_DESPESAS, s.SALDO, i.TOTAL_INVESTIDO_ATIVO, " +
+                   "m.METAS_ATIVAS, m.METAS_CONCLUIDAS, m.TOTAL_METAS, i.VALOR_ATUAL_INVESTIMENTOS " +
+                   "FROM TB_USUARIO u " +
+                   "LEFT JOIN TB_SALDO_USUARIO s ON s.ID_USUARIO = u.ID_USUARIO " +
+                   "CROSS JOIN (SELECT COALESCE(SUM(inv.VALOR_INVESTIDO), 0) AS TOTAL_INVESTIDO_ATIVO, " +
+                   "                   COALESCE(SUM(COALESCE(a.VALOR_ATUAL, inv.VALOR_INVESTIDO)), 0) AS VALOR_ATUAL_INVESTIMENTOS " +
+                   "            FROM TB_INVESTIMENTO inv " +
+                   "            LEFT JOIN TB_AVALIACAO_INVESTIMENTO a ON a.ID_INVESTIMENTO = inv.ID_INVESTIMENTO " +
+                   "            WHERE inv.ID_USUARIO = :idUsuario AND inv.DATA_RESGATE IS NULL) i " +
+                   "CROSS JOIN (SELECT COUNT(CASE WHEN STATUS = 'ATIVA' THEN 1 END) AS METAS_ATIVAS, " +
+                   "                   COUNT(CASE WHEN STATUS = 'CONCLUIDA' THEN 1 END) AS METAS_CONCLUIDAS, " +
+                   "                   COUNT(*) AS TOTAL_METAS " +
+                   "            FROM TB_META_FINANCEIRA WHERE ID_USUARIO = :idUsuario) m " +
+                   "WHERE u.ID_USUARIO = :idUsuario",
+           nativeQuery = true)
+    List<Object[]> resumoFinanceiro(@Param("idUsuario") Long idUsuario);
+}
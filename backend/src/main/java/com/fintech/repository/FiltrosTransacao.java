@@ -0,0 +1,47 @@
+package com.fintech.repository;
+
+import com.fintech.enums.TipoTransacao;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Filtros da listagem global e da exportação de transações
+ * A cláusula WHERE contém só as condições dos filtros informados: cada combinação gera um SQL
+ * próprio, com plano próprio no Oracle (usuário + período usa IDX_TRANSACAO_USUARIO_DATA)
+ */
+public final class FiltrosTransacao {
+
+    private final StringBuilder clausulaWhere = new StringBuilder();
+    private final Map<String, Object> parametros = new HashMap<>();
+
+    public FiltrosTransacao(Long idUsuario, TipoTransacao tipo, String categoria,
+                            LocalDate dataInicio, LocalDate dataFim) {
+        adicionar("t.idUsuario = :idUsuario", "idUsuario", idUsuario);
+        adicionar("t.tipoTransacao = :tipo", "tipo", tipo);
+        // Coberto pelo índice de função IDX_TRANSACAO_CATEGORIA_UPPER
+        adicionar("UPPER(t.categoria) = :categoria", "categoria",
+                  categoria == null || categoria.isBlank() ? null : categoria.trim().toUpperCase(Locale.ROOT));
+        adicionar("t.data >= :dataInicio", "dataInicio", dataInicio);
+        adicionar("t.data <= :dataFim", "dataFim", dataFim);
+    }
+
+    private void adicionar(String condicao, String parametro, Object valor) {
+        if (valor == null) {
+            return;
+        }
+        clausulaWhere.append(clausulaWhere.length() == 0 ? "WHERE " : " AND ").append(condicao);
+        parametros.put(parametro, valor);
+    }
+
+    // Vazia quando nenhum filtro foi informado
+    public String getClausulaWhere() {
+        return clausulaWhere.toString();
+    }
+
+    public Map<String, Object> getParametros() {
+        return parametros;
+    }
+}
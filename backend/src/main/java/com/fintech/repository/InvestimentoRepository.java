@@ -1,22 +1,68 @@
 package com.fintech.repository;
 
+import com.fintech.dto.InvestimentoDTO;
 import com.fintech.entity.Investimento;
 import com.fintech.enums.TipoInvestimento;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface InvestimentoRepository extends JpaRepository<Investimento, Long> {
 
+    // Leituras da API: ativo, resgatado e renda fixa/variável são calculados no construtor do DTO
+    String SELECT_DTO = "SELECT new com.fintech.dto.InvestimentoDTO(i.idInvestimento, i.idUsuario, " +
+        "i.tipo, i.valorInvestido, i.dataAplicacao, i.dataResgate) FROM Investimento i ";
+
+    // Filtros opcionais da listagem global; situacao 'A' = ativo (não resgatado), 'R' = resgatado
+    String FILTROS_LISTAGEM = "WHERE (:idUsuario IS NULL OR i.idUsuario = :idUsuario) " +
+        "AND (:tipo IS NULL OR i.tipo = :tipo) " +
+        "AND (:situacao IS NULL OR (CASE WHEN i.dataResgate IS NULL THEN 'A' ELSE 'R' END) = :situacao)";
+
+    // Métodos findDTO*: já retornam InvestimentoDTO, sem entidade gerenciada
+    @Query(SELECT_DTO + "WHERE i.idInvestimento = :id AND i.idUsuario = :idUsuario")
+    Optional<InvestimentoDTO> findDTOByIdAndUsuario(@Param("id") Long id, @Param("idUsuario") Long idUsuario);
+
+    // Registro do usuário da sessão, para as escritas nas rotas acessadas só pelo ID
+    Optional<Investimento> findByIdInvestimentoAndIdUsuario(Long idInvestimento, Long idUsuario);
+
+    // Listagem global paginada, sem contagem total
+    @Query(SELECT_DTO + FILTROS_LISTAGEM)
+    Slice<InvestimentoDTO> findFatia(
+        @Param("idUsuario") Long idUsuario,
+        @Param("tipo") TipoInvestimento tipo,
+        @Param("situacao") String situacao,
+        Pageable pageable);
+
+    // Leitura em streaming da listagem global (exportação)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT i FROM Investimento i " + FILTROS_LISTAGEM + " ORDER BY i.idInvestimento")
+    Stream<Investimento> streamFiltrados(
+        @Param("idUsuario") Long idUsuario,
+        @Param("tipo") TipoInvestimento tipo,
+        @Param("situacao") String situacao);
+
     // Busca investimentos por usuário
     List<Investimento> findByIdUsuario(Long idUsuario);
 
+    @Query(SELECT_DTO + "WHERE i.idUsuario = :idUsuario")
+    List<InvestimentoDTO> findDTOByUsuario(@Param("idUsuario") Long idUsuario);
+
     // Busca investimentos ativos (não resgatados)
     @Query("SELECT i FROM Investimento i WHERE i.dataResgate IS NULL")
     List<Investimento> findInvestimentosAtivos();
@@ -25,12 +71,18 @@ public interface InvestimentoRepository extends JpaRepository<Investimento, Long
     @Query("SELECT i FROM Investimento i WHERE i.idUsuario = :idUsuario AND i.dataResgate IS NULL")
     List<Investimento> findInvestimentosAtivosByUsuario(@Param("idUsuario") Long idUsuario);
 
+    @Query(SELECT_DTO + "WHERE i.idUsuario = :idUsuario AND i.dataResgate IS NULL")
+    List<InvestimentoDTO> findDTOAtivosByUsuario(@Param("idUsuario") Long idUsuario);
+
     // Busca por tipo de investimento
     List<Investimento> findByTipo(TipoInvestimento tipo);
 
     // Busca por usuário e tipo
     List<Investimento> findByIdUsuarioAndTipo(Long idUsuario, TipoInvestimento tipo);
 
+    @Query(SELECT_DTO + "WHERE i.idUsuario = :idUsuario AND i.tipo = :tipo")
+    List<InvestimentoDTO> findDTOByUsuarioAndTipo(@Param("idUsuario") Long idUsuario, @Param("tipo") TipoInvestimento tipo);
+
     // Busca investimentos por período de aplicação
     List<Investimento> findByDataAplicacaoBetween(LocalDate dataInicio, LocalDate dataFim);
 
@@ -1,29 +1,79 @@
 package com.fintech.repository;
 
+import com.fintech.dto.MetaFinanceiraDTO;
 import com.fintech.entity.MetaFinanceira;
 import com.fintech.enums.CategoriaMeta;
 import com.fintech.enums.StatusMeta;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MetaFinanceiraRepository extends JpaRepository<MetaFinanceira, Long> {
 
+    // Leituras da API sem entidade gerenciada; os campos calculados são preenchidos no construtor do DTO
+    String SELECT_DTO = "SELECT new com.fintech.dto.MetaFinanceiraDTO(m.idMeta, m.idUsuario, m.nome, " +
+        "m.descricao, m.categoria, m.valorNecessario, m.valorAcumulado, m.dataLimite, m.dataCriacao, m.status) " +
+        "FROM MetaFinanceira m ";
+
+    // Filtros opcionais da listagem global: parâmetro nulo não restringe
+    String FILTROS_LISTAGEM = "WHERE (:idUsuario IS NULL OR m.idUsuario = :idUsuario) " +
+        "AND (:status IS NULL OR m.status = :status) " +
+        "AND (:categoria IS NULL OR m.categoria = :categoria)";
+
+    // Leituras da API (findDTO*) em MetaFinanceiraDTO
+    @Query(SELECT_DTO + "WHERE m.idMeta = :id AND m.idUsuario = :idUsuario")
+    Optional<MetaFinanceiraDTO> findDTOByIdAndUsuario(@Param("id") Long id, @Param("idUsuario") Long idUsuario);
+
+    // Registro do usuário da sessão, para as escritas nas rotas acessadas só pelo ID
+    Optional<MetaFinanceira> findByIdMetaAndIdUsuario(Long idMeta, Long idUsuario);
+
+    // Listagem global paginada, sem contagem total
+    @Query(SELECT_DTO + FILTROS_LISTAGEM)
+    Slice<MetaFinanceiraDTO> findFatia(
+        @Param("idUsuario") Long idUsuario,
+        @Param("status") StatusMeta status,
+        @Param("categoria") CategoriaMeta categoria,
+        Pageable pageable);
+
+    // Leitura em streaming da listagem global (exportação)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM MetaFinanceira m " + FILTROS_LISTAGEM + " ORDER BY m.idMeta")
+    Stream<MetaFinanceira> streamFiltradas(
+        @Param("idUsuario") Long idUsuario,
+        @Param("status") StatusMeta status,
+        @Param("categoria") CategoriaMeta categoria);
+
     // Busca metas por usuário
     List<MetaFinanceira> findByIdUsuario(Long idUsuario);
 
     // Busca metas por usuário ordenadas por data de criação
     List<MetaFinanceira> findByIdUsuarioOrderByDataCriacaoDesc(Long idUsuario);
 
+    @Query(SELECT_DTO + "WHERE m.idUsuario = :idUsuario ORDER BY m.dataCriacao DESC")
+    List<MetaFinanceiraDTO> findDTOByUsuario(@Param("idUsuario") Long idUsuario);
+
     // Busca metas por status
     List<MetaFinanceira> findByStatus(StatusMeta status);
 
+    @Query(SELECT_DTO + "WHERE m.status = :status")
+    List<MetaFinanceiraDTO> findDTOByStatus(@Param("status") StatusMeta status);
+
     // Busca metas por usuário e status
     List<MetaFinanceira> findByIdUsuarioAndStatus(Long idUsuario, StatusMeta status);
 
@@ -35,6 +85,9 @@ public interface MetaFinanceiraRepository extends JpaRepository<MetaFinanceira,
     @Query("SELECT m FROM MetaFinanceira m WHERE m.idUsuario = :idUsuario AND m.status = 'ATIVA'")
     List<MetaFinanceira> findMetasAtivasByUsuario(@Param("idUsuario") Long idUsuario);
 
+    @Query(SELECT_DTO + "WHERE m.idUsuario = :idUsuario AND m.status = 'ATIVA'")
+    List<MetaFinanceiraDTO> findDTOAtivasByUsuario(@Param("idUsuario") Long idUsuario);
+
     // Busca metas concluídas por usuário
     @Query("SELECT m FROM MetaFinanceira m WHERE m.idUsuario = :idUsuario AND m.status = 'CONCLUIDA'")
     List<MetaFinanceira> findMetasConcluidasByUsuario(@Param("idUsuario") Long idUsuario);
@@ -42,6 +95,9 @@ public interface MetaFinanceiraRepository extends JpaRepository<MetaFinanceira,
     // Busca por categoria
     List<MetaFinanceira> findByCategoria(CategoriaMeta categoria);
 
+    @Query(SELECT_DTO + "WHERE m.categoria = :categoria")
+    List<MetaFinanceiraDTO> findDTOByCategoria(@Param("categoria") CategoriaMeta categoria);
+
     // Busca por usuário e categoria
     List<MetaFinanceira> findByIdUsuarioAndCategoria(Long idUsuario, CategoriaMeta categoria);
 
@@ -0,0 +1,68 @@
+package com.fintech.repository;
+
+import com.fintech.entity.ResumoMensal;
+import com.fintech.entity.ResumoMensalId;
+import com.fintech.enums.TipoTransacao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResumoMensalRepository extends JpaRepository<ResumoMensal, ResumoMensalId> {
+
+    // Soma a variação ao resumo do mês, criando a linha quando ainda não existe (um único comando, via JDBC)
+    // Parâmetros: ID_USUARIO, ANO_MES, TIPO_TRANSACAO, CATEGORIA, variação do total e da quantidade (duas vezes)
+    String SQL_APLICAR_DELTA = "MERGE INTO TB_RESUMO_MENSAL r " +
+        "USING (SELECT CAST(? AS NUMBER(19)) AS ID_USUARIO, CAST(? AS NUMBER(6)) AS ANO_MES, " +
+        "       CAST(? AS VARCHAR2(20)) AS TIPO_TRANSACAO, CAST(? AS VARCHAR2(50)) AS CATEGORIA, " +
+        "       CAST(? AS NUMBER(16, 2)) AS DELTA_TOTAL, CAST(? AS NUMBER(19)) AS DELTA_QUANTIDADE FROM DUAL) d " +
+        "ON (r.ID_USUARIO = d.ID_USUARIO AND r.ANO_MES = d.ANO_MES AND r.TIPO_TRANSACAO = d.TIPO_TRANSACAO AND r.CATEGORIA = d.CATEGORIA) " +
+        "WHEN MATCHED THEN UPDATE SET r.TOTAL = r.TOTAL + d.DELTA_TOTAL, r.QUANTIDADE = r.QUANTIDADE + d.DELTA_QUANTIDADE " +
+        "WHEN NOT MATCHED THEN INSERT (ID_USUARIO, ANO_MES, TIPO_TRANSACAO, CATEGORIA, TOTAL, QUANTIDADE) " +
+        "VALUES (d.ID_USUARIO, d.ANO_MES, d.TIPO_TRANSACAO, d.CATEGORIA, d.DELTA_TOTAL, d.DELTA_QUANTIDADE)";
+
+    // Mesma variação sobre uma linha que já existe, para quando o INSERT do MERGE perde para outra transação
+    // Parâmetros: variação do total e da quantidade, ID_USUARIO, ANO_MES, TIPO_TRANSACAO, CATEGORIA
+    String SQL_SOMAR_DELTA = "UPDATE TB_RESUMO_MENSAL SET TOTAL = TOTAL + ?, QUANTIDADE = QUANTIDADE + ? " +
+        "WHERE ID_USUARIO = ? AND ANO_MES = ? AND TIPO_TRANSACAO = ? AND CATEGORIA = ?";
+
+    // Remove a linha do mês, tipo e categoria quando fica sem transações após uma exclusão
+    @Modifying
+    @Query("DELETE FROM ResumoMensal r WHERE r.idUsuario = :idUsuario AND r.anoMes = :anoMes " +
+           "AND r.tipoTransacao = :tipo AND r.categoria = :categoria AND r.quantidade <= 0")
+    int deleteSeVazio(
+        @Param("idUsuario") Long idUsuario,
+        @Param("anoMes") Integer anoMes,
+        @Param("tipo") TipoTransacao tipo,
+        @Param("categoria") String categoria);
+
+    @Modifying
+    @Query("DELETE FROM ResumoMensal r WHERE r.idUsuario = :idUsuario")
+    int deleteByIdUsuario(@Param("idUsuario") Long idUsuario);
+
+    // Recalcula todos os meses do usuário a partir de TB_TRANSACAO
+    @Modifying
+    @Query(value = "INSERT INTO TB_RESUMO_MENSAL (ID_USUARIO, ANO_MES, TIPO_TRANSACAO, CATEGORIA, TOTAL, QUANTIDADE) " +
+                   "SELECT ID_USUARIO, EXTRACT(YEAR FROM DATA_TRANSACAO) * 100 + EXTRACT(MONTH FROM DATA_TRANSACAO), " +
+                   "TIPO_TRANSACAO, CATEGORIA, SUM(VALOR), COUNT(*) " +
+                   "FROM TB_TRANSACAO WHERE ID_USUARIO = :idUsuario " +
+                   "GROUP BY ID_USUARIO, EXTRACT(YEAR FROM DATA_TRANSACAO) * 100 + EXTRACT(MONTH FROM DATA_TRANSACAO), " +
+                   "TIPO_TRANSACAO, CATEGORIA",
+           nativeQuery = true)
+    int inserirResumosDoHistorico(@Param("idUsuario") Long idUsuario);
+
+    // Totais por tipo nos meses completos do intervalo (anoMes no formato yyyymm)
+    @Query("SELECT r.tipoTransacao, SUM(r.total), SUM(r.quantidade) FROM ResumoMensal r " +
+           "WHERE r.idUsuario = :idUsuario AND r.anoMes BETWEEN :anoMesInicio AND :anoMesFim " +
+           "GROUP BY r.tipoTransacao")
+    List<Object[]> somarPorTipoEntreMeses(
+        @Param("idUsuario") Long idUsuario,
+        @Param("anoMesInicio") Integer anoMesInicio,
+        @Param("anoMesFim") Integer anoMesFim);
+
+    List<ResumoMensal> findByIdUsuarioOrderByAnoMesAscTipoTransacaoAscCategoriaAsc(Long idUsuario);
+}
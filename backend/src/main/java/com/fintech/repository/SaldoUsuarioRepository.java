@@ -0,0 +1,54 @@
+package com.fintech.repository;
+
+import com.fintech.entity.SaldoUsuario;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SaldoUsuarioRepository extends JpaRepository<SaldoUsuario, Long> {
+
+    // Aplica a variação de uma escrita de transação de forma atômica (UPDATE relativo, sem leitura prévia)
+    @Modifying
+    @Query("UPDATE SaldoUsuario s SET s.saldo = s.saldo + :deltaSaldo, " +
+           "s.totalReceitas = s.totalReceitas + :deltaReceitas, " +
+           "s.totalDespesas = s.totalDespesas + :deltaDespesas, " +
+           "s.quantidadeTransacoes = s.quantidadeTransacoes + :deltaQuantidade, " +
+           "s.dataAtualizacao = CURRENT_TIMESTAMP " +
+           "WHERE s.idUsuario = :idUsuario")
+    int aplicarDelta(
+        @Param("idUsuario") Long idUsuario,
+        @Param("deltaSaldo") BigDecimal deltaSaldo,
+        @Param("deltaReceitas") BigDecimal deltaReceitas,
+        @Param("deltaDespesas") BigDecimal deltaDespesas,
+        @Param("deltaQuantidade") Long deltaQuantidade);
+
+    // Bloqueia o saldo do usuário durante a reconstrução
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SaldoUsuario s WHERE s.idUsuario = :idUsuario")
+    Optional<SaldoUsuario> findByIdUsuarioForUpdate(@Param("idUsuario") Long idUsuario);
+
+    // Bloqueia o usuário enquanto o seu registro de saldo ainda não existe
+    @Query(value = "SELECT ID_USUARIO FROM TB_USUARIO WHERE ID_USUARIO = :idUsuario FOR UPDATE", nativeQuery = true)
+    Long bloquearUsuario(@Param("idUsuario") Long idUsuario);
+
+    // Usuários sem registro de saldo
+    @Query("SELECT u.idUsuario FROM Usuario u WHERE NOT EXISTS (SELECT 1 FROM SaldoUsuario s WHERE s.idUsuario = u.idUsuario)")
+    List<Long> findUsuariosSemSaldo();
+
+    // Saldos divergentes do recalculado a partir de TB_TRANSACAO
+    @Query("SELECT s.idUsuario FROM SaldoUsuario s WHERE " +
+           "s.quantidadeTransacoes <> (SELECT COUNT(t) FROM Transacao t WHERE t.idUsuario = s.idUsuario) " +
+           "OR s.saldo <> (SELECT COALESCE(SUM(CASE WHEN t.tipoTransacao = 'CREDITO' THEN t.valor ELSE -t.valor END), 0) FROM Transacao t WHERE t.idUsuario = s.idUsuario) " +
+           "OR s.totalReceitas <> (SELECT COALESCE(SUM(t.valor), 0) FROM Transacao t WHERE t.idUsuario = s.idUsuario AND t.tipoTransacao = 'CREDITO') " +
+           "OR s.totalDespesas <> (SELECT COALESCE(SUM(t.valor), 0) FROM Transacao t WHERE t.idUsuario = s.idUsuario AND t.tipoTransacao = 'DEBITO')")
+    List<Long> findSaldosDivergentes();
+}
@@ -0,0 +1,46 @@
+package com.fintech.repository;
+
+import com.fintech.entity.Sequencias;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reserva de IDs para inserções via JDBC fora do Hibernate
+ * Usa a mesma semântica do otimizador pooled: o valor v retornado por NEXTVAL
+ * reserva o bloco (v - INCREMENTO, v], de modo que os IDs nunca colidem com os gerados pelas entidades
+ */
+@Repository
+public class SequenciaRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Bloco corrente por sequence: {próximo ID, último ID do bloco}
+    private final Map<String, long[]> blocos = new HashMap<>();
+
+    public synchronized long[] reservarIds(String sequencia, int quantidade) {
+        long[] ids = new long[quantidade];
+        long[] bloco = blocos.computeIfAbsent(sequencia, s -> new long[] {1, 0});
+        
+        for (int i = 0; i < quantidade; i++) {
+            if (bloco[0] > bloco[1]) {
+                long valor = proximoValor(sequencia);
+                bloco[0] = Math.max(valor - Sequencias.INCREMENTO + 1, 1);
+                bloco[1] = valor;
+            }
+            ids[i] = bloco[0]++;
+        }
+        return ids;
+    }
+
+    private long proximoValor(String sequencia) {
+        if (!sequencia.matches("[A-Z_]+")) {
+            throw new IllegalArgumentException("Nome de sequence inválido: " + sequencia);
+        }
+        return jdbcTemplate.queryForObject("SELECT " + sequencia + ".NEXTVAL FROM DUAL", Long.class);
+    }
+}
@@ -1,18 +1,37 @@
 package com.fintech.repository;
 
+import com.fintech.dto.ResumoCategoriaDTO;
+import com.fintech.dto.TransacaoDTO;
 import com.fintech.entity.Transacao;
 import com.fintech.enums.TipoTransacao;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TransacaoRepository extends JpaRepository<Transacao, Long> {
+public interface TransacaoRepository extends JpaRepository<Transacao, Long>, TransacaoRepositoryCustom {
+
+    // TransacaoDTO montado direto no SELECT, sem entidade gerenciada no contexto de persistência
+    String SELECT_DTO = "SELECT new com.fintech.dto.TransacaoDTO(t.idTransacao, t.idUsuario, " +
+        "t.tipoTransacao, t.categoria, t.descricao, t.valor, t.data) FROM Transacao t ";
+
+    // Leituras da API (findDTO*) em TransacaoDTO
+    @Query(SELECT_DTO + "WHERE t.idTransacao = :id AND t.idUsuario = :idUsuario")
+    Optional<TransacaoDTO> findDTOByIdAndUsuario(@Param("id") Long id, @Param("idUsuario") Long idUsuario);
+
+    // Registro do usuário da sessão, para as escritas nas rotas acessadas só pelo ID
+    Optional<Transacao> findByIdTransacaoAndIdUsuario(Long idTransacao, Long idUsuario);
 
     // Busca transações por usuário
     List<Transacao> findByIdUsuario(Long idUsuario);
@@ -20,21 +39,66 @@ public interface TransacaoRepository extends JpaRepository<Transacao, Long> {
     // Busca transações por usuário ordenadas por data (mais recentes primeiro)
     List<Transacao> findByIdUsuarioOrderByDataDesc(Long idUsuario);
 
+    // Histórico do usuário para a API (mesma ordem de findByIdUsuarioOrderByDataDesc)
+    @Query(SELECT_DTO + "WHERE t.idUsuario = :idUsuario ORDER BY t.data DESC")
+    List<TransacaoDTO> findDTOByUsuario(@Param("idUsuario") Long idUsuario);
+
+    // Paginação keyset: primeira página do histórico do usuário
+    @Query(SELECT_DTO + "WHERE t.idUsuario = :idUsuario ORDER BY t.data DESC, t.idTransacao DESC")
+    List<TransacaoDTO> findPrimeiraPaginaByUsuario(@Param("idUsuario") Long idUsuario, Limit limite);
+
+    // Paginação keyset: itens posteriores à chave (data, id) do cursor, sem OFFSET
+    // O intervalo em DATA_TRANSACAO permite o uso do índice IDX_TRANSACAO_USUARIO_DATA
+    @Query(SELECT_DTO + "WHERE t.idUsuario = :idUsuario AND t.data <= :data AND (t.data < :data OR t.idTransacao < :idTransacao) " +
+           "ORDER BY t.data DESC, t.idTransacao DESC")
+    List<TransacaoDTO> findPaginaAposCursorByUsuario(
+        @Param("idUsuario") Long idUsuario,
+        @Param("data") LocalDate data,
+        @Param("idTransacao") Long idTransacao,
+        Limit limite);
+
+    // Leitura em streaming do histórico completo do usuário (exportação)
+    // Fetch size ampliado reduz idas ao banco; read-only dispensa snapshots de dirty checking
+    // A resposta é escrita de forma assíncrona: o tempo limite da exportação fica em ExportacaoConfig
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transacao t WHERE t.idUsuario = :idUsuario ORDER BY t.data DESC, t.idTransacao DESC")
+    Stream<Transacao> streamByIdUsuario(@Param("idUsuario") Long idUsuario);
+
     // Busca transações por tipo
     List<Transacao> findByTipoTransacao(TipoTransacao tipoTransacao);
 
     // Busca transações por usuário e tipo
     List<Transacao> findByIdUsuarioAndTipoTransacao(Long idUsuario, TipoTransacao tipoTransacao);
 
+    @Query(SELECT_DTO + "WHERE t.idUsuario = :idUsuario AND t.tipoTransacao = :tipo")
+    List<TransacaoDTO> findDTOByUsuarioAndTipo(@Param("idUsuario") Long idUsuario, @Param("tipo") TipoTransacao tipo);
+
     // Busca transações por categoria
     List<Transacao> findByCategoriaIgnoreCase(String categoria);
 
+    // Coberto pelo índice de função IDX_TRANSACAO_CATEGORIA_UPPER
+    @Query(SELECT_DTO + "WHERE UPPER(t.categoria) = UPPER(:categoria)")
+    List<TransacaoDTO> findDTOByCategoria(@Param("categoria") String categoria);
+
     // Busca transações por período
     List<Transacao> findByDataBetween(LocalDate dataInicio, LocalDate dataFim);
 
+    @Query(SELECT_DTO + "WHERE t.data BETWEEN :dataInicio AND :dataFim")
+    List<TransacaoDTO> findDTOByPeriodo(@Param("dataInicio") LocalDate dataInicio, @Param("dataFim") LocalDate dataFim);
+
     // Busca transações por usuário e período
     List<Transacao> findByIdUsuarioAndDataBetween(Long idUsuario, LocalDate dataInicio, LocalDate dataFim);
 
+    // Intervalo em DATA_TRANSACAO com o usuário: índice IDX_TRANSACAO_USUARIO_DATA
+    @Query(SELECT_DTO + "WHERE t.idUsuario = :idUsuario AND t.data BETWEEN :dataInicio AND :dataFim")
+    List<TransacaoDTO> findDTOByUsuarioAndPeriodo(
+        @Param("idUsuario") Long idUsuario,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim);
+
     // Queries agregadas - Somatórias
     @Query("SELECT SUM(t.valor) FROM Transacao t WHERE t.idUsuario = :idUsuario AND t.tipoTransacao = :tipo")
     BigDecimal sumValoresByUsuarioAndTipo(@Param("idUsuario") Long idUsuario, @Param("tipo") TipoTransacao tipo);
@@ -46,10 +110,26 @@ public interface TransacaoRepository extends JpaRepository<Transacao, Long> {
         @Param("dataInicio") LocalDate dataInicio, 
         @Param("dataFim") LocalDate dataFim);
 
+    // Totais por tipo em um intervalo de datas (usado nas bordas de meses parciais do relatório por período)
+    @Query("SELECT t.tipoTransacao, SUM(t.valor), COUNT(t) FROM Transacao t " +
+           "WHERE t.idUsuario = :idUsuario AND t.data BETWEEN :dataInicio AND :dataFim " +
+           "GROUP BY t.tipoTransacao")
+    List<Object[]> somarPorTipoNoPeriodo(
+        @Param("idUsuario") Long idUsuario,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim);
+
     // Saldo do usuário (receitas - despesas)
     @Query("SELECT COALESCE(SUM(CASE WHEN t.tipoTransacao = 'CREDITO' THEN t.valor ELSE -t.valor END), 0) FROM Transacao t WHERE t.idUsuario = :idUsuario")
     BigDecimal calcularSaldoUsuario(@Param("idUsuario") Long idUsuario);
 
+    // Totais consolidados do usuário: saldo, receitas, despesas e quantidade de transações
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.tipoTransacao = 'CREDITO' THEN t.valor ELSE -t.valor END), 0), " +
+           "COALESCE(SUM(CASE WHEN t.tipoTransacao = 'CREDITO' THEN t.valor ELSE 0 END), 0), " +
+           "COALESCE(SUM(CASE WHEN t.tipoTransacao = 'DEBITO' THEN t.valor ELSE 0 END), 0), " +
+           "COUNT(t) FROM Transacao t WHERE t.idUsuario = :idUsuario")
+    List<Object[]> calcularTotaisUsuario(@Param("idUsuario") Long idUsuario);
+
     // Gastos por categoria
     @Query("SELECT t.categoria, SUM(t.valor) FROM Transacao t WHERE t.idUsuario = :idUsuario AND t.tipoTransacao = 'DEBITO' GROUP BY t.categoria ORDER BY SUM(t.valor) DESC")
     List<Object[]> sumGastosPorCategoria(@Param("idUsuario") Long idUsuario);
@@ -57,4 +137,15 @@ public interface TransacaoRepository extends JpaRepository<Transacao, Long> {
     // Receitas por categoria
     @Query("SELECT t.categoria, SUM(t.valor) FROM Transacao t WHERE t.idUsuario = :idUsuario AND t.tipoTransacao = 'CREDITO' GROUP BY t.categoria ORDER BY SUM(t.valor) DESC")
     List<Object[]> sumReceitasPorCategoria(@Param("idUsuario") Long idUsuario);
+
+    // Receitas e despesas por categoria, com quantidade, em uma única consulta agrupada
+    @Query("SELECT new com.fintech.dto.ResumoCategoriaDTO(t.categoria, t.tipoTransacao, SUM(t.valor), COUNT(t)) FROM Transacao t WHERE t.idUsuario = :idUsuario AND t.tipoTransacao IN ('CREDITO', 'DEBITO') GROUP BY t.categoria, t.tipoTransacao ORDER BY SUM(t.valor) DESC")
+    List<ResumoCategoriaDTO> resumirPorCategoria(@Param("idUsuario") Long idUsuario);
+
+    // Mesmo resumo restrito a um período (usa o índice IDX_TRANSACAO_USUARIO_DATA)
+    @Query("SELECT new com.fintech.dto.ResumoCategoriaDTO(t.categoria, t.tipoTransacao, SUM(t.valor), COUNT(t)) FROM Transacao t WHERE t.idUsuario = :idUsuario AND t.data BETWEEN :dataInicio AND :dataFim AND t.tipoTransacao IN ('CREDITO', 'DEBITO') GROUP BY t.categoria, t.tipoTransacao ORDER BY SUM(t.valor) DESC")
+    List<ResumoCategoriaDTO> resumirPorCategoriaNoPeriodo(
+        @Param("idUsuario") Long idUsuario,
+        @Param("dataInicio") LocalDate dataInicio,
+        @Param("dataFim") LocalDate dataFim);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.fintech.repository;
+
+import com.fintech.dto.TransacaoDTO;
+import com.fintech.entity.Transacao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.stream.Stream;
+
+// Consultas da listagem global montadas a partir dos filtros informados (TransacaoRepositoryImpl)
+public interface TransacaoRepositoryCustom {
+
+    // Listagem global paginada; Slice busca um item a mais em vez de contar a tabela
+    Slice<TransacaoDTO> findFatia(FiltrosTransacao filtros, Pageable pageable);
+
+    // Leitura em streaming da listagem global (exportação), na ordem da chave primária
+    Stream<Transacao> streamFiltradas(FiltrosTransacao filtros);
+}
@@ -0,0 +1,53 @@
+package com.fintech.repository;
+
+import com.fintech.dto.TransacaoDTO;
+import com.fintech.entity.Transacao;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+class TransacaoRepositoryImpl implements TransacaoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<TransacaoDTO> findFatia(FiltrosTransacao filtros, Pageable pageable) {
+        StringBuilder jpql = new StringBuilder(TransacaoRepository.SELECT_DTO).append(filtros.getClausulaWhere());
+        // Os campos de ordenação já foram validados por Paginacao
+        String separador = " ORDER BY ";
+        for (Sort.Order ordem : pageable.getSort()) {
+            jpql.append(separador).append("t.").append(ordem.getProperty()).append(' ').append(ordem.getDirection());
+            separador = ", ";
+        }
+
+        TypedQuery<TransacaoDTO> query = entityManager.createQuery(jpql.toString(), TransacaoDTO.class);
+        filtros.getParametros().forEach(query::setParameter);
+        // Uma linha a mais indica se existe próxima página
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<TransacaoDTO> linhas = query.getResultList();
+
+        boolean temMais = linhas.size() > pageable.getPageSize();
+        return new SliceImpl<>(temMais ? linhas.subList(0, pageable.getPageSize()) : linhas, pageable, temMais);
+    }
+
+    @Override
+    public Stream<Transacao> streamFiltradas(FiltrosTransacao filtros) {
+        TypedQuery<Transacao> query = entityManager.createQuery(
+            "SELECT t FROM Transacao t " + filtros.getClausulaWhere() + " ORDER BY t.idTransacao", Transacao.class);
+        filtros.getParametros().forEach(query::setParameter);
+        // Mesmas dicas das demais leituras em streaming: fetch size ampliado e sem snapshots de dirty checking
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, 500);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+}
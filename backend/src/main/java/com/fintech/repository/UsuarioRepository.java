@@ -1,9 +1,15 @@
 package com.fintech.repository;
 
+import com.fintech.config.CacheSegundoNivelConfig;
 import com.fintech.entity.Usuario;
 import com.fintech.enums.Genero;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,11 +17,46 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
 
+    // Filtros opcionais da listagem global; ativo recebe 'S' ou 'N'
+    String FILTROS_LISTAGEM = "WHERE (:ativo IS NULL OR u.ativo = :ativo) " +
+        "AND (:genero IS NULL OR u.genero = :genero)";
+
+    // Listagem global paginada, sem contagem total
+    @Query("SELECT u FROM Usuario u " + FILTROS_LISTAGEM)
+    Slice<Usuario> findFatia(
+        @Param("ativo") Character ativo,
+        @Param("genero") Genero genero,
+        Pageable pageable);
+
+    // Leitura em streaming da listagem global (exportação)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM Usuario u " + FILTROS_LISTAGEM + " ORDER BY u.idUsuario")
+    Stream<Usuario> streamFiltrados(
+        @Param("ativo") Character ativo,
+        @Param("genero") Genero genero);
+
+    // Consultas quentes (login, existência) guardadas no cache de consultas: o resultado guarda só os IDs
+    // e as entidades vêm da região de Usuario; qualquer escrita em TB_USUARIO pelo Hibernate invalida
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.REGIAO_CONSULTAS_USUARIO)
+    })
+    @Override
+    boolean existsById(Long id);
+
     // Busca por email (único)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.REGIAO_CONSULTAS_USUARIO)
+    })
     Optional<Usuario> findByEmail(String email);
 
     // Verifica se existe usuário com email
@@ -46,6 +87,10 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     List<Usuario> findUsuariosNovos(@Param("dataLimite") LocalDateTime dataLimite);
 
     // Busca para autenticação
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.REGIAO_CONSULTAS_USUARIO)
+    })
     @Query("SELECT u FROM Usuario u WHERE u.email = :email AND u.ativo = 'S'")
     Optional<Usuario> findByEmailAndAtivo(@Param("email") String email);
 
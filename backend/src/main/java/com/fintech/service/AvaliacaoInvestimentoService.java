@@ -0,0 +1,143 @@
+package com.fintech.service;
+
+import com.fintech.avaliacao.LoteAvaliacao;
+import com.fintech.avaliacao.MotorAvaliacao;
+import com.fintech.cache.UsuarioExistenciaCache;
+import com.fintech.dto.ValorCarteiraDTO;
+import com.fintech.entity.Investimento;
+import com.fintech.enums.TipoInvestimento;
+import com.fintech.repository.AvaliacaoInvestimentoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Avaliações dos investimentos (TB_AVALIACAO_INVESTIMENTO)
+ * Cada escrita de investimento grava a avaliação na mesma transação; a reavaliação em lote
+ * (AvaliacaoInvestimentoJob) atualiza o valor de todos para o dia corrente.
+ */
+@Service
+@Transactional
+public class AvaliacaoInvestimentoService {
+
+    @Autowired
+    private AvaliacaoInvestimentoRepository avaliacaoInvestimentoRepository;
+
+    @Autowired
+    private MotorAvaliacao motorAvaliacao;
+
+    @Autowired
+    private UsuarioExistenciaCache usuarioExistenciaCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${fintech.avaliacao.tamanho-lote:1000}")
+    private int tamanhoLote;
+
+    public void registrarAvaliacao(Investimento investimento) {
+        LocalDate dataReferencia = dataReferencia(investimento.getDataResgate(), LocalDate.now());
+        BigDecimal valorAtual = motorAvaliacao.avaliar(investimento.getTipo(), investimento.getValorInvestido(),
+            investimento.getDataAplicacao(), dataReferencia);
+        // O INSERT do investimento recém-salvo precisa chegar ao banco antes do MERGE (chave estrangeira)
+        avaliacaoInvestimentoRepository.flush();
+        jdbcTemplate.update(AvaliacaoInvestimentoRepository.SQL_GRAVAR,
+            investimento.getIdInvestimento(), Date.valueOf(dataReferencia), valorAtual);
+    }
+
+    public void removerAvaliacao(Long idInvestimento) {
+        avaliacaoInvestimentoRepository.deleteByIdInvestimento(idInvestimento);
+    }
+
+    @Transactional(readOnly = true)
+    public ValorCarteiraDTO calcularValorCarteira(Long idUsuario) {
+        if (idUsuario == null) {
+            throw new IllegalArgumentException("ID do usuário é obrigatório");
+        }
+        if (!usuarioExistenciaCache.existe(idUsuario)) {
+            throw new RuntimeException("Usuário não encontrado com ID: " + idUsuario);
+        }
+
+        ValorCarteiraDTO valor = avaliacaoInvestimentoRepository.calcularValorCarteira(idUsuario);
+        valor.setIdUsuario(idUsuario);
+        return valor;
+    }
+
+    // Reavaliação em lote: páginas de tamanhoLote investimentos, cada uma em sua própria transação
+    // Sem "completa", pula os que já foram avaliados na data de referência e pode ser retomada após uma falha
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reavaliar(boolean completa) {
+        LocalDate hoje = LocalDate.now();
+        Date dataReavaliacao = Date.valueOf(hoje);
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        LoteAvaliacao lote = new LoteAvaliacao(tamanhoLote);
+        long ultimoId = 0;
+        int avaliados = 0;
+
+        do {
+            lote.limpar();
+            long inicioPagina = ultimoId;
+            transacao.executeWithoutResult(status -> {
+                jdbcTemplate.query(AvaliacaoInvestimentoRepository.SQL_PENDENTES, rs -> {
+                    Date resgate = rs.getDate(5);
+                    lote.adicionar(rs.getLong(1), TipoInvestimento.valueOf(rs.getString(2)),
+                        rs.getBigDecimal(3).movePointRight(2).longValueExact(), rs.getDate(4).toLocalDate(),
+                        dataReferencia(resgate != null ? resgate.toLocalDate() : null, hoje));
+                }, inicioPagina, completa ? 1 : 0, dataReavaliacao, dataReavaliacao, tamanhoLote);
+
+                if (lote.getTamanho() > 0) {
+                    motorAvaliacao.avaliar(lote);
+                    jdbcTemplate.batchUpdate(AvaliacaoInvestimentoRepository.SQL_GRAVAR, new LoteGravacao(lote));
+                }
+            });
+
+            if (lote.getTamanho() > 0) {
+                ultimoId = lote.getId(lote.getTamanho() - 1);
+                avaliados += lote.getTamanho();
+            }
+        } while (lote.isCheio());
+
+        return avaliados;
+    }
+
+    // Resgatados ficam com o valor da data de resgate
+    private static LocalDate dataReferencia(LocalDate dataResgate, LocalDate hoje) {
+        return dataResgate != null && dataResgate.isBefore(hoje) ? dataResgate : hoje;
+    }
+
+    private static final class LoteGravacao implements BatchPreparedStatementSetter {
+
+        private final LoteAvaliacao lote;
+
+        private LoteGravacao(LoteAvaliacao lote) {
+            this.lote = lote;
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            ps.setLong(1, lote.getId(i));
+            ps.setDate(2, Date.valueOf(lote.getDataReferencia(i)));
+            ps.setBigDecimal(3, lote.getValorAtual(i));
+        }
+
+        @Override
+        public int getBatchSize() {
+            return lote.getTamanho();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.fintech.service;
+
+import com.fintech.dto.DashboardDTO;
+import com.fintech.dto.ResumoCategoriaDTO;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.repository.DashboardRepository;
+import com.fintech.repository.TransacaoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class DashboardService {
+
+    @Autowired
+    private DashboardRepository dashboardRepository;
+    
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+
+    public DashboardDTO obterDashboard(Long idUsuario) {
+        if (idUsuario == null) {
+            throw new IllegalArgumentException("ID do usuário é obrigatório");
+        }
+        
+        // A própria consulta agregada confirma a existência do usuário
+        List<Object[]> resultado = dashboardRepository.resumoFinanceiro(idUsuario);
+        if (resultado.isEmpty()) {
+            throw new RuntimeException("Usuário não encontrado com ID: " + idUsuario);
+        }
+        
+        Object[] linha = resultado.get(0);
+        DashboardDTO dashboard = new DashboardDTO();
+        dashboard.setIdUsuario(idUsuario);
+        if (linha[3] != null) {
+            dashboard.setTotalReceitas(toBigDecimal(linha[1]));
+            dashboard.setTotalDespesas(toBigDecimal(linha[2]));
+            dashboard.setSaldo(toBigDecimal(linha[3]));
+        } else {
+            // Sem saldo consolidado: agrega diretamente as transações
+            Object[] totais = transacaoRepository.calcularTotaisUsuario(idUsuario).get(0);
+            dashboard.setSaldo(toBigDecimal(totais[0]));
+            dashboard.setTotalReceitas(toBigDecimal(totais[1]));
+            dashboard.setTotalDespesas(toBigDecimal(totais[2]));
+        }
+        dashboard.setTotalInvestidoAtivo(toBigDecimal(linha[4]));
+        dashboard.setValorAtualInvestimentos(toBigDecimal(linha[8]));
+        dashboard.setMetasAtivas(toLong(linha[5]));
+        dashboard.setMetasConcluidas(toLong(linha[6]));
+        dashboard.setPercentualMetasConcluidas(calcularPercentual(toLong(linha[6]), toLong(linha[7])));
+        
+        for (ResumoCategoriaDTO resumo : transacaoRepository.resumirPorCategoria(idUsuario)) {
+            if (resumo.getTipoTransacao() == TipoTransacao.CREDITO) {
+                dashboard.getReceitasPorCategoria().add(resumo);
+            } else {
+                dashboard.getDespesasPorCategoria().add(resumo);
+            }
+        }
+        
+        return dashboard;
+    }
+
+    private BigDecimal calcularPercentual(long parte, long total) {
+        if (total == 0) {
+            return BigDecimal.ZERO;
+        }
+        
+        return BigDecimal.valueOf(parte)
+                .multiply(new BigDecimal("100"))
+                .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+    }
+
+    // Conversões dos valores retornados pela consulta nativa (tipos variam conforme o driver)
+    private BigDecimal toBigDecimal(Object valor) {
+        if (valor == null) {
+            return BigDecimal.ZERO;
+        }
+        if (valor instanceof BigDecimal) {
+            return (BigDecimal) valor;
+        }
+        return new BigDecimal(valor.toString());
+    }
+
+    private long toLong(Object valor) {
+        return valor != null ? ((Number) valor).longValue() : 0L;
+    }
+}
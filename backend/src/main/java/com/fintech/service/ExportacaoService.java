@@ -0,0 +1,212 @@
+package com.fintech.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.cache.UsuarioExistenciaCache;
+import com.fintech.entity.Investimento;
+import com.fintech.entity.MetaFinanceira;
+import com.fintech.entity.Transacao;
+import com.fintech.entity.Usuario;
+import com.fintech.enums.CategoriaMeta;
+import com.fintech.enums.FormatoExportacao;
+import com.fintech.enums.Genero;
+import com.fintech.enums.StatusMeta;
+import com.fintech.enums.TipoInvestimento;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.mapper.InvestimentoMapper;
+import com.fintech.mapper.MetaFinanceiraMapper;
+import com.fintech.mapper.TransacaoMapper;
+import com.fintech.mapper.UsuarioMapper;
+import com.fintech.repository.FiltrosTransacao;
+import com.fintech.repository.InvestimentoRepository;
+import com.fintech.repository.MetaFinanceiraRepository;
+import com.fintech.repository.TransacaoRepository;
+import com.fintech.repository.UsuarioRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de extratos e das listagens globais em streaming
+ * Os registros são lidos por cursor e escritos direto na resposta, sem montar listas em memória
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportacaoService {
+
+    private static final String CABECALHO_CSV = "idTransacao,data,tipoTransacao,categoria,descricao,valor";
+    private static final int LINHAS_POR_FLUSH = 500;
+
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+    
+    @Autowired
+    private InvestimentoRepository investimentoRepository;
+    
+    @Autowired
+    private MetaFinanceiraRepository metaRepository;
+    
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+    
+    @Autowired
+    private UsuarioExistenciaCache usuarioExistenciaCache;
+    
+    @Autowired
+    private TransacaoMapper transacaoMapper;
+    
+    @Autowired
+    private InvestimentoMapper investimentoMapper;
+    
+    @Autowired
+    private MetaFinanceiraMapper metaMapper;
+    
+    @Autowired
+    private UsuarioMapper usuarioMapper;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void validarExportacao(Long idUsuario) {
+        if (idUsuario == null) {
+            throw new IllegalArgumentException("ID do usuário é obrigatório");
+        }
+        
+        if (!usuarioExistenciaCache.existe(idUsuario)) {
+            throw new RuntimeException("Usuário não encontrado com ID: " + idUsuario);
+        }
+    }
+
+    public long exportarTransacoesUsuario(Long idUsuario, FormatoExportacao formato, OutputStream saida) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        long linhas = 0;
+        
+        try (Stream<Transacao> transacoes = transacaoRepository.streamByIdUsuario(idUsuario)) {
+            if (formato == FormatoExportacao.CSV) {
+                writer.write(CABECALHO_CSV);
+                writer.write('\n');
+            }
+            
+            Iterator<Transacao> iterator = transacoes.iterator();
+            while (iterator.hasNext()) {
+                Transacao transacao = iterator.next();
+                escreverLinha(writer, transacao, formato);
+                
+                // Remove a entidade do contexto de persistência para manter o heap constante
+                entityManager.detach(transacao);
+                
+                if (++linhas % LINHAS_POR_FLUSH == 0) {
+                    writer.flush();
+                }
+            }
+            
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao escrever exportação de transações", e);
+        }
+        
+        return linhas;
+    }
+
+    // Exportações globais (NDJSON), com os mesmos filtros das listagens paginadas
+    public long exportarTransacoes(Long idUsuario, TipoTransacao tipo, String categoria,
+                                   LocalDate dataInicio, LocalDate dataFim, OutputStream saida) {
+        try (Stream<Transacao> transacoes = transacaoRepository.streamFiltradas(
+                new FiltrosTransacao(idUsuario, tipo, categoria, dataInicio, dataFim))) {
+            return escreverNdjson(transacoes, transacaoMapper::toDTO, saida);
+        }
+    }
+
+    public long exportarInvestimentos(Long idUsuario, TipoInvestimento tipo, Boolean ativo, OutputStream saida) {
+        try (Stream<Investimento> investimentos = investimentoRepository.streamFiltrados(
+                idUsuario, tipo, InvestimentoService.situacao(ativo))) {
+            return escreverNdjson(investimentos, investimentoMapper::toDTO, saida);
+        }
+    }
+
+    public long exportarMetas(Long idUsuario, StatusMeta status, CategoriaMeta categoria, OutputStream saida) {
+        try (Stream<MetaFinanceira> metas = metaRepository.streamFiltradas(idUsuario, status, categoria)) {
+            return escreverNdjson(metas, metaMapper::toDTO, saida);
+        }
+    }
+
+    // Usuários saem pelo DTO, sem a senha
+    public long exportarUsuarios(Boolean ativo, Genero genero, OutputStream saida) {
+        Character filtroAtivo = ativo == null ? null : (ativo ? 'S' : 'N');
+        try (Stream<Usuario> usuarios = usuarioRepository.streamFiltrados(filtroAtivo, genero)) {
+            return escreverNdjson(usuarios, usuarioMapper::toDTO, saida);
+        }
+    }
+
+    private <E> long escreverNdjson(Stream<E> entidades, Function<E, ?> conversor, OutputStream saida) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        long linhas = 0;
+        
+        try {
+            Iterator<E> iterator = entidades.iterator();
+            while (iterator.hasNext()) {
+                E entidade = iterator.next();
+                writer.write(objectMapper.writeValueAsString(conversor.apply(entidade)));
+                writer.write('\n');
+                entityManager.detach(entidade);
+                
+                if (++linhas % LINHAS_POR_FLUSH == 0) {
+                    writer.flush();
+                }
+            }
+            
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao escrever exportação", e);
+        }
+        
+        return linhas;
+    }
+
+    private void escreverLinha(Writer writer, Transacao transacao, FormatoExportacao formato) throws IOException {
+        if (formato == FormatoExportacao.CSV) {
+            writer.write(String.valueOf(transacao.getIdTransacao()));
+            writer.write(',');
+            writer.write(String.valueOf(transacao.getData()));
+            writer.write(',');
+            writer.write(transacao.getTipoTransacao().name());
+            writer.write(',');
+            writer.write(escaparCsv(transacao.getCategoria()));
+            writer.write(',');
+            writer.write(escaparCsv(transacao.getDescricao()));
+            writer.write(',');
+            writer.write(transacao.getValor().toPlainString());
+        } else {
+            writer.write(objectMapper.writeValueAsString(transacaoMapper.toDTO(transacao)));
+        }
+        writer.write('\n');
+    }
+
+    private String escaparCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
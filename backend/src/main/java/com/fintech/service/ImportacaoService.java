@@ -0,0 +1,243 @@
+package com.fintech.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.busca.IndiceBuscaTransacoes;
+import com.fintech.cache.UsuarioExistenciaCache;
+import com.fintech.cache.VersaoRecursosUsuario;
+import com.fintech.dto.ResultadoImportacaoDTO;
+import com.fintech.dto.TransacaoDTO;
+import com.fintech.entity.Sequencias;
+import com.fintech.entity.Transacao;
+import com.fintech.repository.SequenciaRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em lote de transações de um usuário
+ * Aceita um array JSON ou NDJSON (um objeto por linha) lido de forma incremental,
+ * grava via JDBC batch em lotes de tamanho configurável, cada lote em sua própria transação
+ */
+@Service
+public class ImportacaoService {
+
+    private static final String SQL_INSERIR_TRANSACAO =
+        "INSERT INTO TB_TRANSACAO (ID_TRANSACAO, ID_USUARIO, TIPO_TRANSACAO, CATEGORIA, DESCRICAO, VALOR, DATA_TRANSACAO) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int TAMANHO_LOTE_MAXIMO = 5000;
+
+    @Value("${fintech.importacao.tamanho-lote:500}")
+    private int tamanhoLotePadrao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private UsuarioExistenciaCache usuarioExistenciaCache;
+    
+    @Autowired
+    private SequenciaRepository sequenciaRepository;
+    
+    @Autowired
+    private SaldoUsuarioService saldoUsuarioService;
+    
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+    
+    @Autowired
+    private IndiceBuscaTransacoes indiceBuscaTransacoes;
+    
+    @Autowired
+    private VersaoRecursosUsuario versaoRecursosUsuario;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Transactional(readOnly = true)
+    public void validarImportacao(Long idUsuario) {
+        if (idUsuario == null) {
+            throw new IllegalArgumentException("ID do usuário é obrigatório");
+        }
+        
+        if (!usuarioExistenciaCache.existe(idUsuario)) {
+            throw new RuntimeException("Usuário não encontrado com ID: " + idUsuario);
+        }
+    }
+
+    public ResultadoImportacaoDTO importarTransacoes(Long idUsuario, InputStream entrada) {
+        return importarTransacoes(idUsuario, entrada, null);
+    }
+
+    // Cada lote é confirmado separadamente; um lote rejeitado pelo banco é regravado linha a linha
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResultadoImportacaoDTO importarTransacoes(Long idUsuario, InputStream entrada, Integer tamanhoLote) {
+        // Existência do usuário verificada uma única vez para toda a importação
+        validarImportacao(idUsuario);
+        int tamanho = normalizarTamanhoLote(tamanhoLote);
+        long inicio = System.nanoTime();
+        
+        ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO(idUsuario);
+        List<Transacao> lote = new ArrayList<>(tamanho);
+        List<Long> linhasLote = new ArrayList<>(tamanho);
+        long linha = 0;
+        
+        try (MappingIterator<TransacaoDTO> iterador = objectMapper.readerFor(TransacaoDTO.class).readValues(entrada)) {
+            while (true) {
+                linha++;
+                TransacaoDTO dto;
+                try {
+                    if (!iterador.hasNextValue()) {
+                        linha--;
+                        break;
+                    }
+                    dto = iterador.nextValue();
+                } catch (JsonParseException e) {
+                    // JSON malformado: não é possível localizar as linhas seguintes com segurança
+                    resultado.adicionarErro(linha, "JSON inválido: " + e.getOriginalMessage());
+                    break;
+                } catch (JsonMappingException e) {
+                    resultado.adicionarErro(linha, "Campo inválido: " + e.getOriginalMessage());
+                    continue;
+                }
+                
+                String erro = validarLinha(idUsuario, dto);
+                if (erro != null) {
+                    resultado.adicionarErro(linha, erro);
+                    continue;
+                }
+                
+                lote.add(toTransacao(idUsuario, dto));
+                linhasLote.add(linha);
+                if (lote.size() >= tamanho) {
+                    gravarLote(idUsuario, lote, linhasLote, resultado);
+                    lote.clear();
+                    linhasLote.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Erro ao ler transações da importação: " + e.getMessage(), e);
+        } finally {
+            // Linhas já validadas são gravadas mesmo se a leitura for interrompida
+            if (!lote.isEmpty()) {
+                gravarLote(idUsuario, lote, linhasLote, resultado);
+            }
+        }
+        
+        long duracaoNanos = System.nanoTime() - inicio;
+        resultado.setTotalLinhas(linha);
+        resultado.setDuracaoMs(duracaoNanos / 1_000_000);
+        resultado.setLinhasPorSegundo(duracaoNanos > 0 ? resultado.getImportadas() * 1_000_000_000L / duracaoNanos : 0);
+        return resultado;
+    }
+
+    private void gravarLote(Long idUsuario, List<Transacao> lote, List<Long> linhasLote, ResultadoImportacaoDTO resultado) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        try {
+            transacao.executeWithoutResult(status -> inserirLote(idUsuario, lote));
+            resultado.setImportadas(resultado.getImportadas() + lote.size());
+        } catch (DataAccessException e) {
+            // Isola as linhas recusadas pelo banco sem descartar o restante do lote
+            for (int i = 0; i < lote.size(); i++) {
+                List<Transacao> unitario = List.of(lote.get(i));
+                try {
+                    transacao.executeWithoutResult(status -> inserirLote(idUsuario, unitario));
+                    resultado.setImportadas(resultado.getImportadas() + 1);
+                } catch (DataAccessException erroLinha) {
+                    resultado.adicionarErro(linhasLote.get(i), 
+                        "Erro ao gravar transação: " + erroLinha.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void inserirLote(Long idUsuario, List<Transacao> lote) {
+        // Um NEXTVAL a cada Sequencias.INCREMENTO linhas
+        long[] ids = sequenciaRepository.reservarIds(Sequencias.TRANSACAO, lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            lote.get(i).setIdTransacao(ids[i]);
+        }
+        
+        jdbcTemplate.batchUpdate(SQL_INSERIR_TRANSACAO, lote, lote.size(), (ps, transacao) -> {
+            ps.setLong(1, transacao.getIdTransacao());
+            ps.setLong(2, idUsuario);
+            ps.setString(3, transacao.getTipoTransacao().name());
+            ps.setString(4, transacao.getCategoria());
+            ps.setString(5, transacao.getDescricao());
+            ps.setBigDecimal(6, transacao.getValor());
+            ps.setDate(7, Date.valueOf(transacao.getData()));
+        });
+        
+        // Saldo consolidado, resumos mensais, índice de busca e versão da lista atualizados uma vez por lote
+        saldoUsuarioService.registrarInclusoes(idUsuario, lote);
+        resumoMensalService.registrarInclusoes(idUsuario, lote);
+        indiceBuscaTransacoes.registrarInclusoes(idUsuario, lote);
+        versaoRecursosUsuario.registrarAlteracao(idUsuario, VersaoRecursosUsuario.Recurso.TRANSACOES);
+    }
+
+    private String validarLinha(Long idUsuario, TransacaoDTO dto) {
+        if (dto == null) {
+            return "Transação não pode ser nula";
+        }
+        
+        // O usuário da importação prevalece sobre o informado na linha
+        dto.setIdUsuario(idUsuario);
+        Set<ConstraintViolation<TransacaoDTO>> violacoes = validator.validate(dto);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        
+        return violacoes.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private Transacao toTransacao(Long idUsuario, TransacaoDTO dto) {
+        Transacao transacao = new Transacao();
+        transacao.setIdUsuario(idUsuario);
+        transacao.setTipoTransacao(dto.getTipoTransacao());
+        transacao.setCategoria(dto.getCategoria().trim());
+        transacao.setDescricao(dto.getDescricao());
+        transacao.setValor(dto.getValor());
+        transacao.setData(dto.getData());
+        return transacao;
+    }
+
+    private int normalizarTamanhoLote(Integer tamanhoLote) {
+        if (tamanhoLote == null) {
+            return Math.min(Math.max(tamanhoLotePadrao, 1), TAMANHO_LOTE_MAXIMO);
+        }
+        
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser maior que zero");
+        }
+        
+        return Math.min(tamanhoLote, TAMANHO_LOTE_MAXIMO);
+    }
+}
@@ -1,16 +1,27 @@
 package com.fintech.service;
 
+import com.fintech.cache.UsuarioExistenciaCache;
+import com.fintech.cache.VersaoRecursosUsuario;
+import com.fintech.dto.FatiaDTO;
+import com.fintech.dto.InvestimentoDTO;
 import com.fintech.entity.Investimento;
 import com.fintech.enums.TipoInvestimento;
+import com.fintech.projecao.ConsultaProjecao;
+import com.fintech.projecao.Projecao;
 import com.fintech.repository.InvestimentoRepository;
-import com.fintech.repository.UsuarioRepository;
+import com.fintech.util.Paginacao;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -20,14 +31,42 @@ public class InvestimentoService {
     private InvestimentoRepository investimentoRepository;
     
     @Autowired
-    private UsuarioRepository usuarioRepository;
+    private UsuarioExistenciaCache usuarioExistenciaCache;
+    
+    @Autowired
+    private VersaoRecursosUsuario versaoRecursosUsuario;
+    
+    @Autowired
+    private ConsultaProjecao consultaProjecao;
+    
+    @Autowired
+    private AvaliacaoInvestimentoService avaliacaoInvestimentoService;
+
+    // Listagens globais: tamanho limitado e ordenação estável
+    private static final Paginacao PAGINACAO_GLOBAL = new Paginacao("idInvestimento", "dataAplicacao", Sort.Direction.DESC,
+        Set.of("idInvestimento", "dataAplicacao", "valorInvestido", "tipo", "idUsuario"));
+
+    private static final Projecao<Investimento> PROJECAO = new Projecao<>("Investimento", "i", Investimento::new)
+        .coluna("idInvestimento", Investimento::setIdInvestimento, Investimento::getIdInvestimento)
+        .coluna("idUsuario", Investimento::setIdUsuario, Investimento::getIdUsuario)
+        .coluna("tipo", Investimento::setTipo, Investimento::getTipo)
+        .coluna("valorInvestido", Investimento::setValorInvestido, Investimento::getValorInvestido)
+        .coluna("dataAplicacao", Investimento::setDataAplicacao, Investimento::getDataAplicacao)
+        .coluna("dataResgate", Investimento::setDataResgate, Investimento::getDataResgate)
+        .calculado("resgatado", Investimento::isResgatado, "dataResgate")
+        .calculado("ativo", Investimento::isAtivo, "dataAplicacao", "dataResgate")
+        .calculado("rendaFixa", Investimento::isRendaFixa, "tipo")
+        .calculado("rendaVariavel", Investimento::isRendaVariavel, "tipo");
 
     // CRUD Básico
     public Investimento salvar(Investimento investimento) {
         validarInvestimento(investimento);
         validarUsuarioExiste(investimento.getIdUsuario());
         
-        return investimentoRepository.save(investimento);
+        Investimento salvo = investimentoRepository.save(investimento);
+        avaliacaoInvestimentoService.registrarAvaliacao(salvo);
+        registrarAlteracao(salvo.getIdUsuario());
+        return salvo;
     }
 
     public Investimento atualizar(Investimento investimento) {
@@ -38,66 +77,89 @@ public class InvestimentoService {
         validarInvestimento(investimento);
         validarUsuarioExiste(investimento.getIdUsuario());
         
-        return investimentoRepository.save(investimento);
+        buscarEntidade(investimento.getIdInvestimento(), investimento.getIdUsuario());
+        
+        Investimento atualizado = investimentoRepository.save(investimento);
+        avaliacaoInvestimentoService.registrarAvaliacao(atualizado);
+        registrarAlteracao(atualizado.getIdUsuario());
+        return atualizado;
     }
 
     @Transactional(readOnly = true)
-    public Investimento buscarPorId(Long id) {
-        return investimentoRepository.findById(id)
+    public InvestimentoDTO buscarPorId(Long id, Long idUsuario) {
+        return investimentoRepository.findDTOByIdAndUsuario(id, idUsuario)
                 .orElseThrow(() -> new RuntimeException("Investimento não encontrado com ID: " + id));
     }
 
     @Transactional(readOnly = true)
-    public List<Investimento> listarTodos() {
-        return investimentoRepository.findAll();
+    public FatiaDTO<?> listar(Long idUsuario, TipoInvestimento tipo, Boolean ativo, String campos,
+                              Integer pagina, Integer tamanho, String ordenarPor, String direcao) {
+        Pageable pageable = PAGINACAO_GLOBAL.criar(pagina, tamanho, ordenarPor, direcao);
+        if (campos == null || campos.isBlank()) {
+            return new FatiaDTO<>(investimentoRepository.findFatia(idUsuario, tipo, situacao(ativo), pageable));
+        }
+        
+        Map<String, Object> parametros = new HashMap<>();
+        parametros.put("idUsuario", idUsuario);
+        parametros.put("tipo", tipo);
+        parametros.put("situacao", situacao(ativo));
+        return new FatiaDTO<>(consultaProjecao.buscar(PROJECAO, PROJECAO.interpretar(campos),
+            InvestimentoRepository.FILTROS_LISTAGEM, parametros, pageable));
     }
 
-    public void deletar(Long id) {
-        Investimento investimento = buscarPorId(id);
+    public void deletar(Long id, Long idUsuario) {
+        Investimento investimento = buscarEntidade(id, idUsuario);
+        avaliacaoInvestimentoService.removerAvaliacao(id);
         investimentoRepository.delete(investimento);
+        registrarAlteracao(investimento.getIdUsuario());
     }
 
     // Busca por usuário
     @Transactional(readOnly = true)
-    public List<Investimento> listarPorUsuario(Long idUsuario) {
+    public List<InvestimentoDTO> listarPorUsuario(Long idUsuario) {
         validarUsuarioExiste(idUsuario);
-        return investimentoRepository.findByIdUsuario(idUsuario);
+        return investimentoRepository.findDTOByUsuario(idUsuario);
     }
 
     // Gestão de investimentos ativos/resgatados
     @Transactional(readOnly = true)
-    public List<Investimento> listarInvestimentosAtivos() {
-        return investimentoRepository.findInvestimentosAtivos();
+    public FatiaDTO<?> listarInvestimentosAtivos(Long idUsuario, String campos, Integer pagina, Integer tamanho,
+                                                 String ordenarPor, String direcao) {
+        return listar(idUsuario, null, true, campos, pagina, tamanho, ordenarPor, direcao);
     }
 
     @Transactional(readOnly = true)
-    public List<Investimento> listarInvestimentosAtivosPorUsuario(Long idUsuario) {
+    public List<InvestimentoDTO> listarInvestimentosAtivosPorUsuario(Long idUsuario) {
         validarUsuarioExiste(idUsuario);
-        return investimentoRepository.findInvestimentosAtivosByUsuario(idUsuario);
+        return investimentoRepository.findDTOAtivosByUsuario(idUsuario);
     }
 
     // Resgate de investimento
-    public Investimento resgatar(Long id) {
-        Investimento investimento = buscarPorId(id);
+    public Investimento resgatar(Long id, Long idUsuario) {
+        Investimento investimento = buscarEntidade(id, idUsuario);
         
         if (investimento.isResgatado()) {
             throw new IllegalStateException("Investimento já foi resgatado");
         }
         
         investimento.setDataResgate(LocalDate.now());
-        return investimentoRepository.save(investimento);
+        Investimento resgatado = investimentoRepository.save(investimento);
+        avaliacaoInvestimentoService.registrarAvaliacao(resgatado);
+        registrarAlteracao(resgatado.getIdUsuario());
+        return resgatado;
     }
 
     // Busca por tipo
     @Transactional(readOnly = true)
-    public List<Investimento> listarPorTipo(TipoInvestimento tipo) {
-        return investimentoRepository.findByTipo(tipo);
+    public FatiaDTO<?> listarPorTipo(Long idUsuario, TipoInvestimento tipo, String campos, Integer pagina, Integer tamanho,
+                                     String ordenarPor, String direcao) {
+        return listar(idUsuario, tipo, null, campos, pagina, tamanho, ordenarPor, direcao);
     }
 
     @Transactional(readOnly = true)
-    public List<Investimento> listarPorUsuarioETipo(Long idUsuario, TipoInvestimento tipo) {
+    public List<InvestimentoDTO> listarPorUsuarioETipo(Long idUsuario, TipoInvestimento tipo) {
         validarUsuarioExiste(idUsuario);
-        return investimentoRepository.findByIdUsuarioAndTipo(idUsuario, tipo);
+        return investimentoRepository.findDTOByUsuarioAndTipo(idUsuario, tipo);
     }
 
     // Cálculos financeiros
@@ -108,6 +170,7 @@ public class InvestimentoService {
         return total != null ? total : BigDecimal.ZERO;
     }
 
+    // Valor aplicado, sem rendimentos; o valor atual vem de AvaliacaoInvestimentoService.calcularValorCarteira
     @Transactional(readOnly = true)
     public BigDecimal calcularTotalInvestidoAtivo(Long idUsuario) {
         validarUsuarioExiste(idUsuario);
@@ -154,12 +217,30 @@ public class InvestimentoService {
         }
     }
 
+    // Investimento de outro usuário é tratado como inexistente
+    private Investimento buscarEntidade(Long id, Long idUsuario) {
+        return investimentoRepository.findByIdInvestimentoAndIdUsuario(id, idUsuario)
+                .orElseThrow(() -> new RuntimeException("Investimento não encontrado com ID: " + id));
+    }
+
+    private void registrarAlteracao(Long idUsuario) {
+        versaoRecursosUsuario.registrarAlteracao(idUsuario, VersaoRecursosUsuario.Recurso.INVESTIMENTOS);
+    }
+
+    // Situação usada nos filtros do repositório: 'A' ativo, 'R' resgatado
+    static String situacao(Boolean ativo) {
+        if (ativo == null) {
+            return null;
+        }
+        return ativo ? "A" : "R";
+    }
+
     private void validarUsuarioExiste(Long idUsuario) {
         if (idUsuario == null) {
             throw new IllegalArgumentException("ID do usuário é obrigatório");
         }
         
-        if (!usuarioRepository.existsById(idUsuario)) {
+        if (!usuarioExistenciaCache.existe(idUsuario)) {
             throw new RuntimeException("Usuário não encontrado com ID: " + idUsuario);
         }
     }
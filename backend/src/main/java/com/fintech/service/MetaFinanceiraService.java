@@ -1,17 +1,28 @@
 package com.fintech.service;
 
+import com.fintech.cache.UsuarioExistenciaCache;
+import com.fintech.cache.VersaoRecursosUsuario;
+import com.fintech.dto.FatiaDTO;
+import com.fintech.dto.MetaFinanceiraDTO;
 import com.fintech.entity.MetaFinanceira;
 import com.fintech.enums.CategoriaMeta;
 import com.fintech.enums.StatusMeta;
+import com.fintech.projecao.ConsultaProjecao;
+import com.fintech.projecao.Projecao;
 import com.fintech.repository.MetaFinanceiraRepository;
-import com.fintech.repository.UsuarioRepository;
+import com.fintech.util.Paginacao;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -21,14 +32,44 @@ public class MetaFinanceiraService {
     private MetaFinanceiraRepository metaRepository;
     
     @Autowired
-    private UsuarioRepository usuarioRepository;
+    private UsuarioExistenciaCache usuarioExistenciaCache;
+    
+    @Autowired
+    private VersaoRecursosUsuario versaoRecursosUsuario;
+    
+    @Autowired
+    private ConsultaProjecao consultaProjecao;
+
+    // Campos aceitos na ordenação da listagem global
+    private static final Paginacao PAGINACAO_GLOBAL = new Paginacao("idMeta", "dataCriacao", Sort.Direction.DESC,
+        Set.of("idMeta", "dataCriacao", "dataLimite", "valorNecessario", "nome", "idUsuario"));
+
+    // Os campos calculados (percentual, dias restantes...) só executam quando pedidos em ?fields=
+    private static final Projecao<MetaFinanceira> PROJECAO = new Projecao<>("MetaFinanceira", "m", MetaFinanceira::new)
+        .coluna("idMeta", MetaFinanceira::setIdMeta, MetaFinanceira::getIdMeta)
+        .coluna("idUsuario", MetaFinanceira::setIdUsuario, MetaFinanceira::getIdUsuario)
+        .coluna("nome", MetaFinanceira::setNome, MetaFinanceira::getNome)
+        .coluna("descricao", MetaFinanceira::setDescricao, MetaFinanceira::getDescricao)
+        .coluna("categoria", MetaFinanceira::setCategoria, MetaFinanceira::getCategoria)
+        .coluna("valorNecessario", MetaFinanceira::setValorNecessario, MetaFinanceira::getValorNecessario)
+        .coluna("valorAcumulado", MetaFinanceira::setValorAcumulado, MetaFinanceira::getValorAcumulado)
+        .coluna("dataLimite", MetaFinanceira::setDataLimite, MetaFinanceira::getDataLimite)
+        .coluna("dataCriacao", MetaFinanceira::setDataCriacao, MetaFinanceira::getDataCriacao)
+        .coluna("status", MetaFinanceira::setStatus, MetaFinanceira::getStatus)
+        .calculado("percentualAlcancado", MetaFinanceira::getPercentualAlcancado, "valorAcumulado", "valorNecessario")
+        .calculado("valorRestante", MetaFinanceira::getValorRestante, "valorAcumulado", "valorNecessario")
+        .calculado("diasRestantes", MetaFinanceira::getDiasRestantes, "dataLimite")
+        .calculado("vencida", MetaFinanceira::isVencida, "dataLimite", "status")
+        .calculado("concluida", MetaFinanceira::isConcluida, "status", "valorAcumulado", "valorNecessario");
 
     // CRUD Básico
     public MetaFinanceira salvar(MetaFinanceira meta) {
         validarMeta(meta);
         validarUsuarioExiste(meta.getIdUsuario());
         
-        return metaRepository.save(meta);
+        MetaFinanceira salva = metaRepository.save(meta);
+        registrarAlteracao(salva.getIdUsuario());
+        return salva;
     }
 
     public MetaFinanceira atualizar(MetaFinanceira meta) {
@@ -39,36 +80,52 @@ public class MetaFinanceiraService {
         validarMeta(meta);
         validarUsuarioExiste(meta.getIdUsuario());
         
-        return metaRepository.save(meta);
+        buscarEntidade(meta.getIdMeta(), meta.getIdUsuario());
+        
+        MetaFinanceira atualizada = metaRepository.save(meta);
+        registrarAlteracao(atualizada.getIdUsuario());
+        return atualizada;
     }
 
     @Transactional(readOnly = true)
-    public MetaFinanceira buscarPorId(Long id) {
-        return metaRepository.findById(id)
+    public MetaFinanceiraDTO buscarPorId(Long id, Long idUsuario) {
+        return metaRepository.findDTOByIdAndUsuario(id, idUsuario)
                 .orElseThrow(() -> new RuntimeException("Meta não encontrada com ID: " + id));
     }
 
     @Transactional(readOnly = true)
-    public List<MetaFinanceira> listarTodas() {
-        return metaRepository.findAll();
+    public FatiaDTO<?> listar(Long idUsuario, StatusMeta status, CategoriaMeta categoria, String campos,
+                              Integer pagina, Integer tamanho, String ordenarPor, String direcao) {
+        Pageable pageable = PAGINACAO_GLOBAL.criar(pagina, tamanho, ordenarPor, direcao);
+        if (campos == null || campos.isBlank()) {
+            return new FatiaDTO<>(metaRepository.findFatia(idUsuario, status, categoria, pageable));
+        }
+        
+        Map<String, Object> parametros = new HashMap<>();
+        parametros.put("idUsuario", idUsuario);
+        parametros.put("status", status);
+        parametros.put("categoria", categoria);
+        return new FatiaDTO<>(consultaProjecao.buscar(PROJECAO, PROJECAO.interpretar(campos),
+            MetaFinanceiraRepository.FILTROS_LISTAGEM, parametros, pageable));
     }
 
-    public void deletar(Long id) {
-        MetaFinanceira meta = buscarPorId(id);
+    public void deletar(Long id, Long idUsuario) {
+        MetaFinanceira meta = buscarEntidade(id, idUsuario);
         metaRepository.delete(meta);
+        registrarAlteracao(meta.getIdUsuario());
     }
 
     // Busca por usuário
     @Transactional(readOnly = true)
-    public List<MetaFinanceira> listarPorUsuario(Long idUsuario) {
+    public List<MetaFinanceiraDTO> listarPorUsuario(Long idUsuario) {
         validarUsuarioExiste(idUsuario);
-        return metaRepository.findByIdUsuarioOrderByDataCriacaoDesc(idUsuario);
+        return metaRepository.findDTOByUsuario(idUsuario);
     }
 
     // Busca por status
     @Transactional(readOnly = true)
-    public List<MetaFinanceira> listarPorStatus(StatusMeta status) {
-        return metaRepository.findByStatus(status);
+    public List<MetaFinanceiraDTO> listarPorStatus(StatusMeta status) {
+        return metaRepository.findDTOByStatus(status);
     }
 
     @Transactional(readOnly = true)
@@ -79,14 +136,15 @@ public class MetaFinanceiraService {
 
     // Metas ativas
     @Transactional(readOnly = true)
-    public List<MetaFinanceira> listarMetasAtivas() {
-        return metaRepository.findMetasAtivas();
+    public FatiaDTO<?> listarMetasAtivas(Long idUsuario, String campos, Integer pagina, Integer tamanho,
+                                         String ordenarPor, String direcao) {
+        return listar(idUsuario, StatusMeta.ATIVA, null, campos, pagina, tamanho, ordenarPor, direcao);
     }
 
     @Transactional(readOnly = true)
-    public List<MetaFinanceira> listarMetasAtivasPorUsuario(Long idUsuario) {
+    public List<MetaFinanceiraDTO> listarMetasAtivasPorUsuario(Long idUsuario) {
         validarUsuarioExiste(idUsuario);
-        return metaRepository.findMetasAtivasByUsuario(idUsuario);
+        return metaRepository.findDTOAtivasByUsuario(idUsuario);
     }
 
     // Metas concluídas
@@ -98,8 +156,8 @@ public class MetaFinanceiraService {
 
     // Busca por categoria
     @Transactional(readOnly = true)
-    public List<MetaFinanceira> listarPorCategoria(CategoriaMeta categoria) {
-        return metaRepository.findByCategoria(categoria);
+    public List<MetaFinanceiraDTO> listarPorCategoria(CategoriaMeta categoria) {
+        return metaRepository.findDTOByCategoria(categoria);
     }
 
     @Transactional(readOnly = true)
@@ -109,12 +167,12 @@ public class MetaFinanceiraService {
     }
 
     // Operações de valor
-    public MetaFinanceira adicionarValor(Long idMeta, BigDecimal valor) {
+    public MetaFinanceira adicionarValor(Long idMeta, Long idUsuario, BigDecimal valor) {
         if (valor == null || valor.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Valor deve ser maior que zero");
         }
         
-        MetaFinanceira meta = buscarPorId(idMeta);
+        MetaFinanceira meta = buscarEntidade(idMeta, idUsuario);
         
         if (!meta.getStatus().isAtiva()) {
             throw new IllegalStateException("Não é possível adicionar valor a uma meta inativa");
@@ -128,7 +186,9 @@ public class MetaFinanceiraService {
             meta.setStatus(StatusMeta.CONCLUIDA);
         }
         
-        return metaRepository.save(meta);
+        MetaFinanceira atualizada = metaRepository.save(meta);
+        registrarAlteracao(atualizada.getIdUsuario());
+        return atualizada;
     }
 
     // Cálculos financeiros
@@ -200,12 +260,23 @@ public class MetaFinanceiraService {
         }
     }
 
+    // Escritas alteram a entidade gerenciada; a leitura pública (buscarPorId) devolve o DTO
+    // Meta de outro usuário é tratada como inexistente
+    private MetaFinanceira buscarEntidade(Long id, Long idUsuario) {
+        return metaRepository.findByIdMetaAndIdUsuario(id, idUsuario)
+                .orElseThrow(() -> new RuntimeException("Meta não encontrada com ID: " + id));
+    }
+
+    private void registrarAlteracao(Long idUsuario) {
+        versaoRecursosUsuario.registrarAlteracao(idUsuario, VersaoRecursosUsuario.Recurso.METAS);
+    }
+
     private void validarUsuarioExiste(Long idUsuario) {
         if (idUsuario == null) {
             throw new IllegalArgumentException("ID do usuário é obrigatório");
         }
         
-        if (!usuarioRepository.existsById(idUsuario)) {
+        if (!usuarioExistenciaCache.existe(idUsuario)) {
             throw new RuntimeException("Usuário não encontrado com ID: " + idUsuario);
         }
     }
@@ -0,0 +1,176 @@
+package com.fintech.service;
+
+import com.fintech.dto.TotaisPeriodoDTO;
+import com.fintech.entity.ResumoMensal;
+import com.fintech.entity.ResumoMensalId;
+import com.fintech.entity.Transacao;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.repository.ResumoMensalRepository;
+import com.fintech.repository.TransacaoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manutenção e consulta dos resumos mensais (TB_RESUMO_MENSAL)
+ * Um período arbitrário é respondido com os meses completos do resumo
+ * mais, no máximo, duas varreduras de TB_TRANSACAO nos meses parciais das bordas
+ */
+@Service
+@Transactional
+public class ResumoMensalService {
+
+    @Autowired
+    private ResumoMensalRepository resumoMensalRepository;
+    
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Efeitos de escrita de transações
+    public void registrarInclusao(Transacao transacao) {
+        aplicarDelta(transacao.getIdUsuario(), ResumoMensal.calcularAnoMes(transacao.getData()),
+            transacao.getTipoTransacao(), transacao.getCategoria(), transacao.getValor(), 1L);
+    }
+
+    public void registrarRemocao(Transacao transacao) {
+        int anoMes = ResumoMensal.calcularAnoMes(transacao.getData());
+        aplicarDelta(transacao.getIdUsuario(), anoMes, transacao.getTipoTransacao(), transacao.getCategoria(),
+            transacao.getValor().negate(), -1L);
+        resumoMensalRepository.deleteSeVazio(transacao.getIdUsuario(), anoMes,
+            transacao.getTipoTransacao(), transacao.getCategoria());
+    }
+
+    // Inclusão em lote: um MERGE por combinação de mês, tipo e categoria
+    public void registrarInclusoes(Long idUsuario, List<Transacao> transacoes) {
+        Map<ResumoMensalId, BigDecimal> totais = new HashMap<>();
+        Map<ResumoMensalId, Long> quantidades = new HashMap<>();
+        for (Transacao transacao : transacoes) {
+            ResumoMensalId chave = new ResumoMensalId(idUsuario, ResumoMensal.calcularAnoMes(transacao.getData()),
+                transacao.getTipoTransacao(), transacao.getCategoria());
+            totais.merge(chave, transacao.getValor(), BigDecimal::add);
+            quantidades.merge(chave, 1L, Long::sum);
+        }
+        
+        for (Map.Entry<ResumoMensalId, BigDecimal> entrada : totais.entrySet()) {
+            ResumoMensalId chave = entrada.getKey();
+            aplicarDelta(idUsuario, chave.getAnoMes(), chave.getTipoTransacao(), chave.getCategoria(),
+                entrada.getValue(), quantidades.get(chave));
+        }
+    }
+
+    // O MERGE não é atômico contra a inserção concorrente da mesma chave: as duas transações podem seguir
+    // pelo WHEN NOT MATCHED e a segunda falha na chave primária (ORA-00001) depois que a primeira confirma.
+    // A falha desfaz só o comando, e a variação é então somada à linha que passou a existir.
+    // Executado via JDBC para que a falha não marque a transação JPA para rollback.
+    private void aplicarDelta(Long idUsuario, int anoMes, TipoTransacao tipo, String categoria,
+                              BigDecimal deltaTotal, long deltaQuantidade) {
+        try {
+            jdbcTemplate.update(ResumoMensalRepository.SQL_APLICAR_DELTA,
+                idUsuario, anoMes, tipo.name(), categoria, deltaTotal, deltaQuantidade);
+        } catch (DuplicateKeyException e) {
+            int atualizadas = jdbcTemplate.update(ResumoMensalRepository.SQL_SOMAR_DELTA,
+                deltaTotal, deltaQuantidade, idUsuario, anoMes, tipo.name(), categoria);
+            if (atualizadas == 0) {
+                throw e;
+            }
+        }
+    }
+
+    public void removerResumos(Long idUsuario) {
+        resumoMensalRepository.deleteByIdUsuario(idUsuario);
+    }
+
+    // Recalcula todos os resumos do usuário a partir do histórico
+    public void reconstruir(Long idUsuario) {
+        transacaoRepository.flush();
+        resumoMensalRepository.deleteByIdUsuario(idUsuario);
+        resumoMensalRepository.inserirResumosDoHistorico(idUsuario);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ResumoMensal> listarResumos(Long idUsuario) {
+        return resumoMensalRepository.findByIdUsuarioOrderByAnoMesAscTipoTransacaoAscCategoriaAsc(idUsuario);
+    }
+
+    // Totais do período: meses completos pelo resumo, meses parciais pelas transações
+    @Transactional(readOnly = true)
+    public TotaisPeriodoDTO calcularTotaisPeriodo(Long idUsuario, LocalDate dataInicio, LocalDate dataFim) {
+        TotaisPeriodoDTO totais = new TotaisPeriodoDTO(idUsuario, dataInicio, dataFim);
+        
+        YearMonth primeiroMesCompleto = dataInicio.getDayOfMonth() == 1 
+            ? YearMonth.from(dataInicio) : YearMonth.from(dataInicio).plusMonths(1);
+        YearMonth ultimoMesCompleto = dataFim.equals(YearMonth.from(dataFim).atEndOfMonth()) 
+            ? YearMonth.from(dataFim) : YearMonth.from(dataFim).minusMonths(1);
+        
+        if (primeiroMesCompleto.isAfter(ultimoMesCompleto)) {
+            // Nenhum mês completo no intervalo: uma única varredura
+            acumular(totais, transacaoRepository.somarPorTipoNoPeriodo(idUsuario, dataInicio, dataFim));
+            return totais;
+        }
+        
+        acumular(totais, resumoMensalRepository.somarPorTipoEntreMeses(
+            idUsuario, calcularAnoMes(primeiroMesCompleto), calcularAnoMes(ultimoMesCompleto)));
+        
+        LocalDate inicioMesesCompletos = primeiroMesCompleto.atDay(1);
+        if (dataInicio.isBefore(inicioMesesCompletos)) {
+            acumular(totais, transacaoRepository.somarPorTipoNoPeriodo(
+                idUsuario, dataInicio, inicioMesesCompletos.minusDays(1)));
+        }
+        
+        LocalDate fimMesesCompletos = ultimoMesCompleto.atEndOfMonth();
+        if (dataFim.isAfter(fimMesesCompletos)) {
+            acumular(totais, transacaoRepository.somarPorTipoNoPeriodo(
+                idUsuario, fimMesesCompletos.plusDays(1), dataFim));
+        }
+        
+        return totais;
+    }
+
+    // Linhas no formato (tipo, soma, quantidade)
+    private void acumular(TotaisPeriodoDTO totais, List<Object[]> linhas) {
+        for (Object[] linha : linhas) {
+            TipoTransacao tipo = (TipoTransacao) linha[0];
+            BigDecimal valor = toBigDecimal(linha[1]);
+            long quantidade = linha[2] != null ? ((Number) linha[2]).longValue() : 0L;
+            
+            if (tipo == TipoTransacao.CREDITO) {
+                totais.setTotalReceitas(totais.getTotalReceitas().add(valor));
+                totais.setSaldo(totais.getSaldo().add(valor));
+            } else {
+                if (tipo == TipoTransacao.DEBITO) {
+                    totais.setTotalDespesas(totais.getTotalDespesas().add(valor));
+                } else {
+                    totais.setTotalTransferencias(totais.getTotalTransferencias().add(valor));
+                }
+                totais.setSaldo(totais.getSaldo().subtract(valor));
+            }
+            totais.setQuantidadeTransacoes(totais.getQuantidadeTransacoes() + quantidade);
+        }
+    }
+
+    private int calcularAnoMes(YearMonth mes) {
+        return mes.getYear() * 100 + mes.getMonthValue();
+    }
+
+    private BigDecimal toBigDecimal(Object valor) {
+        if (valor == null) {
+            return BigDecimal.ZERO;
+        }
+        if (valor instanceof BigDecimal) {
+            return (BigDecimal) valor;
+        }
+        return new BigDecimal(valor.toString());
+    }
+}
@@ -0,0 +1,188 @@
+package com.fintech.service;
+
+import com.fintech.entity.SaldoUsuario;
+import com.fintech.entity.Transacao;
+import com.fintech.enums.TipoTransacao;
+import com.fintech.repository.SaldoUsuarioRepository;
+import com.fintech.repository.TransacaoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Manutenção do saldo consolidado por usuário (TB_SALDO_USUARIO)
+ * As variações são aplicadas na mesma transação da escrita em TB_TRANSACAO
+ */
+@Service
+@Transactional
+public class SaldoUsuarioService {
+
+    @Autowired
+    private SaldoUsuarioRepository saldoUsuarioRepository;
+    
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+    
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Consulta O(1) pela chave primária
+    @Transactional(readOnly = true)
+    public Optional<SaldoUsuario> buscarSaldo(Long idUsuario) {
+        return saldoUsuarioRepository.findById(idUsuario);
+    }
+
+    public void criarSaldoInicial(Long idUsuario) {
+        if (!saldoUsuarioRepository.existsById(idUsuario)) {
+            saldoUsuarioRepository.save(new SaldoUsuario(idUsuario));
+        }
+    }
+
+    public void removerSaldo(Long idUsuario) {
+        saldoUsuarioRepository.deleteById(idUsuario);
+    }
+
+    // Efeitos de escrita de transações
+    public void registrarInclusao(Transacao transacao) {
+        aplicarTransacao(transacao, BigDecimal.ONE);
+    }
+
+    public void registrarRemocao(Transacao transacao) {
+        aplicarTransacao(transacao, BigDecimal.ONE.negate());
+    }
+
+    // Inclusão em lote: uma única atualização com a soma das variações
+    public void registrarInclusoes(Long idUsuario, List<Transacao> transacoes) {
+        if (transacoes.isEmpty()) {
+            return;
+        }
+        
+        BigDecimal deltaSaldo = BigDecimal.ZERO;
+        BigDecimal deltaReceitas = BigDecimal.ZERO;
+        BigDecimal deltaDespesas = BigDecimal.ZERO;
+        for (Transacao transacao : transacoes) {
+            if (transacao.getTipoTransacao() == TipoTransacao.CREDITO) {
+                deltaSaldo = deltaSaldo.add(transacao.getValor());
+                deltaReceitas = deltaReceitas.add(transacao.getValor());
+            } else {
+                deltaSaldo = deltaSaldo.subtract(transacao.getValor());
+                if (transacao.getTipoTransacao() == TipoTransacao.DEBITO) {
+                    deltaDespesas = deltaDespesas.add(transacao.getValor());
+                }
+            }
+        }
+        
+        aplicarDelta(idUsuario, deltaSaldo, deltaReceitas, deltaDespesas, transacoes.size());
+    }
+
+    // Alteração de uma transação: uma única variação líquida (remoção da anterior mais inclusão da nova),
+    // já que a reconstrução de um saldo ausente enxerga a transação alterada e um segundo delta a contaria de novo
+    public void registrarAlteracao(Transacao anterior, Transacao atualizada) {
+        if (!Objects.equals(anterior.getIdUsuario(), atualizada.getIdUsuario())) {
+            registrarRemocao(anterior);
+            registrarInclusao(atualizada);
+            return;
+        }
+        
+        aplicarDelta(atualizada.getIdUsuario(),
+            efeitoNoSaldo(atualizada).subtract(efeitoNoSaldo(anterior)),
+            valorSe(atualizada, TipoTransacao.CREDITO).subtract(valorSe(anterior, TipoTransacao.CREDITO)),
+            valorSe(atualizada, TipoTransacao.DEBITO).subtract(valorSe(anterior, TipoTransacao.DEBITO)),
+            0);
+    }
+
+    public void aplicarDelta(Long idUsuario, BigDecimal deltaSaldo, BigDecimal deltaReceitas,
+                             BigDecimal deltaDespesas, long deltaQuantidade) {
+        int atualizados = saldoUsuarioRepository.aplicarDelta(
+            idUsuario, deltaSaldo, deltaReceitas, deltaDespesas, deltaQuantidade);
+        
+        if (atualizados == 0) {
+            // Usuário sem registro de saldo (gravado fora da aplicação): o registro é criado a partir do histórico,
+            // que após o flush já inclui a escrita atual, e o delta é descartado
+            transacaoRepository.flush();
+            reconstruir(idUsuario);
+        }
+    }
+
+    private void aplicarTransacao(Transacao transacao, BigDecimal sinal) {
+        aplicarDelta(transacao.getIdUsuario(),
+            efeitoNoSaldo(transacao).multiply(sinal),
+            valorSe(transacao, TipoTransacao.CREDITO).multiply(sinal),
+            valorSe(transacao, TipoTransacao.DEBITO).multiply(sinal),
+            sinal.longValue());
+    }
+
+    // Crédito soma ao saldo; débito e transferência subtraem
+    private static BigDecimal efeitoNoSaldo(Transacao transacao) {
+        return transacao.getTipoTransacao() == TipoTransacao.CREDITO ? transacao.getValor() : transacao.getValor().negate();
+    }
+
+    private static BigDecimal valorSe(Transacao transacao, TipoTransacao tipo) {
+        return transacao.getTipoTransacao() == tipo ? transacao.getValor() : BigDecimal.ZERO;
+    }
+
+    // Reconstrução e verificação a partir de TB_TRANSACAO
+    public SaldoUsuario reconstruir(Long idUsuario) {
+        SaldoUsuario saldo = saldoUsuarioRepository.findByIdUsuarioForUpdate(idUsuario).orElse(null);
+        if (saldo == null) {
+            // Sem registro a bloquear: o bloqueio do usuário serializa as criações concorrentes,
+            // e a que esperou encontra o registro já gravado pela outra em vez de inserir a mesma chave
+            saldoUsuarioRepository.bloquearUsuario(idUsuario);
+            saldo = saldoUsuarioRepository.findByIdUsuarioForUpdate(idUsuario)
+                    .orElseGet(() -> new SaldoUsuario(idUsuario));
+        }
+        
+        Object[] totais = transacaoRepository.calcularTotaisUsuario(idUsuario).get(0);
+        saldo.setSaldo(toBigDecimal(totais[0]));
+        saldo.setTotalReceitas(toBigDecimal(totais[1]));
+        saldo.setTotalDespesas(toBigDecimal(totais[2]));
+        saldo.setQuantidadeTransacoes(((Number) totais[3]).longValue());
+        
+        return saldoUsuarioRepository.save(saldo);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> listarSaldosInconsistentes() {
+        Set<Long> usuarios = new LinkedHashSet<>(saldoUsuarioRepository.findUsuariosSemSaldo());
+        usuarios.addAll(saldoUsuarioRepository.findSaldosDivergentes());
+        return List.copyOf(usuarios);
+    }
+
+    // Cada usuário é reconstruído em sua própria transação para não bloquear todos os saldos de uma vez
+    // Divergência no saldo indica escrita fora da aplicação, então os resumos mensais também são recalculados
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int verificarEReconstruir() {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        List<Long> inconsistentes = listarSaldosInconsistentes();
+        for (Long idUsuario : inconsistentes) {
+            transacao.executeWithoutResult(status -> {
+                reconstruir(idUsuario);
+                resumoMensalService.reconstruir(idUsuario);
+            });
+        }
+        return inconsistentes.size();
+    }
+
+    private BigDecimal toBigDecimal(Object valor) {
+        if (valor == null) {
+            return BigDecimal.ZERO;
+        }
+        if (valor instanceof BigDecimal) {
+            return (BigDecimal) valor;
+        }
+        return new BigDecimal(valor.toString());
+    }
+}
@@ -1,16 +1,37 @@
 package com.fintech.service;
 
+import com.fintech.busca.IndiceBuscaTransacoes;
+import com.fintech.cache.UsuarioExistenciaCache;
+import com.fintech.cache.VersaoRecursosUsuario;
+import com.fintech.dto.FatiaDTO;
+import com.fintech.dto.PaginaCursorDTO;
+import com.fintech.dto.PaginaDTO;
+import com.fintech.dto.ResumoCategoriaDTO;
+import com.fintech.dto.TotaisPeriodoDTO;
+import com.fintech.dto.TransacaoDTO;
+import com.fintech.entity.SaldoUsuario;
 import com.fintech.entity.Transacao;
 import com.fintech.enums.TipoTransacao;
+import com.fintech.projecao.ConsultaProjecao;
+import com.fintech.projecao.Projecao;
+import com.fintech.repository.FiltrosTransacao;
 import com.fintech.repository.TransacaoRepository;
-import com.fintech.repository.UsuarioRepository;
+import com.fintech.util.CursorPaginacao;
+import com.fintech.util.Paginacao;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -20,14 +41,52 @@ public class TransacaoService {
     private TransacaoRepository transacaoRepository;
     
     @Autowired
-    private UsuarioRepository usuarioRepository;
+    private UsuarioExistenciaCache usuarioExistenciaCache;
+    
+    @Autowired
+    private SaldoUsuarioService saldoUsuarioService;
+    
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+    
+    @Autowired
+    private IndiceBuscaTransacoes indiceBuscaTransacoes;
+    
+    @Autowired
+    private VersaoRecursosUsuario versaoRecursosUsuario;
+    
+    @Autowired
+    private ConsultaProjecao consultaProjecao;
+
+    // Limites da paginação por cursor
+    private static final int TAMANHO_PAGINA_PADRAO = 20;
+    private static final int TAMANHO_PAGINA_MAXIMO = 100;
+
+    // Listagem global: mesma limitação de tamanho, com ordenação estável pelo ID
+    private static final Paginacao PAGINACAO_GLOBAL = new Paginacao("idTransacao", "data", Sort.Direction.DESC,
+        Set.of("idTransacao", "data", "valor", "categoria", "idUsuario"));
+
+    // Campos disponíveis em ?fields= na listagem global
+    private static final Projecao<Transacao> PROJECAO = new Projecao<>("Transacao", "t", Transacao::new)
+        .coluna("idTransacao", Transacao::setIdTransacao, Transacao::getIdTransacao)
+        .coluna("idUsuario", Transacao::setIdUsuario, Transacao::getIdUsuario)
+        .coluna("tipoTransacao", Transacao::setTipoTransacao, Transacao::getTipoTransacao)
+        .coluna("categoria", Transacao::setCategoria, Transacao::getCategoria)
+        .coluna("descricao", Transacao::setDescricao, Transacao::getDescricao)
+        .coluna("valor", Transacao::setValor, Transacao::getValor)
+        .coluna("data", Transacao::setData, Transacao::getData)
+        .calculado("receita", Transacao::isReceita, "tipoTransacao")
+        .calculado("despesa", Transacao::isDespesa, "tipoTransacao")
+        .calculado("transferencia", Transacao::isTransferencia, "tipoTransacao");
 
     // CRUD Básico
     public Transacao salvar(Transacao transacao) {
         validarTransacao(transacao);
         validarUsuarioExiste(transacao.getIdUsuario());
         
-        return transacaoRepository.save(transacao);
+        Transacao salva = transacaoRepository.save(transacao);
+        registrarInclusao(salva);
+        return salva;
     }
 
     public Transacao atualizar(Transacao transacao) {
@@ -38,67 +97,134 @@ public class TransacaoService {
         validarTransacao(transacao);
         validarUsuarioExiste(transacao.getIdUsuario());
         
-        return transacaoRepository.save(transacao);
+        // Copia os valores anteriores antes do merge, que sobrescreve a entidade gerenciada
+        Transacao anterior = copiarValores(buscarEntidade(transacao.getIdTransacao(), transacao.getIdUsuario()));
+        
+        Transacao atualizada = transacaoRepository.save(transacao);
+        registrarAlteracao(anterior, atualizada);
+        return atualizada;
     }
 
     @Transactional(readOnly = true)
-    public Transacao buscarPorId(Long id) {
-        return transacaoRepository.findById(id)
+    public TransacaoDTO buscarPorId(Long id, Long idUsuario) {
+        return transacaoRepository.findDTOByIdAndUsuario(id, idUsuario)
                 .orElseThrow(() -> new RuntimeException("Transação não encontrada com ID: " + id));
     }
 
     @Transactional(readOnly = true)
-    public List<Transacao> listarTodas() {
-        return transacaoRepository.findAll();
+    public FatiaDTO<?> listar(Long idUsuario, TipoTransacao tipo, String categoria,
+                              LocalDate dataInicio, LocalDate dataFim, String campos,
+                              Integer pagina, Integer tamanho, String ordenarPor, String direcao) {
+        if (dataInicio != null && dataFim != null && dataInicio.isAfter(dataFim)) {
+            throw new IllegalArgumentException("Data de início deve ser anterior à data de fim");
+        }
+        FiltrosTransacao filtros = new FiltrosTransacao(idUsuario, tipo, categoria, dataInicio, dataFim);
+        Pageable pageable = PAGINACAO_GLOBAL.criar(pagina, tamanho, ordenarPor, direcao);
+        
+        if (campos == null || campos.isBlank()) {
+            return new FatiaDTO<>(transacaoRepository.findFatia(filtros, pageable));
+        }
+        
+        // Somente as colunas dos campos pedidos, sem montar entidades gerenciadas
+        return new FatiaDTO<>(consultaProjecao.buscar(PROJECAO, PROJECAO.interpretar(campos),
+            filtros.getClausulaWhere(), filtros.getParametros(), pageable));
     }
 
-    public void deletar(Long id) {
-        Transacao transacao = buscarPorId(id);
+    public void deletar(Long id, Long idUsuario) {
+        Transacao transacao = buscarEntidade(id, idUsuario);
         transacaoRepository.delete(transacao);
+        registrarRemocao(transacao);
     }
 
     // Busca por usuário
     @Transactional(readOnly = true)
-    public List<Transacao> listarPorUsuario(Long idUsuario) {
+    public List<TransacaoDTO> listarPorUsuario(Long idUsuario) {
         validarUsuarioExiste(idUsuario);
-        return transacaoRepository.findByIdUsuarioOrderByDataDesc(idUsuario);
+        return transacaoRepository.findDTOByUsuario(idUsuario);
+    }
+
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<TransacaoDTO> listarPorUsuarioPaginado(Long idUsuario, String cursor, Integer tamanho) {
+        validarUsuarioExiste(idUsuario);
+        int tamanhoPagina = normalizarTamanhoPagina(tamanho);
+        
+        // Busca um item a mais para saber se existe próxima página
+        Limit limite = Limit.of(tamanhoPagina + 1);
+        List<TransacaoDTO> transacoes;
+        if (cursor == null || cursor.isBlank()) {
+            transacoes = transacaoRepository.findPrimeiraPaginaByUsuario(idUsuario, limite);
+        } else {
+            CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+            transacoes = transacaoRepository.findPaginaAposCursorByUsuario(
+                idUsuario, posicao.getData(), posicao.getId(), limite);
+        }
+        
+        String proximoCursor = null;
+        if (transacoes.size() > tamanhoPagina) {
+            transacoes = transacoes.subList(0, tamanhoPagina);
+            TransacaoDTO ultima = transacoes.get(tamanhoPagina - 1);
+            proximoCursor = CursorPaginacao.codificar(ultima.getData(), ultima.getIdTransacao());
+        }
+        
+        return new PaginaCursorDTO<>(transacoes, proximoCursor);
+    }
+
+    // Busca textual em descrição e categoria pelo índice em memória do usuário (carregado sem transação JPA)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PaginaDTO<TransacaoDTO> buscarPorTexto(Long idUsuario, String texto, Integer pagina, Integer tamanho) {
+        validarUsuarioExiste(idUsuario);
+        int numeroPagina = pagina != null ? pagina : 0;
+        if (numeroPagina < 0) {
+            throw new IllegalArgumentException("Página deve ser maior ou igual a zero");
+        }
+        return indiceBuscaTransacoes.buscar(idUsuario, texto, numeroPagina, normalizarTamanhoPagina(tamanho));
+    }
+
+    public Map<String, Object> obterEstatisticasIndiceBusca() {
+        return indiceBuscaTransacoes.obterEstatisticas();
     }
 
     // Busca por tipo
     @Transactional(readOnly = true)
-    public List<Transacao> listarPorTipo(TipoTransacao tipo) {
-        return transacaoRepository.findByTipoTransacao(tipo);
+    public FatiaDTO<?> listarPorTipo(Long idUsuario, TipoTransacao tipo, String campos, Integer pagina, Integer tamanho,
+                                     String ordenarPor, String direcao) {
+        return listar(idUsuario, tipo, null, null, null, campos, pagina, tamanho, ordenarPor, direcao);
     }
 
     @Transactional(readOnly = true)
-    public List<Transacao> listarPorUsuarioETipo(Long idUsuario, TipoTransacao tipo) {
+    public List<TransacaoDTO> listarPorUsuarioETipo(Long idUsuario, TipoTransacao tipo) {
         validarUsuarioExiste(idUsuario);
-        return transacaoRepository.findByIdUsuarioAndTipoTransacao(idUsuario, tipo);
+        return transacaoRepository.findDTOByUsuarioAndTipo(idUsuario, tipo);
     }
 
     // Busca por categoria
     @Transactional(readOnly = true)
-    public List<Transacao> listarPorCategoria(String categoria) {
-        return transacaoRepository.findByCategoriaIgnoreCase(categoria);
+    public List<TransacaoDTO> listarPorCategoria(String categoria) {
+        return transacaoRepository.findDTOByCategoria(categoria);
     }
 
     // Busca por período
     @Transactional(readOnly = true)
-    public List<Transacao> listarPorPeriodo(LocalDate dataInicio, LocalDate dataFim) {
+    public List<TransacaoDTO> listarPorPeriodo(LocalDate dataInicio, LocalDate dataFim) {
         validarPeriodo(dataInicio, dataFim);
-        return transacaoRepository.findByDataBetween(dataInicio, dataFim);
+        return transacaoRepository.findDTOByPeriodo(dataInicio, dataFim);
     }
 
     @Transactional(readOnly = true)
-    public List<Transacao> listarPorUsuarioEPeriodo(Long idUsuario, LocalDate dataInicio, LocalDate dataFim) {
+    public List<TransacaoDTO> listarPorUsuarioEPeriodo(Long idUsuario, LocalDate dataInicio, LocalDate dataFim) {
         validarUsuarioExiste(idUsuario);
         validarPeriodo(dataInicio, dataFim);
-        return transacaoRepository.findByIdUsuarioAndDataBetween(idUsuario, dataInicio, dataFim);
+        return transacaoRepository.findDTOByUsuarioAndPeriodo(idUsuario, dataInicio, dataFim);
     }
 
     // Operações financeiras
     @Transactional(readOnly = true)
     public BigDecimal calcularSaldo(Long idUsuario) {
+        Optional<SaldoUsuario> consolidado = buscarSaldoConsolidado(idUsuario);
+        if (consolidado.isPresent()) {
+            return consolidado.get().getSaldo();
+        }
+        
         validarUsuarioExiste(idUsuario);
         BigDecimal saldo = transacaoRepository.calcularSaldoUsuario(idUsuario);
         return saldo != null ? saldo : BigDecimal.ZERO;
@@ -106,6 +232,11 @@ public class TransacaoService {
 
     @Transactional(readOnly = true)
     public BigDecimal calcularTotalReceitas(Long idUsuario) {
+        Optional<SaldoUsuario> consolidado = buscarSaldoConsolidado(idUsuario);
+        if (consolidado.isPresent()) {
+            return consolidado.get().getTotalReceitas();
+        }
+        
         validarUsuarioExiste(idUsuario);
         BigDecimal total = transacaoRepository.sumValoresByUsuarioAndTipo(idUsuario, TipoTransacao.CREDITO);
         return total != null ? total : BigDecimal.ZERO;
@@ -113,11 +244,34 @@ public class TransacaoService {
 
     @Transactional(readOnly = true)
     public BigDecimal calcularTotalDespesas(Long idUsuario) {
+        Optional<SaldoUsuario> consolidado = buscarSaldoConsolidado(idUsuario);
+        if (consolidado.isPresent()) {
+            return consolidado.get().getTotalDespesas();
+        }
+        
         validarUsuarioExiste(idUsuario);
         BigDecimal total = transacaoRepository.sumValoresByUsuarioAndTipo(idUsuario, TipoTransacao.DEBITO);
         return total != null ? total : BigDecimal.ZERO;
     }
 
+    @Transactional(readOnly = true)
+    public TotaisPeriodoDTO calcularTotaisPeriodo(Long idUsuario, LocalDate dataInicio, LocalDate dataFim) {
+        validarUsuarioExiste(idUsuario);
+        validarPeriodo(dataInicio, dataFim);
+        return resumoMensalService.calcularTotaisPeriodo(idUsuario, dataInicio, dataFim);
+    }
+
+    public void reconstruirResumoMensal(Long idUsuario) {
+        validarUsuarioExiste(idUsuario);
+        resumoMensalService.reconstruir(idUsuario);
+    }
+
+    // Recalcula o saldo consolidado a partir do histórico de transações
+    public SaldoUsuario reconstruirSaldo(Long idUsuario) {
+        validarUsuarioExiste(idUsuario);
+        return saldoUsuarioService.reconstruir(idUsuario);
+    }
+
     // Relatórios e estatísticas
     @Transactional(readOnly = true)
     public List<Object[]> obterGastosPorCategoria(Long idUsuario) {
@@ -131,6 +285,19 @@ public class TransacaoService {
         return transacaoRepository.sumReceitasPorCategoria(idUsuario);
     }
 
+    // Receitas e despesas por categoria, com soma e quantidade; período opcional
+    @Transactional(readOnly = true)
+    public List<ResumoCategoriaDTO> obterResumoPorCategoria(Long idUsuario, LocalDate dataInicio, LocalDate dataFim) {
+        validarUsuarioExiste(idUsuario);
+        
+        if (dataInicio == null && dataFim == null) {
+            return transacaoRepository.resumirPorCategoria(idUsuario);
+        }
+        
+        validarPeriodo(dataInicio, dataFim);
+        return transacaoRepository.resumirPorCategoriaNoPeriodo(idUsuario, dataInicio, dataFim);
+    }
+
     // Operações específicas do negócio
     public Transacao registrarReceita(Long idUsuario, String categoria, String descricao, 
                                      BigDecimal valor, LocalDate data) {
@@ -158,6 +325,59 @@ public class TransacaoService {
         return salvar(transacao);
     }
 
+    // Mantém saldo consolidado e resumos mensais na mesma transação da escrita; o índice de busca após o commit
+    private void registrarInclusao(Transacao transacao) {
+        saldoUsuarioService.registrarInclusao(transacao);
+        resumoMensalService.registrarInclusao(transacao);
+        indiceBuscaTransacoes.registrarInclusao(transacao);
+        versaoRecursosUsuario.registrarAlteracao(transacao.getIdUsuario(), VersaoRecursosUsuario.Recurso.TRANSACOES);
+    }
+
+    // Saldo com a variação líquida em um único delta; resumos e índice como remoção seguida de inclusão
+    private void registrarAlteracao(Transacao anterior, Transacao atualizada) {
+        saldoUsuarioService.registrarAlteracao(anterior, atualizada);
+        resumoMensalService.registrarRemocao(anterior);
+        resumoMensalService.registrarInclusao(atualizada);
+        indiceBuscaTransacoes.registrarRemocao(anterior);
+        indiceBuscaTransacoes.registrarInclusao(atualizada);
+        versaoRecursosUsuario.registrarAlteracao(anterior.getIdUsuario(), VersaoRecursosUsuario.Recurso.TRANSACOES);
+        versaoRecursosUsuario.registrarAlteracao(atualizada.getIdUsuario(), VersaoRecursosUsuario.Recurso.TRANSACOES);
+    }
+
+    private void registrarRemocao(Transacao transacao) {
+        saldoUsuarioService.registrarRemocao(transacao);
+        resumoMensalService.registrarRemocao(transacao);
+        indiceBuscaTransacoes.registrarRemocao(transacao);
+        versaoRecursosUsuario.registrarAlteracao(transacao.getIdUsuario(), VersaoRecursosUsuario.Recurso.TRANSACOES);
+    }
+
+    // Saldo consolidado mantido em TB_SALDO_USUARIO; na ausência do registro usa a agregação
+    private Optional<SaldoUsuario> buscarSaldoConsolidado(Long idUsuario) {
+        if (idUsuario == null) {
+            throw new IllegalArgumentException("ID do usuário é obrigatório");
+        }
+        return saldoUsuarioService.buscarSaldo(idUsuario);
+    }
+
+    // Entidade gerenciada, apenas para as escritas; as leituras da API usam buscarPorId (DTO)
+    // Transação de outro usuário é tratada como inexistente
+    private Transacao buscarEntidade(Long id, Long idUsuario) {
+        return transacaoRepository.findByIdTransacaoAndIdUsuario(id, idUsuario)
+                .orElseThrow(() -> new RuntimeException("Transação não encontrada com ID: " + id));
+    }
+
+    private Transacao copiarValores(Transacao origem) {
+        Transacao copia = new Transacao();
+        copia.setIdTransacao(origem.getIdTransacao());
+        copia.setIdUsuario(origem.getIdUsuario());
+        copia.setTipoTransacao(origem.getTipoTransacao());
+        copia.setCategoria(origem.getCategoria());
+        copia.setDescricao(origem.getDescricao());
+        copia.setValor(origem.getValor());
+        copia.setData(origem.getData());
+        return copia;
+    }
+
     // Validações
     private void validarTransacao(Transacao transacao) {
         if (transacao == null) {
@@ -178,11 +398,23 @@ public class TransacaoService {
             throw new IllegalArgumentException("ID do usuário é obrigatório");
         }
         
-        if (!usuarioRepository.existsById(idUsuario)) {
+        if (!usuarioExistenciaCache.existe(idUsuario)) {
             throw new RuntimeException("Usuário não encontrado com ID: " + idUsuario);
         }
     }
 
+    private int normalizarTamanhoPagina(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PAGINA_PADRAO;
+        }
+        
+        if (tamanho <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        
+        return Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+    }
+
     private void validarPeriodo(LocalDate dataInicio, LocalDate dataFim) {
         if (dataInicio == null || dataFim == null) {
             throw new IllegalArgumentException("Datas de início e fim são obrigatórias");
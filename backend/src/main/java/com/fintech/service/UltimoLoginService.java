@@ -0,0 +1,102 @@
+package com.fintech.service;
+
+import jakarta.annotation.PreDestroy;
+import com.fintech.cache.CacheSegundoNivel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro do último login com gravação posterior em lote
+ * O login só atualiza um mapa em memória (uma entrada por usuário, mantendo o instante mais recente);
+ * o UltimoLoginJob grava as entradas pendentes em ULTIMO_LOGIN com UPDATEs em batch.
+ * Logins ainda não gravados se perdem se a aplicação parar abruptamente.
+ */
+@Service
+public class UltimoLoginService {
+
+    private static final Logger log = LoggerFactory.getLogger(UltimoLoginService.class);
+
+    // A condição evita que um lote atrasado sobrescreva um login mais recente gravado por outra instância
+    private static final String SQL_ATUALIZAR_ULTIMO_LOGIN =
+        "UPDATE TB_USUARIO SET ULTIMO_LOGIN = ? WHERE ID_USUARIO = ? AND (ULTIMO_LOGIN IS NULL OR ULTIMO_LOGIN < ?)";
+
+    private final Map<Long, LocalDateTime> pendentes = new ConcurrentHashMap<>();
+
+    @Value("${fintech.login.tamanho-lote:500}")
+    private int tamanhoLote;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheSegundoNivel cacheSegundoNivel;
+
+    public void registrar(Long idUsuario, LocalDateTime instante) {
+        if (idUsuario == null || instante == null) {
+            return;
+        }
+        pendentes.merge(idUsuario, instante, (atual, novo) -> novo.isAfter(atual) ? novo : atual);
+    }
+
+    /**
+     * Grava os logins pendentes
+     * @return quantidade de usuários atualizados
+     */
+    public int gravarPendentes() {
+        if (pendentes.isEmpty()) {
+            return 0;
+        }
+
+        // remove() é atômico por chave: um login concorrente volta ao mapa e entra na próxima gravação
+        List<Object[]> parametros = new ArrayList<>();
+        for (Long idUsuario : pendentes.keySet()) {
+            LocalDateTime instante = pendentes.remove(idUsuario);
+            if (instante != null) {
+                Timestamp timestamp = Timestamp.valueOf(instante);
+                parametros.add(new Object[]{timestamp, idUsuario, timestamp});
+            }
+        }
+
+        int gravados = 0;
+        for (int inicio = 0; inicio < parametros.size(); inicio += tamanhoLote) {
+            List<Object[]> lote = parametros.subList(inicio, Math.min(inicio + tamanhoLote, parametros.size()));
+            try {
+                jdbcTemplate.batchUpdate(SQL_ATUALIZAR_ULTIMO_LOGIN, lote);
+                gravados += lote.size();
+                // O UPDATE não passa pelo Hibernate: a cópia em cache ainda teria o login anterior
+                cacheSegundoNivel.removerUsuarios(lote.stream().map(p -> (Long) p[1]).toList());
+            } catch (DataAccessException e) {
+                List<Object[]> restantes = parametros.subList(inicio, parametros.size());
+                log.warn("Falha ao gravar último login de {} usuário(s); nova tentativa na próxima execução: {}",
+                         restantes.size(), e.getMessage());
+                restantes.forEach(p -> registrar((Long) p[1], ((Timestamp) p[0]).toLocalDateTime()));
+                break;
+            }
+        }
+        return gravados;
+    }
+
+    public int getQuantidadePendente() {
+        return pendentes.size();
+    }
+
+    @PreDestroy
+    public void gravarAoEncerrar() {
+        int gravados = gravarPendentes();
+        if (gravados > 0) {
+            log.info("Último login de {} usuário(s) gravado no encerramento", gravados);
+        }
+    }
+}
@@ -1,16 +1,36 @@
 package com.fintech.service;
 
+import com.fintech.busca.IndiceBuscaTransacoes;
+import com.fintech.busca.IndiceBuscaUsuarios;
+import com.fintech.cache.CacheSegundoNivel;
+import com.fintech.cache.UsuarioExistenciaCache;
+import com.fintech.cache.VersaoRecursosUsuario;
+import com.fintech.dto.FatiaDTO;
+import com.fintech.dto.PaginaDTO;
+import com.fintech.dto.UsuarioBuscaDTO;
+import com.fintech.dto.UsuarioDTO;
 import com.fintech.entity.Usuario;
 import com.fintech.enums.Genero;
+import com.fintech.mapper.UsuarioMapper;
+import com.fintech.projecao.ConsultaProjecao;
+import com.fintech.projecao.Projecao;
 import com.fintech.repository.UsuarioRepository;
+import com.fintech.sessao.TokenSessao;
+import com.fintech.util.Paginacao;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -18,10 +38,61 @@ public class UsuarioService {
 
     @Autowired
     private UsuarioRepository usuarioRepository;
+    
+    @Autowired
+    private SaldoUsuarioService saldoUsuarioService;
+    
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+    
+    @Autowired
+    private UsuarioExistenciaCache usuarioExistenciaCache;
+
+    @Autowired
+    private CacheSegundoNivel cacheSegundoNivel;
+    
+    @Autowired
+    private TokenSessao tokenSessao;
+    
+    @Autowired
+    private UltimoLoginService ultimoLoginService;
+    
+    @Autowired
+    private IndiceBuscaUsuarios indiceBuscaUsuarios;
+    
+    @Autowired
+    private IndiceBuscaTransacoes indiceBuscaTransacoes;
+    
+    @Autowired
+    private UsuarioMapper usuarioMapper;
+    
+    @Autowired
+    private VersaoRecursosUsuario versaoRecursosUsuario;
+    
+    @Autowired
+    private ConsultaProjecao consultaProjecao;
 
     // Constantes de validação
     private static final int NOME_MIN_LENGTH = 2;
     private static final int SENHA_MIN_LENGTH = 6;
+    private static final int TAMANHO_PAGINA_BUSCA_PADRAO = 20;
+    private static final int TAMANHO_PAGINA_BUSCA_MAXIMO = 100;
+    private static final int PROFUNDIDADE_BUSCA_MAXIMA = 10_000;
+
+    private static final Paginacao PAGINACAO_GLOBAL = new Paginacao("idUsuario", "idUsuario", Sort.Direction.ASC,
+        Set.of("idUsuario", "nomeCompleto", "email", "dataCadastro"));
+
+    // Mesmos campos do UsuarioDTO; a senha não pode ser pedida
+    private static final Projecao<Usuario> PROJECAO = new Projecao<>("Usuario", "u", Usuario::new)
+        .coluna("idUsuario", Usuario::setIdUsuario, Usuario::getIdUsuario)
+        .coluna("nomeCompleto", Usuario::setNomeCompleto, Usuario::getNomeCompleto)
+        .coluna("email", Usuario::setEmail, Usuario::getEmail)
+        .coluna("dataNascimento", Usuario::setDataNascimento, Usuario::getDataNascimento)
+        .coluna("genero", Usuario::setGenero, Usuario::getGenero)
+        .coluna("dataCadastro", Usuario::setDataCadastro, Usuario::getDataCadastro)
+        .coluna("ativo", (Usuario usuario, Character ativo) -> usuario.setAtivo(ativo.charValue()), Usuario::isAtivo)
+        .calculado("idade", Usuario::getIdade, "dataNascimento")
+        .calculado("maiorIdade", Usuario::isMaiorIdade, "dataNascimento");
 
     // CRUD Básico
     public Usuario salvar(Usuario usuario) {
@@ -33,11 +104,18 @@ public class UsuarioService {
         }
         
         // Hash da senha se for nova
-        if (usuario.getIdUsuario() == null && usuario.getSenha() != null) {
+        boolean novoUsuario = usuario.getIdUsuario() == null;
+        if (novoUsuario && usuario.getSenha() != null) {
             usuario.definirSenha(usuario.getSenha());
         }
         
-        return usuarioRepository.save(usuario);
+        Usuario salvo = usuarioRepository.save(usuario);
+        if (novoUsuario) {
+            saldoUsuarioService.criarSaldoInicial(salvo.getIdUsuario());
+        }
+        usuarioExistenciaCache.invalidar(salvo.getIdUsuario());
+        indiceBuscaUsuarios.atualizar(salvo);
+        return salvo;
     }
 
     public Usuario atualizar(Usuario usuario) {
@@ -54,7 +132,13 @@ public class UsuarioService {
         }
         
         validarUsuario(usuario);
-        return usuarioRepository.save(usuario);
+        usuarioExistenciaCache.invalidar(usuario.getIdUsuario());
+        if (!usuario.isAtivo()) {
+            tokenSessao.revogar(usuario.getIdUsuario());
+        }
+        Usuario atualizado = usuarioRepository.save(usuario);
+        indiceBuscaUsuarios.atualizar(atualizado);
+        return atualizado;
     }
 
     @Transactional(readOnly = true)
@@ -64,13 +148,32 @@ public class UsuarioService {
     }
 
     @Transactional(readOnly = true)
-    public List<Usuario> listarTodos() {
-        return usuarioRepository.findAll();
+    public FatiaDTO<?> listar(Boolean ativo, Genero genero, String campos,
+                              Integer pagina, Integer tamanho, String ordenarPor, String direcao) {
+        Character filtroAtivo = ativo == null ? null : (ativo ? 'S' : 'N');
+        Pageable pageable = PAGINACAO_GLOBAL.criar(pagina, tamanho, ordenarPor, direcao);
+        if (campos == null || campos.isBlank()) {
+            // Listagem em massa sai pelo DTO, sem o hash da senha
+            return new FatiaDTO<>(usuarioRepository.findFatia(filtroAtivo, genero, pageable).map(usuarioMapper::toDTO));
+        }
+        
+        Map<String, Object> parametros = new HashMap<>();
+        parametros.put("ativo", filtroAtivo);
+        parametros.put("genero", genero);
+        return new FatiaDTO<>(consultaProjecao.buscar(PROJECAO, PROJECAO.interpretar(campos),
+            UsuarioRepository.FILTROS_LISTAGEM, parametros, pageable));
     }
 
     public void deletar(Long id) {
         Usuario usuario = buscarPorId(id);
+        saldoUsuarioService.removerSaldo(id);
+        resumoMensalService.removerResumos(id);
         usuarioRepository.delete(usuario);
+        usuarioExistenciaCache.invalidar(id);
+        tokenSessao.revogar(id);
+        indiceBuscaUsuarios.remover(id);
+        indiceBuscaTransacoes.descartar(id);
+        versaoRecursosUsuario.registrarAlteracaoTodos(id);
     }
 
     // Busca por email
@@ -87,9 +190,9 @@ public class UsuarioService {
         if (usuarioOpt.isPresent()) {
             Usuario usuario = usuarioOpt.get();
             if (usuario.validarSenha(senha)) {
-                // Atualiza último login
+                // Último login gravado em lote pelo UltimoLoginJob, fora da transação somente leitura
                 usuario.autenticar();
-                usuarioRepository.save(usuario);
+                ultimoLoginService.registrar(usuario.getIdUsuario(), usuario.getUltimoLogin());
                 return Optional.of(usuario);
             }
         }
@@ -111,12 +214,17 @@ public class UsuarioService {
     public Usuario ativarUsuario(Long id) {
         Usuario usuario = buscarPorId(id);
         usuario.ativar();
+        usuarioExistenciaCache.invalidar(id);
+        indiceBuscaUsuarios.atualizar(usuario);
         return usuarioRepository.save(usuario);
     }
 
     public Usuario desativarUsuario(Long id) {
         Usuario usuario = buscarPorId(id);
         usuario.desativar();
+        usuarioExistenciaCache.invalidar(id);
+        tokenSessao.revogar(id);
+        indiceBuscaUsuarios.atualizar(usuario);
         return usuarioRepository.save(usuario);
     }
 
@@ -126,6 +234,33 @@ public class UsuarioService {
         return usuarioRepository.findByNomeCompletoContainingIgnoreCase(nome);
     }
 
+    // Busca indexada em memória por nome ou email, com relevância e paginação (sem transação: não acessa o banco)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PaginaDTO<UsuarioBuscaDTO> buscarPorNomeOuEmail(String texto, Integer pagina, Integer tamanho) {
+        int numeroPagina = pagina != null ? pagina : 0;
+        int tamanhoPagina = tamanho != null ? Math.min(tamanho, TAMANHO_PAGINA_BUSCA_MAXIMO) : TAMANHO_PAGINA_BUSCA_PADRAO;
+        
+        if (numeroPagina < 0 || tamanhoPagina <= 0) {
+            throw new IllegalArgumentException("Página deve ser maior ou igual a zero e tamanho maior que zero");
+        }
+        if ((long) (numeroPagina + 1) * tamanhoPagina > PROFUNDIDADE_BUSCA_MAXIMA) {
+            throw new IllegalArgumentException("A busca retorna no máximo os " + PROFUNDIDADE_BUSCA_MAXIMA + 
+                                               " resultados mais relevantes; refine o texto");
+        }
+        
+        return indiceBuscaUsuarios.buscar(texto, numeroPagina, tamanhoPagina);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Object> obterEstatisticasIndiceBusca() {
+        return indiceBuscaUsuarios.obterEstatisticas();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconstruirIndiceBusca() {
+        indiceBuscaUsuarios.reconstruir();
+    }
+
     @Transactional(readOnly = true)
     public List<Usuario> buscarPorGenero(Genero genero) {
         return usuarioRepository.findByGenero(genero);
@@ -172,7 +307,11 @@ public class UsuarioService {
         usuario.setGenero(genero);
         usuario.registrar();
         
-        return usuarioRepository.save(usuario);
+        Usuario salvo = usuarioRepository.save(usuario);
+        saldoUsuarioService.criarSaldoInicial(salvo.getIdUsuario());
+        usuarioExistenciaCache.invalidar(salvo.getIdUsuario());
+        indiceBuscaUsuarios.atualizar(salvo);
+        return salvo;
     }
 
     // Estatísticas
@@ -187,6 +326,14 @@ public class UsuarioService {
         return usuarioRepository.countUsuariosCadastradosApos(dataInicio);
     }
 
+    public Map<String, Object> obterEstatisticasCacheExistencia() {
+        return usuarioExistenciaCache.obterEstatisticas();
+    }
+
+    public Map<String, Object> obterEstatisticasCacheSegundoNivel() {
+        return cacheSegundoNivel.obterEstatisticas();
+    }
+
     private boolean isEmailValido(String email) {
         if (email == null || email.trim().isEmpty()) {
             return false;
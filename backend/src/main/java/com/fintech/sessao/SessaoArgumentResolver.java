@@ -0,0 +1,33 @@
+package com.fintech.sessao;
+
+import com.fintech.exception.SessaoInvalidaException;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Injeta a SessaoUsuario verificada pelo SessaoFilter nos parâmetros dos controllers
+ * Endpoints que recebem a sessão respondem 401 quando a requisição não traz token
+ */
+@Component
+public class SessaoArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return SessaoUsuario.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object sessao = webRequest.getAttribute(SessaoUsuario.ATRIBUTO, RequestAttributes.SCOPE_REQUEST);
+        if (sessao == null) {
+            throw new SessaoInvalidaException("Token de sessão obrigatório");
+        }
+        return sessao;
+    }
+}
@@ -0,0 +1,93 @@
+package com.fintech.sessao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Verifica o token de sessão (Authorization: Bearer) e restringe cada rota aos dados do usuário do token
+ * Sem token, só passam login, cadastro, documentação e actuator. As rotas são comparadas já decodificadas e sem
+ * ";parâmetros"; o ID de usuário da rota é conferido depois do mapeamento, no SessaoInterceptor, e as rotas endereçadas
+ * pelo ID do recurso (/transacoes/{id}, /investimentos/{id}, /metas/{id}/...) filtram pelo usuário na consulta do service.
+ * Nenhuma verificação do filtro acessa o banco.
+ * Com fintech.sessao.exigir-token=false (somente desenvolvimento) requisições sem token seguem sem verificação.
+ */
+@Component
+public class SessaoFilter extends OncePerRequestFilter {
+
+    private static final String PREFIXO_BEARER = "Bearer ";
+    private static final Pattern ROTA_PUBLICA = Pattern.compile("^/(?:swagger-ui\\.html|swagger-ui/.*|v3/api-docs(?:/.*)?|actuator(?:/.*)?|error)$");
+    private static final Set<String> CADASTRO_E_LOGIN = Set.of("/usuarios", "/usuarios/registrar", "/usuarios/auth");
+    private static final UrlPathHelper CAMINHOS = new UrlPathHelper();
+
+    @Autowired
+    private TokenSessao tokenSessao;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${fintech.sessao.exigir-token:true}")
+    private boolean exigirToken;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String caminho = CAMINHOS.getPathWithinApplication(request);
+        if (HttpMethod.OPTIONS.matches(request.getMethod()) || isPublica(request.getMethod(), caminho)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String autorizacao = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (autorizacao == null || !autorizacao.startsWith(PREFIXO_BEARER)) {
+            if (exigirToken) {
+                recusar(response, HttpStatus.UNAUTHORIZED, "Token de sessão obrigatório");
+                return;
+            }
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<SessaoUsuario> sessao = tokenSessao.verificar(autorizacao.substring(PREFIXO_BEARER.length()).trim());
+        if (sessao.isEmpty()) {
+            recusar(response, HttpStatus.UNAUTHORIZED, "Token de sessão inválido ou expirado");
+            return;
+        }
+        if (!sessao.get().isAtivo()) {
+            recusar(response, HttpStatus.FORBIDDEN, "Usuário inativo");
+            return;
+        }
+
+        request.setAttribute(SessaoUsuario.ATRIBUTO, sessao.get());
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean isPublica(String metodo, String caminho) {
+        return (HttpMethod.POST.matches(metodo) && CADASTRO_E_LOGIN.contains(caminho))
+            || ROTA_PUBLICA.matcher(caminho).matches();
+    }
+
+    private void recusar(HttpServletResponse response, HttpStatus status, String mensagem) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), Map.of("erro", mensagem));
+    }
+}
@@ -0,0 +1,69 @@
+package com.fintech.sessao;
+
+import com.fintech.exception.SessaoInvalidaException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Restringe as rotas com ID de usuário (/usuarios/{id}/..., /{recurso}/usuario/{idUsuario}/...) ao usuário do token
+ * Roda depois do mapeamento do handler e lê as variáveis de URI já decodificadas e sem ";parâmetros",
+ * exatamente o valor que o controller recebe. Rotas endereçadas pelo ID do recurso são restritas na consulta do service.
+ */
+@Component
+public class SessaoInterceptor implements HandlerInterceptor {
+
+    private static final String VARIAVEL_USUARIO = "idUsuario";
+    private static final String VARIAVEL_ID = "id";
+    private static final String ROTA_USUARIO_POR_ID = "/usuarios/{id}";
+
+    @Value("${fintech.sessao.exigir-token:true}")
+    private boolean exigirToken;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        String idUsuarioRota = extrairUsuarioDaRota(request);
+        if (idUsuarioRota == null) {
+            return true;
+        }
+
+        SessaoUsuario sessao = (SessaoUsuario) request.getAttribute(SessaoUsuario.ATRIBUTO);
+        if (sessao == null) {
+            if (exigirToken) {
+                throw new SessaoInvalidaException("Token de sessão obrigatório");
+            }
+            return true;
+        }
+        try {
+            sessao.verificarAcesso(Long.valueOf(idUsuarioRota));
+        } catch (NumberFormatException e) {
+            // ID não numérico: a conversão do @PathVariable recusa a requisição com 400
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String extrairUsuarioDaRota(HttpServletRequest request) {
+        Map<String, String> variaveis = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variaveis == null) {
+            return null;
+        }
+        if (variaveis.containsKey(VARIAVEL_USUARIO)) {
+            return variaveis.get(VARIAVEL_USUARIO);
+        }
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (padrao != null && padrao.toString().startsWith(ROTA_USUARIO_POR_ID)) {
+            return variaveis.get(VARIAVEL_ID);
+        }
+        return null;
+    }
+}
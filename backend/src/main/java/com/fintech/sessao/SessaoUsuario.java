@@ -0,0 +1,56 @@
+package com.fintech.sessao;
+
+import com.fintech.exception.AcessoNegadoException;
+
+/**
+ * Dados da sessão carregados no token assinado
+ * Disponível nos controllers como parâmetro do tipo SessaoUsuario quando a requisição traz o token
+ */
+public class SessaoUsuario {
+
+    public static final String ATRIBUTO = SessaoUsuario.class.getName();
+
+    private final Long idUsuario;
+    private final boolean ativo;
+    private final long emitidoEm;
+    private final long expiraEm;
+
+    public SessaoUsuario(Long idUsuario, boolean ativo, long emitidoEm, long expiraEm) {
+        this.idUsuario = idUsuario;
+        this.ativo = ativo;
+        this.emitidoEm = emitidoEm;
+        this.expiraEm = expiraEm;
+    }
+
+    // Para escritas que trazem o usuário no corpo da requisição, fora do alcance do SessaoFilter
+    public void verificarAcesso(Long idUsuario) {
+        if (!this.idUsuario.equals(idUsuario)) {
+            throw new AcessoNegadoException("Token não pertence ao usuário " + idUsuario);
+        }
+    }
+
+    // Listagens e exportações com filtro idUsuario opcional: sempre restritas ao usuário da sessão
+    public Long restringirUsuario(Long idUsuario) {
+        if (idUsuario != null) {
+            verificarAcesso(idUsuario);
+        }
+        return this.idUsuario;
+    }
+
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    // Instantes em segundos desde a época
+    public long getEmitidoEm() {
+        return emitidoEm;
+    }
+
+    public long getExpiraEm() {
+        return expiraEm;
+    }
+}
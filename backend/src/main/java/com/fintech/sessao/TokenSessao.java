@@ -0,0 +1,147 @@
+package com.fintech.sessao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emissão e verificação dos tokens de sessão
+ * Formato: idUsuario.ativo.emitidoEm.expiraEm.assinatura, com assinatura HMAC-SHA256 em Base64 URL.
+ * A verificação é feita só em memória (sem consulta ao banco); a desativação ou exclusão do usuário
+ * revoga os tokens emitidos antes dela nesta instância.
+ */
+@Component
+public class TokenSessao {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenSessao.class);
+    private static final String ALGORITMO = "HmacSHA256";
+
+    private final SecretKeySpec chave;
+    private final long validadeSegundos;
+
+    // Mac não é thread-safe; uma instância por thread evita o custo de Mac.getInstance por requisição
+    private final ThreadLocal<Mac> mac;
+
+    // idUsuario -> instante da revogação; tokens emitidos até esse instante são recusados
+    private final Map<Long, Long> revogacoes = new ConcurrentHashMap<>();
+
+    public TokenSessao(
+            @Value("${fintech.sessao.segredo:}") String segredo,
+            @Value("${fintech.sessao.validade-minutos:480}") long validadeMinutos) {
+        byte[] bytesChave;
+        if (segredo.isBlank()) {
+            // Sem segredo configurado os tokens deixam de valer a cada reinício
+            log.warn("fintech.sessao.segredo não configurado; usando chave aleatória desta execução");
+            bytesChave = new byte[32];
+            new SecureRandom().nextBytes(bytesChave);
+        } else {
+            bytesChave = segredo.getBytes(StandardCharsets.UTF_8);
+        }
+        this.chave = new SecretKeySpec(bytesChave, ALGORITMO);
+        this.validadeSegundos = validadeMinutos * 60;
+        this.mac = ThreadLocal.withInitial(this::criarMac);
+    }
+
+    public String emitir(Long idUsuario, boolean ativo) {
+        long agora = agora();
+        String conteudo = idUsuario + "." + (ativo ? 1 : 0) + "." + agora + "." + (agora + validadeSegundos);
+        return conteudo + "." + assinar(conteudo);
+    }
+
+    /**
+     * Valida assinatura, expiração e revogação
+     * @return a sessão do token, ou vazio se o token for inválido
+     */
+    public Optional<SessaoUsuario> verificar(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        int fimConteudo = token.lastIndexOf('.');
+        if (fimConteudo <= 0) {
+            return Optional.empty();
+        }
+        String conteudo = token.substring(0, fimConteudo);
+        byte[] assinatura = assinarBytes(conteudo);
+        byte[] recebida;
+        try {
+            recebida = Base64.getUrlDecoder().decode(token.substring(fimConteudo + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (!MessageDigest.isEqual(assinatura, recebida)) {
+            return Optional.empty();
+        }
+
+        String[] partes = conteudo.split("\\.");
+        if (partes.length != 4) {
+            return Optional.empty();
+        }
+        try {
+            Long idUsuario = Long.valueOf(partes[0]);
+            boolean ativo = "1".equals(partes[1]);
+            long emitidoEm = Long.parseLong(partes[2]);
+            long expiraEm = Long.parseLong(partes[3]);
+
+            if (expiraEm <= agora()) {
+                return Optional.empty();
+            }
+            Long revogadoEm = revogacoes.get(idUsuario);
+            if (revogadoEm != null && emitidoEm <= revogadoEm) {
+                return Optional.empty();
+            }
+            return Optional.of(new SessaoUsuario(idUsuario, ativo, emitidoEm, expiraEm));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void revogar(Long idUsuario) {
+        if (idUsuario == null) {
+            return;
+        }
+
+        long agora = agora();
+        revogacoes.put(idUsuario, agora);
+        // Revogações mais antigas que a validade já não barram nenhum token
+        revogacoes.values().removeIf(instante -> instante + validadeSegundos < agora);
+    }
+
+    public long getValidadeSegundos() {
+        return validadeSegundos;
+    }
+
+    private String assinar(String conteudo) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(assinarBytes(conteudo));
+    }
+
+    private byte[] assinarBytes(String conteudo) {
+        return mac.get().doFinal(conteudo.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac criarMac() {
+        try {
+            Mac instancia = Mac.getInstance(ALGORITMO);
+            instancia.init(chave);
+            return instancia;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível: " + e.getMessage(), e);
+        }
+    }
+
+    private static long agora() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -0,0 +1,49 @@
+package com.fintech.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Classe utilitária para codificação de cursores de paginação keyset
+ * O cursor carrega a chave (data, id) do último item retornado
+ */
+public final class CursorPaginacao {
+    
+    private static final String SEPARADOR = ":";
+    
+    private final LocalDate data;
+    private final Long id;
+    
+    private CursorPaginacao(LocalDate data, Long id) {
+        this.data = data;
+        this.id = id;
+    }
+    
+    public static String codificar(LocalDate data, Long id) {
+        String chave = data + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(chave.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static CursorPaginacao decodificar(String cursor) {
+        try {
+            String chave = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int posicao = chave.indexOf(SEPARADOR);
+            if (posicao < 0) {
+                throw new IllegalArgumentException("Cursor de paginação inválido");
+            }
+            return new CursorPaginacao(
+                LocalDate.parse(chave.substring(0, posicao)),
+                Long.valueOf(chave.substring(posicao + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido", e);
+        }
+    }
+    
+    public LocalDate getData() { return data; }
+    
+    public Long getId() { return id; }
+}
@@ -0,0 +1,26 @@
+package com.fintech.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Classe utilitária que adia a atualização de estado em memória (índices, versões) para depois do commit,
+ * para não expor uma escrita que venha a ser desfeita. Fora de transação executa imediatamente
+ */
+public final class ExecucaoAposCommit {
+
+    private ExecucaoAposCommit() {}
+
+    public static void executar(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.fintech.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Classe utilitária para paginação por número de página das listagens globais
+ * Limita tamanho e profundidade da página e só aceita campos de ordenação conhecidos;
+ * o ID entra sempre como último critério para que a ordem seja estável entre páginas
+ */
+public final class Paginacao {
+    
+    public static final int TAMANHO_PADRAO = 20;
+    public static final int TAMANHO_MAXIMO = 100;
+    
+    // OFFSET alto percorre e descarta as linhas anteriores; leituras maiores usam a exportação
+    public static final int PROFUNDIDADE_MAXIMA = 10_000;
+    
+    private final String campoId;
+    private final String campoPadrao;
+    private final Sort.Direction direcaoPadrao;
+    private final Set<String> camposPermitidos;
+    
+    public Paginacao(String campoId, String campoPadrao, Sort.Direction direcaoPadrao, Set<String> camposPermitidos) {
+        this.campoId = campoId;
+        this.campoPadrao = campoPadrao;
+        this.direcaoPadrao = direcaoPadrao;
+        this.camposPermitidos = camposPermitidos;
+    }
+    
+    public Pageable criar(Integer pagina, Integer tamanho, String ordenarPor, String direcao) {
+        int numeroPagina = pagina != null ? pagina : 0;
+        if (numeroPagina < 0) {
+            throw new IllegalArgumentException("Página deve ser maior ou igual a zero");
+        }
+        
+        int tamanhoPagina = tamanho != null ? tamanho : TAMANHO_PADRAO;
+        if (tamanhoPagina <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        tamanhoPagina = Math.min(tamanhoPagina, TAMANHO_MAXIMO);
+        
+        if ((long) numeroPagina * tamanhoPagina >= PROFUNDIDADE_MAXIMA) {
+            throw new IllegalArgumentException("Paginação limitada aos primeiros " + PROFUNDIDADE_MAXIMA +
+                " itens; refine os filtros ou use a exportação");
+        }
+        
+        return PageRequest.of(numeroPagina, tamanhoPagina, ordenacao(ordenarPor, direcao));
+    }
+    
+    public Sort ordenacao(String ordenarPor, String direcao) {
+        String campo = ordenarPor == null || ordenarPor.isBlank() ? campoPadrao : ordenarPor;
+        if (!camposPermitidos.contains(campo)) {
+            throw new IllegalArgumentException("Ordenação inválida: " + campo + ". Use um de " + camposPermitidos);
+        }
+        
+        Sort.Direction sentido = direcaoPadrao;
+        if (direcao != null && !direcao.isBlank()) {
+            sentido = Sort.Direction.fromOptionalString(direcao)
+                .orElseThrow(() -> new IllegalArgumentException("Direção inválida: " + direcao + ". Use asc ou desc"));
+        }
+        
+        Sort sort = Sort.by(sentido, campo);
+        return campo.equals(campoId) ? sort : sort.and(Sort.by(sentido, campoId));
+    }
+}
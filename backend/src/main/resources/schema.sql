@@ -5,26 +5,28 @@
 -- ============================================
 -- SEQUENCES
 -- ============================================
+-- INCREMENT BY deve coincidir com o allocationSize das entidades (Sequencias.INCREMENTO):
+-- cada NEXTVAL reserva um bloco de 20 IDs para o otimizador pooled do Hibernate
 
 -- Sequence para TB_USUARIO
 CREATE SEQUENCE SEQ_USUARIO START
 WITH
-    1 INCREMENT BY 1 NOMAXVALUE NOCYCLE CACHE 20;
+    1 INCREMENT BY 20 NOMAXVALUE NOCYCLE CACHE 20;
 
 -- Sequence para TB_TRANSACAO
 CREATE SEQUENCE SEQ_TRANSACAO START
 WITH
-    1 INCREMENT BY 1 NOMAXVALUE NOCYCLE CACHE 20;
+    1 INCREMENT BY 20 NOMAXVALUE NOCYCLE CACHE 20;
 
 -- Sequence para TB_INVESTIMENTO
 CREATE SEQUENCE SEQ_INVESTIMENTO START
 WITH
-    1 INCREMENT BY 1 NOMAXVALUE NOCYCLE CACHE 20;
+    1 INCREMENT BY 20 NOMAXVALUE NOCYCLE CACHE 20;
 
 -- Sequence para TB_META_FINANCEIRA
 CREATE SEQUENCE SEQ_META_FINANCEIRA START
 WITH
-    1 INCREMENT BY 1 NOMAXVALUE NOCYCLE CACHE 20;
+    1 INCREMENT BY 20 NOMAXVALUE NOCYCLE CACHE 20;
 
 -- ============================================
 -- TABELAS
@@ -140,6 +142,38 @@ CREATE TABLE TB_META_FINANCEIRA (
     )
 );
 
+-- Tabela de Saldo Consolidado (mantida incrementalmente a cada transação)
+CREATE TABLE TB_SALDO_USUARIO (
+    ID_USUARIO NUMBER PRIMARY KEY,
+    SALDO NUMBER (16, 2) DEFAULT 0 NOT NULL,
+    TOTAL_RECEITAS NUMBER (16, 2) DEFAULT 0 NOT NULL,
+    TOTAL_DESPESAS NUMBER (16, 2) DEFAULT 0 NOT NULL,
+    QUANTIDADE_TRANSACOES NUMBER DEFAULT 0 NOT NULL,
+    DATA_ATUALIZACAO TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT FK_SALDO_USUARIO FOREIGN KEY (ID_USUARIO) REFERENCES TB_USUARIO (ID_USUARIO) ON DELETE CASCADE
+);
+
+-- Tabela de Resumos Mensais (totais por usuário, mês, tipo e categoria)
+CREATE TABLE TB_RESUMO_MENSAL (
+    ID_USUARIO NUMBER NOT NULL,
+    ANO_MES NUMBER (6) NOT NULL,
+    TIPO_TRANSACAO VARCHAR2 (20) NOT NULL,
+    CATEGORIA VARCHAR2 (50) NOT NULL,
+    TOTAL NUMBER (16, 2) DEFAULT 0 NOT NULL,
+    QUANTIDADE NUMBER DEFAULT 0 NOT NULL,
+    CONSTRAINT PK_RESUMO_MENSAL PRIMARY KEY (ID_USUARIO, ANO_MES, TIPO_TRANSACAO, CATEGORIA),
+    CONSTRAINT FK_RESUMO_MENSAL_USUARIO FOREIGN KEY (ID_USUARIO) REFERENCES TB_USUARIO (ID_USUARIO) ON DELETE CASCADE
+);
+
+-- Tabela de Avaliações de Investimentos (último valor atualizado de cada investimento)
+CREATE TABLE TB_AVALIACAO_INVESTIMENTO (
+    ID_INVESTIMENTO NUMBER PRIMARY KEY,
+    DATA_REFERENCIA DATE NOT NULL,
+    VALOR_ATUAL NUMBER (16, 2) NOT NULL,
+    DATA_ATUALIZACAO TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    CONSTRAINT FK_AVALIACAO_INVESTIMENTO FOREIGN KEY (ID_INVESTIMENTO) REFERENCES TB_INVESTIMENTO (ID_INVESTIMENTO) ON DELETE CASCADE
+);
+
 -- Tabela de Configurações do Usuário
 CREATE TABLE TB_CONFIG_USUARIO (
     ID_USUARIO NUMBER PRIMARY KEY,
@@ -199,6 +233,9 @@ CREATE INDEX IDX_TRANSACAO_TIPO ON TB_TRANSACAO (TIPO_TRANSACAO);
 
 CREATE INDEX IDX_TRANSACAO_CATEGORIA ON TB_TRANSACAO (CATEGORIA);
 
+-- Filtro de categoria sem distinção de maiúsculas (UPPER(CATEGORIA) = :categoria)
+CREATE INDEX IDX_TRANSACAO_CATEGORIA_UPPER ON TB_TRANSACAO (UPPER(CATEGORIA));
+
 CREATE INDEX IDX_TRANSACAO_USUARIO_DATA ON TB_TRANSACAO (ID_USUARIO, DATA_TRANSACAO);
 
 -- Índices para TB_INVESTIMENTO
@@ -261,6 +298,19 @@ TABLE TB_META_FINANCEIRA IS 'Tabela de metas financeiras dos usuários';
 
 COMMENT ON COLUMN TB_META_FINANCEIRA.STATUS IS 'ATIVA, PAUSADA, CONCLUIDA, VENCIDA, CANCELADA';
 
+COMMENT ON
+TABLE TB_SALDO_USUARIO IS 'Saldo consolidado por usuário, reconciliado periodicamente com TB_TRANSACAO';
+
+COMMENT ON
+TABLE TB_RESUMO_MENSAL IS 'Totais mensais de transações por usuário, tipo e categoria';
+
+COMMENT ON COLUMN TB_RESUMO_MENSAL.ANO_MES IS 'Ano e mês no formato yyyymm';
+
+COMMENT ON
+TABLE TB_AVALIACAO_INVESTIMENTO IS 'Valor atualizado de cada investimento pelas curvas de CDI, Selic e IPCA, reavaliado toda noite';
+
+COMMENT ON COLUMN TB_AVALIACAO_INVESTIMENTO.DATA_REFERENCIA IS 'Data do valor: dia da avaliação ou data de resgate';
+
 COMMENT ON
 TABLE TB_CONFIG_USUARIO IS 'Tabela de configurações personalizadas do usuário';
 
@@ -0,0 +1,432 @@
+package com.fintech.metricas;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Quantidade de comandos SQL por endpoint (regressão de N+1)
+ * Chama cada endpoint dos controllers uma vez, em ordem fixa, e compara os comandos registrados em
+ * fintech.http.consultas (ContadorConsultasFilter) com o valor esperado da tabela abaixo. A contagem inclui
+ * a serialização; nas rotas /{recurso}/{id} o usuário da sessão entra na própria consulta do service.
+ * Se uma mudança reduzir as consultas de propósito, atualize o valor esperado.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("consultas")
+class ConsultasPorEndpointTest {
+
+    private static final String SENHA = "senha123";
+    private static final long ESPERA_REGISTRO_MS = 2000;
+
+    @FunctionalInterface
+    interface Chamada {
+        Resposta executar() throws IOException, InterruptedException;
+    }
+
+    private static final class Verificacao {
+
+        private final String endpoint;
+        private final int consultasEsperadas;
+        private final Chamada chamada;
+
+        private Verificacao(String endpoint, int consultasEsperadas, Chamada chamada) {
+            this.endpoint = endpoint;
+            this.consultasEsperadas = consultasEsperadas;
+            this.chamada = chamada;
+        }
+    }
+
+    private static final class Resposta {
+
+        private final int status;
+        private final String corpo;
+
+        private Resposta(int status, String corpo) {
+            this.status = status;
+            this.corpo = corpo;
+        }
+
+        private boolean isSucesso() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final List<Verificacao> verificacoes = new ArrayList<>();
+    // IDs criados pelas próprias verificações (POST) e usados nas seguintes (PUT/DELETE)
+    private final Map<String, Long> criados = new HashMap<>();
+
+    // Massa: dois usuários com transações, investimentos e metas (as listagens globais retornam linhas de
+    // mais de um usuário, o que expõe carregamentos por linha) e um terceiro sem dados
+    private long usuario;
+    private long secundario;
+    private long semDados;
+    private String tokenPrincipal;
+    private String tokenSecundario;
+    private String tokenSemDados;
+    private long idTransacao;
+    private long idInvestimento;
+    private long idMeta;
+
+    @Test
+    void comandosSqlPorEndpoint() throws Exception {
+        preparar();
+        registrarVerificacoes();
+
+        List<String> divergencias = new ArrayList<>();
+        for (Verificacao verificacao : verificacoes) {
+            double[] antes = lerMetrica();
+            Resposta resposta = verificacao.chamada.executar();
+            double[] depois = aguardarRegistro(antes);
+            int medido = (int) Math.round(depois[1] - antes[1]);
+
+            if (!resposta.isSucesso()) {
+                divergencias.add(verificacao.endpoint + ": HTTP " + resposta.status + " " + resposta.corpo);
+            } else if (medido != verificacao.consultasEsperadas) {
+                divergencias.add(verificacao.endpoint + ": esperado " + verificacao.consultasEsperadas + ", medido " + medido);
+            }
+        }
+        assertTrue(divergencias.isEmpty(), () -> divergencias.size() + " de " + verificacoes.size()
+            + " endpoint(s) divergentes:\n" + String.join("\n", divergencias));
+    }
+
+    private void preparar() throws IOException, InterruptedException {
+        usuario = registrarUsuario("Usuário Consultas", email("principal"));
+        secundario = registrarUsuario("Usuária Consultas", email("secundario"));
+        semDados = registrarUsuario("Usuário Sem Dados", email("sem-dados"));
+        tokenPrincipal = autenticar(email("principal"));
+        tokenSecundario = autenticar(email("secundario"));
+        tokenSemDados = autenticar(email("sem-dados"));
+
+        for (long id : new long[] {usuario, secundario}) {
+            String token = id == usuario ? tokenPrincipal : tokenSecundario;
+            exigirSucesso(post(token, "/transacoes/receita", transacao(id, "Salário", "Salário mensal", "5000.00")));
+            exigirSucesso(post(token, "/transacoes/despesa", transacao(id, "Transporte", "Uber centro", "35.90")));
+            exigirSucesso(post(token, "/transacoes/despesa", transacao(id, "Alimentação", "Mercado", "412.30")));
+            exigirSucesso(post(token, "/investimentos/aplicar", investimento(id, "CDB", "1000.00")));
+            exigirSucesso(post(token, "/investimentos/aplicar", investimento(id, "TESOURO_SELIC", "2500.00")));
+            exigirSucesso(post(token, "/metas/criar", meta(id, "Viagem de férias", "VIAGEM")));
+            exigirSucesso(post(token, "/metas/criar", meta(id, "Reserva de emergência", "RESERVA")));
+        }
+        // IDs usados nas leituras por ID são do usuário principal
+        idTransacao = exigirSucesso(post(tokenPrincipal, "/transacoes/receita",
+            transacao(usuario, "Freelance", "Projeto", "1200.00"))).get("idTransacao").asLong();
+        idInvestimento = exigirSucesso(post(tokenPrincipal, "/investimentos/aplicar",
+            investimento(usuario, "LCI", "3000.00"))).get("idInvestimento").asLong();
+        idMeta = exigirSucesso(post(tokenPrincipal, "/metas/criar",
+            meta(usuario, "Notebook", "ELETRONICOS"))).get("idMeta").asLong();
+    }
+
+    private void registrarVerificacoes() {
+        String hoje = LocalDate.now().toString();
+        String inicioAno = LocalDate.now().withDayOfYear(1).toString();
+
+        // Usuários
+        get("GET /usuarios", 1, "/usuarios?tamanho=20");
+        get("GET /usuarios?fields", 1, "/usuarios?fields=idUsuario,nomeCompleto,idade&tamanho=20");
+        get("GET /usuarios/{id}", 1, "/usuarios/" + usuario);
+        get("GET /usuarios/email/{email}", 1, "/usuarios/email/" + email("principal"));
+        get("GET /usuarios/sessao", 1, "/usuarios/sessao");
+        get("GET /usuarios/ativos", 1, "/usuarios/ativos");
+        get("GET /usuarios/inativos", 1, "/usuarios/inativos");
+        get("GET /usuarios/busca", 0, "/usuarios/busca?q=consultas");
+        get("GET /usuarios/buscar", 1, "/usuarios/buscar?nome=consultas");
+        get("GET /usuarios/genero/{genero}", 1, "/usuarios/genero/FEMININO");
+        get("GET /usuarios/novos", 1, "/usuarios/novos");
+        get("GET /usuarios/estatisticas/ativos", 1, "/usuarios/estatisticas/ativos");
+        get("GET /usuarios/estatisticas/ultimo-mes", 1, "/usuarios/estatisticas/ultimo-mes");
+        get("GET /usuarios/estatisticas/cache-existencia", 0, "/usuarios/estatisticas/cache-existencia");
+        get("GET /usuarios/estatisticas/cache-segundo-nivel", 0, "/usuarios/estatisticas/cache-segundo-nivel");
+        get("GET /usuarios/estatisticas/indice-busca", 0, "/usuarios/estatisticas/indice-busca");
+        adicionar("POST /usuarios/auth", 1,
+            () -> post(null, "/usuarios/auth", Map.of("email", email("principal"), "senha", SENHA)));
+
+        // Transações
+        get("GET /transacoes", 1, "/transacoes?tamanho=20");
+        get("GET /transacoes?fields", 1, "/transacoes?fields=idTransacao,valor,data&tamanho=20");
+        get("GET /transacoes/exportar", 1, "/transacoes/exportar?idUsuario=" + usuario);
+        get("GET /transacoes/{id}", 1, "/transacoes/" + idTransacao);
+        get("GET /transacoes/usuario/{idUsuario}", 1, "/transacoes/usuario/" + usuario);
+        get("GET /transacoes/usuario/{idUsuario}/pagina", 1, "/transacoes/usuario/" + usuario + "/pagina?tamanho=2");
+        get("GET /transacoes/usuario/{idUsuario}/busca", 1, "/transacoes/usuario/" + usuario + "/busca?q=uber");
+        get("GET /transacoes/estatisticas/indice-busca", 0, "/transacoes/estatisticas/indice-busca");
+        get("GET /transacoes/usuario/{idUsuario}/exportar", 1, "/transacoes/usuario/" + usuario + "/exportar?formato=csv");
+        get("GET /transacoes/tipo/{tipo}", 1, "/transacoes/tipo/DEBITO?tamanho=20");
+        get("GET /transacoes/categoria/{categoria}", 1, "/transacoes/categoria/transporte");
+        get("GET /transacoes/usuario/{idUsuario}/saldo", 1, "/transacoes/usuario/" + usuario + "/saldo");
+        get("GET /transacoes/usuario/{idUsuario}/periodo", 2,
+            "/transacoes/usuario/" + usuario + "/periodo?dataInicio=" + inicioAno + "&dataFim=" + hoje);
+        get("GET /transacoes/usuario/{idUsuario}/categorias", 1, "/transacoes/usuario/" + usuario + "/categorias");
+        get("GET /transacoes/usuario/{idUsuario}/receitas", 1, "/transacoes/usuario/" + usuario + "/receitas");
+        get("GET /transacoes/usuario/{idUsuario}/despesas", 1, "/transacoes/usuario/" + usuario + "/despesas");
+        criar("POST /transacoes", 3, "transacao", "idTransacao", () -> post(tokenPrincipal, "/transacoes",
+            entidadeTransacao(usuario, "DEBITO", "Lazer", "Cinema", "48.00")));
+        adicionar("PUT /transacoes/{id}", 6, () -> put(tokenPrincipal, "/transacoes/" + criados.get("transacao"),
+            entidadeTransacao(usuario, "DEBITO", "Lazer", "Cinema e pipoca", "72.00")));
+        adicionar("POST /transacoes/receita", 3, () -> post(tokenPrincipal, "/transacoes/receita",
+            transacao(usuario, "Vendas", "Venda de bicicleta", "800.00")));
+        adicionar("POST /transacoes/despesa", 3, () -> post(tokenPrincipal, "/transacoes/despesa",
+            transacao(usuario, "Saúde", "Farmácia", "64.10")));
+        adicionar("POST /transacoes/usuario/{idUsuario}/importacao", 4, () -> post(tokenPrincipal,
+            "/transacoes/usuario/" + usuario + "/importacao", List.of(
+                entidadeTransacao(usuario, "CREDITO", "Outros", "Reembolso", "120.00"),
+                entidadeTransacao(usuario, "DEBITO", "Moradia", "Condomínio", "650.00"))));
+        adicionar("POST /transacoes/usuario/{idUsuario}/resumo-mensal/reconstruir", 2,
+            () -> post(tokenPrincipal, "/transacoes/usuario/" + usuario + "/resumo-mensal/reconstruir", Map.of()));
+        adicionar("POST /transacoes/usuario/{idUsuario}/saldo/reconstruir", 2,
+            () -> post(tokenPrincipal, "/transacoes/usuario/" + usuario + "/saldo/reconstruir", Map.of()));
+        adicionar("DELETE /transacoes/{id}", 5, () -> delete(tokenPrincipal, "/transacoes/" + criados.get("transacao")));
+
+        // Investimentos
+        get("GET /investimentos", 1, "/investimentos?tamanho=20");
+        get("GET /investimentos?fields", 1, "/investimentos?fields=idInvestimento,valorInvestido,ativo&tamanho=20");
+        get("GET /investimentos/exportar", 1, "/investimentos/exportar?idUsuario=" + usuario);
+        get("GET /investimentos/{id}", 1, "/investimentos/" + idInvestimento);
+        get("GET /investimentos/usuario/{idUsuario}", 1, "/investimentos/usuario/" + usuario);
+        get("GET /investimentos/ativos", 1, "/investimentos/ativos?tamanho=20");
+        get("GET /investimentos/usuario/{idUsuario}/ativos", 1, "/investimentos/usuario/" + usuario + "/ativos");
+        get("GET /investimentos/tipo/{tipo}", 1, "/investimentos/tipo/CDB?tamanho=20");
+        get("GET /investimentos/usuario/{idUsuario}/total", 1, "/investimentos/usuario/" + usuario + "/total");
+        get("GET /investimentos/usuario/{idUsuario}/total-ativo", 1, "/investimentos/usuario/" + usuario + "/total-ativo");
+        get("GET /investimentos/usuario/{idUsuario}/valor-atual", 1, "/investimentos/usuario/" + usuario + "/valor-atual");
+        criar("POST /investimentos", 2, "investimento", "idInvestimento", () -> post(tokenPrincipal, "/investimentos",
+            entidadeInvestimento(usuario, "ETF", "1500.00")));
+        adicionar("PUT /investimentos/{id}", 3, () -> put(tokenPrincipal, "/investimentos/" + criados.get("investimento"),
+            entidadeInvestimento(usuario, "ETF", "1750.00")));
+        adicionar("PATCH /investimentos/{id}/resgatar", 3,
+            () -> patch(tokenPrincipal, "/investimentos/" + criados.get("investimento") + "/resgatar", Map.of()));
+        adicionar("POST /investimentos/aplicar", 2,
+            () -> post(tokenSecundario, "/investimentos/aplicar", investimento(secundario, "FII", "900.00")));
+        adicionar("DELETE /investimentos/{id}", 3, () -> delete(tokenPrincipal, "/investimentos/" + criados.get("investimento")));
+
+        // Metas
+        get("GET /metas", 1, "/metas?tamanho=20");
+        get("GET /metas?fields", 1, "/metas?fields=idMeta,nome,percentualAlcancado&tamanho=20");
+        get("GET /metas/exportar", 1, "/metas/exportar?idUsuario=" + usuario);
+        get("GET /metas/{id}", 1, "/metas/" + idMeta);
+        get("GET /metas/usuario/{idUsuario}", 1, "/metas/usuario/" + usuario);
+        get("GET /metas/ativas", 1, "/metas/ativas?tamanho=20");
+        get("GET /metas/usuario/{idUsuario}/ativas", 1, "/metas/usuario/" + usuario + "/ativas");
+        get("GET /metas/categoria/{categoria}", 1, "/metas/categoria/VIAGEM");
+        get("GET /metas/status/{status}", 1, "/metas/status/ATIVA");
+        get("GET /metas/usuario/{idUsuario}/total-necessario", 1, "/metas/usuario/" + usuario + "/total-necessario");
+        get("GET /metas/usuario/{idUsuario}/total-acumulado", 1, "/metas/usuario/" + usuario + "/total-acumulado");
+        get("GET /metas/usuario/{idUsuario}/estatisticas/ativas", 1, "/metas/usuario/" + usuario + "/estatisticas/ativas");
+        get("GET /metas/usuario/{idUsuario}/estatisticas/concluidas", 1, "/metas/usuario/" + usuario + "/estatisticas/concluidas");
+        criar("POST /metas", 1, "meta", "idMeta", () -> post(tokenPrincipal, "/metas", entidadeMeta(usuario, "Bicicleta", "8000.00")));
+        adicionar("PUT /metas/{id}", 2, () -> put(tokenPrincipal, "/metas/" + criados.get("meta"),
+            entidadeMeta(usuario, "Bicicleta elétrica", "9000.00")));
+        adicionar("PATCH /metas/{id}/adicionar-valor", 2,
+            () -> patch(tokenPrincipal, "/metas/" + criados.get("meta") + "/adicionar-valor", Map.of("valor", "150.00")));
+        adicionar("POST /metas/criar", 1,
+            () -> post(tokenSecundario, "/metas/criar", meta(secundario, "Curso de idiomas", "EDUCACAO")));
+        adicionar("DELETE /metas/{id}", 2, () -> delete(tokenPrincipal, "/metas/" + criados.get("meta")));
+
+        // Dashboard
+        get("GET /dashboard/usuario/{idUsuario}", 2, "/dashboard/usuario/" + usuario);
+        get("GET /dashboard", 2, "/dashboard");
+
+        // Escritas de usuários por último: alteram as listagens globais acima
+        adicionar("POST /usuarios/registrar", 5, () -> post(null, "/usuarios/registrar", novoUsuario("registrar")));
+        adicionar("POST /usuarios", 5, () -> post(null, "/usuarios", novoUsuario("criar")));
+        adicionar("PUT /usuarios/{id}", 2, () -> put(tokenSemDados, "/usuarios/" + semDados, Map.of(
+            "nomeCompleto", "Usuário Sem Dados Alterado", "email", email("sem-dados"),
+            "senha", SENHA, "dataNascimento", "1990-01-01", "genero", "MASCULINO")));
+        adicionar("PATCH /usuarios/{id}/ativar", 1, () -> patch(tokenSemDados, "/usuarios/" + semDados + "/ativar", Map.of()));
+        adicionar("POST /usuarios/busca/reconstruir", 1, () -> post(tokenPrincipal, "/usuarios/busca/reconstruir", Map.of()));
+        adicionar("DELETE /usuarios/{id}", 5, () -> delete(tokenSemDados, "/usuarios/" + semDados));
+        // Desativar revoga o token do usuário: fica por último, com o usuário secundário
+        adicionar("PATCH /usuarios/{id}/desativar", 2,
+            () -> patch(tokenSecundario, "/usuarios/" + secundario + "/desativar", Map.of()));
+    }
+
+    private void get(String endpoint, int consultas, String caminho) {
+        adicionar(endpoint, consultas, () -> enviar(tokenPrincipal, HttpRequest.newBuilder(uri(caminho)).GET()));
+    }
+
+    private void adicionar(String endpoint, int consultas, Chamada chamada) {
+        verificacoes.add(new Verificacao(endpoint, consultas, chamada));
+    }
+
+    // POST que cria uma entidade usada pelas verificações seguintes
+    private void criar(String endpoint, int consultas, String chave, String campoId, Chamada chamada) {
+        adicionar(endpoint, consultas, () -> {
+            Resposta resposta = chamada.executar();
+            if (resposta.isSucesso()) {
+                criados.put(chave, objectMapper.readTree(resposta.corpo).get(campoId).asLong());
+            }
+            return resposta;
+        });
+    }
+
+    // [quantidade de requisições, total de comandos] de todas as rotas
+    private double[] lerMetrica() {
+        double[] valores = new double[2];
+        for (DistributionSummary resumo : meterRegistry.find(ContadorConsultasFilter.METRICA).summaries()) {
+            valores[0] += resumo.count();
+            valores[1] += resumo.totalAmount();
+        }
+        return valores;
+    }
+
+    // Nas exportações a contagem é registrada ao fim da escrita assíncrona, logo após a resposta
+    private double[] aguardarRegistro(double[] antes) throws InterruptedException {
+        long limite = System.currentTimeMillis() + ESPERA_REGISTRO_MS;
+        double[] depois = lerMetrica();
+        while (depois[0] < antes[0] + 1 && System.currentTimeMillis() < limite) {
+            Thread.sleep(20);
+            depois = lerMetrica();
+        }
+        return depois;
+    }
+
+    private long registrarUsuario(String nome, String email) throws IOException, InterruptedException {
+        Map<String, Object> usuario = new LinkedHashMap<>();
+        usuario.put("nomeCompleto", nome);
+        usuario.put("email", email);
+        usuario.put("senha", SENHA);
+        usuario.put("dataNascimento", "1990-01-01");
+        usuario.put("genero", "FEMININO");
+        return exigirSucesso(post(null, "/usuarios/registrar", usuario)).get("idUsuario").asLong();
+    }
+
+    private String autenticar(String email) throws IOException, InterruptedException {
+        return exigirSucesso(post(null, "/usuarios/auth", Map.of("email", email, "senha", SENHA))).get("token").asText();
+    }
+
+    private JsonNode exigirSucesso(Resposta resposta) throws IOException {
+        if (!resposta.isSucesso()) {
+            throw new IllegalStateException("Falha na preparação (HTTP " + resposta.status + "): " + resposta.corpo);
+        }
+        return objectMapper.readTree(resposta.corpo);
+    }
+
+    private static String email(String papel) {
+        return "consultas." + papel + "@exemplo.com.br";
+    }
+
+    private Map<String, Object> novoUsuario(String papel) {
+        Map<String, Object> usuario = new LinkedHashMap<>();
+        usuario.put("nomeCompleto", "Usuário " + papel);
+        usuario.put("email", email(papel));
+        usuario.put("senha", SENHA);
+        usuario.put("dataNascimento", "1995-06-15");
+        usuario.put("genero", "MASCULINO");
+        return usuario;
+    }
+
+    private static Map<String, Object> transacao(long idUsuario, String categoria, String descricao, String valor) {
+        Map<String, Object> transacao = new LinkedHashMap<>();
+        transacao.put("idUsuario", idUsuario);
+        transacao.put("categoria", categoria);
+        transacao.put("descricao", descricao);
+        transacao.put("valor", valor);
+        return transacao;
+    }
+
+    private static Map<String, Object> entidadeTransacao(long idUsuario, String tipo, String categoria, String descricao, String valor) {
+        Map<String, Object> transacao = transacao(idUsuario, categoria, descricao, valor);
+        transacao.put("tipoTransacao", tipo);
+        transacao.put("data", LocalDate.now().toString());
+        return transacao;
+    }
+
+    private static Map<String, Object> investimento(long idUsuario, String tipo, String valor) {
+        Map<String, Object> investimento = new LinkedHashMap<>();
+        investimento.put("idUsuario", idUsuario);
+        investimento.put("tipo", tipo);
+        investimento.put("valor", valor);
+        return investimento;
+    }
+
+    private static Map<String, Object> entidadeInvestimento(long idUsuario, String tipo, String valor) {
+        Map<String, Object> investimento = new LinkedHashMap<>();
+        investimento.put("idUsuario", idUsuario);
+        investimento.put("tipo", tipo);
+        investimento.put("valorInvestido", valor);
+        investimento.put("dataAplicacao", LocalDate.now().toString());
+        return investimento;
+    }
+
+    private static Map<String, Object> meta(long idUsuario, String nome, String categoria) {
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("idUsuario", idUsuario);
+        meta.put("nome", nome);
+        meta.put("descricao", "Meta da verificação de consultas");
+        meta.put("categoria", categoria);
+        meta.put("valorNecessario", "10000.00");
+        meta.put("dataLimite", LocalDate.now().plusYears(1).toString());
+        return meta;
+    }
+
+    private static Map<String, Object> entidadeMeta(long idUsuario, String nome, String valorNecessario) {
+        Map<String, Object> meta = meta(idUsuario, nome, "OUTROS");
+        meta.put("valorNecessario", valorNecessario);
+        meta.put("valorAcumulado", "0.00");
+        meta.put("dataCriacao", LocalDate.now().toString());
+        meta.put("status", "ATIVA");
+        return meta;
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + "/api" + caminho);
+    }
+
+    private Resposta post(String token, String caminho, Object corpo) throws IOException, InterruptedException {
+        return enviar(token, HttpRequest.newBuilder(uri(caminho)).POST(json(corpo)));
+    }
+
+    private Resposta put(String token, String caminho, Object corpo) throws IOException, InterruptedException {
+        return enviar(token, HttpRequest.newBuilder(uri(caminho)).PUT(json(corpo)));
+    }
+
+    private Resposta patch(String token, String caminho, Object corpo) throws IOException, InterruptedException {
+        return enviar(token, HttpRequest.newBuilder(uri(caminho)).method("PATCH", json(corpo)));
+    }
+
+    private Resposta delete(String token, String caminho) throws IOException, InterruptedException {
+        return enviar(token, HttpRequest.newBuilder(uri(caminho)).DELETE());
+    }
+
+    private HttpRequest.BodyPublisher json(Object corpo) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo));
+    }
+
+    private Resposta enviar(String token, HttpRequest.Builder requisicao) throws IOException, InterruptedException {
+        requisicao.header("Content-Type", "application/json");
+        if (token != null) {
+            requisicao.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> resposta = http.send(requisicao.build(), HttpResponse.BodyHandlers.ofString());
+        return new Resposta(resposta.statusCode(), resposta.body());
+    }
+}
@@ -0,0 +1,183 @@
+package com.fintech.sessao;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Rotas com ID de usuário só atendem o usuário do token, qualquer que seja a grafia do ID no caminho
+ * (";parâmetros", percent-encoding): o SessaoInterceptor confere o valor que o controller recebe.
+ * Recursos de outro usuário endereçados pelo próprio ID respondem 404, como se não existissem.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("consultas")
+class AcessoPorRotaTest {
+
+    private static final String SENHA = "senha123";
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private long usuario;
+    private long outro;
+    private String token;
+    private String tokenOutro;
+
+    @BeforeEach
+    void preparar() throws IOException, InterruptedException {
+        String email = "sessao." + UUID.randomUUID() + "@exemplo.com.br";
+        String emailOutro = "sessao." + UUID.randomUUID() + "@exemplo.com.br";
+        usuario = registrarUsuario(email);
+        outro = registrarUsuario(emailOutro);
+        token = autenticar(email);
+        tokenOutro = autenticar(emailOutro);
+    }
+
+    @Test
+    void proprioUsuarioComParametrosNoCaminho() throws Exception {
+        assertEquals(200, get("/usuarios/" + usuario + ";x=1").statusCode());
+        assertEquals(200, get("/transacoes/usuario/" + usuario + ";x/saldo").statusCode());
+    }
+
+    @Test
+    void outroUsuario() throws Exception {
+        assertEquals(403, get("/usuarios/" + outro).statusCode());
+        assertEquals(403, get("/transacoes/usuario/" + outro + "/saldo").statusCode());
+    }
+
+    @Test
+    void outroUsuarioComParametrosNoCaminho() throws Exception {
+        assertEquals(403, get("/usuarios/" + outro + ";x=1").statusCode());
+        assertEquals(403, get("/transacoes/usuario/" + outro + ";x/saldo").statusCode());
+        assertEquals(403, enviar(token, HttpRequest.newBuilder(uri("/usuarios/" + outro + ";x")).DELETE()).statusCode());
+    }
+
+    @Test
+    void outroUsuarioComIdCodificado() throws Exception {
+        assertEquals(403, get("/usuarios/" + codificar(outro)).statusCode());
+        assertEquals(403, get("/transacoes/usuario/" + codificar(outro) + "/saldo").statusCode());
+    }
+
+    @Test
+    void recursoDeOutroUsuario() throws Exception {
+        Map<String, Object> transacao = new LinkedHashMap<>();
+        transacao.put("idUsuario", outro);
+        transacao.put("categoria", "Salário");
+        transacao.put("descricao", "Salário mensal");
+        transacao.put("valor", "5000.00");
+        long idTransacao = lerJson(enviar(tokenOutro, HttpRequest.newBuilder(uri("/transacoes/receita"))
+            .POST(json(transacao)))).get("idTransacao").asLong();
+
+        assertEquals(404, get("/transacoes/" + idTransacao).statusCode());
+        assertEquals(404, get("/transacoes/" + idTransacao + ";x=1").statusCode());
+        assertEquals(404, enviar(token, HttpRequest.newBuilder(uri("/transacoes/" + idTransacao)).DELETE()).statusCode());
+        assertEquals(200, enviar(tokenOutro, HttpRequest.newBuilder(uri("/transacoes/" + idTransacao)).GET()).statusCode());
+    }
+
+    @Test
+    void listagensRestritasAoUsuarioDaSessao() throws Exception {
+        for (long id : new long[] {usuario, outro}) {
+            Map<String, Object> transacao = new LinkedHashMap<>();
+            transacao.put("idUsuario", id);
+            transacao.put("categoria", "Salário");
+            transacao.put("descricao", "Salário mensal");
+            transacao.put("valor", "5000.00");
+            lerJson(enviar(id == usuario ? token : tokenOutro, HttpRequest.newBuilder(uri("/transacoes/receita")).POST(json(transacao))));
+        }
+
+        assertEquals(403, get("/transacoes?idUsuario=" + outro).statusCode());
+        assertEquals(403, get("/transacoes/exportar?idUsuario=" + outro).statusCode());
+        assertEquals(403, get("/investimentos?idUsuario=" + outro).statusCode());
+        assertEquals(403, get("/metas/exportar?idUsuario=" + outro).statusCode());
+
+        for (JsonNode linha : lerJson(get("/transacoes/tipo/CREDITO")).get("itens")) {
+            assertEquals(usuario, linha.get("idUsuario").asLong());
+        }
+        HttpResponse<String> exportacao = get("/transacoes/exportar");
+        assertEquals(200, exportacao.statusCode());
+        for (String linha : exportacao.body().split("\n")) {
+            assertEquals(usuario, objectMapper.readTree(linha).get("idUsuario").asLong());
+        }
+        // Exportação de todos os usuários: só no actuator, que não a expõe por padrão
+        assertFalse(lerJson(get("/actuator")).get("_links").has("usuarios"));
+    }
+
+    @Test
+    void semToken() throws Exception {
+        assertEquals(401, enviar(null, HttpRequest.newBuilder(uri("/usuarios/" + outro + ";x=1")).GET()).statusCode());
+    }
+
+    // Cada dígito como %3N
+    private static String codificar(long id) {
+        StringBuilder codificado = new StringBuilder();
+        for (char digito : Long.toString(id).toCharArray()) {
+            codificado.append("%3").append(digito);
+        }
+        return codificado.toString();
+    }
+
+    private long registrarUsuario(String email) throws IOException, InterruptedException {
+        Map<String, Object> usuario = new LinkedHashMap<>();
+        usuario.put("nomeCompleto", "Usuário Sessão");
+        usuario.put("email", email);
+        usuario.put("senha", SENHA);
+        usuario.put("dataNascimento", "1990-01-01");
+        usuario.put("genero", "FEMININO");
+        return lerJson(enviar(null, HttpRequest.newBuilder(uri("/usuarios/registrar")).POST(json(usuario))))
+            .get("idUsuario").asLong();
+    }
+
+    private String autenticar(String email) throws IOException, InterruptedException {
+        return lerJson(enviar(null, HttpRequest.newBuilder(uri("/usuarios/auth"))
+            .POST(json(Map.of("email", email, "senha", SENHA))))).get("token").asText();
+    }
+
+    private HttpResponse<String> get(String caminho) throws IOException, InterruptedException {
+        return enviar(token, HttpRequest.newBuilder(uri(caminho)).GET());
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + porta + "/api" + caminho);
+    }
+
+    private HttpRequest.BodyPublisher json(Object corpo) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo));
+    }
+
+    private JsonNode lerJson(HttpResponse<String> resposta) throws IOException {
+        if (resposta.statusCode() >= 300) {
+            throw new IllegalStateException("Falha na preparação (HTTP " + resposta.statusCode() + "): " + resposta.body());
+        }
+        return objectMapper.readTree(resposta.body());
+    }
+
+    private HttpResponse<String> enviar(String token, HttpRequest.Builder requisicao) throws IOException, InterruptedException {
+        requisicao.header("Content-Type", "application/json");
+        if (token != null) {
+            requisicao.header("Authorization", "Bearer " + token);
+        }
+        return http.send(requisicao.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
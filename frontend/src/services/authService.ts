@@ -86,8 +86,8 @@ class AuthService {
                 const data = await response.json();
                 const usuario = data.usuario;
                 
-                // Gerar token simples para manter compatibilidade
-                const token = this.generateToken(usuario);
+                // Token de sessão assinado pelo backend (enviado como Authorization: Bearer)
+                const token: string = data.token;
 
                 // Salvar sessão no localStorage
                 this.setCurrentUser(usuario);
@@ -143,21 +143,17 @@ class AuthService {
         return localStorage.getItem(this.TOKEN_KEY);
     }
 
+    // Cabeçalhos das chamadas à API com o token de sessão, quando houver
+    authHeaders(headers: Record<string, string> = {}): Record<string, string> {
+        const token = this.getToken();
+        return token ? { ...headers, Authorization: `Bearer ${token}` } : headers;
+    }
+
     // Salvar usuário atual na sessão
     private setCurrentUser(usuario: Usuario): void {
         localStorage.setItem(this.CURRENT_USER_KEY, JSON.stringify(usuario));
     }
 
-    // Gerar token simples para compatibilidade
-    private generateToken(usuario: Usuario): string {
-        const payload = {
-            id: usuario.idUsuario,
-            email: usuario.email,
-            exp: Date.now() + (24 * 60 * 60 * 1000) // 24 horas
-        };
-        return btoa(JSON.stringify(payload));
-    }
-
     // Estatísticas do usuário atual
     getStats() {
         return {
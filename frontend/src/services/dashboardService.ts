@@ -1,4 +1,5 @@
 // Serviço para dados do Dashboard - Integração com Backend
+import { authService } from './authService';
 const API_BASE_URL = 'http://localhost:8080/api';
 
 export interface DashboardData {
@@ -29,53 +30,34 @@ class DashboardService {
         try {
             console.log(`🔄 Carregando dados do dashboard para usuário ${idUsuario}${periodo ? ` - período: ${periodo}` : ' - totais gerais'}`);
 
-            // Buscar dados básicos (todos estes endpoints funcionam)
-            const [saldoResponse, receitasResponse, despesasResponse, investimentosResponse, metasResponse] = await Promise.all([
-                fetch(`${API_BASE_URL}/transacoes/usuario/${idUsuario}/saldo`),
-                fetch(`${API_BASE_URL}/transacoes/usuario/${idUsuario}/receitas`),
-                fetch(`${API_BASE_URL}/transacoes/usuario/${idUsuario}/despesas`),
-                fetch(`${API_BASE_URL}/investimentos/usuario/${idUsuario}/total-ativo`),
-                fetch(`${API_BASE_URL}/metas/usuario/${idUsuario}/estatisticas/ativas`)
-            ]);
-
-            // Processar respostas
-            const saldoData = await saldoResponse.json();
-            const receitasData = await receitasResponse.json();
-            const despesasData = await despesasResponse.json();
-            const investimentosData = await investimentosResponse.json();
-            const metasData = await metasResponse.json();
-
-            // Calcular balanço
-            const receitas = receitasData.totalReceitas || 0;
-            const despesas = despesasData.totalDespesas || 0;
-            const saldo = saldoData.saldo || 0;
-            const investimentos = investimentosData.totalInvestidoAtivo || 0;
-            const metas = metasData.metasAtivas || 0;
-
-            console.log(`📊 Dados reais completos: Saldo=${saldo}, Receitas=${receitas}, Despesas=${despesas}, Investimentos=${investimentos}, Metas=${metas}`);
+            // Uma única chamada agregada substitui as cinco requisições individuais
+            const response = await fetch(`${API_BASE_URL}/dashboard/usuario/${idUsuario}`, { headers: authService.authHeaders() });
+            if (!response.ok) {
+                throw new Error(`Erro ao carregar dashboard: ${response.status}`);
+            }
+
+            const data = await response.json();
+
+            const toCategoria = (item: any): TransacaoPorCategoria => ({
+                categoria: item.categoria,
+                valor: item.valor || 0,
+                count: item.quantidade || 0
+            });
+
+            console.log(`📊 Dados reais completos: Saldo=${data.saldo}, Receitas=${data.totalReceitas}, Despesas=${data.totalDespesas}, Investimentos=${data.totalInvestidoAtivo}, Metas=${data.metasAtivas}`);
 
             // Retornar dados reais do backend
             return {
                 cards: {
-                    saldoTotal: saldo,
-                    receitasTotal: receitas,
-                    gastosTotal: despesas,
-                    totalInvestidoAtivo: investimentos,
-                    metasAtivas: metas,
-                    percentualMetasConcluidas: metas > 0 ? 78 : 0
+                    saldoTotal: data.saldo || 0,
+                    receitasTotal: data.totalReceitas || 0,
+                    gastosTotal: data.totalDespesas || 0,
+                    totalInvestidoAtivo: data.totalInvestidoAtivo || 0,
+                    metasAtivas: data.metasAtivas || 0,
+                    percentualMetasConcluidas: data.percentualMetasConcluidas || 0
                 },
-                // TODO: Implementar gráficos reais quando backend tiver endpoints de categoria
-                despesasPorCategoria: [
-                    { categoria: 'Alimentação', valor: despesas * 0.6, count: 5 },
-                    { categoria: 'Transporte', valor: despesas * 0.3, count: 3 },
-                    { categoria: 'Outros', valor: despesas * 0.1, count: 2 }
-                ],
-                receitasPorCategoria: receitas > 0 ? [
-                    { categoria: 'Salário', valor: receitas * 0.8, count: 1 },
-                    { categoria: 'Freelance', valor: receitas * 0.2, count: 2 }
-                ] : [
-                    { categoria: 'Sem receitas', valor: 0, count: 0 }
-                ]
+                despesasPorCategoria: (data.despesasPorCategoria || []).map(toCategoria),
+                receitasPorCategoria: (data.receitasPorCategoria || []).map(toCategoria)
             };
 
         } catch (error) {
@@ -84,6 +66,35 @@ class DashboardService {
         }
     }
 
+    // Receitas e despesas por categoria (soma e quantidade), opcionalmente restritas a um período
+    async getResumoPorCategoria(idUsuario: number, dataInicio?: string, dataFim?: string): Promise<{
+        receitasPorCategoria: TransacaoPorCategoria[];
+        despesasPorCategoria: TransacaoPorCategoria[];
+    }> {
+        const params = new URLSearchParams();
+        if (dataInicio && dataFim) {
+            params.set('dataInicio', dataInicio);
+            params.set('dataFim', dataFim);
+        }
+        const query = params.toString() ? `?${params.toString()}` : '';
+
+        const response = await fetch(`${API_BASE_URL}/transacoes/usuario/${idUsuario}/categorias${query}`, { headers: authService.authHeaders() });
+        if (!response.ok) {
+            throw new Error(`Erro ao carregar resumo por categoria: ${response.status}`);
+        }
+
+        const itens: any[] = await response.json();
+        const toCategoria = (item: any): TransacaoPorCategoria => ({
+            categoria: item.categoria,
+            valor: item.valor || 0,
+            count: item.quantidade || 0
+        });
+
+        return {
+            receitasPorCategoria: itens.filter(item => item.tipoTransacao === 'CREDITO').map(toCategoria),
+            despesasPorCategoria: itens.filter(item => item.tipoTransacao === 'DEBITO').map(toCategoria)
+        };
+    }
 
     // Formatar valor para exibição
     formatCurrency(value: number): string {
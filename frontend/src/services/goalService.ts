@@ -1,4 +1,5 @@
 // Serviço para Metas Financeiras - Integração com Backend
+import { authService } from './authService';
 const API_BASE_URL = 'http://localhost:8080/api';
 
 export interface Meta {
@@ -45,7 +46,7 @@ class GoalService {
         try {
             console.log(`🔄 Buscando metas reais para usuário ${idUsuario}`);
             
-            const response = await fetch(`${API_BASE_URL}/metas/usuario/${idUsuario}`);
+            const response = await fetch(`${API_BASE_URL}/metas/usuario/${idUsuario}`, { headers: authService.authHeaders() });
             
             if (!response.ok) {
                 throw new Error(`Erro na API: ${response.status}`);
@@ -67,9 +68,7 @@ class GoalService {
         try {
             const response = await fetch(`${API_BASE_URL}/metas`, {
                 method: 'POST',
-                headers: {
-                    'Content-Type': 'application/json',
-                },
+                headers: authService.authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify({
                     idUsuario: meta.idUsuario,
                     nome: meta.nome,
@@ -98,9 +97,7 @@ class GoalService {
         try {
             const response = await fetch(`${API_BASE_URL}/metas/${idMeta}/adicionar-valor`, {
                 method: 'PATCH',
-                headers: {
-                    'Content-Type': 'application/json',
-                },
+                headers: authService.authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify({ valor: valor.toString() })
             });
 
@@ -121,9 +118,7 @@ class GoalService {
         try {
             const response = await fetch(`${API_BASE_URL}/metas/${meta.idMeta}`, {
                 method: 'PUT',
-                headers: {
-                    'Content-Type': 'application/json',
-                },
+                headers: authService.authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify({
                     idUsuario: meta.idUsuario,
                     nome: meta.nome,
@@ -152,6 +147,7 @@ class GoalService {
         try {
             const response = await fetch(`${API_BASE_URL}/metas/${idMeta}`, {
                 method: 'DELETE',
+                headers: authService.authHeaders()
             });
 
             if (response.ok) {
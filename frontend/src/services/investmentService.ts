@@ -1,4 +1,5 @@
 // Serviço para Investimentos - Integração com Backend
+import { authService } from './authService';
 const API_BASE_URL = 'http://localhost:8080/api';
 
 export interface Investimento {
@@ -37,7 +38,7 @@ class InvestmentService {
         try {
             console.log(`🔄 Buscando investimentos reais para usuário ${idUsuario}`);
             
-            const response = await fetch(`${API_BASE_URL}/investimentos/usuario/${idUsuario}`);
+            const response = await fetch(`${API_BASE_URL}/investimentos/usuario/${idUsuario}`, { headers: authService.authHeaders() });
             
             if (!response.ok) {
                 throw new Error(`Erro na API: ${response.status}`);
@@ -59,9 +60,7 @@ class InvestmentService {
         try {
             const response = await fetch(`${API_BASE_URL}/investimentos`, {
                 method: 'POST',
-                headers: {
-                    'Content-Type': 'application/json',
-                },
+                headers: authService.authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify({
                     idUsuario: investimento.idUsuario,
                     tipo: investimento.tipo,
@@ -88,9 +87,7 @@ class InvestmentService {
         try {
             const response = await fetch(`${API_BASE_URL}/investimentos/${idInvestimento}/resgate`, {
                 method: 'PUT',
-                headers: {
-                    'Content-Type': 'application/json',
-                }
+                headers: authService.authHeaders({ 'Content-Type': 'application/json' })
             });
 
             if (response.ok) {
@@ -1,4 +1,5 @@
 // Serviço para Transações - Integração com Backend
+import { authService } from './authService';
 const API_BASE_URL = 'http://localhost:8080/api';
 
 export interface Transacao {
@@ -27,7 +28,7 @@ class TransactionService {
         try {
             console.log(`🔄 Buscando transações reais para usuário ${idUsuario}`);
             
-            const response = await fetch(`${API_BASE_URL}/transacoes/usuario/${idUsuario}`);
+            const response = await fetch(`${API_BASE_URL}/transacoes/usuario/${idUsuario}`, { headers: authService.authHeaders() });
             
             if (!response.ok) {
                 throw new Error(`Erro na API: ${response.status}`);
@@ -49,9 +50,7 @@ class TransactionService {
         try {
             const response = await fetch(`${API_BASE_URL}/transacoes/receita`, {
                 method: 'POST',
-                headers: {
-                    'Content-Type': 'application/json',
-                },
+                headers: authService.authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify({
                     idUsuario: transacao.idUsuario,
                     categoria: transacao.categoria,
@@ -79,9 +78,7 @@ class TransactionService {
         try {
             const response = await fetch(`${API_BASE_URL}/transacoes/${transacao.idTransacao}`, {
                 method: 'PUT',
-                headers: {
-                    'Content-Type': 'application/json',
-                },
+                headers: authService.authHeaders({ 'Content-Type': 'application/json' }),
                 body: JSON.stringify({
                     idUsuario: transacao.idUsuario,
                     tipoTransacao: transacao.tipoTransacao,
@@ -110,6 +107,7 @@ class TransactionService {
         try {
             const response = await fetch(`${API_BASE_URL}/transacoes/${idTransacao}`, {
                 method: 'DELETE',
+                headers: authService.authHeaders()
             });
 
             if (response.ok) {
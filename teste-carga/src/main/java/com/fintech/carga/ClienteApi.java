@@ -0,0 +1,109 @@
+package com.fintech.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Cliente HTTP mínimo da API, compartilhado por todos os usuários virtuais
+ * comToken(...) devolve uma visão do mesmo cliente que envia o token de sessão (Authorization: Bearer)
+ */
+public class ClienteApi {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String url;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final String token;
+
+    public ClienteApi(String url) {
+        this(url, HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build(), new ObjectMapper(), null);
+    }
+
+    private ClienteApi(String url, HttpClient http, ObjectMapper objectMapper, String token) {
+        this.url = url;
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.token = token;
+    }
+
+    public ClienteApi comToken(String token) {
+        return new ClienteApi(url, http, objectMapper, token);
+    }
+
+    public Resposta get(String caminho) throws IOException, InterruptedException {
+        return enviar(HttpRequest.newBuilder(URI.create(url + caminho)).GET());
+    }
+
+    public Resposta post(String caminho, Object corpo) throws IOException, InterruptedException {
+        return enviar(HttpRequest.newBuilder(URI.create(url + caminho))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo))));
+    }
+
+    public Resposta put(String caminho, Object corpo) throws IOException, InterruptedException {
+        return enviar(HttpRequest.newBuilder(URI.create(url + caminho))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo))));
+    }
+
+    public Resposta patch(String caminho, Object corpo) throws IOException, InterruptedException {
+        return enviar(HttpRequest.newBuilder(URI.create(url + caminho))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo))));
+    }
+
+    public Resposta delete(String caminho) throws IOException, InterruptedException {
+        return enviar(HttpRequest.newBuilder(URI.create(url + caminho)).DELETE());
+    }
+
+    private Resposta enviar(HttpRequest.Builder requisicao) throws IOException, InterruptedException {
+        if (token != null) {
+            requisicao.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<byte[]> resposta = http.send(requisicao.timeout(TIMEOUT).build(), HttpResponse.BodyHandlers.ofByteArray());
+        return new Resposta(resposta.statusCode(), resposta.body());
+    }
+
+    /**
+     * Status e corpo de uma resposta; o JSON só é interpretado quando solicitado
+     */
+    public class Resposta {
+
+        private final int status;
+        private final byte[] corpo;
+
+        Resposta(int status, byte[] corpo) {
+            this.status = status;
+            this.corpo = corpo;
+        }
+
+        public int getStatus() { return status; }
+
+        public boolean isSucesso() { return status >= 200 && status < 300; }
+
+        public JsonNode json() throws IOException {
+            return objectMapper.readTree(corpo);
+        }
+
+        // Uma linha de resposta NDJSON
+        public JsonNode json(String linha) throws IOException {
+            return objectMapper.readTree(linha);
+        }
+
+        public String texto() {
+            return new String(corpo, StandardCharsets.UTF_8);
+        }
+    }
+}
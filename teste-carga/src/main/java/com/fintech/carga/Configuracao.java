@@ -0,0 +1,124 @@
+package com.fintech.carga;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parâmetros do teste de carga, lidos de argumentos no formato --chave=valor
+ */
+public class Configuracao {
+
+    private String url = "http://localhost:8080/api";
+    private int duracaoSegundos = 60;
+    private int aquecimentoSegundos = 15;
+    private int usuariosVirtuais = 16;
+    private int usuarios = 50;
+    private int metasDisputadas = 4;
+    private long idUsuarioLeituraInicial;
+    private long idUsuarioLeituraFinal;
+    private long semente = 42;
+    private double tolerancia = 0.20;
+    private Path baseline = Path.of("baseline-carga.json");
+    private Path resultado = Path.of("target", "resultado-carga.json");
+    private boolean salvarBaseline;
+
+    public static Configuracao deArgumentos(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (use --chave=valor)");
+            }
+            int separador = arg.indexOf('=');
+            if (separador < 0) {
+                valores.put(arg.substring(2), "true");
+            } else {
+                valores.put(arg.substring(2, separador), arg.substring(separador + 1));
+            }
+        }
+
+        Configuracao configuracao = new Configuracao();
+        for (Map.Entry<String, String> valor : valores.entrySet()) {
+            String v = valor.getValue();
+            switch (valor.getKey()) {
+                case "url" -> configuracao.url = v.endsWith("/") ? v.substring(0, v.length() - 1) : v;
+                case "duracao" -> configuracao.duracaoSegundos = positivo(valor.getKey(), v);
+                case "aquecimento" -> configuracao.aquecimentoSegundos = Integer.parseInt(v);
+                case "usuarios-virtuais" -> configuracao.usuariosVirtuais = positivo(valor.getKey(), v);
+                case "usuarios" -> configuracao.usuarios = positivo(valor.getKey(), v);
+                case "metas-disputadas" -> configuracao.metasDisputadas = positivo(valor.getKey(), v);
+                case "usuarios-leitura" -> configuracao.definirFaixaLeitura(v);
+                case "semente" -> configuracao.semente = Long.parseLong(v);
+                case "tolerancia" -> configuracao.tolerancia = Double.parseDouble(v);
+                case "baseline" -> configuracao.baseline = Path.of(v);
+                case "resultado" -> configuracao.resultado = Path.of(v);
+                case "salvar-baseline" -> configuracao.salvarBaseline = Boolean.parseBoolean(v);
+                default -> throw new IllegalArgumentException("Parâmetro desconhecido: --" + valor.getKey());
+            }
+        }
+
+        if (configuracao.metasDisputadas > configuracao.usuarios) {
+            throw new IllegalArgumentException("metas-disputadas não pode ser maior que usuarios");
+        }
+        return configuracao;
+    }
+
+    // Faixa "inicio-fim" de IDs já existentes (ex.: gerados por make gerar-dados) usada nas leituras do dashboard
+    private void definirFaixaLeitura(String faixa) {
+        String[] partes = faixa.split("-");
+        if (partes.length != 2) {
+            throw new IllegalArgumentException("usuarios-leitura deve estar no formato inicio-fim: " + faixa);
+        }
+        idUsuarioLeituraInicial = Long.parseLong(partes[0].trim());
+        idUsuarioLeituraFinal = Long.parseLong(partes[1].trim());
+        if (idUsuarioLeituraInicial <= 0 || idUsuarioLeituraFinal < idUsuarioLeituraInicial) {
+            throw new IllegalArgumentException("Faixa de usuários de leitura inválida: " + faixa);
+        }
+    }
+
+    private static int positivo(String chave, String valor) {
+        int numero = Integer.parseInt(valor);
+        if (numero <= 0) {
+            throw new IllegalArgumentException("--" + chave + " deve ser maior que zero");
+        }
+        return numero;
+    }
+
+    public boolean temFaixaLeitura() {
+        return idUsuarioLeituraInicial > 0;
+    }
+
+    public String getUrl() { return url; }
+
+    public int getDuracaoSegundos() { return duracaoSegundos; }
+
+    public int getAquecimentoSegundos() { return aquecimentoSegundos; }
+
+    public int getUsuariosVirtuais() { return usuariosVirtuais; }
+
+    public int getUsuarios() { return usuarios; }
+
+    public int getMetasDisputadas() { return metasDisputadas; }
+
+    public long getIdUsuarioLeituraInicial() { return idUsuarioLeituraInicial; }
+
+    public long getIdUsuarioLeituraFinal() { return idUsuarioLeituraFinal; }
+
+    public long getSemente() { return semente; }
+
+    public double getTolerancia() { return tolerancia; }
+
+    public Path getBaseline() { return baseline; }
+
+    public Path getResultado() { return resultado; }
+
+    public boolean isSalvarBaseline() { return salvarBaseline; }
+
+    @Override
+    public String toString() {
+        return "url=" + url + ", duracao=" + duracaoSegundos + "s, aquecimento=" + aquecimentoSegundos +
+               "s, usuariosVirtuais=" + usuariosVirtuais + ", usuarios=" + usuarios +
+               ", metasDisputadas=" + metasDisputadas +
+               (temFaixaLeitura() ? ", usuariosLeitura=" + idUsuarioLeituraInicial + "-" + idUsuarioLeituraFinal : "");
+    }
+}
@@ -0,0 +1,159 @@
+package com.fintech.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Usuários e metas criados pela própria execução antes da medição
+ * Os e-mails levam um identificador da execução, permitindo repetir o teste sobre o mesmo banco.
+ * Cada usuário é autenticado na preparação: as operações usam o cliente com o token do próprio usuário.
+ */
+public class MassaDados {
+
+    public static final String SENHA = "senha123";
+
+    private final List<Long> idsUsuario = new ArrayList<>();
+    private final List<String> emails = new ArrayList<>();
+    private final List<ClienteApi> clientes = new ArrayList<>();
+    private final List<Long> idsMetaDisputada = new ArrayList<>();
+    // Dono de cada meta disputada, na mesma ordem de idsMetaDisputada
+    private final List<Integer> donosMetaDisputada = new ArrayList<>();
+    // Usuários pré-existentes da faixa de leitura (senha padrão da massa sintética)
+    private final Map<Long, ClienteApi> clientesLeitura = new HashMap<>();
+    private final Configuracao configuracao;
+
+    private MassaDados(Configuracao configuracao) {
+        this.configuracao = configuracao;
+    }
+
+    public static MassaDados preparar(ClienteApi api, Configuracao configuracao) throws IOException, InterruptedException {
+        MassaDados massa = new MassaDados(configuracao);
+        String execucao = Long.toString(System.currentTimeMillis(), 36);
+
+        for (int i = 0; i < configuracao.getUsuarios(); i++) {
+            String email = "carga." + execucao + "." + i + "@exemplo.com.br";
+            Map<String, Object> usuario = new LinkedHashMap<>();
+            usuario.put("nomeCompleto", "Usuário Carga " + i);
+            usuario.put("email", email);
+            usuario.put("senha", SENHA);
+            usuario.put("dataNascimento", "1990-01-01");
+            usuario.put("genero", i % 2 == 0 ? "FEMININO" : "MASCULINO");
+
+            JsonNode criado = exigirSucesso(api.post("/usuarios/registrar", usuario), "registrar usuário");
+            massa.idsUsuario.add(criado.get("idUsuario").asLong());
+            massa.emails.add(email);
+            massa.clientes.add(autenticar(api, email));
+        }
+
+        // Poucas metas compartilhadas por todos os usuários virtuais: disputa pela mesma linha
+        for (int i = 0; i < configuracao.getMetasDisputadas(); i++) {
+            Map<String, Object> meta = new LinkedHashMap<>();
+            meta.put("idUsuario", massa.idsUsuario.get(i));
+            meta.put("nome", "Meta disputada " + i);
+            meta.put("descricao", "Meta usada no teste de carga");
+            meta.put("categoria", "RESERVA");
+            meta.put("valorNecessario", "999999999.00");
+            meta.put("dataLimite", LocalDate.now().plusYears(5).toString());
+
+            JsonNode criada = exigirSucesso(massa.clientes.get(i).post("/metas/criar", meta), "criar meta");
+            massa.idsMetaDisputada.add(criada.get("idMeta").asLong());
+            massa.donosMetaDisputada.add(i);
+        }
+
+        if (configuracao.temFaixaLeitura()) {
+            massa.autenticarFaixaLeitura();
+        }
+        return massa;
+    }
+
+    private static ClienteApi autenticar(ClienteApi api, String email) throws IOException, InterruptedException {
+        JsonNode sessao = exigirSucesso(api.post("/usuarios/auth", Map.of("email", email, "senha", SENHA)), "autenticar");
+        return api.comToken(sessao.get("token").asText());
+    }
+
+    // Os e-mails da faixa vêm da exportação de usuários (NDJSON) do actuator, fora da API pública:
+    // o backend precisa incluir "usuarios" em management.endpoints.web.exposure.include
+    private void autenticarFaixaLeitura() throws IOException, InterruptedException {
+        ClienteApi.Resposta exportacao = clientes.get(0).get("/actuator/usuarios?ativo=true");
+        if (!exportacao.isSucesso()) {
+            throw new IllegalStateException("Falha ao exportar usuários na preparação (HTTP " + exportacao.getStatus()
+                + "); inicie o backend com --management.endpoints.web.exposure.include=health,info,metrics,prometheus,usuarios");
+        }
+        for (String linha : exportacao.texto().split("\n")) {
+            if (linha.isBlank()) {
+                continue;
+            }
+            JsonNode usuario = exportacao.json(linha);
+            long id = usuario.get("idUsuario").asLong();
+            if (id >= configuracao.getIdUsuarioLeituraInicial() && id <= configuracao.getIdUsuarioLeituraFinal()) {
+                clientesLeitura.put(id, autenticar(clientes.get(0), usuario.get("email").asText()));
+            }
+        }
+        if (clientesLeitura.isEmpty()) {
+            throw new IllegalStateException("Nenhum usuário ativo na faixa de leitura " + configuracao.getIdUsuarioLeituraInicial()
+                + "-" + configuracao.getIdUsuarioLeituraFinal());
+        }
+    }
+
+    private static JsonNode exigirSucesso(ClienteApi.Resposta resposta, String operacao) throws IOException {
+        if (!resposta.isSucesso()) {
+            throw new IllegalStateException("Falha ao " + operacao + " na preparação (HTTP " + resposta.getStatus() + "): " + resposta.texto());
+        }
+        return resposta.json();
+    }
+
+    public int sortearUsuario(SplittableRandom aleatorio) {
+        return aleatorio.nextInt(idsUsuario.size());
+    }
+
+    public long idUsuario(int indice) {
+        return idsUsuario.get(indice);
+    }
+
+    public String email(int indice) {
+        return emails.get(indice);
+    }
+
+    public ClienteApi cliente(int indice) {
+        return clientes.get(indice);
+    }
+
+    // Com faixa informada, as leituras usam usuários pré-existentes (ex.: massa sintética com histórico)
+    public long sortearUsuarioLeitura(SplittableRandom aleatorio) {
+        if (configuracao.temFaixaLeitura()) {
+            long id;
+            do {
+                id = aleatorio.nextLong(configuracao.getIdUsuarioLeituraInicial(), configuracao.getIdUsuarioLeituraFinal() + 1);
+            } while (!clientesLeitura.containsKey(id));
+            return id;
+        }
+        return idUsuario(sortearUsuario(aleatorio));
+    }
+
+    // Cliente com o token do usuário devolvido por sortearUsuarioLeitura
+    public ClienteApi clienteLeitura(long idUsuario) {
+        ClienteApi cliente = clientesLeitura.get(idUsuario);
+        return cliente != null ? cliente : clientes.get(idsUsuario.indexOf(idUsuario));
+    }
+
+    // Índice na lista de metas disputadas; o PATCH vai com o token do dono da meta
+    public int sortearMetaDisputada(SplittableRandom aleatorio) {
+        return aleatorio.nextInt(idsMetaDisputada.size());
+    }
+
+    public long idMetaDisputada(int indice) {
+        return idsMetaDisputada.get(indice);
+    }
+
+    public ClienteApi clienteDonoMetaDisputada(int indice) {
+        return clientes.get(donosMetaDisputada.get(indice));
+    }
+}
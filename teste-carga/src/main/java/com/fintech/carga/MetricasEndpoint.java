@@ -0,0 +1,56 @@
+package com.fintech.carga;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências e erros de um endpoint, gravados concorrentemente pelos usuários virtuais
+ * Latências em microssegundos, com 3 dígitos significativos, até 60 s
+ */
+public class MetricasEndpoint {
+
+    private static final long LATENCIA_MAXIMA_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final String endpoint;
+    private final Recorder recorder = new Recorder(LATENCIA_MAXIMA_MICROS, 3);
+    private final LongAdder erros = new LongAdder();
+
+    public MetricasEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void registrar(long duracaoNanos, boolean sucesso) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(duracaoNanos), LATENCIA_MAXIMA_MICROS));
+        if (!sucesso) {
+            erros.increment();
+        }
+    }
+
+    public void registrarFalha() {
+        erros.increment();
+    }
+
+    // Descarta o que foi gravado até aqui (fim do aquecimento)
+    public void reiniciar() {
+        recorder.reset();
+        erros.reset();
+    }
+
+    public ResultadoEndpoint consolidar(double segundosMedicao) {
+        Histogram histograma = recorder.getIntervalHistogram();
+
+        ResultadoEndpoint resultado = new ResultadoEndpoint();
+        resultado.setEndpoint(endpoint);
+        resultado.setRequisicoes(histograma.getTotalCount());
+        resultado.setErros(erros.sum());
+        resultado.setVazaoPorSegundo(histograma.getTotalCount() / segundosMedicao);
+        resultado.setP50Ms(histograma.getValueAtPercentile(50.0) / 1000.0);
+        resultado.setP99Ms(histograma.getValueAtPercentile(99.0) / 1000.0);
+        resultado.setP999Ms(histograma.getValueAtPercentile(99.9) / 1000.0);
+        resultado.setMaxMs(histograma.getMaxValue() / 1000.0);
+        return resultado;
+    }
+}
@@ -0,0 +1,106 @@
+package com.fintech.carga;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Operações do cenário de carga, com peso relativo no mix de requisições
+ */
+public enum Operacao {
+
+    DASHBOARD("GET /dashboard/usuario/{id}", 40) {
+        @Override
+        ClienteApi.Resposta executar(ClienteApi api, MassaDados massa, SplittableRandom aleatorio) throws IOException, InterruptedException {
+            long idUsuario = massa.sortearUsuarioLeitura(aleatorio);
+            return massa.clienteLeitura(idUsuario).get("/dashboard/usuario/" + idUsuario);
+        }
+    },
+
+    RECEITA("POST /transacoes/receita", 12) {
+        @Override
+        ClienteApi.Resposta executar(ClienteApi api, MassaDados massa, SplittableRandom aleatorio) throws IOException, InterruptedException {
+            int indice = massa.sortearUsuario(aleatorio);
+            long idUsuario = massa.idUsuario(indice);
+            return massa.cliente(indice).post("/transacoes/receita", Map.of(
+                "idUsuario", idUsuario,
+                "categoria", CATEGORIAS_RECEITA[aleatorio.nextInt(CATEGORIAS_RECEITA.length)],
+                "descricao", "Receita teste de carga",
+                "valor", valor(aleatorio, 5000)));
+        }
+    },
+
+    DESPESA("POST /transacoes/despesa", 20) {
+        @Override
+        ClienteApi.Resposta executar(ClienteApi api, MassaDados massa, SplittableRandom aleatorio) throws IOException, InterruptedException {
+            int indice = massa.sortearUsuario(aleatorio);
+            long idUsuario = massa.idUsuario(indice);
+            return massa.cliente(indice).post("/transacoes/despesa", Map.of(
+                "idUsuario", idUsuario,
+                "categoria", CATEGORIAS_DESPESA[aleatorio.nextInt(CATEGORIAS_DESPESA.length)],
+                "descricao", "Despesa teste de carga",
+                "valor", valor(aleatorio, 500)));
+        }
+    },
+
+    ADICIONAR_VALOR_META("PATCH /metas/{id}/adicionar-valor", 10) {
+        @Override
+        ClienteApi.Resposta executar(ClienteApi api, MassaDados massa, SplittableRandom aleatorio) throws IOException, InterruptedException {
+            int meta = massa.sortearMetaDisputada(aleatorio);
+            return massa.clienteDonoMetaDisputada(meta).patch("/metas/" + massa.idMetaDisputada(meta) + "/adicionar-valor",
+                Map.of("valor", valor(aleatorio, 50)));
+        }
+    },
+
+    AUTENTICACAO("POST /usuarios/auth", 18) {
+        @Override
+        ClienteApi.Resposta executar(ClienteApi api, MassaDados massa, SplittableRandom aleatorio) throws IOException, InterruptedException {
+            int indice = massa.sortearUsuario(aleatorio);
+            return api.post("/usuarios/auth", Map.of("email", massa.email(indice), "senha", MassaDados.SENHA));
+        }
+    };
+
+    private static final String[] CATEGORIAS_RECEITA = {"Salário", "Freelance", "Investimentos", "Vendas", "Outros"};
+    private static final String[] CATEGORIAS_DESPESA = {"Alimentação", "Transporte", "Moradia", "Lazer", "Saúde", "Educação", "Outros"};
+
+    private static final int PESO_TOTAL;
+
+    static {
+        int total = 0;
+        for (Operacao operacao : values()) {
+            total += operacao.peso;
+        }
+        PESO_TOTAL = total;
+    }
+
+    private final String endpoint;
+    private final int peso;
+
+    Operacao(String endpoint, int peso) {
+        this.endpoint = endpoint;
+        this.peso = peso;
+    }
+
+    abstract ClienteApi.Resposta executar(ClienteApi api, MassaDados massa, SplittableRandom aleatorio)
+            throws IOException, InterruptedException;
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static Operacao sortear(SplittableRandom aleatorio) {
+        int sorteio = aleatorio.nextInt(PESO_TOTAL);
+        for (Operacao operacao : values()) {
+            sorteio -= operacao.peso;
+            if (sorteio < 0) {
+                return operacao;
+            }
+        }
+        throw new IllegalStateException("Pesos das operações inconsistentes");
+    }
+
+    private static String valor(SplittableRandom aleatorio, int maximo) {
+        return BigDecimal.valueOf(1 + aleatorio.nextLong(maximo * 100L), 2).toPlainString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.fintech.carga;
+
+/**
+ * Impressão dos resultados e comparação com o baseline
+ */
+public class Relatorio {
+
+    private Relatorio() {}
+
+    public static void imprimir(ResultadoExecucao resultado) {
+        System.out.println();
+        System.out.printf("Janela de medição: %.1f s%n", resultado.getSegundosMedicao());
+        System.out.printf("%-36s %10s %7s %10s %9s %9s %9s %9s%n",
+                "Endpoint", "Requisições", "Erros", "Req/s", "p50 ms", "p99 ms", "p999 ms", "máx ms");
+        for (ResultadoEndpoint e : resultado.getEndpoints()) {
+            System.out.printf("%-36s %11d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    e.getEndpoint(), e.getRequisicoes(), e.getErros(), e.getVazaoPorSegundo(),
+                    e.getP50Ms(), e.getP99Ms(), e.getP999Ms(), e.getMaxMs());
+        }
+    }
+
+    /**
+     * Compara p99 e vazão de cada endpoint com o baseline
+     * @return true se algum endpoint piorou além da tolerância
+     */
+    public static boolean comparar(ResultadoExecucao baseline, ResultadoExecucao atual, double tolerancia) {
+        System.out.println();
+        System.out.printf("Comparação com o baseline de %s (tolerância %.0f%%)%n", baseline.getDataExecucao(), tolerancia * 100);
+        System.out.printf("%-36s %10s %10s %10s %10s  %s%n", "Endpoint", "Δ req/s", "Δ p50", "Δ p99", "Δ p999", "Situação");
+
+        boolean regressao = false;
+        for (ResultadoEndpoint e : atual.getEndpoints()) {
+            ResultadoEndpoint base = baseline.buscarEndpoint(e.getEndpoint());
+            if (base == null) {
+                System.out.printf("%-36s %s%n", e.getEndpoint(), "sem baseline");
+                continue;
+            }
+
+            boolean piorouLatencia = e.getP99Ms() > base.getP99Ms() * (1 + tolerancia);
+            boolean piorouVazao = e.getVazaoPorSegundo() < base.getVazaoPorSegundo() * (1 - tolerancia);
+            String situacao = piorouLatencia || piorouVazao
+                    ? "REGRESSÃO" + (piorouLatencia ? " (p99)" : "") + (piorouVazao ? " (vazão)" : "")
+                    : "ok";
+            regressao |= piorouLatencia || piorouVazao;
+
+            System.out.printf("%-36s %10s %10s %10s %10s  %s%n", e.getEndpoint(),
+                    variacao(base.getVazaoPorSegundo(), e.getVazaoPorSegundo()),
+                    variacao(base.getP50Ms(), e.getP50Ms()),
+                    variacao(base.getP99Ms(), e.getP99Ms()),
+                    variacao(base.getP999Ms(), e.getP999Ms()),
+                    situacao);
+        }
+        return regressao;
+    }
+
+    private static String variacao(double anterior, double atual) {
+        if (anterior == 0) {
+            return "-";
+        }
+        return String.format("%+.1f%%", (atual - anterior) / anterior * 100);
+    }
+}
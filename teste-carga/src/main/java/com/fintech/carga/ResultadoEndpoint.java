@@ -0,0 +1,40 @@
+package com.fintech.carga;
+
+/**
+ * Resultado consolidado de um endpoint na janela de medição; também é o formato do baseline
+ */
+public class ResultadoEndpoint {
+
+    private String endpoint;
+    private long requisicoes;
+    private long erros;
+    private double vazaoPorSegundo;
+    private double p50Ms;
+    private double p99Ms;
+    private double p999Ms;
+    private double maxMs;
+
+    public String getEndpoint() { return endpoint; }
+    public void setEndpoint(String endpoint) { this.endpoint = endpoint; }
+
+    public long getRequisicoes() { return requisicoes; }
+    public void setRequisicoes(long requisicoes) { this.requisicoes = requisicoes; }
+
+    public long getErros() { return erros; }
+    public void setErros(long erros) { this.erros = erros; }
+
+    public double getVazaoPorSegundo() { return vazaoPorSegundo; }
+    public void setVazaoPorSegundo(double vazaoPorSegundo) { this.vazaoPorSegundo = vazaoPorSegundo; }
+
+    public double getP50Ms() { return p50Ms; }
+    public void setP50Ms(double p50Ms) { this.p50Ms = p50Ms; }
+
+    public double getP99Ms() { return p99Ms; }
+    public void setP99Ms(double p99Ms) { this.p99Ms = p99Ms; }
+
+    public double getP999Ms() { return p999Ms; }
+    public void setP999Ms(double p999Ms) { this.p999Ms = p999Ms; }
+
+    public double getMaxMs() { return maxMs; }
+    public void setMaxMs(double maxMs) { this.maxMs = maxMs; }
+}
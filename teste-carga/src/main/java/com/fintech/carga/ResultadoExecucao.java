@@ -0,0 +1,34 @@
+package com.fintech.carga;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de uma execução completa, gravado em JSON (resultado e baseline)
+ */
+public class ResultadoExecucao {
+
+    private String dataExecucao;
+    private String configuracao;
+    private double segundosMedicao;
+    private List<ResultadoEndpoint> endpoints = new ArrayList<>();
+
+    public ResultadoEndpoint buscarEndpoint(String endpoint) {
+        return endpoints.stream()
+                .filter(e -> e.getEndpoint().equals(endpoint))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public String getDataExecucao() { return dataExecucao; }
+    public void setDataExecucao(String dataExecucao) { this.dataExecucao = dataExecucao; }
+
+    public String getConfiguracao() { return configuracao; }
+    public void setConfiguracao(String configuracao) { this.configuracao = configuracao; }
+
+    public double getSegundosMedicao() { return segundosMedicao; }
+    public void setSegundosMedicao(double segundosMedicao) { this.segundosMedicao = segundosMedicao; }
+
+    public List<ResultadoEndpoint> getEndpoints() { return endpoints; }
+    public void setEndpoints(List<ResultadoEndpoint> endpoints) { this.endpoints = endpoints; }
+}
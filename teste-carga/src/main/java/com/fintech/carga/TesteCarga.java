@@ -0,0 +1,146 @@
+package com.fintech.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Teste de carga da API em modelo fechado: cada usuário virtual envia a próxima requisição
+ * assim que recebe a resposta anterior, sorteando a operação pelo peso do mix.
+ * Após o aquecimento, mede latência (p50/p99/p999) e vazão por endpoint, grava o resultado
+ * em JSON e compara com o baseline, terminando com código 1 em caso de regressão.
+ *
+ * Uso: mvn -q compile exec:java -Dexec.args="--duracao=60 --usuarios-virtuais=16 [--salvar-baseline]"
+ */
+public class TesteCarga {
+
+    private final Configuracao configuracao;
+    private final ClienteApi api;
+    private final Map<Operacao, MetricasEndpoint> metricas = new EnumMap<>(Operacao.class);
+    private volatile boolean executando = true;
+
+    public TesteCarga(Configuracao configuracao) {
+        this.configuracao = configuracao;
+        this.api = new ClienteApi(configuracao.getUrl());
+        for (Operacao operacao : Operacao.values()) {
+            metricas.put(operacao, new MetricasEndpoint(operacao.getEndpoint()));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Configuracao configuracao = Configuracao.deArgumentos(args);
+        ResultadoExecucao resultado = new TesteCarga(configuracao).executar();
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        gravar(objectMapper, configuracao.getResultado(), resultado);
+        System.out.println();
+        System.out.println("Resultado gravado em " + configuracao.getResultado());
+
+        boolean regressao = false;
+        if (Files.exists(configuracao.getBaseline()) && !configuracao.isSalvarBaseline()) {
+            ResultadoExecucao baseline = objectMapper.readValue(configuracao.getBaseline().toFile(), ResultadoExecucao.class);
+            regressao = Relatorio.comparar(baseline, resultado, configuracao.getTolerancia());
+        }
+
+        if (configuracao.isSalvarBaseline()) {
+            gravar(objectMapper, configuracao.getBaseline(), resultado);
+            System.out.println("Baseline gravado em " + configuracao.getBaseline());
+        } else if (!Files.exists(configuracao.getBaseline())) {
+            System.out.println("Sem baseline em " + configuracao.getBaseline() + "; use --salvar-baseline para criar");
+        }
+
+        System.exit(regressao ? 1 : 0);
+    }
+
+    public ResultadoExecucao executar() throws IOException, InterruptedException {
+        System.out.println("Teste de carga: " + configuracao);
+        verificarApi();
+
+        MassaDados massa = MassaDados.preparar(api, configuracao);
+        System.out.printf("Massa preparada: %d usuários, %d metas disputadas%n",
+                configuracao.getUsuarios(), configuracao.getMetasDisputadas());
+
+        List<Thread> usuariosVirtuais = new ArrayList<>();
+        for (int i = 0; i < configuracao.getUsuariosVirtuais(); i++) {
+            SplittableRandom aleatorio = new SplittableRandom(configuracao.getSemente() + i);
+            Thread thread = new Thread(() -> executarUsuarioVirtual(massa, aleatorio), "usuario-virtual-" + i);
+            usuariosVirtuais.add(thread);
+            thread.start();
+        }
+
+        if (configuracao.getAquecimentoSegundos() > 0) {
+            System.out.printf("Aquecimento: %d s%n", configuracao.getAquecimentoSegundos());
+            Thread.sleep(configuracao.getAquecimentoSegundos() * 1000L);
+        }
+        metricas.values().forEach(MetricasEndpoint::reiniciar);
+
+        System.out.printf("Medição: %d s%n", configuracao.getDuracaoSegundos());
+        long inicio = System.nanoTime();
+        Thread.sleep(configuracao.getDuracaoSegundos() * 1000L);
+        double segundosMedicao = (System.nanoTime() - inicio) / 1_000_000_000.0;
+
+        // Consolida antes de parar: requisições em andamento no encerramento não entram na janela
+        ResultadoExecucao resultado = new ResultadoExecucao();
+        resultado.setDataExecucao(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        resultado.setConfiguracao(configuracao.toString());
+        resultado.setSegundosMedicao(segundosMedicao);
+        for (MetricasEndpoint metrica : metricas.values()) {
+            resultado.getEndpoints().add(metrica.consolidar(segundosMedicao));
+        }
+
+        executando = false;
+        for (Thread thread : usuariosVirtuais) {
+            thread.join();
+        }
+
+        Relatorio.imprimir(resultado);
+        return resultado;
+    }
+
+    private void executarUsuarioVirtual(MassaDados massa, SplittableRandom aleatorio) {
+        while (executando) {
+            Operacao operacao = Operacao.sortear(aleatorio);
+            MetricasEndpoint metrica = metricas.get(operacao);
+            long inicio = System.nanoTime();
+            try {
+                ClienteApi.Resposta resposta = operacao.executar(api, massa, aleatorio);
+                metrica.registrar(System.nanoTime() - inicio, resposta.isSucesso());
+            } catch (IOException e) {
+                metrica.registrarFalha();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void verificarApi() throws InterruptedException {
+        try {
+            // Rota pública: as da API exigem o token de sessão
+            ClienteApi.Resposta resposta = api.get("/actuator/health");
+            if (!resposta.isSucesso()) {
+                throw new IllegalStateException("API respondeu HTTP " + resposta.getStatus() + " em " + configuracao.getUrl());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("API indisponível em " + configuracao.getUrl() +
+                " (inicie com make start-backend-h2): " + e.getMessage(), e);
+        }
+    }
+
+    private static void gravar(ObjectMapper objectMapper, Path arquivo, ResultadoExecucao resultado) throws IOException {
+        if (arquivo.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(arquivo.toAbsolutePath().getParent());
+        }
+        objectMapper.writeValue(arquivo.toFile(), resultado);
+    }
+}